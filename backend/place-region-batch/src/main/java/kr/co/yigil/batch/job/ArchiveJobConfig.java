@@ -0,0 +1,184 @@
+package kr.co.yigil.batch.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 지운 지 retentionDays일이 지난 여행/댓글과 읽은 지 오래된 알림을 *_archive 테이블로 옮긴다.
+ * 한 번에 chunkSize개씩 옮기고 매 묶음을 따로 커밋하므로, 오래 걸려도 잠금과 트랜잭션 크기는 묶음 하나로 제한된다.
+ * 여행을 옮길 때는 좋아요, 일별 좋아요 집계, 댓글, 첨부 파일을 먼저 옮기고, 장소나 관리자가 쓰는 첨부 파일은 남겨 둔다.
+ *
+ * <pre>
+ * ALTER TABLE travel ADD COLUMN deleted_at timestamp;
+ * ALTER TABLE comment ADD COLUMN deleted_at timestamp;
+ * -- travel, spot, course, comment, favor, daily_favor_count, attach_file, notification 마다
+ * CREATE TABLE travel_archive (LIKE travel);
+ * ALTER TABLE travel_archive ADD COLUMN archived_at timestamp NOT NULL;
+ * </pre>
+ * 원본 테이블에 컬럼을 더하면 archive 테이블에도 같은 순서로 더해야 한다.
+ */
+@Slf4j
+@Configuration
+public class ArchiveJobConfig {
+
+    private static final String REFERENCED_FILE = "(EXISTS (SELECT 1 FROM place p WHERE p.image_file_id = attach_file.id "
+            + "OR p.map_static_image_file_id = attach_file.id) "
+            + "OR EXISTS (SELECT 1 FROM admin a WHERE a.profile_image_id = attach_file.id))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public ArchiveJobConfig(NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${archive.retention-days:30}") int retentionDays,
+            @Value("${archive.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    @Bean
+    public Job archiveJob(
+            JobRepository jobRepository,
+            Step archiveTravelsStep,
+            Step archiveCommentsStep,
+            Step archiveNotificationsStep
+    ) {
+        return new JobBuilder("archiveJob", jobRepository)
+                .start(archiveTravelsStep)
+                .next(archiveCommentsStep)
+                .next(archiveNotificationsStep)
+                .incrementer(new RunIdIncrementer())
+                .build();
+    }
+
+    /**
+     * 살아 있는 코스에 묶인 스팟은 코스의 순서 목록이 깨지지 않도록 코스가 지워질 때까지 남겨 둔다.
+     */
+    @Bean
+    public Step archiveTravelsStep(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
+        return new StepBuilder("archiveTravelsStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    List<Long> travelIds = jdbcTemplate.queryForList("SELECT t.id FROM travel t "
+                            + "WHERE t.is_deleted = true AND COALESCE(t.deleted_at, t.modified_at, t.created_at) < :cutoff "
+                            + "AND NOT EXISTS (SELECT 1 FROM spot s JOIN travel ct ON ct.id = s.course_id "
+                            + "WHERE s.id = t.id AND ct.is_deleted = false) "
+                            + "ORDER BY t.id LIMIT :limit", cutoffParameters(), Long.class);
+                    if (travelIds.isEmpty()) {
+                        return RepeatStatus.FINISHED;
+                    }
+                    contribution.incrementWriteCount(archiveTravels(travelIds));
+                    return travelIds.size() < chunkSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+                }, platformTransactionManager)
+                .listener(throughputListener())
+                .build();
+    }
+
+    /**
+     * 아직 살아 있는(또는 보존 기간이 안 지난) 답글이 달린 댓글은 남긴다. 옮기는 댓글의 답글은 같은 문장에서 함께 옮긴다.
+     */
+    @Bean
+    public Step archiveCommentsStep(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
+        return new StepBuilder("archiveCommentsStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    MapSqlParameterSource parameters = cutoffParameters();
+                    List<Long> commentIds = jdbcTemplate.queryForList("SELECT c.id FROM comment c "
+                            + "WHERE c.is_deleted = true AND COALESCE(c.deleted_at, c.modified_at) < :cutoff "
+                            + "AND NOT EXISTS (SELECT 1 FROM comment child WHERE child.parent_id = c.id "
+                            + "AND NOT (child.is_deleted = true AND COALESCE(child.deleted_at, child.modified_at) < :cutoff)) "
+                            + "ORDER BY c.id LIMIT :limit", parameters, Long.class);
+                    if (commentIds.isEmpty()) {
+                        return RepeatStatus.FINISHED;
+                    }
+                    parameters.addValue("ids", commentIds);
+                    contribution.incrementWriteCount(move("comment", "id IN (:ids) OR parent_id IN (:ids)", parameters));
+                    return commentIds.size() < chunkSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+                }, platformTransactionManager)
+                .listener(throughputListener())
+                .build();
+    }
+
+    @Bean
+    public Step archiveNotificationsStep(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
+        return new StepBuilder("archiveNotificationsStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    int moved = move("notification", "id IN (SELECT n.id FROM notification n "
+                            + "WHERE n.read = true AND n.created_at < :cutoff ORDER BY n.id LIMIT :limit)", cutoffParameters());
+                    contribution.incrementWriteCount(moved);
+                    return moved < chunkSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+                }, platformTransactionManager)
+                .listener(throughputListener())
+                .build();
+    }
+
+    /**
+     * 외래 키를 따라 참조하는 쪽부터 옮긴다. 지운 코스를 가리키는 살아 있는 스팟은 코스와의 연결만 끊는다.
+     */
+    int archiveTravels(List<Long> travelIds) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("ids", travelIds);
+        List<Long> mapImageIds = jdbcTemplate.queryForList(
+                "SELECT c.attach_file_id FROM course c WHERE c.id IN (:ids) AND c.attach_file_id IS NOT NULL",
+                parameters, Long.class);
+
+        move("favor", "travel_id IN (:ids)", parameters);
+        move("daily_favor_count", "travel_id IN (:ids)", parameters);
+        move("comment", "travel_id IN (:ids)", parameters);
+        jdbcTemplate.update("UPDATE spot SET course_id = NULL WHERE course_id IN (:ids) AND id NOT IN (:ids)", parameters);
+        jdbcTemplate.update("UPDATE attach_file SET travel_id = NULL WHERE travel_id IN (:ids) AND " + REFERENCED_FILE,
+                parameters);
+        move("attach_file", "travel_id IN (:ids) "
+                + "AND NOT EXISTS (SELECT 1 FROM course c WHERE c.attach_file_id = attach_file.id)", parameters);
+        move("spot", "id IN (:ids)", parameters);
+        move("course", "id IN (:ids)", parameters);
+        if (!mapImageIds.isEmpty()) {
+            move("attach_file", "id IN (:mapImageIds) AND NOT " + REFERENCED_FILE,
+                    new MapSqlParameterSource("mapImageIds", mapImageIds));
+        }
+        return move("travel", "id IN (:ids)", parameters);
+    }
+
+    /**
+     * 지운 행을 그대로 archive 테이블에 넣는 한 문장. archive 테이블은 원본 컬럼 뒤에 archived_at만 더한 모양이다.
+     */
+    private int move(String table, String condition, MapSqlParameterSource parameters) {
+        return jdbcTemplate.update("WITH moved AS (DELETE FROM " + table + " WHERE " + condition + " RETURNING *) "
+                + "INSERT INTO " + table + "_archive SELECT moved.*, now() FROM moved", parameters);
+    }
+
+    private MapSqlParameterSource cutoffParameters() {
+        return new MapSqlParameterSource()
+                .addValue("cutoff", LocalDateTime.now().minusDays(retentionDays))
+                .addValue("limit", chunkSize);
+    }
+
+    private StepExecutionListener throughputListener() {
+        return new StepExecutionListener() {
+            @Override
+            public ExitStatus afterStep(StepExecution stepExecution) {
+                long writeCount = stepExecution.getWriteCount();
+                long millis = Math.max(1, Duration.between(stepExecution.getStartTime(), LocalDateTime.now()).toMillis());
+                log.info("{} archived {} rows in {} ms ({} rows/s, {} commits)", stepExecution.getStepName(), writeCount,
+                        millis, writeCount * 1000 / millis, stepExecution.getCommitCount());
+                return stepExecution.getExitStatus();
+            }
+        };
+    }
+}
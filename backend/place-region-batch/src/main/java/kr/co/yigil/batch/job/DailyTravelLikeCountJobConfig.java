@@ -27,6 +27,10 @@ import org.springframework.transaction.PlatformTransactionManager;
 import java.time.LocalDate;
 import java.util.HashMap;
 
+/**
+ * 어제 눌린 좋아요를 여행별로 센다. 쓰기 지연 모드의 좋아요도 반영 시각이 아니라 누른 날짜로 created_at에 들어가므로,
+ * 반영 주기(수백 ms)만 지난 뒤라면 같은 결과가 나온다.
+ */
 @Configuration
 @RequiredArgsConstructor
 public class DailyTravelLikeCountJobConfig {
@@ -1,6 +1,7 @@
 package kr.co.yigil.batch.job;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -8,7 +9,9 @@ import java.util.Set;
 import kr.co.yigil.member.Ages;
 import kr.co.yigil.member.Gender;
 import kr.co.yigil.place.domain.DemographicPlace;
+import kr.co.yigil.place.domain.DemographicPlaceRanking;
 import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.infrastructure.DemographicPlaceRankingRepository;
 import kr.co.yigil.place.infrastructure.DemographicPlaceRepository;
 import kr.co.yigil.travel.infrastructure.SpotRepository;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +30,7 @@ import org.springframework.batch.item.data.builder.RepositoryItemWriterBuilder;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.transaction.PlatformTransactionManager;
 
@@ -34,19 +38,24 @@ import org.springframework.transaction.PlatformTransactionManager;
 @RequiredArgsConstructor
 public class DemographicPlaceJobConfig {
 
+    private static final int RANKING_SIZE = 20;
+
     private final SpotRepository spotRepository;
     private final DemographicPlaceRepository demographicPlaceRepository;
+    private final DemographicPlaceRankingRepository demographicPlaceRankingRepository;
     private final Set<String> processedCombination = new HashSet<>();
 
     @Bean
     public Job demographicPlaceJob(
             JobRepository jobRepository,
             Step calculateDemographicPlacesStep,
-            Step clearDemographicPlacesStep
+            Step clearDemographicPlacesStep,
+            Step publishDemographicPlaceRankingsStep
     ) {
         return new JobBuilder("demographicPlaceJob", jobRepository)
                 .start(clearDemographicPlacesStep)
                 .next(calculateDemographicPlacesStep)
+                .next(publishDemographicPlaceRankingsStep)
                 .incrementer(new RunIdIncrementer())
                 .build();
     }
@@ -115,5 +124,29 @@ public class DemographicPlaceJobConfig {
                 .methodName("save")
                 .build();
     }
-}
 
+    /**
+     * 버킷별 상위 장소 id를 한 행씩 발행한다. API 서버는 이 행들만 메모리에 올려 버킷 조회를 한 번에 끝낸다.
+     */
+    @Bean
+    public Step publishDemographicPlaceRankingsStep(JobRepository jobRepository,
+            PlatformTransactionManager platformTransactionManager) {
+        return new StepBuilder("publishDemographicPlaceRankingsStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    List<DemographicPlaceRanking> rankings = new ArrayList<>();
+                    for (Ages ages : Ages.values()) {
+                        for (Gender gender : Gender.values()) {
+                            List<Long> placeIds = demographicPlaceRepository.findPlaceIdsByAgesAndGender(ages, gender,
+                                    PageRequest.of(0, RANKING_SIZE));
+                            if (!placeIds.isEmpty()) {
+                                rankings.add(new DemographicPlaceRanking(ages, gender, placeIds));
+                            }
+                        }
+                    }
+                    demographicPlaceRankingRepository.deleteAllInBatch();
+                    demographicPlaceRankingRepository.saveAll(rankings);
+                    return RepeatStatus.FINISHED;
+                }, platformTransactionManager)
+                .build();
+    }
+}
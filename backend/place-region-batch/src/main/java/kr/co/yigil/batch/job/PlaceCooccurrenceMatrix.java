@@ -0,0 +1,242 @@
+package kr.co.yigil.batch.job;
+
+import java.util.Arrays;
+
+/**
+ * 같은 코스에 담긴 장소 쌍의 횟수를 세는 희소 행렬.
+ * 장소 id를 0부터의 번호로 바꾼 뒤 두 번호를 long 하나에 담아 박싱 없이 open addressing 해시에 센다.
+ * 쌍은 작은 번호를 앞에 두고 한 방향으로만 저장하고, 이웃을 뽑을 때 양쪽으로 나눠 준다.
+ */
+final class PlaceCooccurrenceMatrix {
+
+    private static final long NO_COURSE = Long.MIN_VALUE;
+
+    private final LongIntHashMap placeIndexes = new LongIntHashMap(1 << 12);
+    private final LongIntHashMap pairCounts = new LongIntHashMap(1 << 16);
+    private long[] placeIds = new long[1 << 12];
+    private int placeCount;
+
+    private long currentCourseId = NO_COURSE;
+    private int[] coursePlaces = new int[16];
+    private int coursePlaceCount;
+
+    /**
+     * course_id 순으로 정렬된 스팟을 받는다. 코스가 바뀌면 앞 코스의 장소 쌍을 센다.
+     * 한 코스에 같은 장소가 여러 번 있어도 한 번만 센다.
+     */
+    void addSpot(long courseId, long placeId) {
+        if (courseId != currentCourseId) {
+            flushCourse();
+            currentCourseId = courseId;
+        }
+        int place = indexOf(placeId);
+        for (int i = 0; i < coursePlaceCount; i++) {
+            if (coursePlaces[i] == place) {
+                return;
+            }
+        }
+        if (coursePlaceCount == coursePlaces.length) {
+            coursePlaces = Arrays.copyOf(coursePlaces, coursePlaceCount * 2);
+        }
+        coursePlaces[coursePlaceCount++] = place;
+    }
+
+    void complete() {
+        flushCourse();
+        currentCourseId = NO_COURSE;
+    }
+
+    int getPairCount() {
+        return pairCounts.size();
+    }
+
+    /**
+     * 장소마다 함께 담긴 횟수가 많은 순(같으면 장소 id가 작은 순)으로 최대 k개의 이웃을 넘긴다.
+     */
+    void forEachTopNeighbor(int k, NeighborConsumer consumer) {
+        int[][] neighbors = new int[placeCount][];
+        int[][] counts = new int[placeCount][];
+        int[] sizes = new int[placeCount];
+        pairCounts.forEach((key, count) -> {
+            int first = (int) (key >>> 32);
+            int second = (int) key;
+            offer(neighbors, counts, sizes, k, first, second, count);
+            offer(neighbors, counts, sizes, k, second, first, count);
+        });
+        for (int place = 0; place < placeCount; place++) {
+            for (int rank = 0; rank < sizes[place]; rank++) {
+                consumer.accept(placeIds[place], placeIds[neighbors[place][rank]], counts[place][rank], rank + 1);
+            }
+        }
+    }
+
+    private void flushCourse() {
+        for (int i = 0; i < coursePlaceCount; i++) {
+            for (int j = i + 1; j < coursePlaceCount; j++) {
+                pairCounts.increment(pairKey(coursePlaces[i], coursePlaces[j]));
+            }
+        }
+        coursePlaceCount = 0;
+    }
+
+    private int indexOf(long placeId) {
+        int index = placeIndexes.get(placeId);
+        if (index != LongIntHashMap.MISSING) {
+            return index;
+        }
+        if (placeCount == placeIds.length) {
+            placeIds = Arrays.copyOf(placeIds, placeCount * 2);
+        }
+        placeIds[placeCount] = placeId;
+        placeIndexes.put(placeId, placeCount);
+        return placeCount++;
+    }
+
+    /**
+     * 작은 번호를 상위 32비트에 둔다. 두 번호가 다르므로 키는 0이 되지 않는다.
+     */
+    private static long pairKey(int a, int b) {
+        int low = Math.min(a, b);
+        int high = Math.max(a, b);
+        return ((long) low << 32) | high;
+    }
+
+    /**
+     * 이웃 후보를 내림차순으로 유지되는 길이 k의 배열에 끼워 넣는다.
+     */
+    private void offer(int[][] neighbors, int[][] counts, int[] sizes, int k, int place, int neighbor, int count) {
+        if (neighbors[place] == null) {
+            neighbors[place] = new int[k];
+            counts[place] = new int[k];
+        }
+        int[] placeNeighbors = neighbors[place];
+        int[] placeCounts = counts[place];
+        int size = sizes[place];
+        if (size == k && !ranksBefore(count, neighbor, placeCounts[k - 1], placeNeighbors[k - 1])) {
+            return;
+        }
+        int position = Math.min(size, k - 1);
+        while (position > 0 && ranksBefore(count, neighbor, placeCounts[position - 1], placeNeighbors[position - 1])) {
+            placeNeighbors[position] = placeNeighbors[position - 1];
+            placeCounts[position] = placeCounts[position - 1];
+            position--;
+        }
+        placeNeighbors[position] = neighbor;
+        placeCounts[position] = count;
+        if (size < k) {
+            sizes[place] = size + 1;
+        }
+    }
+
+    private boolean ranksBefore(int count, int neighbor, int otherCount, int otherNeighbor) {
+        return count > otherCount || (count == otherCount && placeIds[neighbor] < placeIds[otherNeighbor]);
+    }
+
+    @FunctionalInterface
+    interface NeighborConsumer {
+        void accept(long placeId, long neighborPlaceId, int coCount, int ranking);
+    }
+
+    /**
+     * long 키, int 값의 선형 탐사 해시. 키 0은 빈 칸 표시로 쓰므로 넣을 수 없다.
+     */
+    static final class LongIntHashMap {
+
+        static final int MISSING = -1;
+        private static final long EMPTY = 0L;
+
+        private long[] keys;
+        private int[] values;
+        private int size;
+        private int mask;
+
+        LongIntHashMap(int capacity) {
+            int tableSize = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+            keys = new long[tableSize];
+            values = new int[tableSize];
+            mask = tableSize - 1;
+        }
+
+        int get(long key) {
+            for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                if (keys[slot] == EMPTY) {
+                    return MISSING;
+                }
+            }
+        }
+
+        void put(long key, int value) {
+            int slot = findSlot(key);
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] = value;
+            growIfNeeded();
+        }
+
+        void increment(long key) {
+            int slot = findSlot(key);
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot]++;
+            growIfNeeded();
+        }
+
+        int size() {
+            return size;
+        }
+
+        void forEach(LongIntConsumer consumer) {
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != EMPTY) {
+                    consumer.accept(keys[slot], values[slot]);
+                }
+            }
+        }
+
+        private int findSlot(long key) {
+            int slot = slot(key);
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private int slot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+
+        /**
+         * 채움률이 절반을 넘으면 두 배로 늘려 다시 넣는다.
+         */
+        private void growIfNeeded() {
+            if (size * 2 <= keys.length) {
+                return;
+            }
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = findSlot(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        @FunctionalInterface
+        interface LongIntConsumer {
+            void accept(long key, int value);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package kr.co.yigil.batch.job;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 공개 코스에 함께 담긴 장소 쌍을 세어 장소마다 가장 자주 함께 담긴 장소 TOP_K개를 place_neighbor에 다시 쓴다.
+ * 코스의 스팟을 course_id, spot_order 순으로 한 번만 흘려 읽고, 지우기와 다시 쓰기는 한 트랜잭션에서 한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class PlaceNeighborJobConfig {
+
+    private static final int TOP_K = 10;
+    private static final int FETCH_SIZE = 1_000;
+    private static final int INSERT_BATCH_SIZE = 1_000;
+
+    private static final String COURSE_SPOT_QUERY = "SELECT s.course_id, s.place_id FROM spot s "
+            + "JOIN travel st ON st.id = s.id "
+            + "JOIN travel ct ON ct.id = s.course_id "
+            + "WHERE s.is_in_course = true AND s.place_id IS NOT NULL "
+            + "AND st.is_deleted = false AND ct.is_deleted = false AND ct.is_private = false "
+            + "ORDER BY s.course_id, s.spot_order";
+    private static final String INSERT_NEIGHBOR_QUERY =
+            "INSERT INTO place_neighbor (place_id, neighbor_place_id, co_count, ranking) VALUES (?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+
+    @Bean
+    public Job placeNeighborJob(
+            JobRepository jobRepository,
+            Step calculatePlaceNeighborsStep
+    ) {
+        return new JobBuilder("placeNeighborJob", jobRepository)
+                .start(calculatePlaceNeighborsStep)
+                .incrementer(new RunIdIncrementer())
+                .build();
+    }
+
+    @Bean
+    public Step calculatePlaceNeighborsStep(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
+        return new StepBuilder("calculatePlaceNeighborsStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+                    jdbcTemplate.setFetchSize(FETCH_SIZE);
+
+                    PlaceCooccurrenceMatrix matrix = new PlaceCooccurrenceMatrix();
+                    jdbcTemplate.query(COURSE_SPOT_QUERY, (RowCallbackHandler) resultSet ->
+                            matrix.addSpot(resultSet.getLong(1), resultSet.getLong(2)));
+                    matrix.complete();
+
+                    int written = replaceNeighbors(jdbcTemplate, matrix);
+                    log.info("place neighbors calculated. pairs={}, rows={}", matrix.getPairCount(), written);
+                    return RepeatStatus.FINISHED;
+                }, platformTransactionManager)
+                .build();
+    }
+
+    private int replaceNeighbors(JdbcTemplate jdbcTemplate, PlaceCooccurrenceMatrix matrix) {
+        jdbcTemplate.update("DELETE FROM place_neighbor");
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+        int[] written = {0};
+        matrix.forEachTopNeighbor(TOP_K, (placeId, neighborPlaceId, coCount, ranking) -> {
+            rows.add(new Object[]{placeId, neighborPlaceId, coCount, ranking});
+            if (rows.size() == INSERT_BATCH_SIZE) {
+                written[0] += insert(jdbcTemplate, rows);
+            }
+        });
+        return written[0] + insert(jdbcTemplate, rows);
+    }
+
+    private int insert(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_NEIGHBOR_QUERY, rows);
+        int size = rows.size();
+        rows.clear();
+        return size;
+    }
+}
@@ -0,0 +1,95 @@
+package kr.co.yigil.batch.job;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import kr.co.yigil.place.domain.PlaceStats;
+import kr.co.yigil.place.infrastructure.PlaceStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.data.RepositoryItemWriter;
+import org.springframework.batch.item.data.builder.RepositoryItemWriterBuilder;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 스팟 증감으로 갱신되는 place_stats를 삭제되지 않은 스팟 기준으로 다시 계산해 덮어쓴다.
+ * API 서버의 카운터 캐시는 이후 CounterReconciler가 place_stats를 읽어 맞춘다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PlaceStatsJobConfig {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final PlaceStatsRepository placeStatsRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Bean
+    public Job placeStatsJob(
+            JobRepository jobRepository,
+            Step reconcilePlaceStatsStep
+    ) {
+        return new JobBuilder("placeStatsJob", jobRepository)
+                .start(reconcilePlaceStatsStep)
+                .incrementer(new RunIdIncrementer())
+                .build();
+    }
+
+    @Bean
+    public Step reconcilePlaceStatsStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager platformTransactionManager,
+            ItemReader<Object[]> placeStatsItemReader,
+            ItemProcessor<Object[], PlaceStats> placeStatsItemProcessor,
+            ItemWriter<PlaceStats> placeStatsItemWriter
+    ) {
+        return new StepBuilder("reconcilePlaceStatsStep", jobRepository)
+                .<Object[], PlaceStats>chunk(CHUNK_SIZE, platformTransactionManager)
+                .reader(placeStatsItemReader)
+                .processor(placeStatsItemProcessor)
+                .writer(placeStatsItemWriter)
+                .build();
+    }
+
+    @Bean
+    public JpaPagingItemReader<Object[]> placeStatsItemReader() {
+        return new JpaPagingItemReaderBuilder<Object[]>()
+                .queryString("SELECT p.id, COUNT(s), SUM(s.rate), MAX(s.createdAt) FROM Place p "
+                        + "LEFT JOIN Spot s ON s.place = p AND s.isDeleted = false "
+                        + "GROUP BY p.id ORDER BY p.id ASC")
+                .entityManagerFactory(entityManagerFactory)
+                .name("placeStatsItemReader")
+                .pageSize(CHUNK_SIZE)
+                .build();
+    }
+
+    @Bean
+    public ItemProcessor<Object[], PlaceStats> placeStatsItemProcessor() {
+        return item -> {
+            Long placeId = (Long) item[0];
+            int spotCount = ((Long) item[1]).intValue();
+            double rateSum = item[2] == null ? 0.0 : ((Number) item[2]).doubleValue();
+            LocalDateTime latestUploadedTime = (LocalDateTime) item[3];
+            return new PlaceStats(placeId, spotCount, rateSum, latestUploadedTime);
+        };
+    }
+
+    @Bean
+    public RepositoryItemWriter<PlaceStats> placeStatsItemWriter() {
+        return new RepositoryItemWriterBuilder<PlaceStats>()
+                .repository(placeStatsRepository)
+                .methodName("save")
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package kr.co.yigil.batch.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveJobConfigTest {
+
+    private static final Pattern TARGET = Pattern.compile("^(?:WITH moved AS \\(DELETE FROM|UPDATE) (\\w+)");
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @DisplayName("archiveTravels 메서드가 여행을 참조하는 행부터 외래 키 순서대로 옮기는지")
+    @Test
+    void archiveTravels_ShouldMoveReferencingRowsFirst() {
+        ArchiveJobConfig archiveJobConfig = new ArchiveJobConfig(jdbcTemplate, 30, 500);
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(10L));
+
+        archiveJobConfig.archiveTravels(List.of(1L, 2L));
+
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(10)).update(sqlCaptor.capture(), any(SqlParameterSource.class));
+        List<String> targets = sqlCaptor.getAllValues().stream()
+                .map(this::target)
+                .toList();
+        assertEquals(targets, List.of("favor", "daily_favor_count", "comment", "spot", "attach_file",
+                "attach_file", "spot", "course", "attach_file", "travel"));
+        assertEquals(sqlCaptor.getAllValues().get(3), "UPDATE spot SET course_id = NULL "
+                + "WHERE course_id IN (:ids) AND id NOT IN (:ids)");
+    }
+
+    private String target(String sql) {
+        Matcher matcher = TARGET.matcher(sql);
+        return matcher.find() ? matcher.group(1) : sql;
+    }
+}
@@ -0,0 +1,101 @@
+package kr.co.yigil.batch.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import kr.co.yigil.batch.job.PlaceCooccurrenceMatrix.LongIntHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PlaceCooccurrenceMatrixTest {
+
+    @DisplayName("LongIntHashMap이 채움률을 넘겨 다시 넣은 뒤에도 값을 잃지 않는지")
+    @Test
+    void longIntHashMap_WhenResized_ShouldKeepValues() {
+        LongIntHashMap map = new LongIntHashMap(2);
+
+        for (long key = 1; key <= 1_000; key++) {
+            map.put(key << 32 | key, (int) key * 2);
+        }
+        map.increment(500L << 32 | 500L);
+        map.increment(2_000L);
+
+        assertEquals(map.size(), 1_001);
+        for (long key = 1; key <= 1_000; key++) {
+            assertEquals(map.get(key << 32 | key), key == 500 ? 1_001 : (int) key * 2);
+        }
+        assertEquals(map.get(2_000L), 1);
+        assertEquals(map.get(3_000L), LongIntHashMap.MISSING);
+    }
+
+    @DisplayName("한 코스에 같은 장소가 여러 번 있어도 쌍을 한 번만 세는지")
+    @Test
+    void addSpot_WhenPlaceRepeatsInCourse_ShouldCountOnce() {
+        PlaceCooccurrenceMatrix matrix = new PlaceCooccurrenceMatrix();
+
+        matrix.addSpot(1L, 10L);
+        matrix.addSpot(1L, 20L);
+        matrix.addSpot(1L, 10L);
+        matrix.addSpot(1L, 20L);
+        matrix.complete();
+
+        assertEquals(matrix.getPairCount(), 1);
+        assertEquals(neighbors(matrix, 10), List.of("10>20:1#1", "20>10:1#1"));
+    }
+
+    @DisplayName("complete 메서드가 마지막 코스의 장소 쌍을 세는지")
+    @Test
+    void complete_ShouldFlushLastCourse() {
+        PlaceCooccurrenceMatrix matrix = new PlaceCooccurrenceMatrix();
+
+        matrix.addSpot(1L, 10L);
+        matrix.addSpot(1L, 20L);
+        matrix.addSpot(2L, 10L);
+        matrix.addSpot(2L, 30L);
+        int beforeComplete = matrix.getPairCount();
+        matrix.complete();
+
+        assertEquals(beforeComplete, 1);
+        assertEquals(matrix.getPairCount(), 2);
+    }
+
+    @DisplayName("이웃을 횟수가 많은 순, 같으면 장소 id가 작은 순으로 k개까지만 뽑는지")
+    @Test
+    void forEachTopNeighbor_ShouldKeepTopKWithPlaceIdTieBreak() {
+        PlaceCooccurrenceMatrix matrix = new PlaceCooccurrenceMatrix();
+
+        addCourse(matrix, 1L, 1L, 2L, 5L, 4L);
+        addCourse(matrix, 2L, 1L, 2L, 5L);
+        addCourse(matrix, 3L, 1L, 2L, 4L);
+        addCourse(matrix, 4L, 1L, 3L);
+        matrix.complete();
+
+        List<String> result = neighbors(matrix, 2);
+
+        assertEquals(neighborsOf(result, 1L), List.of("1>2:3#1", "1>4:2#2"));
+        assertEquals(neighborsOf(result, 2L), List.of("2>1:3#1", "2>4:2#2"));
+        assertEquals(neighborsOf(result, 4L), List.of("4>1:2#1", "4>2:2#2"));
+        assertEquals(neighborsOf(result, 5L), List.of("5>1:2#1", "5>2:2#2"));
+        assertEquals(neighborsOf(result, 3L), List.of("3>1:1#1"));
+    }
+
+    private void addCourse(PlaceCooccurrenceMatrix matrix, long courseId, long... placeIds) {
+        for (long placeId : placeIds) {
+            matrix.addSpot(courseId, placeId);
+        }
+    }
+
+    private List<String> neighbors(PlaceCooccurrenceMatrix matrix, int k) {
+        List<String> neighbors = new ArrayList<>();
+        matrix.forEachTopNeighbor(k, (placeId, neighborPlaceId, coCount, ranking) ->
+                neighbors.add(placeId + ">" + neighborPlaceId + ":" + coCount + "#" + ranking));
+        return neighbors;
+    }
+
+    private List<String> neighborsOf(List<String> neighbors, long placeId) {
+        return neighbors.stream()
+                .filter(neighbor -> neighbor.startsWith(placeId + ">"))
+                .toList();
+    }
+}
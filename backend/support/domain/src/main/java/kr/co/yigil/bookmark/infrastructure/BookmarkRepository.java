@@ -6,6 +6,10 @@ import kr.co.yigil.place.domain.Place;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
@@ -14,4 +18,7 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     Slice<Bookmark> findAllByMemberId(Long memberId, Pageable pageable);
 
     boolean existsByMemberIdAndPlaceId(Long memberId, Long placeId);
+
+    @Query("SELECT b.place.id FROM Bookmark b WHERE b.member.id = :memberId AND b.place.id IN :placeIds")
+    List<Long> findBookmarkedPlaceIds(@Param("memberId") Long memberId, @Param("placeIds") List<Long> placeIds);
 }
@@ -7,8 +7,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.travel.domain.Travel;
@@ -19,9 +21,17 @@ import org.hibernate.annotations.SQLDelete;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 
+/**
+ * 대댓글 목록은 부모 댓글 안에서 (created_at, id) 키셋으로 넘겨 읽는다.
+ *
+ * <pre>
+ * CREATE INDEX idx_comment_parent_created_at_id ON comment (parent_id, created_at, id);
+ * </pre>
+ */
 @Entity
+@Table(indexes = @Index(name = "idx_comment_parent_created_at_id", columnList = "parent_id, created_at, id"))
 @Getter
-@SQLDelete(sql = "UPDATE Comment SET is_deleted = true WHERE id = ?")
+@SQLDelete(sql = "UPDATE Comment SET is_deleted = true, deleted_at = now() WHERE id = ?")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment {
 
@@ -51,6 +61,8 @@ public class Comment {
     @LastModifiedDate
     private LocalDateTime modifiedAt;
 
+    private LocalDateTime deletedAt;
+
     boolean isDeleted;
 
     public Comment(String content, Member member, Travel travel) {
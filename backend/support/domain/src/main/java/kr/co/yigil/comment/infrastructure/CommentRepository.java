@@ -1,8 +1,10 @@
 package kr.co.yigil.comment.infrastructure;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import kr.co.yigil.comment.domain.Comment;
+import kr.co.yigil.global.IdCountDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -34,11 +36,22 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     )
     Slice<Comment> findChildCommentsByParentId(@Param("parentId") Long parentId, Pageable pageable);
 
+    @Query("SELECT c FROM Comment c WHERE c.isDeleted = false AND c.parent.id = :parentId "
+        + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) "
+        + "ORDER BY c.createdAt ASC, c.id ASC"
+    )
+    Slice<Comment> findChildCommentsAfter(@Param("parentId") Long parentId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.travel.id = :travelId AND c.isDeleted = false")
     int countNonDeletedCommentsByTravelId(@Param("travelId") Long travelId);
 
     int countAllByTravelIdAndIsDeletedFalse(Long travelId);
 
+    @Query("SELECT new kr.co.yigil.global.IdCountDto(c.travel.id, COUNT(c)) FROM Comment c "
+        + "WHERE c.travel.id IN :travelIds AND c.isDeleted = false GROUP BY c.travel.id")
+    List<IdCountDto> countNonDeletedByTravelIds(@Param("travelIds") List<Long> travelIds);
+
     Optional<Comment> findByIdAndMemberId(Long commentId, Long memberId);
 
     @Query("SELECT c.travel.id FROM Comment c WHERE c.id = :commentId")
@@ -9,7 +9,18 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
+/**
+ * 한 회원은 한 여행에 좋아요를 한 번만 누를 수 있다. 배포 전에 중복 행을 지우고 유일 인덱스를 만들어야 한다.
+ *
+ * <pre>
+ * DELETE FROM favor f USING favor d
+ *  WHERE f.member_id = d.member_id AND f.travel_id = d.travel_id AND f.id > d.id;
+ * CREATE UNIQUE INDEX uk_favor_member_id_travel_id ON favor (member_id, travel_id);
+ * </pre>
+ */
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_favor_member_id_travel_id",
+        columnNames = {"member_id", "travel_id"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Favor {
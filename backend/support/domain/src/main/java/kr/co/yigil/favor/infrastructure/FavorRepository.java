@@ -1,10 +1,14 @@
 package kr.co.yigil.favor.infrastructure;
 
 import kr.co.yigil.favor.domain.Favor;
+import kr.co.yigil.global.IdCountDto;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.travel.domain.Travel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface FavorRepository extends JpaRepository<Favor, Long> {
@@ -16,4 +20,14 @@ public interface FavorRepository extends JpaRepository<Favor, Long> {
 
     Optional<Favor> findFavorByMemberAndTravel(Member member, Travel travel);
 
+    @Query("SELECT f.travel.id FROM Favor f WHERE f.member.id = :memberId AND f.travel.id IN :travelIds")
+    List<Long> findFavoredTravelIds(@Param("memberId") Long memberId, @Param("travelIds") List<Long> travelIds);
+
+    @Query("SELECT new kr.co.yigil.global.IdCountDto(f.travel.id, COUNT(f)) FROM Favor f "
+            + "WHERE f.travel.id IN :travelIds GROUP BY f.travel.id")
+    List<IdCountDto> countByTravelIds(@Param("travelIds") List<Long> travelIds);
+
+    @Query("SELECT f.member.id FROM Favor f WHERE f.travel.id = :travelId")
+    List<Long> findMemberIdsByTravelId(@Param("travelId") Long travelId);
+
 }
@@ -11,6 +11,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * 크기별 이미지 경로는 ImageVariantGenerator가 커밋 이후에 채운다. 100px 목록은 THUMB, 카드는 CARD, 상세는 FULL을 쓴다.
+ *
+ * <pre>
+ * ALTER TABLE attach_file ADD COLUMN thumb_file_url varchar(255);
+ * ALTER TABLE attach_file ADD COLUMN card_file_url varchar(255);
+ * ALTER TABLE attach_file ADD COLUMN full_file_url varchar(255);
+ * </pre>
+ * 컬럼을 더하기 전에 올라간 이미지는 값이 비어 있어 원본 URL을 그대로 쓴다.
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -33,6 +43,12 @@ public class AttachFile {
     @NotNull
     private Long fileSize;
 
+    private String thumbFileUrl;
+
+    private String cardFileUrl;
+
+    private String fullFileUrl;
+
     public AttachFile(final FileType fileType, final String fileUrl, final String originalFileName, final Long fileSize) {
         this.fileType = fileType;
         this.fileUrl = fileUrl;
@@ -41,6 +57,30 @@ public class AttachFile {
     }
 
     public String getFileUrl() {
+        return toUrl(fileUrl);
+    }
+
+    /**
+     * 크기별 이미지가 아직 없으면 원본 URL을 돌려준다.
+     */
+    public String getFileUrl(ImageVariant variant) {
+        String variantUrl = switch (variant) {
+            case THUMB -> thumbFileUrl;
+            case CARD -> cardFileUrl;
+            case FULL -> fullFileUrl;
+        };
+        return variantUrl == null ? getFileUrl() : toUrl(variantUrl);
+    }
+
+    public String getStoredPath() {
+        return fileUrl;
+    }
+
+    public boolean isImage() {
+        return fileType == FileType.IMAGE;
+    }
+
+    private static String toUrl(String fileUrl) {
         if(fileUrl.equals("")) return fileUrl;
         if(fileUrl.startsWith("http") || fileUrl.startsWith("https")) return fileUrl;
         return "http://cdn.yigil.co.kr/" + fileUrl;
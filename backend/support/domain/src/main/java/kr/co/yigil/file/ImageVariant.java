@@ -0,0 +1,18 @@
+package kr.co.yigil.file;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원본 이미지에서 미리 만들어 두는 크기별 이미지. 원본이 maxWidth보다 좁으면 따로 만들지 않고 원본을 쓴다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    THUMB("thumb", 240),
+    CARD("card", 720),
+    FULL("full", 1440);
+
+    private final String directory;
+    private final int maxWidth;
+}
@@ -3,8 +3,19 @@ package kr.co.yigil.file.repository;
 import java.util.Optional;
 import kr.co.yigil.file.AttachFile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface AttachFileRepository extends JpaRepository <AttachFile, Long> {
 
     Optional<AttachFile> findAttachFileByFileUrl(String url);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AttachFile a SET a.thumbFileUrl = :thumbFileUrl, a.cardFileUrl = :cardFileUrl, "
+            + "a.fullFileUrl = :fullFileUrl WHERE a.id = :id")
+    void updateVariants(@Param("id") Long id, @Param("thumbFileUrl") String thumbFileUrl,
+            @Param("cardFileUrl") String cardFileUrl, @Param("fullFileUrl") String fullFileUrl);
 }
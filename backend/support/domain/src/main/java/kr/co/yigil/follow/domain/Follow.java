@@ -10,7 +10,15 @@ import org.springframework.data.annotation.CreatedDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+/**
+ * 팔로워 목록은 팔로우 대상별로 (created_at, id) 키셋 커서를 따라 읽는다.
+ *
+ * <pre>
+ * CREATE INDEX idx_follow_following_created_at_id ON follow (following_id, created_at, id);
+ * </pre>
+ */
 @Entity
+@Table(indexes = @Index(name = "idx_follow_following_created_at_id", columnList = "following_id, created_at, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Follow {
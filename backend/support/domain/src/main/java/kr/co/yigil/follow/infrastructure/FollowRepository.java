@@ -2,7 +2,10 @@ package kr.co.yigil.follow.infrastructure;
 
 import kr.co.yigil.follow.domain.Follow;
 import kr.co.yigil.follow.FollowCountDto;
+import kr.co.yigil.global.IdCountDto;
 import kr.co.yigil.member.Member;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,8 +15,23 @@ import org.springframework.data.repository.query.Param;
 public interface FollowRepository extends JpaRepository<Follow, Long> {
     public boolean existsByFollowerIdAndFollowingId(Long followerId, Long followingId);
 
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :followerId AND f.following.id IN :followingIds")
+    List<Long> findFollowingIds(@Param("followerId") Long followerId, @Param("followingIds") List<Long> followingIds);
+
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.following.id = :memberId")
+    List<Long> findFollowerIdsByFollowingId(@Param("memberId") Long memberId);
+
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :memberId")
+    List<Long> findFollowingIdsByFollowerId(@Param("memberId") Long memberId);
+
     public Slice<Follow> findAllByFollowing(Member member);
     public Slice<Follow> findAllByFollowingId(Long memberId, Pageable pageable);
+
+    @Query("SELECT f FROM Follow f WHERE f.following.id = :memberId "
+        + "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) "
+        + "ORDER BY f.createdAt DESC, f.id DESC")
+    Slice<Follow> findFollowerSliceBefore(@Param("memberId") Long memberId, @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id, Pageable pageable);
     public Slice<Follow> findAllByFollowerId(Long memberId, Pageable pageable);
 
     public Slice<Follow> findAllByFollower(Member member, Pageable pageable);
@@ -28,5 +46,13 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
         "   (SELECT COUNT(f2) FROM Follow f2 WHERE f2.follower.id = :memberId))")
     FollowCountDto getFollowCounts(@Param("memberId") Long memberId);
 
+    @Query("SELECT new kr.co.yigil.global.IdCountDto(f.following.id, COUNT(f)) FROM Follow f "
+        + "WHERE f.following.id IN :memberIds GROUP BY f.following.id")
+    List<IdCountDto> countFollowersByMemberIds(@Param("memberIds") List<Long> memberIds);
+
+    @Query("SELECT new kr.co.yigil.global.IdCountDto(f.follower.id, COUNT(f)) FROM Follow f "
+        + "WHERE f.follower.id IN :memberIds GROUP BY f.follower.id")
+    List<IdCountDto> countFollowingsByMemberIds(@Param("memberIds") List<Long> memberIds);
+
     public void deleteByFollowerAndFollowing(Member Follower, Member Following);
 }
@@ -0,0 +1,18 @@
+package kr.co.yigil.global;
+
+import lombok.Getter;
+
+/**
+ * id별 COUNT ... GROUP BY 결과 한 줄.
+ */
+@Getter
+public class IdCountDto {
+
+    private final Long id;
+    private final int count;
+
+    public IdCountDto(Long id, Long count) {
+        this.id = id;
+        this.count = count != null ? count.intValue() : 0;
+    }
+}
@@ -0,0 +1,14 @@
+package kr.co.yigil.global.utils;
+
+import kr.co.yigil.travel.domain.PathFormat;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StringToPathFormatConverter implements Converter<String, PathFormat> {
+    @Override
+    public PathFormat convert(@NotNull String source) {
+        return PathFormat.valueOf(source.toUpperCase());
+    }
+}
@@ -0,0 +1,14 @@
+package kr.co.yigil.global.utils;
+
+import kr.co.yigil.travel.domain.PathLevel;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StringToPathLevelConverter implements Converter<String, PathLevel> {
+    @Override
+    public PathLevel convert(@NotNull String source) {
+        return PathLevel.valueOf(source.toUpperCase());
+    }
+}
@@ -1,5 +1,6 @@
 package kr.co.yigil.member.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -24,12 +25,21 @@ public interface MemberRepository extends JpaRepository <Member, Long> {
     @Query(value = "SELECT m.* FROM Member m ORDER BY m.joined_at DESC", nativeQuery = true)
     Page<Member> findAllMembersRegardlessOfStatus(Pageable pageable);
 
-    @Modifying
-    @Query("UPDATE Member m SET m.status = 'BANNED' WHERE m.id = :memberId")
-    void banMemberById(@Param("memberId") Long memberId);
-    @Modifying
-    @Query(value = "UPDATE member SET status = 'ACTIVE' WHERE id = :memberId", nativeQuery = true)
-    void unbanMemberById(@Param("memberId") Long memberId);
+    @Query(value = "SELECT COUNT(*) FROM member m WHERE m.id IN (:memberIds)", nativeQuery = true)
+    long countByIdInRegardlessOfStatus(@Param("memberIds") List<Long> memberIds);
+
+    /**
+     * 이미 정지된 회원은 건너뛰므로, 바뀐 행 수가 요청한 회원 수보다 적으면 없는 회원이나 이미 정지된 회원이 섞인 것이다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE member SET status = 'BANNED' WHERE id IN (:memberIds) AND status <> 'BANNED'",
+        nativeQuery = true)
+    int banMembersByIds(@Param("memberIds") List<Long> memberIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE member SET status = 'ACTIVE' WHERE id IN (:memberIds) AND status <> 'ACTIVE'",
+        nativeQuery = true)
+    int unbanMembersByIds(@Param("memberIds") List<Long> memberIds);
 
 	boolean existsByNickname(String nickname);
 
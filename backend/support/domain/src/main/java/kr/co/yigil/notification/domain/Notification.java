@@ -13,7 +13,15 @@ import org.springframework.data.annotation.CreatedDate;
 
 import java.time.LocalDateTime;
 
+/**
+ * 받은 알림 목록은 수신자별 (created_at, id) 위치 다음부터 읽는다.
+ *
+ * <pre>
+ * CREATE INDEX idx_notification_receiver_created_at_id ON notification (receiver_id, created_at, id);
+ * </pre>
+ */
 @Entity
+@Table(indexes = @Index(name = "idx_notification_receiver_created_at_id", columnList = "receiver_id, created_at, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification {
@@ -4,12 +4,27 @@ import kr.co.yigil.notification.domain.Notification;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     Slice<Notification> findAllByReceiverIdAndReadIsFalse(Long memberId, Pageable pageable);
 
+    @Query("SELECT n FROM Notification n WHERE n.receiver.id = :memberId AND n.read = false "
+        + "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) "
+        + "ORDER BY n.createdAt DESC, n.id DESC")
+    Slice<Notification> findUnreadSliceBefore(@Param("memberId") Long memberId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     Optional<Notification> findByIdAndReceiverId(Long notificationId, Long memberId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.read = true WHERE n.id IN :ids AND n.receiver.id = :memberId")
+    int readAllByIdInAndReceiverId(@Param("ids") List<Long> ids, @Param("memberId") Long memberId);
 }
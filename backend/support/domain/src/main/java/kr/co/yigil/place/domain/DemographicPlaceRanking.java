@@ -0,0 +1,64 @@
+package kr.co.yigil.place.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import kr.co.yigil.member.Ages;
+import kr.co.yigil.member.Gender;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 연령대/성별 버킷별 인기 장소 id 목록. demographicPlaceJob이 demographic_place를 집계한 뒤 버킷마다 한 행으로 발행한다.
+ *
+ * <pre>
+ * CREATE TABLE demographic_place_ranking (
+ *     id        bigserial PRIMARY KEY,
+ *     ages      varchar(255),
+ *     gender    varchar(255),
+ *     place_ids varchar(1000)
+ * );
+ * </pre>
+ * 테이블을 만든 뒤 demographicPlaceJob이 한 번 돌기 전까지 API는 demographic_place에서 직접 찾는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DemographicPlaceRanking {
+
+    private static final String DELIMITER = ",";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(value = EnumType.STRING)
+    private Ages ages;
+
+    @Enumerated(value = EnumType.STRING)
+    private Gender gender;
+
+    @Column(length = 1000)
+    private String placeIds;
+
+    public DemographicPlaceRanking(Ages ages, Gender gender, List<Long> placeIds) {
+        this.ages = ages;
+        this.gender = gender;
+        this.placeIds = placeIds.stream().map(String::valueOf).collect(Collectors.joining(DELIMITER));
+    }
+
+    public long[] getPlaceIdArray() {
+        if (placeIds == null || placeIds.isEmpty()) {
+            return new long[0];
+        }
+        return Arrays.stream(placeIds.split(DELIMITER)).mapToLong(Long::parseLong).toArray();
+    }
+}
@@ -2,6 +2,7 @@ package kr.co.yigil.place.domain;
 
 import jakarta.persistence.*;
 import kr.co.yigil.file.AttachFile;
+import kr.co.yigil.file.ImageVariant;
 import kr.co.yigil.region.domain.Region;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -69,6 +70,10 @@ public class Place {
         return imageFile.getFileUrl();
     }
 
+    public String getImageFileUrl(ImageVariant variant) {
+        return imageFile.getFileUrl(variant);
+    }
+
     public String getMapStaticImageFileUrl() {
         return mapStaticImageFile.getFileUrl();
     }
@@ -0,0 +1,52 @@
+package kr.co.yigil.place.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 같은 코스에 함께 담긴 횟수로 본 장소별 상위 이웃 장소. placeNeighborJob이 코스 전체를 한 번 읽어 통째로 다시 쓴다.
+ *
+ * <pre>
+ * CREATE TABLE place_neighbor (
+ *     id                bigserial PRIMARY KEY,
+ *     place_id          bigint  NOT NULL,
+ *     neighbor_place_id bigint  NOT NULL,
+ *     co_count          integer NOT NULL,
+ *     ranking           integer NOT NULL
+ * );
+ * CREATE INDEX idx_place_neighbor_place_id_ranking ON place_neighbor (place_id, ranking);
+ * </pre>
+ * 테이블을 만든 뒤 placeNeighborJob을 돌리기 전까지 관련 장소 목록은 비어 있다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_place_neighbor_place_id_ranking", columnList = "place_id, ranking"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlaceNeighbor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long placeId;
+
+    private Long neighborPlaceId;
+
+    private int coCount;
+
+    private int ranking;
+
+    public PlaceNeighbor(Long placeId, Long neighborPlaceId, int coCount, int ranking) {
+        this.placeId = placeId;
+        this.neighborPlaceId = neighborPlaceId;
+        this.coCount = coCount;
+        this.ranking = ranking;
+    }
+}
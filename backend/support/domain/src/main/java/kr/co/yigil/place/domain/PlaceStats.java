@@ -0,0 +1,54 @@
+package kr.co.yigil.place.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장소별 스팟 통계 읽기 모델. 스팟 등록/수정/삭제 트랜잭션에서 증감으로 갱신하고, 배치에서 스팟 기준으로 다시 맞춘다.
+ *
+ * <pre>
+ * CREATE TABLE place_stats (
+ *     place_id             bigint PRIMARY KEY,
+ *     spot_count           integer          NOT NULL,
+ *     rate_sum             double precision NOT NULL,
+ *     rate_average         double precision NOT NULL,
+ *     latest_uploaded_time timestamp
+ * );
+ * </pre>
+ * 테이블을 만든 뒤 placeStatsJob을 한 번 돌려 기존 장소의 행을 채운다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlaceStats {
+
+    @Id
+    private Long placeId;
+
+    private int spotCount;
+
+    private double rateSum;
+
+    private double rateAverage;
+
+    private LocalDateTime latestUploadedTime;
+
+    public PlaceStats(Long placeId, int spotCount, double rateSum, LocalDateTime latestUploadedTime) {
+        this.placeId = placeId;
+        this.spotCount = spotCount;
+        this.rateSum = rateSum;
+        this.rateAverage = calculateAverage(spotCount, rateSum);
+        this.latestUploadedTime = latestUploadedTime;
+    }
+
+    public static double calculateAverage(int spotCount, double rateSum) {
+        if (spotCount <= 0) {
+            return 0.0;
+        }
+        return Math.round((rateSum / spotCount) * 10.0) / 10.0;
+    }
+}
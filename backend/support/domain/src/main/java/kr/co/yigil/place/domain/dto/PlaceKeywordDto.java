@@ -0,0 +1,17 @@
+package kr.co.yigil.place.domain.dto;
+
+import lombok.Getter;
+
+@Getter
+public class PlaceKeywordDto {
+
+    private final Long id;
+    private final String name;
+    private final int spotCount;
+
+    public PlaceKeywordDto(Long id, String name, Long spotCount) {
+        this.id = id;
+        this.name = name;
+        this.spotCount = spotCount != null ? spotCount.intValue() : 0;
+    }
+}
@@ -0,0 +1,27 @@
+package kr.co.yigil.place.domain.dto;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import org.locationtech.jts.geom.Point;
+
+@Getter
+public class PlaceLocationDto {
+
+    private final Long id;
+    private final String name;
+    private final double x;
+    private final double y;
+    private final LocalDateTime latestUploadedTime;
+
+    public PlaceLocationDto(Long id, String name, Point location) {
+        this(id, name, location, null);
+    }
+
+    public PlaceLocationDto(Long id, String name, Point location, LocalDateTime latestUploadedTime) {
+        this.id = id;
+        this.name = name;
+        this.x = location.getX();
+        this.y = location.getY();
+        this.latestUploadedTime = latestUploadedTime;
+    }
+}
@@ -0,0 +1,17 @@
+package kr.co.yigil.place.domain.dto;
+
+import lombok.Getter;
+
+@Getter
+public class PlaceSearchDocumentDto {
+
+    private final Long id;
+    private final String name;
+    private final String address;
+
+    public PlaceSearchDocumentDto(Long id, String name, String address) {
+        this.id = id;
+        this.name = name;
+        this.address = address;
+    }
+}
@@ -0,0 +1,11 @@
+package kr.co.yigil.place.infrastructure;
+
+import kr.co.yigil.place.domain.DemographicPlaceRanking;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface DemographicPlaceRankingRepository extends JpaRepository<DemographicPlaceRanking, Long> {
+
+    @Query("SELECT COALESCE(MAX(r.id), 0) FROM DemographicPlaceRanking r")
+    Long findMaxId();
+}
@@ -4,10 +4,18 @@ import java.util.List;
 import kr.co.yigil.member.Ages;
 import kr.co.yigil.member.Gender;
 import kr.co.yigil.place.domain.DemographicPlace;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface DemographicPlaceRepository extends JpaRepository<DemographicPlace, Long> {
     List<DemographicPlace> findTop5ByAgesAndGenderOrderByReferenceCountDesc(Ages ages, Gender gender);
 
     List<DemographicPlace> findTop20ByAgesAndGenderOrderByReferenceCountDesc(Ages ages, Gender gender);
+
+    @Query("SELECT d.place.id FROM DemographicPlace d WHERE d.ages = :ages AND d.gender = :gender "
+            + "ORDER BY d.referenceCount DESC, d.place.id DESC")
+    List<Long> findPlaceIdsByAgesAndGender(@Param("ages") Ages ages, @Param("gender") Gender gender,
+            Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.util.List;
+import kr.co.yigil.place.domain.PlaceNeighbor;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PlaceNeighborRepository extends JpaRepository<PlaceNeighbor, Long> {
+
+    List<PlaceNeighbor> findByPlaceIdOrderByRankingAsc(Long placeId);
+}
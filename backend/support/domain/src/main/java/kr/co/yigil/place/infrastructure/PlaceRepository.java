@@ -1,8 +1,12 @@
 package kr.co.yigil.place.infrastructure;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.dto.PlaceKeywordDto;
+import kr.co.yigil.place.domain.dto.PlaceLocationDto;
+import kr.co.yigil.place.domain.dto.PlaceSearchDocumentDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +30,30 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     @Query("SELECT p FROM Place p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.address) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Slice<Place> findByNameOrAddressContainingIgnoreCase(String keyword, Pageable pageable);
 
+    /**
+     * ids는 "{1,2,3}" 꼴의 배열 문자열로, 목록이 길어도 바인딩 파라미터 하나로 넘긴다. 정렬은 컬럼 이름으로 준다.
+     */
+    @Query(value = "SELECT p.* FROM Place p WHERE p.id = ANY(CAST(:ids AS bigint[]))", nativeQuery = true)
+    Slice<Place> findByIdInArray(String ids, Pageable pageable);
+
+    @Query("SELECT new kr.co.yigil.place.domain.dto.PlaceLocationDto(p.id, p.name, p.location, p.latestUploadedTime) FROM Place p WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<PlaceLocationDto> findPlaceLocationsAfter(Long lastId, Pageable pageable);
+
+    @Query("SELECT new kr.co.yigil.place.domain.dto.PlaceLocationDto(p.id, p.name, p.location, p.latestUploadedTime) FROM Place p "
+        + "WHERE p.latestUploadedTime >= :since ORDER BY p.latestUploadedTime ASC, p.id ASC")
+    List<PlaceLocationDto> findPlaceLocationsUploadedSince(LocalDateTime since, Pageable pageable);
+
+    @Query("SELECT new kr.co.yigil.place.domain.dto.PlaceKeywordDto(p.id, p.name, COUNT(s.id)) FROM Place p "
+        + "LEFT JOIN Spot s ON s.place.id = p.id AND s.isDeleted = false "
+        + "WHERE p.id > :lastId GROUP BY p.id, p.name ORDER BY p.id ASC")
+    List<PlaceKeywordDto> findPlaceKeywordsAfter(Long lastId, Pageable pageable);
+
+    @Query("SELECT new kr.co.yigil.place.domain.dto.PlaceSearchDocumentDto(p.id, p.name, p.address) FROM Place p WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<PlaceSearchDocumentDto> findPlaceSearchDocumentsAfter(Long lastId, Pageable pageable);
+
+    @Query("SELECT p FROM Place p WHERE (LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.address) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND p.id < :lastId ORDER BY p.id DESC")
+    List<Place> findByNameOrAddressContainingIgnoreCaseAndIdLessThan(String keyword, Long lastId, Pageable pageable);
+
 }
 
 
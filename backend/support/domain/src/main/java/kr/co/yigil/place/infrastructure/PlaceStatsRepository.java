@@ -0,0 +1,51 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.yigil.place.domain.PlaceStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface PlaceStatsRepository extends JpaRepository<PlaceStats, Long> {
+
+    List<PlaceStats> findByPlaceIdIn(List<Long> placeIds);
+
+    /**
+     * 같은 행에서 원자적으로 증감하면서 평균을 다시 계산한다. 행이 없으면 0을 돌려준다.
+     */
+    @Modifying
+    @Query(value = "UPDATE place_stats SET "
+            + "spot_count = spot_count + :spotCountDelta, "
+            + "rate_sum = rate_sum + :rateDelta, "
+            + "rate_average = CASE WHEN spot_count + :spotCountDelta > 0 "
+            + "THEN ROUND(CAST((rate_sum + :rateDelta) / (spot_count + :spotCountDelta) AS numeric), 1) ELSE 0 END "
+            + "WHERE place_id = :placeId", nativeQuery = true)
+    int applyDelta(Long placeId, int spotCountDelta, double rateDelta);
+
+    /**
+     * applyDelta와 같고, 최근 업로드 시각도 더 늦은 쪽으로 맞춘다.
+     */
+    @Modifying
+    @Query(value = "UPDATE place_stats SET "
+            + "spot_count = spot_count + :spotCountDelta, "
+            + "rate_sum = rate_sum + :rateDelta, "
+            + "rate_average = CASE WHEN spot_count + :spotCountDelta > 0 "
+            + "THEN ROUND(CAST((rate_sum + :rateDelta) / (spot_count + :spotCountDelta) AS numeric), 1) ELSE 0 END, "
+            + "latest_uploaded_time = GREATEST(latest_uploaded_time, :uploadedTime) "
+            + "WHERE place_id = :placeId", nativeQuery = true)
+    int applyDelta(Long placeId, int spotCountDelta, double rateDelta, LocalDateTime uploadedTime);
+
+    /**
+     * 행이 없는 장소만 삭제되지 않은 스팟을 집계해 만든다. 호출 시점에 스팟 변경이 이미 반영되어 있어야 한다.
+     * 다른 트랜잭션이 먼저 만들었으면 0을 돌려준다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO place_stats (place_id, spot_count, rate_sum, rate_average, latest_uploaded_time) "
+            + "SELECT :placeId, COUNT(t.id), COALESCE(SUM(t.rate), 0), "
+            + "CASE WHEN COUNT(t.id) > 0 THEN ROUND(CAST(SUM(t.rate) / COUNT(t.id) AS numeric), 1) ELSE 0 END, "
+            + "MAX(t.created_at) "
+            + "FROM spot s JOIN travel t ON t.id = s.id AND t.is_deleted = false WHERE s.place_id = :placeId "
+            + "ON CONFLICT (place_id) DO NOTHING", nativeQuery = true)
+    int seed(Long placeId);
+}
@@ -4,10 +4,14 @@ import java.util.List;
 import kr.co.yigil.place.domain.Place;
 import kr.co.yigil.place.domain.PopularPlace;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface PopularPlaceRepository extends JpaRepository<PopularPlace, Long> {
 
     List<PopularPlace> findTop5ByOrderByReferenceCountDesc();
 
     List<PopularPlace> findTop20ByOrderByReferenceCountDesc();
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM PopularPlace p")
+    Long findMaxId();
 }
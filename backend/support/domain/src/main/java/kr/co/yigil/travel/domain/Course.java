@@ -2,6 +2,7 @@ package kr.co.yigil.travel.domain;
 
 import jakarta.persistence.*;
 import kr.co.yigil.file.AttachFile;
+import kr.co.yigil.file.ImageVariant;
 import kr.co.yigil.member.Member;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -10,6 +11,20 @@ import org.locationtech.jts.geom.LineString;
 
 import java.util.List;
 
+/**
+ * 전체 경로와 함께 PathLevel별로 단순화한 경로를 저장해 둔다.
+ *
+ * <pre>
+ * ALTER TABLE course ADD COLUMN medium_path geometry(LineString,4326);
+ * ALTER TABLE course ADD COLUMN low_path geometry(LineString,4326);
+ * -- 기존 코스 채우기. ST_SimplifyPreserveTopology는 JTS TopologyPreservingSimplifier와 같은 알고리즘이다.
+ * UPDATE course
+ *    SET medium_path = ST_SimplifyPreserveTopology(path, 0.00005),
+ *        low_path = ST_SimplifyPreserveTopology(path, 0.0003)
+ *  WHERE path IS NOT NULL AND medium_path IS NULL;
+ * </pre>
+ * 채우기 전의 코스는 단순화한 경로 대신 전체 경로를 내려준다.
+ */
 @Entity
 @Getter
 @DiscriminatorValue("COURSE")
@@ -19,6 +34,12 @@ public class Course extends Travel {
     @Column(columnDefinition = "geometry(LineString,4326)")
     private LineString path;
 
+    @Column(columnDefinition = "geometry(LineString,4326)")
+    private LineString mediumPath;
+
+    @Column(columnDefinition = "geometry(LineString,4326)")
+    private LineString lowPath;
+
     @OneToMany(cascade = CascadeType.PERSIST)
     @JoinColumn(name = "course_id")
     @OrderColumn(name = "spot_order")
@@ -35,7 +56,7 @@ public class Course extends Travel {
                   final double rate, final LineString path, final boolean isPrivate, final List<Spot> spots,
                   final int representativeSpotOrder, final AttachFile mapStaticImageFile) {
         super(member, title, description, rate, isPrivate);
-        this.path = path;
+        changePath(path);
         this.spots = spots;
         this.representativeSpotOrder = representativeSpotOrder;
         this.mapStaticImageFile = mapStaticImageFile;
@@ -45,7 +66,7 @@ public class Course extends Travel {
                   final double rate, final LineString path, final boolean isPrivate, final List<Spot> spots,
                   final int representativeSpotOrder, final AttachFile mapStaticImageFile) {
         super(id, member, title, description, rate, isPrivate);
-        this.path = path;
+        changePath(path);
         this.spots = spots;
         this.representativeSpotOrder = representativeSpotOrder;
         this.mapStaticImageFile = mapStaticImageFile;
@@ -54,7 +75,7 @@ public class Course extends Travel {
     public void updateCourse(String title, String description, double rate, LineString lineString, List<Spot> spots, AttachFile mapStaticImageFile) {
         updateTravel(title, description, rate);
 
-        this.path = lineString;
+        changePath(lineString);
         this.spots.clear();
         this.spots.addAll(spots);
         if (mapStaticImageFile != null) {
@@ -62,7 +83,29 @@ public class Course extends Travel {
         }
     }
 
+    /**
+     * 저장 시점에 만들어 둔 축척별 경로를 돌려준다. 간략화 경로가 없는 이전 코스는 원본 경로를 쓴다.
+     */
+    public LineString getPath(PathLevel level) {
+        LineString simplified = switch (level) {
+            case FULL -> path;
+            case MEDIUM -> mediumPath;
+            case LOW -> lowPath;
+        };
+        return simplified == null ? path : simplified;
+    }
+
+    private void changePath(LineString path) {
+        this.path = path;
+        this.mediumPath = PathLevel.MEDIUM.simplify(path);
+        this.lowPath = PathLevel.LOW.simplify(path);
+    }
+
     public String getMapStaticImageFileUrl() {
         return mapStaticImageFile.getFileUrl();
     }
+
+    public String getMapStaticImageFileUrl(ImageVariant variant) {
+        return mapStaticImageFile.getFileUrl(variant);
+    }
 }
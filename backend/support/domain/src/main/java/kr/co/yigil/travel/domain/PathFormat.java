@@ -0,0 +1,13 @@
+package kr.co.yigil.travel.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PathFormat {
+    GEOJSON("geojson"),
+    POLYLINE("polyline");
+
+    private final String value;
+}
@@ -0,0 +1,28 @@
+package kr.co.yigil.travel.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+
+/**
+ * 지도 축척별 코스 경로 해상도. 허용 오차는 EPSG:4326 기준 도(degree) 단위로,
+ * LOW는 시·군 단위(줌 12 안팎), MEDIUM은 동네 단위(줌 15 안팎)에서 화면상 차이가 나지 않을 정도다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PathLevel {
+    FULL("full", 0.0),
+    MEDIUM("medium", 0.00005),
+    LOW("low", 0.0003);
+
+    private final String value;
+    private final double tolerance;
+
+    public LineString simplify(LineString path) {
+        if (path == null || tolerance == 0.0) {
+            return path;
+        }
+        return (LineString) TopologyPreservingSimplifier.simplify(path, tolerance);
+    }
+}
@@ -3,6 +3,7 @@ package kr.co.yigil.travel.domain;
 import jakarta.persistence.*;
 import kr.co.yigil.file.AttachFile;
 import kr.co.yigil.file.AttachFiles;
+import kr.co.yigil.file.ImageVariant;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.place.domain.Place;
 import lombok.AccessLevel;
@@ -76,4 +77,11 @@ public class Spot extends Travel {
     public String getRepresentativeImageUrl(){
         return getImageUrls().getFirst();
     }
+
+    public String getRepresentativeImageUrl(ImageVariant variant) {
+        AttachFile representativeFile = attachFiles.getRepresentativeFile();
+        if (representativeFile == null)
+            throw new RuntimeException("Spot에 등록된 이미지가 없습니다.");
+        return representativeFile.getFileUrl(variant);
+    }
 }
@@ -13,12 +13,25 @@ import org.springframework.data.annotation.LastModifiedDate;
 import java.time.LocalDateTime;
 
 
+/**
+ * 스팟과 코스의 공통 부모 테이블. JOINED 상속이라 장소별 목록의 키셋 정렬 컬럼은 이 테이블에만 있다.
+ *
+ * <pre>
+ * CREATE INDEX idx_travel_created_at_id ON travel (created_at, id);
+ * CREATE INDEX idx_travel_member_id_id ON travel (member_id, id);
+ * </pre>
+ * member_id, id 인덱스는 홈 피드가 팬아웃하지 않는 회원의 최근 여행을 id 역순으로 읽을 때 쓴다.
+ */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_travel_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_travel_member_id_id", columnList = "member_id, id")
+})
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "type")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@SQLDelete(sql = "UPDATE Travel SET is_deleted = true WHERE id = ?")
+@SQLDelete(sql = "UPDATE Travel SET is_deleted = true, deleted_at = now() WHERE id = ?")
 @Where(clause = "is_deleted = false")
 public class Travel {
 
@@ -45,6 +58,8 @@ public class Travel {
     @LastModifiedDate
     private LocalDateTime modifiedAt;
 
+    private LocalDateTime deletedAt;
+
     private double rate;
 
     boolean isDeleted;
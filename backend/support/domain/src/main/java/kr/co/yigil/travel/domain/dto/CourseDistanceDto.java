@@ -0,0 +1,11 @@
+package kr.co.yigil.travel.domain.dto;
+
+/**
+ * 경로와 기준 좌표 사이의 최단 거리(m). native 쿼리 결과를 받는 projection이다.
+ */
+public interface CourseDistanceDto {
+
+    Long getId();
+
+    double getDistance();
+}
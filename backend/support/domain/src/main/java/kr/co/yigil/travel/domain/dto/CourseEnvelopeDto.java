@@ -0,0 +1,17 @@
+package kr.co.yigil.travel.domain.dto;
+
+import lombok.Getter;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineString;
+
+@Getter
+public class CourseEnvelopeDto {
+
+    private final Long id;
+    private final Envelope envelope;
+
+    public CourseEnvelopeDto(Long id, LineString path) {
+        this.id = id;
+        this.envelope = path.getEnvelopeInternal();
+    }
+}
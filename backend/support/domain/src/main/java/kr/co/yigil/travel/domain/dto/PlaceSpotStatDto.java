@@ -0,0 +1,17 @@
+package kr.co.yigil.travel.domain.dto;
+
+import lombok.Getter;
+
+@Getter
+public class PlaceSpotStatDto {
+
+    private final Long placeId;
+    private final int spotCount;
+    private final double spotTotalRate;
+
+    public PlaceSpotStatDto(Long placeId, Long spotCount, Double spotTotalRate) {
+        this.placeId = placeId;
+        this.spotCount = spotCount != null ? spotCount.intValue() : 0;
+        this.spotTotalRate = spotTotalRate != null ? spotTotalRate : 0.0;
+    }
+}
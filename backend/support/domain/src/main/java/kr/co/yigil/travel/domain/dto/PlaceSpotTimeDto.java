@@ -0,0 +1,16 @@
+package kr.co.yigil.travel.domain.dto;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+@Getter
+public class PlaceSpotTimeDto {
+
+    private final Long placeId;
+    private final LocalDateTime createdAt;
+
+    public PlaceSpotTimeDto(Long placeId, LocalDateTime createdAt) {
+        this.placeId = placeId;
+        this.createdAt = createdAt;
+    }
+}
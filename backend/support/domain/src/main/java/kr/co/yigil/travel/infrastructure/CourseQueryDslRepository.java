@@ -55,7 +55,7 @@ public class CourseQueryDslRepository {
                     course.id,
                     course.title,
                     course.rate,
-                    course.mapStaticImageFile.fileUrl,
+                    course.mapStaticImageFile.cardFileUrl.coalesce(course.mapStaticImageFile.fileUrl),
                     course.spots.size(),
                     course.createdAt,
                     course.isPrivate
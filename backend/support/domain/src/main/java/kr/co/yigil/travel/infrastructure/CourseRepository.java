@@ -2,6 +2,8 @@ package kr.co.yigil.travel.infrastructure;
 
 import kr.co.yigil.member.Member;
 import kr.co.yigil.travel.domain.Course;
+import kr.co.yigil.travel.domain.dto.CourseDistanceDto;
+import kr.co.yigil.travel.domain.dto.CourseEnvelopeDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -9,6 +11,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
@@ -20,6 +24,12 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
 
     Slice<Course> findBySpots_PlaceIdAndIsPrivateFalse(Long placeId, Pageable pageable);
 
+    @Query("SELECT c FROM Course c JOIN c.spots s WHERE s.place.id = :placeId AND c.isPrivate = false "
+        + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) "
+        + "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Course> findSliceInPlaceBefore(@Param("placeId") Long placeId, @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id, Pageable pageable);
+
     Page<Course> findAllByMemberId(Long memberId, Pageable pageable);
 
     Page<Course> findAllByMemberIdAndIsPrivate(Long memberId, boolean isPrivate, Pageable pageable);
@@ -29,6 +39,39 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @Query("SELECT c FROM Course c JOIN c.spots s WHERE s.place.name LIKE %:keyword% AND c.isPrivate = false")
     Slice<Course> findByPlaceNameContaining(@Param("keyword") String keyword, Pageable pageable);
 
+    @Query("SELECT DISTINCT c FROM Course c JOIN c.spots s WHERE s.place.id IN :placeIds AND c.isPrivate = false")
+    Slice<Course> findBySpotPlaceIdIn(@Param("placeIds") List<Long> placeIds, Pageable pageable);
+
     @Query("SELECT c FROM Course c inner JOIN Favor f ON c.id = f.travel.id WHERE c.isDeleted = false AND f.member.id = :memberId")
     Slice<Course> findAllMembersFavoriteCourses(Long memberId, Pageable pageRequest);
-}
\ No newline at end of file
+
+    @Query("SELECT new kr.co.yigil.travel.domain.dto.CourseEnvelopeDto(c.id, c.path) FROM Course c "
+        + "WHERE c.id > :lastId AND c.path IS NOT NULL ORDER BY c.id ASC")
+    List<CourseEnvelopeDto> findCourseEnvelopesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 경로가 기준 좌표에서 meters 이내를 지나는 공개 코스를 가까운 순으로 읽는다.
+     * geography로 변환한 경로의 GiST 인덱스를 타도록 식 그대로 조건에 쓴다.
+     * CREATE INDEX idx_course_path_geography ON course USING GIST ((path::geography));
+     */
+    @Query(value = "SELECT c.id AS id, ST_Distance(CAST(c.path AS geography), "
+        + "CAST(ST_SetSRID(ST_MakePoint(:x, :y), 4326) AS geography)) AS distance "
+        + "FROM course c JOIN travel t ON t.id = c.id "
+        + "WHERE t.is_private = false AND t.is_deleted = false "
+        + "AND ST_DWithin(CAST(c.path AS geography), CAST(ST_SetSRID(ST_MakePoint(:x, :y), 4326) AS geography), :meters) "
+        + "ORDER BY distance, c.id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<CourseDistanceDto> findPublicCoursesNear(@Param("x") double x, @Param("y") double y,
+        @Param("meters") double meters, @Param("limit") int limit, @Param("offset") long offset);
+
+    /**
+     * 메모리의 경로 범위로 후보를 좁힌 뒤 그 안에서만 거리를 계산한다.
+     */
+    @Query(value = "SELECT c.id AS id, ST_Distance(CAST(c.path AS geography), "
+        + "CAST(ST_SetSRID(ST_MakePoint(:x, :y), 4326) AS geography)) AS distance "
+        + "FROM course c JOIN travel t ON t.id = c.id "
+        + "WHERE c.id IN (:courseIds) AND t.is_private = false AND t.is_deleted = false "
+        + "AND ST_DWithin(CAST(c.path AS geography), CAST(ST_SetSRID(ST_MakePoint(:x, :y), 4326) AS geography), :meters) "
+        + "ORDER BY distance, c.id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<CourseDistanceDto> findPublicCoursesNearIn(@Param("courseIds") List<Long> courseIds, @Param("x") double x,
+        @Param("y") double y, @Param("meters") double meters, @Param("limit") int limit, @Param("offset") long offset);
+}
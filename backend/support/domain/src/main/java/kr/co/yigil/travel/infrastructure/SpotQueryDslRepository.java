@@ -55,7 +55,7 @@ public class SpotQueryDslRepository {
                     spot.place.id,
                     spot.place.name,
                     spot.rate,
-                    spot.place.imageFile.fileUrl,
+                    spot.place.imageFile.thumbFileUrl.coalesce(spot.place.imageFile.fileUrl),
                     spot.createdAt,
                     spot.isPrivate
                 )
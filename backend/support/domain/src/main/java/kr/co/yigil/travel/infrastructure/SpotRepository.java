@@ -1,6 +1,8 @@
 package kr.co.yigil.travel.infrastructure;
 
 import kr.co.yigil.travel.domain.Spot;
+import kr.co.yigil.travel.domain.dto.PlaceSpotStatDto;
+import kr.co.yigil.travel.domain.dto.PlaceSpotTimeDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -18,6 +20,12 @@ public interface SpotRepository extends JpaRepository<Spot, Long> {
 
     Slice<Spot> findAllByPlaceIdAndIsPrivateIsFalse(Long placeId, Pageable pageable);
 
+    @Query("SELECT s FROM Spot s WHERE s.place.id = :placeId AND s.isPrivate = false "
+        + "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) "
+        + "ORDER BY s.createdAt DESC, s.id DESC")
+    Slice<Spot> findSliceInPlaceBefore(@Param("placeId") Long placeId, @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id, Pageable pageable);
+
     Optional<Spot> findTopByPlaceIdAndMemberId(Long placeId, Long memberId);
 
     @Query("SELECT count(s) FROM Spot s WHERE s.place.id = :placeId AND s.isDeleted = false")
@@ -27,7 +35,7 @@ public interface SpotRepository extends JpaRepository<Spot, Long> {
 
     Page<Spot> findAllByMemberIdAndIsPrivateAndIsInCourseFalse(Long memberId, boolean isPrivate, Pageable pageable);
 
-    @Query("SELECT SUM(s.rate) FROM Spot s WHERE s.place.id = :placeId")
+    @Query("SELECT SUM(s.rate) FROM Spot s WHERE s.place.id = :placeId AND s.isDeleted = false")
     Optional<Double> findTotalRateByPlaceId(@Param("placeId") Long placeId);
 
     Page<Spot> findAllByMemberId(Long memberId, Pageable pageable);
@@ -42,9 +50,18 @@ public interface SpotRepository extends JpaRepository<Spot, Long> {
 
     boolean existsByPlaceIdAndMemberId(Long placeId, Long memberId);
 
-    @Query("SELECT SUM(s.rate) FROM Spot s WHERE s.place.id = :placeId")
+    @Query("SELECT SUM(s.rate) FROM Spot s WHERE s.place.id = :placeId AND s.isDeleted = false")
     Optional<Double> getRateTotalByPlaceId(Long placeId);
 
+    @Query("SELECT new kr.co.yigil.travel.domain.dto.PlaceSpotStatDto(s.place.id, COUNT(s), SUM(s.rate)) "
+        + "FROM Spot s WHERE s.place.id IN :placeIds AND s.isDeleted = false GROUP BY s.place.id")
+    List<PlaceSpotStatDto> findSpotStatsByPlaceIds(@Param("placeIds") List<Long> placeIds);
+
+    @Query("SELECT new kr.co.yigil.travel.domain.dto.PlaceSpotTimeDto(s.place.id, s.createdAt) "
+        + "FROM Spot s WHERE s.createdAt >= :since AND s.createdAt < :until AND s.isDeleted = false")
+    List<PlaceSpotTimeDto> findPlaceSpotTimesBetween(@Param("since") LocalDateTime since,
+        @Param("until") LocalDateTime until);
+
     boolean existsByIdAndMemberId(Long spotId, Long memberId);
 
     Optional<Spot> findByIdAndMemberId(Long spotId, Long memberId);
@@ -3,8 +3,11 @@ package kr.co.yigil.travel.infrastructure;
 import java.util.List;
 import java.util.Optional;
 import kr.co.yigil.travel.domain.Travel;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TravelRepository extends JpaRepository<Travel, Long> {
 
@@ -13,4 +16,24 @@ public interface TravelRepository extends JpaRepository<Travel, Long> {
     @Query("SELECT COUNT(t) FROM Travel t WHERE CAST(t.createdAt AS date) = CURRENT_DATE AND t.isDeleted = false")
     long countByCreatedAtToday();
     List<Travel> findTop5ByOrderByCreatedAtDesc();
+
+    @Query("SELECT t.id FROM Travel t WHERE t.member.id IN :memberIds AND t.isPrivate = false AND t.id < :beforeId "
+        + "AND t.id NOT IN (SELECT s.id FROM Spot s WHERE s.isInCourse = true) ORDER BY t.id DESC")
+    List<Long> findPublicTravelIdsBefore(@Param("memberIds") List<Long> memberIds, @Param("beforeId") Long beforeId,
+        Pageable pageable);
+
+    long countByIdInAndMemberId(List<Long> travelIds, Long memberId);
+
+    @Query("SELECT t.id FROM Travel t WHERE t.id IN :travelIds "
+        + "AND t.id NOT IN (SELECT s.id FROM Spot s WHERE s.isInCourse = true)")
+    List<Long> findIdsNotInCourse(@Param("travelIds") List<Long> travelIds);
+
+    /**
+     * 주인이 아니거나 이미 같은 공개 상태인 여행은 건너뛰므로, 바뀐 행 수로 요청 전체가 유효했는지 확인한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE travel SET is_private = :isPrivate WHERE id IN (:travelIds) AND member_id = :memberId "
+        + "AND is_private <> :isPrivate AND is_deleted = false", nativeQuery = true)
+    int updateVisibility(@Param("memberId") Long memberId, @Param("travelIds") List<Long> travelIds,
+        @Param("isPrivate") boolean isPrivate);
 }
@@ -1,5 +1,6 @@
 package kr.co.yigil.member.domain;
 
+import java.util.List;
 import java.util.Optional;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.SocialLoginType;
@@ -19,4 +20,6 @@ public interface MemberReader {
     Member getMemberRegardlessOfStatus(Long memberId);
 
     Page<Member> getMemberPageRegardlessOfStatus(Pageable pageable);
+
+    long countMembersRegardlessOfStatus(List<Long> memberIds);
 }
@@ -4,7 +4,6 @@ import java.util.List;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.global.exception.ExceptionCode;
 import kr.co.yigil.member.Member;
-import kr.co.yigil.member.MemberStatus;
 import kr.co.yigil.member.interfaces.dto.request.MemberBanRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -24,18 +23,16 @@ public class MemberServiceImpl implements MemberService {
         return memberReader.getMemberPageRegardlessOfStatus(pageable);
     }
 
+    /**
+     * 한 번의 UPDATE로 정지하고, 바뀐 행 수가 모자랄 때만 없는 회원인지 이미 정지된 회원인지 가린다.
+     */
     @Override
     @Transactional
     public void banMembers(MemberBanRequest request) {
-        List<Long> memberIds = request.getIds();
-        for (Long memberId : memberIds) {
-            checkAlreadyBannedMember(memberId);
-            memberStore.banMember(memberId);
-        }
-    }
-
-    private void checkAlreadyBannedMember(Long memberId) {
-        if (memberReader.getMemberRegardlessOfStatus(memberId).getStatus()== MemberStatus.BANNED) {
+        List<Long> memberIds = request.getIds().stream().distinct().toList();
+        if (memberIds.isEmpty()) return;
+        if (memberStore.banMembers(memberIds) != memberIds.size()) {
+            validateMembersExist(memberIds);
             throw new BadRequestException(ExceptionCode.ALREADY_BANNED);
         }
     }
@@ -43,18 +40,17 @@ public class MemberServiceImpl implements MemberService {
     @Override
     @Transactional
     public void unbanMembers(MemberBanRequest request) {
-        List<Long> memberIds = request.getIds();
-for (Long memberId : memberIds) {
-            checkAlreadyUnbannedMember(memberId);
-            memberStore.unbanMember(memberId);
+        List<Long> memberIds = request.getIds().stream().distinct().toList();
+        if (memberIds.isEmpty()) return;
+        if (memberStore.unbanMembers(memberIds) != memberIds.size()) {
+            validateMembersExist(memberIds);
+            throw new BadRequestException(ExceptionCode.ALREADY_UNBANNED);
         }
-
     }
 
-    private void checkAlreadyUnbannedMember(Long memberId) {
-        if (memberReader.getMemberRegardlessOfStatus(memberId).getStatus()== MemberStatus.ACTIVE) {
-            throw new BadRequestException(ExceptionCode.ALREADY_UNBANNED);
+    private void validateMembersExist(List<Long> memberIds) {
+        if (memberReader.countMembersRegardlessOfStatus(memberIds) != memberIds.size()) {
+            throw new BadRequestException(ExceptionCode.NOT_FOUND_MEMBER_ID);
         }
     }
-
 }
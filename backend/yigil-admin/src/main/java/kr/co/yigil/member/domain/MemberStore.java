@@ -1,5 +1,6 @@
 package kr.co.yigil.member.domain;
 
+import java.util.List;
 import kr.co.yigil.member.Member;
 
 public interface MemberStore {
@@ -8,7 +9,7 @@ public interface MemberStore {
 
     public Member save(Member member);
 
-    void banMember(Long memberId);
+    int banMembers(List<Long> memberIds);
 
-    void unbanMember(Long memberId);
+    int unbanMembers(List<Long> memberIds);
 }
@@ -2,6 +2,7 @@ package kr.co.yigil.member.infrastructure;
 
 import static kr.co.yigil.global.exception.ExceptionCode.NOT_FOUND_MEMBER_ID;
 
+import java.util.List;
 import java.util.Optional;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.member.Member;
@@ -54,4 +55,9 @@ public class MemberReaderImpl implements MemberReader {
     public Page<Member> getMemberPageRegardlessOfStatus(Pageable pageable) {
         return memberRepository.findAllMembersRegardlessOfStatus(pageable);
     }
-}
\ No newline at end of file
+
+    @Override
+    public long countMembersRegardlessOfStatus(List<Long> memberIds) {
+        return memberRepository.countByIdInRegardlessOfStatus(memberIds);
+    }
+}
@@ -1,5 +1,6 @@
 package kr.co.yigil.member.infrastructure;
 
+import java.util.List;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.domain.MemberStore;
 import kr.co.yigil.member.repository.MemberRepository;
@@ -13,13 +14,13 @@ public class MemberStoreImpl implements MemberStore {
 
 
     @Override
-    public void banMember(Long memberId) {
-        memberRepository.banMemberById(memberId);
+    public int banMembers(List<Long> memberIds) {
+        return memberRepository.banMembersByIds(memberIds);
     }
 
     @Override
-    public void unbanMember(Long memberId) {
-        memberRepository.unbanMemberById(memberId);
+    public int unbanMembers(List<Long> memberIds) {
+        return memberRepository.unbanMembersByIds(memberIds);
     }
 
     @Override
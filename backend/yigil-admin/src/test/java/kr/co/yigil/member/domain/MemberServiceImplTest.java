@@ -1,16 +1,14 @@
 package kr.co.yigil.member.domain;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import kr.co.yigil.global.exception.BadRequestException;
-import kr.co.yigil.member.Member;
-import kr.co.yigil.member.MemberStatus;
+import kr.co.yigil.global.exception.ExceptionCode;
 import kr.co.yigil.member.interfaces.dto.request.MemberBanRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,54 +38,64 @@ class MemberServiceImplTest {
         verify(memberReader).getMemberPageRegardlessOfStatus(pageable);
     }
 
-    @DisplayName("banMembers 메서드가 MemberReader와 MemberStore를 잘 호출하는지")
+    @DisplayName("banMembers 메서드가 한 번의 MemberStore 호출로 회원들을 정지하는지")
     @Test
-    void banMembers_ShouldCallReaderAndStore() {
+    void banMembers_ShouldCallStoreOnce() {
         MemberBanRequest request = new MemberBanRequest(List.of(1L, 2L, 3L));
-        Member mockMember = mock(Member.class);
-        when(mockMember.getStatus()).thenReturn(MemberStatus.ACTIVE);
-        when(memberReader.getMemberRegardlessOfStatus(anyLong())).thenReturn(mockMember);
+        when(memberStore.banMembers(List.of(1L, 2L, 3L))).thenReturn(3);
 
         memberService.banMembers(request);
 
-        verify(memberReader,times(3)).getMemberRegardlessOfStatus(anyLong());
-        verify(memberStore, times(3)).banMember(anyLong());
+        verify(memberStore).banMembers(List.of(1L, 2L, 3L));
+        verifyNoInteractions(memberReader);
     }
 
     @DisplayName("banMembers 메서드가 이미 정지된 회원을 정지하려고 할 때 BadRequestException을 던지는지")
     @Test
     void banMembers_ShouldThrowBadRequestException_WhenMemberIsAlreadyBanned() {
         MemberBanRequest request = new MemberBanRequest(List.of(1L, 2L, 3L));
-        Member mockMember = mock(Member.class);
-        when(mockMember.getStatus()).thenReturn(MemberStatus.BANNED);
-        when(memberReader.getMemberRegardlessOfStatus(anyLong())).thenReturn(mockMember);
+        when(memberStore.banMembers(List.of(1L, 2L, 3L))).thenReturn(2);
+        when(memberReader.countMembersRegardlessOfStatus(List.of(1L, 2L, 3L))).thenReturn(3L);
 
-        assertThrows(BadRequestException.class, () -> memberService.banMembers(request));
+        var exception = assertThrows(BadRequestException.class, () -> memberService.banMembers(request));
+
+        assertEquals(ExceptionCode.ALREADY_BANNED.getMessage(), exception.getMessage());
     }
 
-    @DisplayName("unbanMembers 메서드가 MemberReader와 MemberStore를 잘 호출하는지")
+    @DisplayName("banMembers 메서드가 없는 회원을 정지하려고 할 때 BadRequestException을 던지는지")
     @Test
-    void unbanMembers_ShouldCallReaderAndStore() {
+    void banMembers_ShouldThrowBadRequestException_WhenMemberNotFound() {
         MemberBanRequest request = new MemberBanRequest(List.of(1L, 2L, 3L));
-        Member mockMember = mock(Member.class);
-        when(mockMember.getStatus()).thenReturn(MemberStatus.BANNED);
-        when(memberReader.getMemberRegardlessOfStatus(anyLong())).thenReturn(mockMember);
+        when(memberStore.banMembers(List.of(1L, 2L, 3L))).thenReturn(2);
+        when(memberReader.countMembersRegardlessOfStatus(List.of(1L, 2L, 3L))).thenReturn(2L);
+
+        var exception = assertThrows(BadRequestException.class, () -> memberService.banMembers(request));
+
+        assertEquals(ExceptionCode.NOT_FOUND_MEMBER_ID.getMessage(), exception.getMessage());
+    }
+
+    @DisplayName("unbanMembers 메서드가 한 번의 MemberStore 호출로 회원들의 정지를 푸는지")
+    @Test
+    void unbanMembers_ShouldCallStoreOnce() {
+        MemberBanRequest request = new MemberBanRequest(List.of(1L, 2L, 2L));
+        when(memberStore.unbanMembers(List.of(1L, 2L))).thenReturn(2);
 
         memberService.unbanMembers(request);
 
-        verify(memberReader,times(3)).getMemberRegardlessOfStatus(anyLong());
-        verify(memberStore, times(3)).unbanMember(anyLong());
+        verify(memberStore).unbanMembers(List.of(1L, 2L));
+        verifyNoInteractions(memberReader);
     }
 
     @DisplayName("unbanMembers 메서드가 이미 활성화된 회원을 활성화하려고 할 때 BadRequestException을 던지는지")
     @Test
     void unbanMembers_ShouldThrowBadRequestException_WhenMemberIsAlreadyUnbanned() {
         MemberBanRequest request = new MemberBanRequest(List.of(1L, 2L, 3L));
-        Member mockMember = mock(Member.class);
-        when(mockMember.getStatus()).thenReturn(MemberStatus.ACTIVE);
-        when(memberReader.getMemberRegardlessOfStatus(anyLong())).thenReturn(mockMember);
+        when(memberStore.unbanMembers(List.of(1L, 2L, 3L))).thenReturn(0);
+        when(memberReader.countMembersRegardlessOfStatus(List.of(1L, 2L, 3L))).thenReturn(3L);
+
+        var exception = assertThrows(BadRequestException.class, () -> memberService.unbanMembers(request));
 
-        assertThrows(BadRequestException.class, () -> memberService.unbanMembers(request));
+        assertEquals(ExceptionCode.ALREADY_UNBANNED.getMessage(), exception.getMessage());
     }
 
 }
\ No newline at end of file
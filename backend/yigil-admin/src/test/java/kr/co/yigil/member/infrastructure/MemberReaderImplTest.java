@@ -6,6 +6,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Optional;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.repository.MemberRepository;
@@ -50,5 +51,13 @@ class MemberReaderImplTest {
         verify(memberRepository).findAllMembersRegardlessOfStatus(any());
     }
 
+    @DisplayName("countMembersRegardlessOfStatus 메서드가 상태와 관계없이 회원 수를 반환하는지")
+    @Test
+    void countMembersRegardlessOfStatus_ShouldReturnCount() {
+        when(memberRepository.countByIdInRegardlessOfStatus(List.of(1L, 2L))).thenReturn(2L);
+
+        assertEquals(2L, memberReader.countMembersRegardlessOfStatus(List.of(1L, 2L)));
+    }
+
 
 }
\ No newline at end of file
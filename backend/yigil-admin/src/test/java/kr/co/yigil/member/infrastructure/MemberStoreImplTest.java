@@ -1,7 +1,9 @@
 package kr.co.yigil.member.infrastructure;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
 
 import kr.co.yigil.member.repository.MemberRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -19,20 +21,20 @@ class MemberStoreImplTest {
     @InjectMocks
     private MemberStoreImpl memberStore;
 
-    @DisplayName("banMember 메서드가 MemberRepository를 잘 호출하는지")
+    @DisplayName("banMembers 메서드가 MemberRepository의 바뀐 행 수를 반환하는지")
     @Test
-    void banMember_ShouldCallRepository() {
-        memberStore.banMember(1L);
+    void banMembers_ShouldReturnUpdatedCount() {
+        when(memberRepository.banMembersByIds(List.of(1L, 2L))).thenReturn(2);
 
-        verify(memberRepository).banMemberById(1L);
+        assertEquals(2, memberStore.banMembers(List.of(1L, 2L)));
     }
 
-    @DisplayName("unbanMember 메서드가 MemberRepository를 잘 호출하는지")
+    @DisplayName("unbanMembers 메서드가 MemberRepository의 바뀐 행 수를 반환하는지")
     @Test
-    void unbanMember_ShouldCallRepository() {
-        memberStore.unbanMember(1L);
+    void unbanMembers_ShouldReturnUpdatedCount() {
+        when(memberRepository.unbanMembersByIds(List.of(1L, 2L))).thenReturn(1);
 
-        verify(memberRepository).unbanMemberById(1L);
+        assertEquals(1, memberStore.unbanMembers(List.of(1L, 2L)));
     }
 
 }
\ No newline at end of file
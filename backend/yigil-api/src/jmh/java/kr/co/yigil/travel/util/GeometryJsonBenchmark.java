@@ -0,0 +1,68 @@
+package kr.co.yigil.travel.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.geojson.GeoJsonReader;
+import org.locationtech.jts.io.geojson.GeoJsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 코스 경로 직렬화/역직렬화를 기존 GeoJsonWriter/GeoJsonReader 방식과 GeometryModule 방식으로 비교한다.
+ * ./gradlew :yigil-api:jmh 로 실행하며, gc 프로파일러의 gc.alloc.rate.norm이 호출당 할당량이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeometryJsonBenchmark {
+
+    @Param({"100", "2000"})
+    private int points;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new GeometryModule());
+    private LineString path;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+        Coordinate[] coordinates = new Coordinate[points];
+        for (int i = 0; i < points; i++) {
+            coordinates[i] = new Coordinate(127.0 + i * 0.000137, 37.5 + Math.sin(i / 10.0) * 0.001);
+        }
+        path = geometryFactory.createLineString(coordinates);
+        json = new GeoJsonWriter().write(path);
+    }
+
+    @Benchmark
+    public String writeWithGeoJsonWriter() {
+        return new GeoJsonWriter().write(path);
+    }
+
+    @Benchmark
+    public String writeWithGeometryModule() throws Exception {
+        return objectMapper.writeValueAsString(path);
+    }
+
+    @Benchmark
+    public Geometry readWithGeoJsonReader() throws ParseException {
+        return new GeoJsonReader().read(json);
+    }
+
+    @Benchmark
+    public Geometry readWithGeometryModule() throws Exception {
+        return objectMapper.readValue(json, Geometry.class);
+    }
+}
@@ -20,7 +20,6 @@ import kr.co.yigil.travel.interfaces.dto.response.CourseSearchResponse;
 import kr.co.yigil.travel.interfaces.dto.response.CoursesInPlaceResponse;
 import kr.co.yigil.travel.interfaces.dto.response.MyCoursesResponse;
 import kr.co.yigil.travel.interfaces.dto.response.MySpotsDetailResponse;
-import org.locationtech.jts.io.ParseException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -136,12 +135,7 @@ public class CourseMapperImpl implements CourseMapper {
         modifyCourseRequest.description( courseUpdateRequest.getDescription() );
         modifyCourseRequest.rate( courseUpdateRequest.getRate() );
         modifyCourseRequest.title( courseUpdateRequest.getTitle() );
-        try {
-            modifyCourseRequest.lineStringJson( map( courseUpdateRequest.getLineStringJson() ) );
-        }
-        catch ( ParseException e ) {
-            throw new RuntimeException( e );
-        }
+        modifyCourseRequest.lineStringJson( courseUpdateRequest.getLineStringJson() );
         modifyCourseRequest.mapStaticImage( courseUpdateRequest.getMapStaticImage() );
 
         return modifyCourseRequest.build();
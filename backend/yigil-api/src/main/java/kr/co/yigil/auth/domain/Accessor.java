@@ -3,6 +3,8 @@ package kr.co.yigil.auth.domain;
 import static kr.co.yigil.auth.domain.Authority.GUEST;
 import static kr.co.yigil.auth.domain.Authority.MEMBER;
 
+import kr.co.yigil.member.Ages;
+import kr.co.yigil.member.Gender;
 import lombok.Getter;
 
 @Getter
@@ -10,22 +12,37 @@ public class Accessor {
 
     private final Long memberId;
     private final Authority authority;
+    private final Ages ages;
+    private final Gender gender;
 
-    private Accessor(final Long memberId, final Authority authority) {
+    private Accessor(final Long memberId, final Authority authority, final Ages ages, final Gender gender) {
         this.memberId = memberId;
         this.authority = authority;
+        this.ages = ages;
+        this.gender = gender;
     }
 
     public static Accessor guest() {
-        return new Accessor(0L, GUEST);
+        return new Accessor(0L, GUEST, null, null);
     }
 
     public static Accessor member(final Long memberId) {
-        return new Accessor(memberId, MEMBER);
+        return new Accessor(memberId, MEMBER, null, null);
+    }
+
+    /**
+     * 로그인 시 세션에 담아 둔 연령대/성별을 함께 들고 다녀, 버킷 조회에서 회원 행을 다시 읽지 않도록 한다.
+     */
+    public static Accessor member(final Long memberId, final Ages ages, final Gender gender) {
+        return new Accessor(memberId, MEMBER, ages, gender);
     }
 
     public boolean isMember() {
         return MEMBER.equals(authority);
     }
 
+    public boolean hasDemographics() {
+        return ages != null && gender != null;
+    }
+
 }
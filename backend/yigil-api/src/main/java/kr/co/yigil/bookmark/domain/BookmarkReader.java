@@ -3,8 +3,13 @@ package kr.co.yigil.bookmark.domain;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.util.List;
+import java.util.Set;
+
 public interface BookmarkReader {
     Slice<Bookmark> getBookmarkSlice(Long memberId, Pageable pageable);
 
     boolean isBookmarked(Long memberId, Long placeId);
+
+    Set<Long> getBookmarkedPlaceIds(Long memberId, List<Long> placeIds);
 }
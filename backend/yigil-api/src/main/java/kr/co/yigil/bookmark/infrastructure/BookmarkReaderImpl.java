@@ -7,6 +7,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @Component
 @RequiredArgsConstructor
 public class BookmarkReaderImpl implements BookmarkReader {
@@ -21,4 +25,12 @@ public class BookmarkReaderImpl implements BookmarkReader {
     public boolean isBookmarked(Long memberId, Long placeId) {
         return bookmarkRepository.existsByMemberIdAndPlaceId(memberId, placeId);
     }
+
+    @Override
+    public Set<Long> getBookmarkedPlaceIds(Long memberId, List<Long> placeIds) {
+        if (placeIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(bookmarkRepository.findBookmarkedPlaceIds(memberId, placeIds));
+    }
 }
@@ -4,6 +4,7 @@ import kr.co.yigil.comment.domain.CommentCommand;
 import kr.co.yigil.comment.domain.CommentCommand.CommentUpdateRequest;
 import kr.co.yigil.comment.domain.CommentInfo;
 import kr.co.yigil.comment.domain.CommentService;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.notification.domain.NotificationService;
 import kr.co.yigil.notification.domain.NotificationType;
 import lombok.RequiredArgsConstructor;
@@ -43,6 +44,11 @@ public class CommentFacade {
         return commentService.getChildComments(parentId, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public CommentInfo.CommentsResponse getChildCommentList(Long parentId, Cursor cursor, int size) {
+        return commentService.getChildComments(parentId, cursor, size);
+    }
+
     @Transactional
     public void deleteComment(Long memberId, Long commentId) {
         commentService.deleteComment(memberId, commentId);
@@ -2,8 +2,8 @@ package kr.co.yigil.comment.domain;
 
 public interface CommentCountCacheStore {
 
-    int increaseCommentCount(Long travelId);
+    void increaseCommentCount(Long travelId);
 
-    int decreaseCommentCount(Long travelId);
+    void decreaseCommentCount(Long travelId);
 
 }
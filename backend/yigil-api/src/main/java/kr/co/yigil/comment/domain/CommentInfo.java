@@ -37,15 +37,22 @@ public class CommentInfo {
 
         private final List<CommentsUnitInfo> content;
         private final boolean hasNext;
+        private final String nextCursor;
 
         public CommentsResponse(List<CommentsUnitInfo> comments, boolean hasNext) {
             this.content = comments;
             this.hasNext = hasNext;
+            this.nextCursor = null;
         }
 
         public CommentsResponse(Slice<Comment> comments) {
+            this(comments, null);
+        }
+
+        public CommentsResponse(Slice<Comment> comments, String nextCursor) {
             this.content = comments.getContent().stream().map(CommentsUnitInfo::new).toList();
             this.hasNext = comments.hasNext();
+            this.nextCursor = nextCursor;
         }
     }
 
@@ -1,6 +1,9 @@
 package kr.co.yigil.comment.domain;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import kr.co.yigil.global.Cursor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -15,8 +18,12 @@ public interface CommentReader {
 
     Slice<Comment> getChildCommentsByParentId(Long parentId, Pageable pageable);
 
+    Slice<Comment> getChildCommentsByParentId(Long parentId, Cursor cursor, int size);
+
     int getCommentCount(Long travelId);
 
+    Map<Long, Integer> getCommentCounts(List<Long> travelIds);
+
     Long getTravelIdByCommentId(Long commentId);
 
     int getChildrenCommentCount(Long travelId);
@@ -5,6 +5,7 @@ import kr.co.yigil.comment.domain.CommentCommand.CommentCreateRequest;
 import kr.co.yigil.comment.domain.CommentCommand.CommentUpdateRequest;
 import kr.co.yigil.comment.domain.CommentInfo.CommentsResponse;
 import kr.co.yigil.comment.domain.CommentInfo.CommentNotiInfo;
+import kr.co.yigil.global.Cursor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -20,6 +21,8 @@ public interface CommentService {
 
     CommentsResponse getChildComments(Long parentId, Pageable pageable);
 
+    CommentsResponse getChildComments(Long parentId, Cursor cursor, int size);
+
     CommentNotiInfo updateComment(Long commentId, Long memberId, CommentUpdateRequest command);
 }
 
@@ -6,6 +6,7 @@ import kr.co.yigil.comment.domain.CommentCommand.CommentUpdateRequest;
 import kr.co.yigil.comment.domain.CommentInfo.CommentNotiInfo;
 import kr.co.yigil.comment.domain.CommentInfo.CommentsResponse;
 import kr.co.yigil.comment.domain.CommentInfo.CommentsUnitInfo;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.domain.MemberReader;
 import kr.co.yigil.travel.domain.Travel;
@@ -74,6 +75,13 @@ public class CommentServiceImpl implements CommentService {
         return new CommentsResponse(comments);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CommentsResponse getChildComments(Long parentId, Cursor cursor, int size) {
+        Slice<Comment> comments = commentReader.getChildCommentsByParentId(parentId, cursor, size);
+        return new CommentsResponse(comments, Cursor.next(comments, Comment::getCreatedAt, Comment::getId));
+    }
+
     @Override
     @Transactional
     public CommentNotiInfo updateComment(Long commentId, Long memberId, CommentUpdateRequest command) {
@@ -1,18 +1,18 @@
 package kr.co.yigil.comment.infrastructure;
 
 import kr.co.yigil.comment.domain.CommentCountCacheReader;
-import kr.co.yigil.comment.domain.CommentReader;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterReader;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class CommentCountCacheReaderImpl implements CommentCountCacheReader {
-    private final CommentReader commentReader;
+    private final CounterReader counterReader;
     @Override
-    @Cacheable(value = "commentCount")
     public int getCommentCount(Long travelId) {
-        return commentReader.getCommentCount(travelId);
+        return counterReader.get(CounterGroup.TRAVEL, travelId).getInt(Counter.COMMENT_COUNT);
     }
 }
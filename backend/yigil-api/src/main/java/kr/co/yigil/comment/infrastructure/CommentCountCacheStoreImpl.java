@@ -1,9 +1,9 @@
 package kr.co.yigil.comment.infrastructure;
 
-import kr.co.yigil.comment.domain.CommentCountCacheReader;
 import kr.co.yigil.comment.domain.CommentCountCacheStore;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterStore;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.stereotype.Component;
 
 
@@ -11,19 +11,15 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CommentCountCacheStoreImpl implements CommentCountCacheStore {
 
-    private final CommentCountCacheReader commentCountCacheReader;
+    private final CounterStore counterStore;
 
     @Override
-    @CachePut(value = "commentCount")
-    public int increaseCommentCount(Long travelId) {
-        int commentCount = commentCountCacheReader.getCommentCount(travelId);
-        return ++commentCount;
+    public void increaseCommentCount(Long travelId) {
+        counterStore.increment(Counter.COMMENT_COUNT, travelId, 1);
     }
 
     @Override
-    @CachePut(value = "commentCount")
-    public int decreaseCommentCount(Long travelId) {
-        int commentCount = commentCountCacheReader.getCommentCount(travelId);
-        return --commentCount;
+    public void decreaseCommentCount(Long travelId) {
+        counterStore.increment(Counter.COMMENT_COUNT, travelId, -1);
     }
 }
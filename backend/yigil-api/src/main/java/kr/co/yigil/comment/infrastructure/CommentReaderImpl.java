@@ -1,14 +1,20 @@
 package kr.co.yigil.comment.infrastructure;
 
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import kr.co.yigil.comment.domain.Comment;
 import kr.co.yigil.comment.domain.CommentReader;
+import kr.co.yigil.global.Cursor;
+import kr.co.yigil.global.IdCountDto;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.global.exception.ExceptionCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -43,11 +49,29 @@ public class CommentReaderImpl implements CommentReader {
         return commentRepository.findChildCommentsByParentId(parentId, pageable);
     }
 
+    @Override
+    public Slice<Comment> getChildCommentsByParentId(Long parentId, Cursor cursor, int size) {
+        if (cursor.isFirst()) {
+            return commentRepository.findChildCommentsByParentId(parentId, Cursor.firstPage(size, Direction.ASC));
+        }
+        return commentRepository.findChildCommentsAfter(parentId, cursor.getCreatedAt(), cursor.getId(),
+            Cursor.nextPage(size));
+    }
+
     @Override
     public int getCommentCount(Long travelId) {
         return commentRepository.countAllByTravelIdAndIsDeletedFalse(travelId);
     }
 
+    @Override
+    public Map<Long, Integer> getCommentCounts(List<Long> travelIds) {
+        if (travelIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentRepository.countNonDeletedByTravelIds(travelIds).stream()
+            .collect(Collectors.toMap(IdCountDto::getId, IdCountDto::getCount));
+    }
+
     @Override
     public Long getTravelIdByCommentId(Long commentId) {
         return commentRepository.findTravelIdByCommentId(commentId).orElseThrow(
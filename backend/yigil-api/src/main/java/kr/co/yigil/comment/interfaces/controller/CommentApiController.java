@@ -9,6 +9,7 @@ import kr.co.yigil.comment.interfaces.dto.CommentDto;
 import kr.co.yigil.comment.interfaces.dto.CommentDto.CommentCreateRequest;
 import kr.co.yigil.comment.interfaces.dto.CommentDto.CommentCreateResponse;
 import kr.co.yigil.comment.interfaces.dto.mapper.CommentMapper;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.SortBy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -65,8 +67,14 @@ public class CommentApiController {
     @GetMapping("/parents/{comment_id}")
     public ResponseEntity<CommentDto.CommentsResponse> getChildCommentList(
         @PathVariable("comment_id") Long commentId,
-        @PageableDefault(size = 5, page = 1 ) Pageable pageable
+        @PageableDefault(size = 5, page = 1 ) Pageable pageable,
+        @RequestParam(name = "cursor", required = false) String cursor
     ) {
+        if (cursor != null) {
+            var childCommentList = commentFacade.getChildCommentList(commentId, Cursor.decode(cursor),
+                pageable.getPageSize());
+            return ResponseEntity.ok().body(commentMapper.of(childCommentList));
+        }
 
         var pageRequest = PageRequest.of(pageable.getPageNumber()-1, pageable.getPageSize()
             , Sort.by(Direction.ASC, SortBy.CREATED_AT.getValue()));
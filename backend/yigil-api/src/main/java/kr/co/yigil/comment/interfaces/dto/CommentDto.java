@@ -44,6 +44,7 @@ public class CommentDto {
 
         private List<CommentsUnitInfo> content;
         private boolean hasNext;
+        private String nextCursor;
     }
 
     @Data
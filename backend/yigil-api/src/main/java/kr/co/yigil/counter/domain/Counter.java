@@ -0,0 +1,36 @@
+package kr.co.yigil.counter.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum Counter {
+    SPOT_COUNT(CounterGroup.PLACE, "spotCount", false),
+    SPOT_TOTAL_RATE(CounterGroup.PLACE, "spotTotalRate", true),
+    FAVOR_COUNT(CounterGroup.TRAVEL, "favorCount", false),
+    COMMENT_COUNT(CounterGroup.TRAVEL, "commentCount", false),
+    FOLLOWER_COUNT(CounterGroup.MEMBER, "followerCount", false),
+    FOLLOWING_COUNT(CounterGroup.MEMBER, "followingCount", false);
+
+    private final CounterGroup group;
+    private final String field;
+    private final boolean decimal;
+
+    public static Counter of(CounterGroup group, String field) {
+        for (Counter counter : values()) {
+            if (counter.group == group && counter.field.equals(field)) {
+                return counter;
+            }
+        }
+        return null;
+    }
+
+    public String format(Number value) {
+        return decimal ? String.valueOf(value.doubleValue()) : String.valueOf(value.longValue());
+    }
+
+    public Number parse(String value) {
+        return decimal ? Double.valueOf(value) : Long.valueOf(value);
+    }
+}
@@ -0,0 +1,28 @@
+package kr.co.yigil.counter.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CounterGroup {
+    PLACE("place"),
+    TRAVEL("travel"),
+    MEMBER("member");
+
+    private static final String KEY_PREFIX = "counter:";
+
+    private final String name;
+
+    public String key(Long id) {
+        return KEY_PREFIX + name + ":" + id;
+    }
+
+    public String keyPattern() {
+        return KEY_PREFIX + name + ":*";
+    }
+
+    public Long parseId(String key) {
+        return Long.valueOf(key.substring(key.lastIndexOf(':') + 1));
+    }
+}
@@ -0,0 +1,11 @@
+package kr.co.yigil.counter.domain;
+
+import java.util.List;
+import java.util.Map;
+
+public interface CounterReader {
+
+    CounterValues get(CounterGroup group, Long id);
+
+    Map<Long, CounterValues> getAll(CounterGroup group, List<Long> ids);
+}
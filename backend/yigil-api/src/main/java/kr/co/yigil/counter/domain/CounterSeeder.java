@@ -0,0 +1,14 @@
+package kr.co.yigil.counter.domain;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카운터 키가 없을 때 DB 기준 값을 불러온다. 카운터 그룹마다 하나씩 등록한다.
+ */
+public interface CounterSeeder {
+
+    CounterGroup getGroup();
+
+    Map<Long, CounterValues> load(List<Long> ids);
+}
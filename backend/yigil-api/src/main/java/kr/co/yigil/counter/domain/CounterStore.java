@@ -0,0 +1,14 @@
+package kr.co.yigil.counter.domain;
+
+import java.util.Map;
+
+public interface CounterStore {
+
+    void increment(Counter counter, Long id, Number delta);
+
+    void incrementAll(Counter counter, Map<Long, ? extends Number> deltas);
+
+    void seed(CounterGroup group, Map<Long, CounterValues> values);
+
+    void overwrite(CounterGroup group, Map<Long, CounterValues> values);
+}
@@ -0,0 +1,32 @@
+package kr.co.yigil.counter.domain;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.ToString;
+
+@ToString
+public class CounterValues {
+
+    private final Map<Counter, Number> values;
+
+    public CounterValues(Map<Counter, Number> values) {
+        this.values = values.isEmpty() ? new EnumMap<>(Counter.class) : new EnumMap<>(values);
+    }
+
+    public static CounterValues empty() {
+        return new CounterValues(Collections.emptyMap());
+    }
+
+    public int getInt(Counter counter) {
+        return values.getOrDefault(counter, 0).intValue();
+    }
+
+    public double getDouble(Counter counter) {
+        return values.getOrDefault(counter, 0.0).doubleValue();
+    }
+
+    public Map<Counter, Number> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+}
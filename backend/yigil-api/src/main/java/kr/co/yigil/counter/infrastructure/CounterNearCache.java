@@ -0,0 +1,47 @@
+package kr.co.yigil.counter.infrastructure;
+
+import kr.co.yigil.counter.domain.CounterValues;
+import kr.co.yigil.global.config.cache.LocalCache;
+import kr.co.yigil.global.config.cache.NearCacheProperties;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카운터 해시 앞에 두는 in-process 캐시(cache.near.caches.counters). 같은 목록의 카운터를 요청마다 HGETALL 하지 않도록
+ * 짧은 TTL 동안 재사용하고, 이 인스턴스에서 증감하거나 덮어쓴 키는 바로 지운다. 다른 인스턴스의 증감은 TTL만큼 늦게 보인다.
+ */
+@Component
+public class CounterNearCache {
+
+    static final String CACHE_NAME = "counters";
+
+    private final LocalCache localCache;
+
+    public CounterNearCache(NearCacheProperties nearCacheProperties) {
+        NearCacheProperties.Spec spec = nearCacheProperties.getSpec(CACHE_NAME);
+        this.localCache = nearCacheProperties.isEnabled(CACHE_NAME)
+                ? new LocalCache(spec.getMaxSize(), spec.getTtl())
+                : null;
+    }
+
+    CounterValues get(String key) {
+        if (localCache == null) {
+            return null;
+        }
+        ValueWrapper wrapper = localCache.get(key);
+        return wrapper != null ? (CounterValues) wrapper.get() : null;
+    }
+
+    void put(String key, CounterValues values) {
+        if (localCache != null) {
+            localCache.put(key, new SimpleValueWrapper(values));
+        }
+    }
+
+    void evict(String key) {
+        if (localCache != null) {
+            localCache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package kr.co.yigil.counter.infrastructure;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterReader;
+import kr.co.yigil.counter.domain.CounterSeeder;
+import kr.co.yigil.counter.domain.CounterStore;
+import kr.co.yigil.counter.domain.CounterValues;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CounterReaderImpl implements CounterReader {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CounterStore counterStore;
+    private final CounterNearCache counterNearCache;
+    private final Map<CounterGroup, CounterSeeder> seeders;
+
+    public CounterReaderImpl(StringRedisTemplate stringRedisTemplate, CounterStore counterStore,
+            CounterNearCache counterNearCache, List<CounterSeeder> seeders) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.counterStore = counterStore;
+        this.counterNearCache = counterNearCache;
+        this.seeders = seeders.stream()
+                .collect(Collectors.toMap(CounterSeeder::getGroup, Function.identity()));
+    }
+
+    @Override
+    public CounterValues get(CounterGroup group, Long id) {
+        return getAll(group, List.of(id)).get(id);
+    }
+
+    /**
+     * near cache에 없는 id만 한 번의 파이프라인으로 해시를 읽고, Redis에도 없는 키만 모아 DB에서 한 번에 시딩한다.
+     */
+    @Override
+    public Map<Long, CounterValues> getAll(CounterGroup group, List<Long> ids) {
+        Map<Long, CounterValues> result = new HashMap<>();
+        List<Long> remoteIds = new ArrayList<>();
+        for (Long id : ids) {
+            CounterValues cached = counterNearCache.get(group.key(id));
+            if (cached != null) {
+                result.put(id, cached);
+            } else {
+                remoteIds.add(id);
+            }
+        }
+        if (remoteIds.isEmpty()) {
+            return result;
+        }
+
+        List<Object> hashes = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            remoteIds.forEach(id -> connection.hashCommands().hGetAll(CounterScripts.bytes(group.key(id))));
+            return null;
+        });
+
+        List<Long> missedIds = new ArrayList<>();
+        for (int i = 0; i < remoteIds.size(); i++) {
+            Map<?, ?> hash = (Map<?, ?>) hashes.get(i);
+            if (hash == null || hash.isEmpty()) {
+                missedIds.add(remoteIds.get(i));
+                continue;
+            }
+            CounterValues values = toCounterValues(group, hash);
+            counterNearCache.put(group.key(remoteIds.get(i)), values);
+            result.put(remoteIds.get(i), values);
+        }
+
+        if (!missedIds.isEmpty()) {
+            Map<Long, CounterValues> loaded = new HashMap<>(seeders.get(group).load(missedIds));
+            missedIds.forEach(id -> loaded.putIfAbsent(id, CounterValues.empty()));
+            counterStore.seed(group, loaded);
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
+    private CounterValues toCounterValues(CounterGroup group, Map<?, ?> hash) {
+        Map<Counter, Number> values = new EnumMap<>(Counter.class);
+        hash.forEach((field, value) -> {
+            Counter counter = Counter.of(group, String.valueOf(field));
+            if (counter != null) {
+                values.put(counter, counter.parse(String.valueOf(value)));
+            }
+        });
+        return new CounterValues(values);
+    }
+}
@@ -0,0 +1,90 @@
+package kr.co.yigil.counter.infrastructure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterSeeder;
+import kr.co.yigil.counter.domain.CounterStore;
+import kr.co.yigil.counter.domain.CounterValues;
+import kr.co.yigil.global.lock.RedisLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis에 올라가 있는 카운터를 주기적으로 DB 값으로 덮어써 누락된 증감이나 시딩 경합으로 생긴 오차를 바로잡는다.
+ * 모든 인스턴스에 같은 cron이 걸리므로 락을 잡은 하나만 실행한다.
+ */
+@Slf4j
+@Component
+public class CounterReconciler {
+
+    private static final int BATCH_SIZE = 100;
+    static final String LOCK_KEY = "counter:reconcile:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CounterStore counterStore;
+    private final RedisLock redisLock;
+    private final Map<CounterGroup, CounterSeeder> seeders;
+
+    public CounterReconciler(StringRedisTemplate stringRedisTemplate, CounterStore counterStore, RedisLock redisLock,
+            List<CounterSeeder> seeders) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.counterStore = counterStore;
+        this.redisLock = redisLock;
+        this.seeders = seeders.stream()
+                .collect(Collectors.toMap(CounterSeeder::getGroup, Function.identity()));
+    }
+
+    @Scheduled(cron = "${counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcileAll() {
+        boolean ran = redisLock.runExclusively(LOCK_KEY, LOCK_TTL, () -> {
+            for (CounterGroup group : CounterGroup.values()) {
+                int reconciled = reconcile(group);
+                log.info("counter reconciled. group={}, count={}", group, reconciled);
+            }
+        });
+        if (!ran) {
+            log.debug("counter reconcile is running on another instance");
+        }
+    }
+
+    public int reconcile(CounterGroup group) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(group.keyPattern())
+                .count(BATCH_SIZE)
+                .build();
+
+        int reconciled = 0;
+        List<Long> ids = new ArrayList<>();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                ids.add(group.parseId(cursor.next()));
+                if (ids.size() == BATCH_SIZE) {
+                    reconciled += overwrite(group, ids);
+                    ids.clear();
+                }
+            }
+        }
+        if (!ids.isEmpty()) {
+            reconciled += overwrite(group, ids);
+        }
+        return reconciled;
+    }
+
+    private int overwrite(CounterGroup group, List<Long> ids) {
+        Map<Long, CounterValues> values = new HashMap<>(seeders.get(group).load(ids));
+        ids.forEach(id -> values.putIfAbsent(id, CounterValues.empty()));
+        counterStore.overwrite(group, values);
+        return values.size();
+    }
+}
@@ -0,0 +1,43 @@
+package kr.co.yigil.counter.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+final class CounterScripts {
+
+    static final Duration TTL = Duration.ofDays(1);
+
+    /**
+     * KEYS[1] = counter key, ARGV = [command, field, delta, ttl]. 키가 없으면 시딩 전이므로 증감하지 않는다.
+     */
+    static final byte[] INCREMENT = ("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call(ARGV[1], KEYS[1], ARGV[2], ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * KEYS[1] = counter key, ARGV = [ttl, field1, value1, field2, value2, ...]. 이미 키가 있으면 그 사이의 증감을 보존하기 위해 덮어쓰지 않는다.
+     */
+    static final byte[] SEED_IF_ABSENT = ("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """).getBytes(StandardCharsets.UTF_8);
+
+    static final byte[] OVERWRITE = ("""
+            redis.call('DEL', KEYS[1])
+            for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """).getBytes(StandardCharsets.UTF_8);
+
+    private CounterScripts() {
+    }
+
+    static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
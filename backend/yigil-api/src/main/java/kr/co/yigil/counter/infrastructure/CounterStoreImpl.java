@@ -0,0 +1,101 @@
+package kr.co.yigil.counter.infrastructure;
+
+import static kr.co.yigil.counter.infrastructure.CounterScripts.bytes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterStore;
+import kr.co.yigil.counter.domain.CounterValues;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class CounterStoreImpl implements CounterStore {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CounterNearCache counterNearCache;
+
+    @Override
+    public void increment(Counter counter, Long id, Number delta) {
+        incrementAll(counter, Map.of(id, delta));
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영해 롤백된 변경이 카운터에 남지 않도록 한다.
+     */
+    @Override
+    public void incrementAll(Counter counter, Map<Long, ? extends Number> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executeIncrement(counter, deltas);
+                }
+            });
+            return;
+        }
+        executeIncrement(counter, deltas);
+    }
+
+    @Override
+    public void seed(CounterGroup group, Map<Long, CounterValues> values) {
+        execute(CounterScripts.SEED_IF_ABSENT, group, values);
+    }
+
+    @Override
+    public void overwrite(CounterGroup group, Map<Long, CounterValues> values) {
+        execute(CounterScripts.OVERWRITE, group, values);
+        values.keySet().forEach(id -> counterNearCache.evict(group.key(id)));
+    }
+
+    private void executeIncrement(Counter counter, Map<Long, ? extends Number> deltas) {
+        byte[] command = bytes(counter.isDecimal() ? "HINCRBYFLOAT" : "HINCRBY");
+        byte[] field = bytes(counter.getField());
+        byte[] ttl = bytes(String.valueOf(CounterScripts.TTL.toSeconds()));
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach((id, delta) -> connection.scriptingCommands().eval(
+                    CounterScripts.INCREMENT, ReturnType.INTEGER, 1,
+                    bytes(counter.getGroup().key(id)), command, field, bytes(counter.format(delta)), ttl));
+            return null;
+        });
+        deltas.keySet().forEach(id -> counterNearCache.evict(counter.getGroup().key(id)));
+    }
+
+    private void execute(byte[] script, CounterGroup group, Map<Long, CounterValues> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        byte[] ttl = bytes(String.valueOf(CounterScripts.TTL.toSeconds()));
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            values.forEach((id, counterValues) -> {
+                List<byte[]> keysAndArgs = new ArrayList<>();
+                keysAndArgs.add(bytes(group.key(id)));
+                keysAndArgs.add(ttl);
+                for (Counter counter : Counter.values()) {
+                    if (counter.getGroup() != group) {
+                        continue;
+                    }
+                    keysAndArgs.add(bytes(counter.getField()));
+                    keysAndArgs.add(bytes(counter.format(counterValues.getDouble(counter))));
+                }
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1,
+                        keysAndArgs.toArray(new byte[0][]));
+            });
+            return null;
+        });
+    }
+}
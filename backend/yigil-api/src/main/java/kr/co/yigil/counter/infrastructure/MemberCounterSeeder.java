@@ -0,0 +1,38 @@
+package kr.co.yigil.counter.infrastructure;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterSeeder;
+import kr.co.yigil.counter.domain.CounterValues;
+import kr.co.yigil.follow.domain.FollowReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팔로워와 팔로잉 수를 각각 한 번의 GROUP BY 조회로 불러온다. 조회 결과에 없는 회원은 0이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberCounterSeeder implements CounterSeeder {
+
+    private final FollowReader followReader;
+
+    @Override
+    public CounterGroup getGroup() {
+        return CounterGroup.MEMBER;
+    }
+
+    @Override
+    public Map<Long, CounterValues> load(List<Long> memberIds) {
+        Map<Long, Integer> followerCounts = followReader.getFollowerCounts(memberIds);
+        Map<Long, Integer> followingCounts = followReader.getFollowingCounts(memberIds);
+        Map<Long, CounterValues> values = new HashMap<>();
+        memberIds.forEach(memberId -> values.put(memberId, new CounterValues(Map.of(
+                Counter.FOLLOWER_COUNT, followerCounts.getOrDefault(memberId, 0),
+                Counter.FOLLOWING_COUNT, followingCounts.getOrDefault(memberId, 0)))));
+        return values;
+    }
+}
@@ -0,0 +1,51 @@
+package kr.co.yigil.counter.infrastructure;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterSeeder;
+import kr.co.yigil.counter.domain.CounterValues;
+import kr.co.yigil.place.domain.PlaceStatsReader;
+import kr.co.yigil.travel.domain.spot.SpotReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * place_stats 읽기 모델에서 불러오고, 아직 행이 없는 장소만 스팟을 집계한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceCounterSeeder implements CounterSeeder {
+
+    private final PlaceStatsReader placeStatsReader;
+    private final SpotReader spotReader;
+
+    @Override
+    public CounterGroup getGroup() {
+        return CounterGroup.PLACE;
+    }
+
+    @Override
+    public Map<Long, CounterValues> load(List<Long> placeIds) {
+        Map<Long, CounterValues> values = new HashMap<>();
+        placeStatsReader.getPlaceStats(placeIds).forEach(stat ->
+                values.put(stat.getPlaceId(), toCounterValues(stat.getSpotCount(), stat.getRateSum())));
+
+        List<Long> missedIds = placeIds.stream()
+                .filter(placeId -> !values.containsKey(placeId))
+                .toList();
+        if (!missedIds.isEmpty()) {
+            spotReader.getSpotStatsInPlaces(missedIds).forEach(stat ->
+                    values.put(stat.getPlaceId(), toCounterValues(stat.getSpotCount(), stat.getSpotTotalRate())));
+        }
+        return values;
+    }
+
+    private CounterValues toCounterValues(int spotCount, double spotTotalRate) {
+        return new CounterValues(Map.of(
+                Counter.SPOT_COUNT, spotCount,
+                Counter.SPOT_TOTAL_RATE, spotTotalRate));
+    }
+}
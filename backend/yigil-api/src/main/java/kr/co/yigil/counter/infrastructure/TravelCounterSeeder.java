@@ -0,0 +1,40 @@
+package kr.co.yigil.counter.infrastructure;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.comment.domain.CommentReader;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterSeeder;
+import kr.co.yigil.counter.domain.CounterValues;
+import kr.co.yigil.favor.domain.FavorReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요와 댓글 수를 각각 한 번의 GROUP BY 조회로 불러온다. 조회 결과에 없는 여행은 0이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TravelCounterSeeder implements CounterSeeder {
+
+    private final FavorReader favorReader;
+    private final CommentReader commentReader;
+
+    @Override
+    public CounterGroup getGroup() {
+        return CounterGroup.TRAVEL;
+    }
+
+    @Override
+    public Map<Long, CounterValues> load(List<Long> travelIds) {
+        Map<Long, Integer> favorCounts = favorReader.getFavorCounts(travelIds);
+        Map<Long, Integer> commentCounts = commentReader.getCommentCounts(travelIds);
+        Map<Long, CounterValues> values = new HashMap<>();
+        travelIds.forEach(travelId -> values.put(travelId, new CounterValues(Map.of(
+                Counter.FAVOR_COUNT, favorCounts.getOrDefault(travelId, 0),
+                Counter.COMMENT_COUNT, commentCounts.getOrDefault(travelId, 0)))));
+        return values;
+    }
+}
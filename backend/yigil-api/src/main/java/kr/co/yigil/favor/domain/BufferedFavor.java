@@ -0,0 +1,14 @@
+package kr.co.yigil.favor.domain;
+
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class BufferedFavor {
+
+    private final Long memberId;
+    private final Long travelId;
+    private final LocalDate createdAt;
+}
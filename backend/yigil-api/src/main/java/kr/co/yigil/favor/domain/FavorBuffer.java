@@ -0,0 +1,27 @@
+package kr.co.yigil.favor.domain;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쓰기 지연 모드에서 좋아요를 Redis에 먼저 기록한다. DB의 favor 테이블에는 FavorBufferFlusher가 묶어서 반영한다.
+ */
+public interface FavorBuffer {
+
+    boolean isEnabled();
+
+    /**
+     * @return 새로 좋아요를 눌렀으면 true, 이미 누른 상태였으면 false
+     */
+    boolean add(Long memberId, Long travelId);
+
+    /**
+     * @return 좋아요를 취소했으면 true, 누르지 않은 상태였으면 false
+     */
+    boolean remove(Long memberId, Long travelId);
+
+    /**
+     * @return 아직 DB에 반영되지 않은 마지막 변경이 있는 여행만, 누른 상태면 true, 취소한 상태면 false
+     */
+    Map<Long, Boolean> getUnflushedStates(Long memberId, List<Long> travelIds);
+}
@@ -2,5 +2,5 @@ package kr.co.yigil.favor.domain;
 
 public interface FavorCountCacheReader {
 
-    int getFavorCount(Long favorId);
+    int getFavorCount(Long travelId);
 }
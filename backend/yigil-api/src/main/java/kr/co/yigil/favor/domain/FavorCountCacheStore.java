@@ -1,6 +1,6 @@
 package kr.co.yigil.favor.domain;
 
 public interface FavorCountCacheStore {
-    int incrementFavorCount(Long favorId);
-    int decrementFavorCount(Long favorId);
+    void incrementFavorCount(Long travelId);
+    void decrementFavorCount(Long travelId);
 }
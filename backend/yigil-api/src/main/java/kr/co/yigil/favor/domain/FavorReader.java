@@ -3,10 +3,20 @@ package kr.co.yigil.favor.domain;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.travel.domain.Travel;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 public interface FavorReader {
 
     boolean existsByMemberIdAndTravelId(Long memberId, Long travelId);
 
+    Set<Long> getFavoredTravelIds(Long memberId, List<Long> travelIds);
+
     Long getFavorIdByMemberAndTravel(Member member, Travel travel);
 
+    int getFavorCount(Long travelId);
+
+    Map<Long, Integer> getFavorCounts(List<Long> travelIds);
+
 }
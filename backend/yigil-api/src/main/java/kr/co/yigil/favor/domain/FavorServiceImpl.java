@@ -21,10 +21,14 @@ public class FavorServiceImpl implements FavorService{
     private final FavorStore favorStore;
     private final TravelReader travelReader;
     private final FavorCountCacheStore favorCountCacheStore;
+    private final FavorBuffer favorBuffer;
 
     @Override
     @Transactional
     public Long addFavor(Long memberId, Long travelId) {
+        if (favorBuffer.isEnabled()) {
+            return addBufferedFavor(memberId, travelId);
+        }
         Member member = memberReader.getMember(memberId);
         Travel travel = travelReader.getTravel(travelId);
 
@@ -35,6 +39,20 @@ public class FavorServiceImpl implements FavorService{
         return travel.getMember().getId();
     }
 
+    /**
+     * 쓰기 지연 모드에서는 회원 조회와 INSERT 없이 Redis의 좋아요 집합으로 중복을 확인한다.
+     */
+    private Long addBufferedFavor(Long memberId, Long travelId) {
+        Travel travel = travelReader.getTravel(travelId);
+        if (Objects.equals(travel.getWriterId(), memberId))
+            throw new BadRequestException(ExceptionCode.CANNOT_FAVOR_OWN_TRAVEL);
+        if (!favorBuffer.add(memberId, travelId))
+            throw new BadRequestException(ExceptionCode.ALREADY_FAVOR);
+
+        favorCountCacheStore.incrementFavorCount(travelId);
+        return travel.getMember().getId();
+    }
+
     private void validateRequest(Long giverId, Travel travel) {
         if(favorReader.existsByMemberIdAndTravelId(giverId, travel.getId()))
             throw new BadRequestException(ExceptionCode.ALREADY_FAVOR);
@@ -46,6 +64,12 @@ public class FavorServiceImpl implements FavorService{
     @Override
     @Transactional
     public void deleteFavor(Long memberId, Long travelId) {
+        if (favorBuffer.isEnabled()) {
+            if (!favorBuffer.remove(memberId, travelId))
+                throw new BadRequestException(ExceptionCode.FAVOR_NOT_FOUND);
+            favorCountCacheStore.decrementFavorCount(travelId);
+            return;
+        }
         Member member = memberReader.getMember(memberId);
         Travel travel = travelReader.getTravel(travelId);
         Long favorId = favorReader.getFavorIdByMemberAndTravel(member, travel);
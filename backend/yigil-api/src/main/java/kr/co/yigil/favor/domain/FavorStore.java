@@ -1,8 +1,14 @@
 package kr.co.yigil.favor.domain;
 
+import java.util.List;
+
 public interface FavorStore {
 
     void save(Favor favor);
 
     void deleteFavorById(Long favorId);
+
+    void saveAllIfAbsent(List<BufferedFavor> favors);
+
+    void deleteAll(List<BufferedFavor> favors);
 }
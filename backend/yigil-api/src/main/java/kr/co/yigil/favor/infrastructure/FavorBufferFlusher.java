@@ -0,0 +1,138 @@
+package kr.co.yigil.favor.infrastructure;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import kr.co.yigil.favor.domain.BufferedFavor;
+import kr.co.yigil.favor.domain.FavorStore;
+import kr.co.yigil.global.lock.RedisLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 쌓인 좋아요 변경을 batchSize개씩 한 트랜잭션의 묶음 DELETE/INSERT로 favor 테이블에 반영한다.
+ * 같은 회원과 여행의 변경은 마지막 상태로 합치고, 한 번이라도 취소가 있었으면 기존 행을 지운 뒤 다시 넣어 누른 날짜를 맞춘다.
+ * 여러 인스턴스 중 락을 잡은 하나만 반영하며, 다시 적용해도 결과가 같으므로 커밋 뒤 죽어도 중복 행이 생기지 않는다.
+ * 한 번의 반영은 락 TTL보다 짧은 FLUSH_BUDGET 안에서만 묶음을 이어 가고, 남은 변경은 다음 주기에 반영한다.
+ * 쓰기 지연 모드를 켠 경우에만 등록된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "favor.write-behind.enabled", havingValue = "true")
+public class FavorBufferFlusher {
+
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+    private static final Duration FLUSH_BUDGET = Duration.ofSeconds(10);
+    static final int MAX_ATTEMPTS = 5;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisLock redisLock;
+    private final FavorStore favorStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public FavorBufferFlusher(StringRedisTemplate stringRedisTemplate, RedisLock redisLock, FavorStore favorStore,
+            PlatformTransactionManager transactionManager,
+            @Value("${favor.write-behind.batch-size:500}") int batchSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisLock = redisLock;
+        this.favorStore = favorStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${favor.write-behind.flush-delay:300}",
+            fixedDelayString = "${favor.write-behind.flush-delay:300}")
+    public void flush() {
+        redisLock.runExclusively(FavorBufferKeys.LOCK_KEY, LOCK_TTL, this::drain);
+    }
+
+    private void drain() {
+        long deadline = System.nanoTime() + FLUSH_BUDGET.toNanos();
+        try {
+            List<String> changes;
+            do {
+                changes = stringRedisTemplate.execute(FavorBufferKeys.DRAIN_SCRIPT,
+                        List.of(FavorBufferKeys.PENDING_KEY, FavorBufferKeys.PROCESSING_KEY), String.valueOf(batchSize));
+                if (changes == null || changes.isEmpty()) {
+                    return;
+                }
+                Long attempts = stringRedisTemplate.opsForValue().increment(FavorBufferKeys.ATTEMPTS_KEY);
+                if (attempts != null && attempts > MAX_ATTEMPTS) {
+                    deadLetter();
+                    continue;
+                }
+                apply(changes);
+                stringRedisTemplate.execute(FavorBufferKeys.COMPLETE_SCRIPT,
+                        List.of(FavorBufferKeys.PROCESSING_KEY, FavorBufferKeys.ATTEMPTS_KEY, FavorBufferKeys.FLUSHED_KEY),
+                        FavorBufferKeys.UNFLUSHED_PREFIX);
+            } while (changes.size() >= batchSize && System.nanoTime() < deadline);
+        } catch (RuntimeException e) {
+            log.warn("failed to flush buffered favors. they will be retried", e);
+        }
+    }
+
+    private void deadLetter() {
+        Long moved = stringRedisTemplate.execute(FavorBufferKeys.DEAD_LETTER_SCRIPT, List.of(
+                FavorBufferKeys.PROCESSING_KEY, FavorBufferKeys.DEAD_KEY, FavorBufferKeys.ATTEMPTS_KEY,
+                FavorBufferKeys.FLUSHED_KEY));
+        log.error("buffered favors failed {} times. moved {} changes to {}", MAX_ATTEMPTS, moved,
+                FavorBufferKeys.DEAD_KEY);
+    }
+
+    /**
+     * dead로 옮긴 변경의 원인을 고친 뒤 운영에서 호출한다. 그 뒤에 같은 회원과 여행이 다시 바뀐 변경은 버린다.
+     *
+     * @return pending에 되돌린 변경 수
+     */
+    public long requeueDead() {
+        Long requeued = stringRedisTemplate.execute(FavorBufferKeys.REQUEUE_DEAD_SCRIPT,
+                List.of(FavorBufferKeys.DEAD_KEY, FavorBufferKeys.PENDING_KEY), FavorBufferKeys.UNFLUSHED_PREFIX);
+        log.info("requeued {} dead favor changes", requeued);
+        return requeued == null ? 0 : requeued;
+    }
+
+    void apply(List<String> changes) {
+        Map<String, String[]> lastChanges = new LinkedHashMap<>();
+        Set<String> removedPairs = new LinkedHashSet<>();
+        for (String change : changes) {
+            String[] parts = change.split(":");
+            String pair = parts[1] + ":" + parts[2];
+            if (FavorBufferKeys.REMOVE.equals(parts[0])) {
+                removedPairs.add(pair);
+            }
+            lastChanges.put(pair, parts);
+        }
+
+        List<BufferedFavor> removed = new ArrayList<>();
+        List<BufferedFavor> added = new ArrayList<>();
+        lastChanges.forEach((pair, parts) -> {
+            Long memberId = Long.valueOf(parts[1]);
+            Long travelId = Long.valueOf(parts[2]);
+            if (removedPairs.contains(pair)) {
+                removed.add(new BufferedFavor(memberId, travelId, null));
+            }
+            if (FavorBufferKeys.ADD.equals(parts[0])) {
+                added.add(new BufferedFavor(memberId, travelId, LocalDate.parse(parts[3])));
+            }
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            favorStore.deleteAll(removed);
+            favorStore.saveAllIfAbsent(added);
+        });
+        log.debug("buffered favors flushed. changes={}, deleted={}, inserted={}", changes.size(), removed.size(),
+                added.size());
+    }
+}
@@ -0,0 +1,102 @@
+package kr.co.yigil.favor.infrastructure;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.favor.domain.FavorBuffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 집합 갱신과 변경 기록을 한 스크립트로 처리하므로, 중복 요청이 동시에 와도 변경은 한 번만 쌓인다.
+ * 여행의 집합이 없으면 DB의 좋아요와 아직 반영되지 않은 변경으로 채운 뒤 다시 시도한다.
+ * DB를 읽는 사이에 반영이 끝나 그 변경이 unflushed에서 빠졌으면, 채우지 않고 SEED_ATTEMPTS번까지 다시 읽는다.
+ */
+@Component
+public class FavorBufferImpl implements FavorBuffer {
+
+    static final int SEED_ATTEMPTS = 3;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FavorRepository favorRepository;
+    private final boolean enabled;
+
+    public FavorBufferImpl(StringRedisTemplate stringRedisTemplate, FavorRepository favorRepository,
+            @Value("${favor.write-behind.enabled:false}") boolean enabled) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.favorRepository = favorRepository;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean add(Long memberId, Long travelId) {
+        return record(FavorBufferKeys.ADD_SCRIPT, memberId, travelId,
+                FavorBufferKeys.addChange(memberId, travelId, LocalDate.now()));
+    }
+
+    @Override
+    public boolean remove(Long memberId, Long travelId) {
+        return record(FavorBufferKeys.REMOVE_SCRIPT, memberId, travelId,
+                FavorBufferKeys.removeChange(memberId, travelId));
+    }
+
+    @Override
+    public Map<Long, Boolean> getUnflushedStates(Long memberId, List<Long> travelIds) {
+        if (travelIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> keys = travelIds.stream().map(FavorBufferKeys::unflushedKey).toList();
+        List<String> states = stringRedisTemplate.execute(FavorBufferKeys.UNFLUSHED_SCRIPT, keys,
+                String.valueOf(memberId));
+
+        Map<Long, Boolean> unflushed = new HashMap<>();
+        for (int i = 0; states != null && i < travelIds.size(); i++) {
+            String state = states.get(i);
+            if (!state.isEmpty()) {
+                unflushed.put(travelIds.get(i), state.startsWith(FavorBufferKeys.ADD));
+            }
+        }
+        return unflushed;
+    }
+
+    private boolean record(RedisScript<Long> script, Long memberId, Long travelId, String change) {
+        List<String> keys = List.of(FavorBufferKeys.membersKey(travelId), FavorBufferKeys.PENDING_KEY,
+                FavorBufferKeys.unflushedKey(travelId), FavorBufferKeys.SEQ_KEY);
+        String ttl = String.valueOf(FavorBufferKeys.MEMBERS_TTL.toSeconds());
+
+        Long result = stringRedisTemplate.execute(script, keys, String.valueOf(memberId), change, ttl);
+        if (result != null && result == FavorBufferKeys.UNSEEDED) {
+            seed(travelId, ttl);
+            result = stringRedisTemplate.execute(script, keys, String.valueOf(memberId), change, ttl);
+        }
+        return result != null && result == 1L;
+    }
+
+    private void seed(Long travelId, String ttl) {
+        List<String> keys = List.of(FavorBufferKeys.membersKey(travelId), FavorBufferKeys.unflushedKey(travelId),
+                FavorBufferKeys.FLUSHED_KEY);
+        for (int attempt = 1; attempt <= SEED_ATTEMPTS; attempt++) {
+            String flushed = stringRedisTemplate.opsForValue().get(FavorBufferKeys.FLUSHED_KEY);
+            List<String> args = new ArrayList<>();
+            args.add(ttl);
+            args.add(flushed == null ? "0" : flushed);
+            args.add(FavorBufferKeys.SENTINEL);
+            favorRepository.findMemberIdsByTravelId(travelId).forEach(memberId -> args.add(String.valueOf(memberId)));
+
+            Long result = stringRedisTemplate.execute(FavorBufferKeys.SEED_SCRIPT, keys, args.toArray());
+            if (result == null || result != FavorBufferKeys.STALE_SEED) {
+                return;
+            }
+        }
+        throw new IllegalStateException("favor members of travel " + travelId + " kept changing while seeding");
+    }
+}
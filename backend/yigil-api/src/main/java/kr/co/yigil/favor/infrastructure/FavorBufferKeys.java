@@ -0,0 +1,171 @@
+package kr.co.yigil.favor.infrastructure;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 여행별로 좋아요를 누른 회원 집합(favor:members:{travelId})과, 아직 DB에 반영하지 않은 변경을 순서대로 담는 list(favor:pending)를 쓴다.
+ * 변경은 "A:{memberId}:{travelId}:{누른 날짜}:{seq}" 또는 "D:{memberId}:{travelId}:{seq}" 문자열이고, seq는 favor:seq로 매긴다.
+ * 여행별 hash(favor:unflushed:{travelId})에는 회원마다 반영되지 않은 마지막 변경의 "{op}:{seq}"를 두어,
+ * 집합을 채우거나 좋아요 여부를 읽을 때 list 전체를 훑지 않는다.
+ * 반영 중인 변경은 favor:processing에 옮겨 두었다가 커밋 이후에 지우므로, 도중에 죽으면 다음 반영 때 그대로 다시 적용한다.
+ * processing을 비울 때마다 favor:flushed를 올려, 그 사이에 DB를 읽고 집합을 채우려던 요청이 다시 읽게 한다.
+ * 같은 묶음이 계속 실패하면 favor:dead로 옮겨 뒤의 변경을 막는다. 원인을 고친 뒤 FavorBufferFlusher.requeueDead로
+ * 그 뒤에 다시 바뀌지 않은 변경만 pending에 되돌린다.
+ */
+final class FavorBufferKeys {
+
+    static final String PENDING_KEY = "favor:pending";
+    static final String PROCESSING_KEY = "favor:processing";
+    static final String ATTEMPTS_KEY = "favor:processing:attempts";
+    static final String DEAD_KEY = "favor:dead";
+    static final String LOCK_KEY = "favor:flush:lock";
+    static final String SEQ_KEY = "favor:seq";
+    static final String FLUSHED_KEY = "favor:flushed";
+    static final String UNFLUSHED_PREFIX = "favor:unflushed:";
+
+    static final String ADD = "A";
+    static final String REMOVE = "D";
+
+    /**
+     * 집합은 건드릴 때마다 TTL을 늘린다. 반영 주기보다 충분히 길어서, 반영되지 않은 변경이 남은 채로 집합이 사라지지 않는다.
+     */
+    static final Duration MEMBERS_TTL = Duration.ofDays(1);
+    static final long UNSEEDED = -1L;
+    static final long STALE_SEED = -1L;
+
+    /**
+     * 빈 집합도 키가 남도록 넣는 값. 회원 id와 겹치지 않는다.
+     */
+    static final String SENTINEL = "-";
+
+    /**
+     * KEYS = [members, pending, unflushed, seq], ARGV = [memberId, change, ttl]. 집합이 없으면 -1, 이미 누른 상태면 0을 돌려준다.
+     */
+    static final RedisScript<Long> ADD_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            if redis.call('SADD', KEYS[1], ARGV[1]) == 0 then return 0 end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            local seq = redis.call('INCR', KEYS[4])
+            redis.call('HSET', KEYS[3], ARGV[1], 'A:' .. seq)
+            redis.call('RPUSH', KEYS[2], ARGV[2] .. ':' .. seq)
+            return 1
+            """, Long.class);
+
+    static final RedisScript<Long> REMOVE_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            if redis.call('SREM', KEYS[1], ARGV[1]) == 0 then return 0 end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            local seq = redis.call('INCR', KEYS[4])
+            redis.call('HSET', KEYS[3], ARGV[1], 'D:' .. seq)
+            redis.call('RPUSH', KEYS[2], ARGV[2] .. ':' .. seq)
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS = [members, unflushed, flushed], ARGV = [ttl, DB를 읽기 전의 flushed 값, memberId1, memberId2, ...].
+     * 먼저 채운 요청의 집합과 그 뒤의 변경을 덮어쓰지 않는다. DB를 읽는 사이에 반영이 끝났으면 -1을 돌려 다시 읽게 하고,
+     * 아니면 DB의 회원에 아직 반영되지 않은 이 여행의 변경을 얹는다.
+     */
+    static final RedisScript<Long> SEED_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[2] then return -1 end
+            for i = 3, #ARGV, 1 do redis.call('SADD', KEYS[1], ARGV[i]) end
+            local unflushed = redis.call('HGETALL', KEYS[2])
+            for i = 1, #unflushed, 2 do
+                if string.sub(unflushed[i + 1], 1, 1) == 'A' then redis.call('SADD', KEYS[1], unflushed[i])
+                else redis.call('SREM', KEYS[1], unflushed[i]) end
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS = [unflushed1, unflushed2, ...], ARGV = [memberId]. 여행마다 반영되지 않은 마지막 변경을, 없으면 빈 문자열을 돌려준다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final RedisScript<List<String>> UNFLUSHED_SCRIPT = (RedisScript) RedisScript.of("""
+            local states = {}
+            for i = 1, #KEYS, 1 do states[i] = redis.call('HGET', KEYS[i], ARGV[1]) or '' end
+            return states
+            """, List.class);
+
+    /**
+     * KEYS = [pending, processing], ARGV = [limit]. 이전 반영이 끝나지 못했으면 그 변경을, 아니면 pending 앞쪽 limit개를 옮겨 돌려준다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final RedisScript<List<String>> DRAIN_SCRIPT = (RedisScript) RedisScript.of("""
+            local processing = redis.call('LRANGE', KEYS[2], 0, -1)
+            if #processing > 0 then return processing end
+            local changes = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            if #changes == 0 then return changes end
+            redis.call('LTRIM', KEYS[1], #changes, -1)
+            redis.call('RPUSH', KEYS[2], unpack(changes))
+            return changes
+            """, List.class);
+
+    /**
+     * KEYS = [processing, attempts, flushed], ARGV = [unflushed prefix]. 커밋한 묶음을 지우고,
+     * 그 뒤에 다시 바뀌지 않은 회원만 unflushed에서 뺀다.
+     */
+    static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of("""
+            for _, change in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do
+                local op, memberId, travelId, seq = string.match(change, '^(%a):(%d+):(%d+).*:(%d+)$')
+                if seq and redis.call('HGET', ARGV[1] .. travelId, memberId) == op .. ':' .. seq then
+                    redis.call('HDEL', ARGV[1] .. travelId, memberId)
+                end
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return redis.call('INCR', KEYS[3])
+            """, Long.class);
+
+    /**
+     * KEYS = [processing, dead, attempts, flushed]. 반영하지 못한 묶음을 dead 뒤에 붙이고 옮긴 변경 수를 돌려준다.
+     * unflushed는 그대로 두어 좋아요 여부는 누른 대로 보인다.
+     */
+    static final RedisScript<Long> DEAD_LETTER_SCRIPT = RedisScript.of("""
+            local changes = redis.call('LRANGE', KEYS[1], 0, -1)
+            if #changes > 0 then redis.call('RPUSH', KEYS[2], unpack(changes)) end
+            redis.call('DEL', KEYS[1], KEYS[3])
+            redis.call('INCR', KEYS[4])
+            return #changes
+            """, Long.class);
+
+    /**
+     * KEYS = [dead, pending], ARGV = [unflushed prefix]. 회원과 여행의 마지막 변경으로 unflushed에 남은 것만 pending 뒤에 되돌린다.
+     * 그 뒤의 변경은 pending에 있거나 이미 반영되었으므로, 밀린 변경이 새 변경을 덮어쓰지 않는다.
+     */
+    static final RedisScript<Long> REQUEUE_DEAD_SCRIPT = RedisScript.of("""
+            local requeued = 0
+            for _, change in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do
+                local op, memberId, travelId, seq = string.match(change, '^(%a):(%d+):(%d+).*:(%d+)$')
+                if seq and redis.call('HGET', ARGV[1] .. travelId, memberId) == op .. ':' .. seq then
+                    redis.call('RPUSH', KEYS[2], change)
+                    requeued = requeued + 1
+                end
+            end
+            redis.call('DEL', KEYS[1])
+            return requeued
+            """, Long.class);
+
+    private FavorBufferKeys() {
+    }
+
+    static String membersKey(Long travelId) {
+        return "favor:members:" + travelId;
+    }
+
+    static String unflushedKey(Long travelId) {
+        return UNFLUSHED_PREFIX + travelId;
+    }
+
+    static String addChange(Long memberId, Long travelId, LocalDate createdAt) {
+        return ADD + ":" + memberId + ":" + travelId + ":" + createdAt;
+    }
+
+    static String removeChange(Long memberId, Long travelId) {
+        return REMOVE + ":" + memberId + ":" + travelId;
+    }
+}
@@ -1,8 +1,10 @@
 package kr.co.yigil.favor.infrastructure;
 
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterReader;
 import kr.co.yigil.favor.domain.FavorCountCacheReader;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 
@@ -10,10 +12,10 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class FavorCountCacheReaderImpl implements FavorCountCacheReader {
 
-    private final FavorRepository favorRepository;
+    private final CounterReader counterReader;
+
     @Override
-    @Cacheable(value = "favorCount")
     public int getFavorCount(Long travelId) {
-        return favorRepository.countByTravelId(travelId);
+        return counterReader.get(CounterGroup.TRAVEL, travelId).getInt(Counter.FAVOR_COUNT);
     }
 }
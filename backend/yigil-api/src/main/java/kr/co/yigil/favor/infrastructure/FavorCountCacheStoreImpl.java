@@ -1,9 +1,9 @@
 package kr.co.yigil.favor.infrastructure;
 
-import kr.co.yigil.favor.domain.FavorCountCacheReader;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterStore;
 import kr.co.yigil.favor.domain.FavorCountCacheStore;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.stereotype.Component;
 
 
@@ -11,19 +11,15 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class FavorCountCacheStoreImpl implements FavorCountCacheStore {
 
-    private final FavorCountCacheReader favorCountCacheReader;
+    private final CounterStore counterStore;
 
     @Override
-    @CachePut(value = "favorCount")
-    public int incrementFavorCount(Long favorId) {
-        var favorCount = favorCountCacheReader.getFavorCount(favorId);
-        return ++favorCount;
+    public void incrementFavorCount(Long travelId) {
+        counterStore.increment(Counter.FAVOR_COUNT, travelId, 1);
     }
 
     @Override
-    @CachePut(value = "favorCount")
-    public int decrementFavorCount(Long favorId) {
-        var favorCount = favorCountCacheReader.getFavorCount(favorId);
-        return --favorCount;
+    public void decrementFavorCount(Long travelId) {
+        counterStore.increment(Counter.FAVOR_COUNT, travelId, -1);
     }
 }
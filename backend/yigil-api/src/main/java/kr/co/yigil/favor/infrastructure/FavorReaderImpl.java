@@ -1,6 +1,8 @@
 package kr.co.yigil.favor.infrastructure;
 
+import kr.co.yigil.favor.domain.FavorBuffer;
 import kr.co.yigil.favor.domain.FavorReader;
+import kr.co.yigil.global.IdCountDto;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.global.exception.ExceptionCode;
 import kr.co.yigil.member.Member;
@@ -8,20 +10,72 @@ import kr.co.yigil.travel.domain.Travel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 쓰기 지연 모드에서는 좋아요 여부를 아직 DB에 반영되지 않은 변경으로 덮어 답한다.
+ * 반영이 끝나면 그 변경이 빠지므로, 변경을 먼저 읽고 없는 여행만 DB에서 읽는다.
+ */
 @Component
 @RequiredArgsConstructor
 public class FavorReaderImpl implements FavorReader {
     private final FavorRepository favorRepository;
+    private final FavorBuffer favorBuffer;
 
     @Override
     public boolean existsByMemberIdAndTravelId(Long memberId, Long travelId) {
+        if (favorBuffer.isEnabled()) {
+            Boolean unflushed = favorBuffer.getUnflushedStates(memberId, List.of(travelId)).get(travelId);
+            if (unflushed != null) {
+                return unflushed;
+            }
+        }
         return favorRepository.existsByMemberIdAndTravelId(memberId, travelId);
     }
 
+    @Override
+    public Set<Long> getFavoredTravelIds(Long memberId, List<Long> travelIds) {
+        if (travelIds.isEmpty()) {
+            return Set.of();
+        }
+        if (!favorBuffer.isEnabled()) {
+            return new HashSet<>(favorRepository.findFavoredTravelIds(memberId, travelIds));
+        }
+
+        Map<Long, Boolean> unflushed = favorBuffer.getUnflushedStates(memberId, travelIds);
+        Set<Long> favored = unflushed.entrySet().stream()
+                .filter(Map.Entry::getValue)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(HashSet::new));
+        List<Long> flushedIds = travelIds.stream().filter(id -> !unflushed.containsKey(id)).toList();
+        if (!flushedIds.isEmpty()) {
+            favored.addAll(favorRepository.findFavoredTravelIds(memberId, flushedIds));
+        }
+        return favored;
+    }
+
     @Override
     public Long getFavorIdByMemberAndTravel(Member member, Travel travel) {
         var favor = favorRepository.findFavorByMemberAndTravel(member, travel)
             .orElseThrow(() -> new BadRequestException(ExceptionCode.FAVOR_NOT_FOUND));
         return favor.getId();
     }
+
+    @Override
+    public int getFavorCount(Long travelId) {
+        return favorRepository.countByTravelId(travelId);
+    }
+
+    @Override
+    public Map<Long, Integer> getFavorCounts(List<Long> travelIds) {
+        if (travelIds.isEmpty()) {
+            return Map.of();
+        }
+        return favorRepository.countByTravelIds(travelIds).stream()
+            .collect(Collectors.toMap(IdCountDto::getId, IdCountDto::getCount));
+    }
 }
@@ -1,14 +1,27 @@
 package kr.co.yigil.favor.infrastructure;
 
+import java.util.List;
+import kr.co.yigil.favor.domain.BufferedFavor;
 import kr.co.yigil.favor.domain.Favor;
 import kr.co.yigil.favor.domain.FavorStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class FavorStoreImpl implements FavorStore {
+
+    /**
+     * 같은 좋아요를 동시에 반영해도 (member_id, travel_id) 유일 인덱스로 한 행만 남고, 그 사이 사라진 회원이나 여행은 건너뛴다.
+     */
+    private static final String INSERT_IF_ABSENT = "INSERT INTO favor (member_id, travel_id, created_at) "
+            + "SELECT m.id, t.id, ? FROM member m, travel t WHERE m.id = ? AND t.id = ? "
+            + "ON CONFLICT (member_id, travel_id) DO NOTHING";
+    private static final String DELETE = "DELETE FROM favor WHERE member_id = ? AND travel_id = ?";
+
     private final FavorRepository favorRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public void save(Favor favor) {
@@ -19,4 +32,24 @@ public class FavorStoreImpl implements FavorStore {
     public void deleteFavorById(Long favorId) {
         favorRepository.deleteById(favorId);
     }
+
+    @Override
+    public void saveAllIfAbsent(List<BufferedFavor> favors) {
+        if (favors.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, favors.stream()
+                .map(favor -> new Object[]{favor.getCreatedAt(), favor.getMemberId(), favor.getTravelId()})
+                .toList());
+    }
+
+    @Override
+    public void deleteAll(List<BufferedFavor> favors) {
+        if (favors.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE, favors.stream()
+                .map(favor -> new Object[]{favor.getMemberId(), favor.getTravelId()})
+                .toList());
+    }
 }
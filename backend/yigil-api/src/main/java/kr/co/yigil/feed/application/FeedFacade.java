@@ -0,0 +1,18 @@
+package kr.co.yigil.feed.application;
+
+import kr.co.yigil.feed.domain.FeedInfo;
+import kr.co.yigil.feed.domain.FeedService;
+import kr.co.yigil.global.Cursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class FeedFacade {
+
+    private final FeedService feedService;
+
+    public FeedInfo.FeedSlice getFeed(Long memberId, Cursor cursor, int size) {
+        return feedService.getFeed(memberId, cursor, size);
+    }
+}
@@ -0,0 +1,58 @@
+package kr.co.yigil.feed.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.yigil.file.ImageVariant;
+import kr.co.yigil.travel.domain.Course;
+import kr.co.yigil.travel.domain.Spot;
+import kr.co.yigil.travel.domain.Travel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+public class FeedInfo {
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class FeedSlice {
+
+        private final List<FeedCard> cards;
+        private final boolean hasNext;
+        private final String nextCursor;
+    }
+
+    @Getter
+    @ToString
+    public static class FeedCard {
+
+        private final Long travelId;
+        private final String travelType;
+        private final String title;
+        private final String imageUrl;
+        private final double rate;
+        private final Long ownerId;
+        private final String ownerNickname;
+        private final String ownerProfileImageUrl;
+        private final LocalDateTime createdAt;
+
+        public FeedCard(Travel travel) {
+            this.travelId = travel.getId();
+            this.rate = travel.getRate();
+            this.ownerId = travel.getMember().getId();
+            this.ownerNickname = travel.getMember().getNickname();
+            this.ownerProfileImageUrl = travel.getMember().getProfileImageUrl();
+            this.createdAt = travel.getCreatedAt();
+            if (travel instanceof Course course) {
+                this.travelType = "COURSE";
+                this.title = course.getTitle();
+                this.imageUrl = course.getMapStaticImageFileUrl(ImageVariant.CARD);
+            } else {
+                Spot spot = (Spot) travel;
+                this.travelType = "SPOT";
+                this.title = spot.getPlace() != null ? spot.getPlace().getName() : spot.getTitle();
+                this.imageUrl = spot.getRepresentativeImageUrl(ImageVariant.CARD);
+            }
+        }
+    }
+}
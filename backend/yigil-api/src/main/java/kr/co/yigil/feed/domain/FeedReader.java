@@ -0,0 +1,10 @@
+package kr.co.yigil.feed.domain;
+
+import java.util.List;
+
+public interface FeedReader {
+
+    List<Long> getPushedTravelIds(Long memberId, Long beforeId, int size);
+
+    List<Long> getCelebrityTravelIds(Long memberId, Long beforeId, int size);
+}
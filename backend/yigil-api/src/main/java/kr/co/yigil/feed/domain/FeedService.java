@@ -0,0 +1,8 @@
+package kr.co.yigil.feed.domain;
+
+import kr.co.yigil.global.Cursor;
+
+public interface FeedService {
+
+    FeedInfo.FeedSlice getFeed(Long memberId, Cursor cursor, int size);
+}
@@ -0,0 +1,82 @@
+package kr.co.yigil.feed.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import kr.co.yigil.global.Cursor;
+import kr.co.yigil.relation.domain.RelationLoader;
+import kr.co.yigil.travel.domain.Travel;
+import kr.co.yigil.travel.domain.TravelReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class FeedServiceImpl implements FeedService {
+
+    private final FeedReader feedReader;
+    private final TravelReader travelReader;
+    private final RelationLoader relationLoader;
+
+    /**
+     * 피드 list와 팔로워가 많은 회원의 최근 여행을 id 역순으로 합친 뒤 한 번에 읽어 카드로 만든다.
+     * 그 사이 삭제되었거나 비공개로 바뀐 여행, 언팔로우한 회원의 여행은 건너뛰고, 건너뛴 만큼 다음 id를 더 읽어 페이지를 채운다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public FeedInfo.FeedSlice getFeed(Long memberId, Cursor cursor, int size) {
+        Long beforeId = cursor.isFirst() ? null : cursor.getId();
+        List<Travel> visibleTravels = new ArrayList<>();
+        boolean hasNext = true;
+        while (hasNext && visibleTravels.size() < size) {
+            int remaining = size - visibleTravels.size();
+            List<Long> travelIds = getTravelIds(memberId, beforeId, remaining + 1);
+            List<Long> pageIds = travelIds.stream().limit(remaining).toList();
+            hasNext = travelIds.size() > remaining;
+            visibleTravels.addAll(getVisibleTravels(memberId, pageIds));
+            if (!pageIds.isEmpty()) {
+                beforeId = pageIds.getLast();
+            }
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Travel last = visibleTravels.getLast();
+            nextCursor = Cursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+        List<FeedInfo.FeedCard> cards = visibleTravels.stream()
+                .map(FeedInfo.FeedCard::new)
+                .toList();
+        return new FeedInfo.FeedSlice(cards, hasNext, nextCursor);
+    }
+
+    private List<Long> getTravelIds(Long memberId, Long beforeId, int size) {
+        return Stream.concat(
+                        feedReader.getPushedTravelIds(memberId, beforeId, size).stream(),
+                        feedReader.getCelebrityTravelIds(memberId, beforeId, size).stream())
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .limit(size)
+                .toList();
+    }
+
+    private List<Travel> getVisibleTravels(Long memberId, List<Long> travelIds) {
+        Map<Long, Travel> travels = travelReader.getTravels(travelIds).stream()
+                .collect(Collectors.toMap(Travel::getId, Function.identity()));
+        Set<Long> followingIds = relationLoader.getFollowingMemberIds(memberId, travels.values().stream()
+                .map(travel -> travel.getMember().getId())
+                .distinct()
+                .toList());
+        return travelIds.stream()
+                .map(travels::get)
+                .filter(travel -> travel != null && !travel.isPrivate())
+                .filter(travel -> followingIds.contains(travel.getMember().getId()))
+                .toList();
+    }
+}
@@ -0,0 +1,6 @@
+package kr.co.yigil.feed.domain;
+
+public interface FeedStore {
+
+    void publish(Long authorId, Long travelId);
+}
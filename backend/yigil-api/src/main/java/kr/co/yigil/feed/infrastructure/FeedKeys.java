@@ -0,0 +1,26 @@
+package kr.co.yigil.feed.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 회원별 피드는 팔로우한 회원이 공개한 여행 id를 최신순으로 담는 Redis list(feed:{memberId})다.
+ * 팔로워가 많은 회원의 여행은 list에 넣지 않고 조회할 때 DB에서 읽어 합친다.
+ */
+final class FeedKeys {
+
+    static final Duration FEED_TTL = Duration.ofDays(14);
+
+    private static final String FEED_PREFIX = "feed:";
+
+    private FeedKeys() {
+    }
+
+    static String key(Long memberId) {
+        return FEED_PREFIX + memberId;
+    }
+
+    static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
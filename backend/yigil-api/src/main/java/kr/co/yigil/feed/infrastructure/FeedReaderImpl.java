@@ -0,0 +1,75 @@
+package kr.co.yigil.feed.infrastructure;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterReader;
+import kr.co.yigil.counter.domain.CounterValues;
+import kr.co.yigil.feed.domain.FeedReader;
+import kr.co.yigil.follow.infrastructure.FollowRepository;
+import kr.co.yigil.travel.infrastructure.TravelRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FeedReaderImpl implements FeedReader {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FollowRepository followRepository;
+    private final TravelRepository travelRepository;
+    private final CounterReader counterReader;
+    private final int celebrityFollowerThreshold;
+
+    public FeedReaderImpl(StringRedisTemplate stringRedisTemplate, FollowRepository followRepository,
+            TravelRepository travelRepository, CounterReader counterReader,
+            @Value("${feed.celebrity-follower-threshold:10000}") int celebrityFollowerThreshold) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.followRepository = followRepository;
+        this.travelRepository = travelRepository;
+        this.counterReader = counterReader;
+        this.celebrityFollowerThreshold = celebrityFollowerThreshold;
+    }
+
+    /**
+     * list 길이는 feed.max-size로 잘려 있으므로 전부 읽어 beforeId 이전만 최신순으로 고른다.
+     */
+    @Override
+    public List<Long> getPushedTravelIds(Long memberId, Long beforeId, int size) {
+        List<String> travelIds = stringRedisTemplate.opsForList().range(FeedKeys.key(memberId), 0, -1);
+        if (travelIds == null) {
+            return List.of();
+        }
+        return travelIds.stream()
+                .map(Long::valueOf)
+                .filter(travelId -> beforeId == null || travelId < beforeId)
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .limit(size)
+                .toList();
+    }
+
+    /**
+     * fan-out 대상에서 빠진 팔로워가 많은 회원의 공개 여행을 DB에서 직접 읽는다.
+     */
+    @Override
+    public List<Long> getCelebrityTravelIds(Long memberId, Long beforeId, int size) {
+        List<Long> followingIds = followRepository.findFollowingIdsByFollowerId(memberId);
+        if (followingIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CounterValues> counters = counterReader.getAll(CounterGroup.MEMBER, followingIds);
+        List<Long> celebrityIds = followingIds.stream()
+                .filter(followingId -> counters.getOrDefault(followingId, CounterValues.empty())
+                        .getInt(Counter.FOLLOWER_COUNT) >= celebrityFollowerThreshold)
+                .toList();
+        if (celebrityIds.isEmpty()) {
+            return List.of();
+        }
+        return travelRepository.findPublicTravelIdsBefore(celebrityIds,
+                beforeId == null ? Long.MAX_VALUE : beforeId, PageRequest.of(0, size));
+    }
+}
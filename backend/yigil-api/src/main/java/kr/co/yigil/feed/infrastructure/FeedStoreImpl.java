@@ -0,0 +1,103 @@
+package kr.co.yigil.feed.infrastructure;
+
+import static kr.co.yigil.feed.infrastructure.FeedKeys.bytes;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterReader;
+import kr.co.yigil.feed.domain.FeedStore;
+import kr.co.yigil.follow.infrastructure.FollowRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 공개된 여행 id를 커밋 이후 전용 풀에서 팔로워들의 피드 list 앞에 넣는다.
+ * 팔로워 수가 기준 이상인 회원은 넣지 않고 조회 시점에 합치며, 실패해도 피드에서 빠질 뿐이므로 로그만 남긴다.
+ */
+@Slf4j
+@Component
+public class FeedStoreImpl implements FeedStore {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FollowRepository followRepository;
+    private final CounterReader counterReader;
+    private final Executor feedFanoutExecutor;
+    private final int celebrityFollowerThreshold;
+    private final int maxSize;
+
+    public FeedStoreImpl(StringRedisTemplate stringRedisTemplate, FollowRepository followRepository,
+            CounterReader counterReader, @Qualifier("feedFanoutExecutor") Executor feedFanoutExecutor,
+            @Value("${feed.celebrity-follower-threshold:10000}") int celebrityFollowerThreshold,
+            @Value("${feed.max-size:300}") int maxSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.followRepository = followRepository;
+        this.counterReader = counterReader;
+        this.feedFanoutExecutor = feedFanoutExecutor;
+        this.celebrityFollowerThreshold = celebrityFollowerThreshold;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void publish(Long authorId, Long travelId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(authorId, travelId);
+                }
+            });
+            return;
+        }
+        submit(authorId, travelId);
+    }
+
+    private void submit(Long authorId, Long travelId) {
+        try {
+            feedFanoutExecutor.execute(() -> fanout(authorId, travelId));
+        } catch (RejectedExecutionException e) {
+            log.warn("feed fanout queue is full. skip travelId={}", travelId);
+        }
+    }
+
+    void fanout(Long authorId, Long travelId) {
+        try {
+            int followerCount = counterReader.get(CounterGroup.MEMBER, authorId).getInt(Counter.FOLLOWER_COUNT);
+            if (followerCount >= celebrityFollowerThreshold) {
+                return;
+            }
+            List<Long> followerIds = followRepository.findFollowerIdsByFollowingId(authorId);
+            if (followerIds.isEmpty()) {
+                return;
+            }
+            push(followerIds, travelId);
+        } catch (RuntimeException e) {
+            log.warn("failed to fan out feed. authorId={}, travelId={}", authorId, travelId, e);
+        }
+    }
+
+    /**
+     * 공개 전환을 반복해도 같은 여행이 두 번 보이지 않도록 먼저 지우고 넣은 뒤 최대 길이로 자른다.
+     */
+    private void push(List<Long> followerIds, Long travelId) {
+        byte[] value = bytes(String.valueOf(travelId));
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            followerIds.forEach(followerId -> {
+                byte[] key = bytes(FeedKeys.key(followerId));
+                connection.listCommands().lRem(key, 0, value);
+                connection.listCommands().lPush(key, value);
+                connection.listCommands().lTrim(key, 0, maxSize - 1L);
+                connection.keyCommands().expire(key, FeedKeys.FEED_TTL.toSeconds());
+            });
+            return null;
+        });
+    }
+}
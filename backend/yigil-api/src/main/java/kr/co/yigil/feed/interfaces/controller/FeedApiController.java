@@ -0,0 +1,36 @@
+package kr.co.yigil.feed.interfaces.controller;
+
+import kr.co.yigil.auth.Auth;
+import kr.co.yigil.auth.MemberOnly;
+import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.feed.application.FeedFacade;
+import kr.co.yigil.feed.domain.FeedInfo;
+import kr.co.yigil.feed.interfaces.dto.mapper.FeedMapper;
+import kr.co.yigil.feed.interfaces.dto.response.FeedResponse;
+import kr.co.yigil.global.Cursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/feed")
+public class FeedApiController {
+
+    private final FeedFacade feedFacade;
+    private final FeedMapper feedMapper;
+
+    @GetMapping
+    @MemberOnly
+    public ResponseEntity<FeedResponse> getFeed(
+            @Auth Accessor accessor,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        FeedInfo.FeedSlice feedSlice = feedFacade.getFeed(accessor.getMemberId(), Cursor.decode(cursor), size);
+        return ResponseEntity.ok().body(feedMapper.toResponse(feedSlice));
+    }
+}
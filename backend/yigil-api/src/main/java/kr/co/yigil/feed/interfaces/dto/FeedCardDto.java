@@ -0,0 +1,21 @@
+package kr.co.yigil.feed.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedCardDto {
+
+    private Long travelId;
+    private String travelType;
+    private String title;
+    private String imageUrl;
+    private double rate;
+    private Long ownerId;
+    private String ownerNickname;
+    private String ownerProfileImageUrl;
+    private String createDate;
+}
@@ -0,0 +1,22 @@
+package kr.co.yigil.feed.interfaces.dto.mapper;
+
+import kr.co.yigil.feed.domain.FeedInfo;
+import kr.co.yigil.feed.interfaces.dto.FeedCardDto;
+import kr.co.yigil.feed.interfaces.dto.response.FeedResponse;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(
+        componentModel = "spring",
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface FeedMapper {
+
+    FeedResponse toResponse(FeedInfo.FeedSlice feedSlice);
+
+    @Mapping(target = "createDate", expression = "java(card.getCreatedAt().toString())")
+    FeedCardDto toDto(FeedInfo.FeedCard card);
+}
@@ -0,0 +1,17 @@
+package kr.co.yigil.feed.interfaces.dto.response;
+
+import java.util.List;
+import kr.co.yigil.feed.interfaces.dto.FeedCardDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedResponse {
+
+    private List<FeedCardDto> cards;
+    private boolean hasNext;
+    private String nextCursor;
+}
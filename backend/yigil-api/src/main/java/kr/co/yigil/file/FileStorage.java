@@ -0,0 +1,28 @@
+package kr.co.yigil.file;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface FileStorage {
+
+    String store(MultipartFile file, FileType fileType);
+
+    void store(String path, byte[] bytes, String contentType);
+
+    byte[] load(String path);
+
+    void delete(List<String> paths);
+
+    PresignedUpload presignUpload(String originalFileName, FileType fileType, String contentType, Duration expiresIn);
+
+    Optional<StoredObject> find(String path);
+
+    record PresignedUpload(String path, String uploadUrl, Instant expiresAt) {
+    }
+
+    record StoredObject(String contentType, long contentLength) {
+    }
+}
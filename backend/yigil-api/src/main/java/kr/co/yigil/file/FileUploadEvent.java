@@ -10,9 +10,6 @@ import org.springframework.web.multipart.MultipartFile;
 @Getter
 public class FileUploadEvent extends ApplicationEvent {
 
-    private static final long MAX_IMAGE_SIZE = 10485760;
-    private static final long MAX_VIDEO_SIZE = MAX_IMAGE_SIZE * 5;
-
     private final MultipartFile file;
     private final FileType fileType;
     private final Consumer<String> callback;
@@ -22,27 +19,10 @@ public class FileUploadEvent extends ApplicationEvent {
         this.file = file;
         this.callback = callback;
         fileType = determineFileType(file);
-        validateFileSize(fileType, file.getSize());
-    }
-
-    private void validateFileSize(FileType fileType, long size) {
-        long maxSize = fileType == FileType.IMAGE ? MAX_IMAGE_SIZE : MAX_VIDEO_SIZE;
-        if (size > maxSize) {
-            throw new FileException(ExceptionCode.EXCEED_FILE_CAPACITY);
-        }
     }
 
     private FileType determineFileType(MultipartFile file) {
         if (file == null) throw new FileException(ExceptionCode.EMPTY_FILE);
-
-        if(file.getContentType().startsWith("image/")) {
-            return FileType.IMAGE;
-        }
-
-        if(file.getContentType().startsWith("video/")) {
-            return FileType.VIDEO;
-        }
-
-        throw new FileException(ExceptionCode.INVALID_FILE_TYPE);
+        return FileValidator.validate(file.getContentType(), file.getSize());
     }
 }
@@ -6,4 +6,7 @@ import org.springframework.web.multipart.MultipartFile;
 public interface FileUploader {
     AttachFile upload(MultipartFile file);
 
+    UploadedFiles uploadAll(List<MultipartFile> files);
+
+    void discard(List<String> storedPaths);
 }
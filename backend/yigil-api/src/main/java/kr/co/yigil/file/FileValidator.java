@@ -0,0 +1,41 @@
+package kr.co.yigil.file;
+
+import kr.co.yigil.global.exception.ExceptionCode;
+import kr.co.yigil.global.exception.FileException;
+
+/**
+ * 서버를 거쳐 올리는 파일과 presigned URL로 직접 올리는 파일이 같은 형식, 용량 제한을 따르도록 검증한다.
+ */
+public final class FileValidator {
+
+    static final long MAX_IMAGE_SIZE = 10485760;
+    static final long MAX_VIDEO_SIZE = MAX_IMAGE_SIZE * 5;
+
+    private FileValidator() {
+    }
+
+    public static FileType validate(String contentType, long size) {
+        FileType fileType = determineFileType(contentType);
+        long maxSize = fileType == FileType.IMAGE ? MAX_IMAGE_SIZE : MAX_VIDEO_SIZE;
+        if (size > maxSize) {
+            throw new FileException(ExceptionCode.EXCEED_FILE_CAPACITY);
+        }
+        return fileType;
+    }
+
+    private static FileType determineFileType(String contentType) {
+        if (contentType == null) {
+            throw new FileException(ExceptionCode.INVALID_FILE_TYPE);
+        }
+
+        if (contentType.startsWith("image/")) {
+            return FileType.IMAGE;
+        }
+
+        if (contentType.startsWith("video/")) {
+            return FileType.VIDEO;
+        }
+
+        throw new FileException(ExceptionCode.INVALID_FILE_TYPE);
+    }
+}
@@ -0,0 +1,8 @@
+package kr.co.yigil.file;
+
+import java.util.List;
+
+public interface ImageVariantGenerator {
+
+    void generate(List<AttachFile> attachFiles);
+}
@@ -0,0 +1,17 @@
+package kr.co.yigil.file;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.file.FileStorage.PresignedUpload;
+
+public interface UploadSessionManager {
+
+    PresignedUpload issue(Long memberId, String originalFileName, String contentType, long fileSize);
+
+    Map<String, AttachFile> claimAll(Long memberId, List<String> paths);
+
+    void release(Collection<String> paths);
+
+    void complete(Collection<String> paths);
+}
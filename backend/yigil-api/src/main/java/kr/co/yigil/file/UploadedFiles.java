@@ -0,0 +1,103 @@
+package kr.co.yigil.file;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import kr.co.yigil.global.exception.ExceptionCode;
+import kr.co.yigil.global.exception.FileException;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 트랜잭션 밖에서 미리 올려 둔 파일 묶음. 요청의 MultipartFile로 업로드 결과를 찾고, 사용하지 않은 파일은 정리 대상으로 남긴다.
+ * presigned URL로 클라이언트가 직접 올린 파일은 확인을 마친 객체 키로 찾는다.
+ */
+public class UploadedFiles {
+
+    private final Map<MultipartFile, StoredFile> storedFiles;
+    private final Set<MultipartFile> used = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<String, AttachFile> claimedFiles = new HashMap<>();
+    private final Set<String> usedClaimedPaths = new HashSet<>();
+
+    public UploadedFiles(Map<MultipartFile, StoredFile> storedFiles) {
+        this.storedFiles = storedFiles;
+    }
+
+    public static UploadedFiles empty() {
+        return new UploadedFiles(new IdentityHashMap<>());
+    }
+
+    public UploadedFiles withClaimed(Map<String, AttachFile> claimedFiles) {
+        this.claimedFiles.putAll(claimedFiles);
+        return this;
+    }
+
+    public AttachFile get(MultipartFile file) {
+        StoredFile storedFile = storedFiles.get(file);
+        if (storedFile == null) {
+            throw new FileException(ExceptionCode.EMPTY_FILE);
+        }
+        used.add(file);
+        return storedFile.attachFile();
+    }
+
+    public AttachFile get(MultipartFile file, String path) {
+        if (path == null) {
+            return get(file);
+        }
+        AttachFile claimedFile = claimedFiles.get(path);
+        if (claimedFile == null) {
+            throw new FileException(ExceptionCode.UPLOAD_SESSION_NOT_FOUND);
+        }
+        usedClaimedPaths.add(path);
+        return claimedFile;
+    }
+
+    public List<AttachFile> getAll(List<MultipartFile> files) {
+        return files.stream().map(this::get).toList();
+    }
+
+    public List<AttachFile> getAll(List<MultipartFile> files, List<String> paths) {
+        if (paths == null || paths.isEmpty()) {
+            return files == null ? List.of() : getAll(files);
+        }
+        return paths.stream().map(path -> get(null, path)).toList();
+    }
+
+    /**
+     * 등록이 실패했을 때 지울 경로. 클라이언트가 올린 파일은 세션이 남아 있는 동안 다시 등록할 수 있으므로 제외한다.
+     */
+    public List<String> getStoredPaths() {
+        return storedFiles.values().stream().map(StoredFile::path).toList();
+    }
+
+    public List<String> getUnusedStoredPaths() {
+        return Stream.concat(
+                storedFiles.entrySet().stream()
+                        .filter(entry -> !used.contains(entry.getKey()))
+                        .map(entry -> entry.getValue().path()),
+                claimedFiles.keySet().stream()
+                        .filter(path -> !usedClaimedPaths.contains(path))
+        ).toList();
+    }
+
+    public List<AttachFile> getUsedFiles() {
+        return Stream.concat(
+                storedFiles.entrySet().stream()
+                        .filter(entry -> used.contains(entry.getKey()))
+                        .map(entry -> entry.getValue().attachFile()),
+                usedClaimedPaths.stream().map(claimedFiles::get)
+        ).toList();
+    }
+
+    public Set<String> getClaimedPaths() {
+        return claimedFiles.keySet();
+    }
+
+    public record StoredFile(AttachFile attachFile, String path) {
+    }
+}
@@ -1,22 +1,41 @@
 package kr.co.yigil.file.infrastructure;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import kr.co.yigil.file.AttachFile;
+import kr.co.yigil.file.FileStorage;
 import kr.co.yigil.file.FileType;
 import kr.co.yigil.file.FileUploadEvent;
 import kr.co.yigil.file.FileUploader;
+import kr.co.yigil.file.UploadedFiles;
+import kr.co.yigil.file.UploadedFiles.StoredFile;
 import kr.co.yigil.global.exception.ExceptionCode;
 import kr.co.yigil.global.exception.FileException;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class FileUploaderImpl implements FileUploader {
 
     private final ApplicationEventPublisher eventPublisher;
+    private final FileStorage fileStorage;
+    private final Executor fileUploadExecutor;
+
+    public FileUploaderImpl(ApplicationEventPublisher eventPublisher, FileStorage fileStorage,
+            @Qualifier("fileUploadExecutor") Executor fileUploadExecutor) {
+        this.eventPublisher = eventPublisher;
+        this.fileStorage = fileStorage;
+        this.fileUploadExecutor = fileUploadExecutor;
+    }
 
     @Override
     public AttachFile upload(MultipartFile file) {
@@ -31,6 +50,62 @@ public class FileUploaderImpl implements FileUploader {
         return new AttachFile(fileType, fileUrl, file.getOriginalFilename(), file.getSize());
     }
 
+    /**
+     * 모든 파일을 먼저 검증한 뒤 업로드 전용 스레드 풀에서 동시에 올리고, 전부 끝날 때까지 기다린다.
+     * 하나라도 실패하면 이미 올라간 파일을 지우고 예외를 던진다.
+     */
+    @Override
+    public UploadedFiles uploadAll(List<MultipartFile> files) {
+        List<FileUploadEvent> events = files.stream()
+                .filter(Objects::nonNull)
+                .map(file -> new FileUploadEvent(this, file, path -> {}))
+                .toList();
+
+        List<CompletableFuture<String>> futures = events.stream()
+                .map(event -> CompletableFuture.supplyAsync(
+                        () -> fileStorage.store(event.getFile(), event.getFileType()), fileUploadExecutor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> {
+                    log.warn("file upload failed. files={}", events.size(), e);
+                    return null;
+                })
+                .join();
+
+        Map<MultipartFile, StoredFile> storedFiles = new IdentityHashMap<>();
+        List<String> storedPaths = new ArrayList<>();
+        boolean failed = false;
+        for (int i = 0; i < events.size(); i++) {
+            CompletableFuture<String> future = futures.get(i);
+            if (future.isCompletedExceptionally()) {
+                failed = true;
+                continue;
+            }
+            FileUploadEvent event = events.get(i);
+            MultipartFile file = event.getFile();
+            String path = future.join();
+            storedPaths.add(path);
+            storedFiles.put(file, new StoredFile(
+                    new AttachFile(event.getFileType(), path, file.getOriginalFilename(), file.getSize()), path));
+        }
+
+        if (failed) {
+            log.warn("file upload failed. discard uploaded files={}", storedPaths.size());
+            discard(storedPaths);
+            throw new FileException(ExceptionCode.FILE_UPLOAD_FAILED);
+        }
+        return new UploadedFiles(storedFiles);
+    }
+
+    @Override
+    public void discard(List<String> storedPaths) {
+        try {
+            fileStorage.delete(storedPaths);
+        } catch (RuntimeException e) {
+            log.warn("failed to discard uploaded files. paths={}", storedPaths, e);
+        }
+    }
+
     private FileType determineFileType(MultipartFile file) {
         if (file == null) throw new FileException(ExceptionCode.EMPTY_FILE);
 
@@ -0,0 +1,174 @@
+package kr.co.yigil.file.infrastructure;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import kr.co.yigil.file.AttachFile;
+import kr.co.yigil.file.FileStorage;
+import kr.co.yigil.file.ImageVariant;
+import kr.co.yigil.file.ImageVariantGenerator;
+import kr.co.yigil.file.repository.AttachFileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등록이 끝난 이미지를 전용 풀에서 내려받아 크기별 JPEG로 줄여 올리고, 그 경로를 AttachFile에 기록한다.
+ * 만들지 못한 이미지는 원본 URL로 응답되므로 실패해도 로그만 남긴다.
+ * 디코딩 전에 헤더의 가로·세로만 읽어 maxSourcePixels를 넘는 원본은 건너뛰고,
+ * 큰 원본은 가장 큰 변환 크기를 넘는 만큼만 서브샘플링해 읽는다.
+ */
+@Slf4j
+@Component
+public class ImageVariantGeneratorImpl implements ImageVariantGenerator {
+
+    static final String VARIANT_PREFIX = "variants/";
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final FileStorage fileStorage;
+    private final AttachFileRepository attachFileRepository;
+    private final Executor imageVariantExecutor;
+    private final long maxSourcePixels;
+
+    public ImageVariantGeneratorImpl(FileStorage fileStorage, AttachFileRepository attachFileRepository,
+            @Qualifier("imageVariantExecutor") Executor imageVariantExecutor,
+            @Value("${file.image-variant.max-source-pixels:100000000}") long maxSourcePixels) {
+        this.fileStorage = fileStorage;
+        this.attachFileRepository = attachFileRepository;
+        this.imageVariantExecutor = imageVariantExecutor;
+        this.maxSourcePixels = maxSourcePixels;
+    }
+
+    @Override
+    public void generate(List<AttachFile> attachFiles) {
+        attachFiles.stream()
+                .filter(attachFile -> attachFile.getId() != null && attachFile.isImage())
+                .forEach(attachFile -> submit(attachFile.getId(), attachFile.getStoredPath()));
+    }
+
+    private void submit(Long attachFileId, String path) {
+        try {
+            imageVariantExecutor.execute(() -> generateVariants(attachFileId, path));
+        } catch (RejectedExecutionException e) {
+            log.warn("image variant queue is full. skip attachFileId={}", attachFileId);
+        }
+    }
+
+    void generateVariants(Long attachFileId, String path) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(
+                new ByteArrayInputStream(fileStorage.load(path)))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                log.info("unsupported image format for variants. path={}", path);
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                generateVariants(attachFileId, path, reader);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("failed to generate image variants. attachFileId={}, path={}", attachFileId, path, e);
+        }
+    }
+
+    private void generateVariants(Long attachFileId, String path, ImageReader reader) throws IOException {
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > maxSourcePixels) {
+            log.warn("image is too large for variants. attachFileId={}, width={}, height={}",
+                    attachFileId, width, height);
+            return;
+        }
+        List<ImageVariant> variants = Arrays.stream(ImageVariant.values())
+                .filter(variant -> width > variant.getMaxWidth())
+                .toList();
+        if (variants.isEmpty()) {
+            return;
+        }
+
+        int widest = variants.stream().mapToInt(ImageVariant::getMaxWidth).max().getAsInt();
+        ImageReadParam param = reader.getDefaultReadParam();
+        int subsampling = subsampling(width, widest);
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        BufferedImage original = reader.read(0, param);
+
+        Map<ImageVariant, String> variantPaths = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : variants) {
+            String variantPath = variantPath(path, variant);
+            fileStorage.store(variantPath, encodeJpeg(resize(original, variant.getMaxWidth())), CONTENT_TYPE);
+            variantPaths.put(variant, variantPath);
+        }
+        attachFileRepository.updateVariants(attachFileId, variantPaths.get(ImageVariant.THUMB),
+                variantPaths.get(ImageVariant.CARD), variantPaths.get(ImageVariant.FULL));
+    }
+
+    /**
+     * 읽은 가로가 targetWidth 아래로 내려가지 않는 가장 큰 서브샘플링 간격.
+     */
+    static int subsampling(int width, int targetWidth) {
+        return Math.max(1, width / targetWidth);
+    }
+
+    static String variantPath(String path, ImageVariant variant) {
+        int extensionIndex = path.lastIndexOf('.');
+        String name = extensionIndex > path.lastIndexOf('/') ? path.substring(0, extensionIndex) : path;
+        return VARIANT_PREFIX + variant.getDirectory() + "/" + name + ".jpg";
+    }
+
+    /**
+     * 비율을 유지해 가로를 maxWidth로 줄인다. JPEG에는 투명도가 없으므로 흰 배경 위에 그린다.
+     */
+    static BufferedImage resize(BufferedImage original, int maxWidth) {
+        int height = Math.max(1, Math.round((float) original.getHeight() * maxWidth / original.getWidth()));
+        BufferedImage resized = new BufferedImage(maxWidth, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, maxWidth, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
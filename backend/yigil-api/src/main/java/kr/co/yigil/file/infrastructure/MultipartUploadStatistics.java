@@ -0,0 +1,72 @@
+package kr.co.yigil.file.infrastructure;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class MultipartUploadStatistics {
+
+    private static final double MEGABYTE = 1024 * 1024;
+
+    private final LongAdder uploads = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder parts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+
+    void recordUpload(long uploadedBytes, int uploadedParts, long uploadElapsedNanos) {
+        uploads.increment();
+        bytes.add(uploadedBytes);
+        parts.add(uploadedParts);
+        elapsedNanos.add(uploadElapsedNanos);
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    public long getUploads() {
+        return uploads.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    public long getParts() {
+        return parts.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * 완료된 업로드의 바이트 합을 업로드에 걸린 시간의 합으로 나눈 평균 처리량(MB/s)
+     */
+    public double getThroughputMegabytesPerSecond() {
+        return throughput(getBytes(), elapsedNanos.sum());
+    }
+
+    static double throughput(long bytes, long elapsedNanos) {
+        if (elapsedNanos <= 0) {
+            return 0.0;
+        }
+        double seconds = (double) elapsedNanos / TimeUnit.SECONDS.toNanos(1);
+        return bytes / MEGABYTE / seconds;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("uploads=%d, failures=%d, bytes=%d, parts=%d, retries=%d, throughput=%.2fMB/s",
+                getUploads(), getFailures(), getBytes(), getParts(), getRetries(), getThroughputMegabytesPerSecond());
+    }
+}
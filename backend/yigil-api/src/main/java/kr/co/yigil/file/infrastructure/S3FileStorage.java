@@ -0,0 +1,150 @@
+package kr.co.yigil.file.infrastructure;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import kr.co.yigil.file.FileStorage;
+import kr.co.yigil.file.FileType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+@Component
+public class S3FileStorage implements FileStorage {
+
+    static final String BUCKET_NAME = "cdn.yigil.co.kr";
+    static final int MAX_FILE_NAME_LENGTH = 100;
+    private static final int NOT_FOUND = 404;
+    private static final String DEFAULT_FILE_NAME = "file";
+
+    private final AmazonS3Client amazonS3Client;
+    private final S3MultipartUploader multipartUploader;
+    private final long multipartThreshold;
+
+    public S3FileStorage(AmazonS3Client amazonS3Client, S3MultipartUploader multipartUploader,
+            @Value("${file.upload.multipart.threshold:16777216}") long multipartThreshold) {
+        this.amazonS3Client = amazonS3Client;
+        this.multipartUploader = multipartUploader;
+        this.multipartThreshold = multipartThreshold;
+    }
+
+    /**
+     * 임계값 이상인 파일은 한 번의 PUT 대신 멀티파트로 나눠 올린다.
+     */
+    @Override
+    public String store(MultipartFile file, FileType fileType) {
+        String s3Path = getS3Path(fileType, generateUniqueFileName(file.getOriginalFilename()));
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(file.getContentType());
+        metadata.setContentDisposition("inline");
+        try {
+            if (file.getSize() >= multipartThreshold) {
+                multipartUploader.upload(BUCKET_NAME, s3Path, file.getInputStream(), file.getSize(), metadata);
+                return s3Path;
+            }
+            metadata.setContentLength(file.getSize());
+            amazonS3Client.putObject(BUCKET_NAME, s3Path, file.getInputStream(), metadata);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return s3Path;
+    }
+
+    @Override
+    public void store(String path, byte[] bytes, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentType);
+        metadata.setContentDisposition("inline");
+        amazonS3Client.putObject(BUCKET_NAME, path, new ByteArrayInputStream(bytes), metadata);
+    }
+
+    @Override
+    public byte[] load(String path) {
+        try (S3Object object = amazonS3Client.getObject(BUCKET_NAME, path)) {
+            return object.getObjectContent().readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(List<String> paths) {
+        if (paths.isEmpty()) {
+            return;
+        }
+        amazonS3Client.deleteObjects(new DeleteObjectsRequest(BUCKET_NAME)
+                .withKeys(paths.toArray(String[]::new))
+                .withQuiet(true));
+    }
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 PUT으로 올릴 수 있는 URL을 발급한다. 업로드 시 같은 Content-Type을 보내야 서명이 맞는다.
+     */
+    @Override
+    public PresignedUpload presignUpload(String originalFileName, FileType fileType, String contentType,
+            Duration expiresIn) {
+        String s3Path = getS3Path(fileType, generateUniqueFileName(originalFileName));
+        Instant expiresAt = Instant.now().plus(expiresIn);
+
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(BUCKET_NAME, s3Path, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType);
+        String uploadUrl = amazonS3Client.generatePresignedUrl(request).toString();
+        return new PresignedUpload(s3Path, uploadUrl, expiresAt);
+    }
+
+    @Override
+    public Optional<StoredObject> find(String path) {
+        try {
+            ObjectMetadata metadata = amazonS3Client.getObjectMetadata(BUCKET_NAME, path);
+            return Optional.of(new StoredObject(metadata.getContentType(), metadata.getContentLength()));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == NOT_FOUND) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    private String getS3Path(FileType fileType, String fileName) {
+        String url = fileType == FileType.IMAGE ? "images/" : "videos/";
+        return url + fileName;
+    }
+
+    private String generateUniqueFileName(String originalFilename) {
+        return UUID.randomUUID() + "_" + sanitize(originalFilename);
+    }
+
+    /**
+     * 클라이언트가 보낸 파일 이름은 키의 마지막 부분으로만 쓰이도록 경로, 제어 문자, 앞쪽 점을 걷어내고 길이를 제한한다.
+     * 확장자가 남도록 자를 때는 뒤쪽을 남긴다.
+     */
+    static String sanitize(String originalFilename) {
+        if (originalFilename == null) {
+            return DEFAULT_FILE_NAME;
+        }
+        String name = originalFilename.substring(
+                Math.max(originalFilename.lastIndexOf('/'), originalFilename.lastIndexOf('\\')) + 1);
+        name = name.replaceAll("\\p{Cntrl}", "").replaceAll("\\s+", "_");
+        if (name.length() > MAX_FILE_NAME_LENGTH) {
+            name = name.substring(name.length() - MAX_FILE_NAME_LENGTH);
+        }
+        name = name.replaceAll("^\\.+", "");
+        return name.isEmpty() ? DEFAULT_FILE_NAME : name;
+    }
+}
@@ -0,0 +1,176 @@
+package kr.co.yigil.file.infrastructure;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 큰 파일을 S3 멀티파트 업로드로 올린다. 입력 스트림을 파트 크기만큼 읽어 동시에 전송하되,
+ * 동시에 메모리에 올리는 파트는 parallelism개로 제한한다. 실패한 파트는 그 파트만 다시 보내고,
+ * 끝내 실패하면 업로드를 중단(abort)해 S3에 조각이 남지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+
+    static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final AmazonS3Client amazonS3Client;
+    private final Executor filePartUploadExecutor;
+    private final long partSize;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    @Getter
+    private final MultipartUploadStatistics statistics = new MultipartUploadStatistics();
+
+    public S3MultipartUploader(AmazonS3Client amazonS3Client,
+            @Qualifier("filePartUploadExecutor") Executor filePartUploadExecutor,
+            @Value("${file.upload.multipart.part-size:8388608}") long partSize,
+            @Value("${file.upload.multipart.parallelism:4}") int parallelism,
+            @Value("${file.upload.multipart.max-attempts:3}") int maxAttempts,
+            @Value("${file.upload.multipart.retry-backoff:200}") long retryBackoffMillis) {
+        this.amazonS3Client = amazonS3Client;
+        this.filePartUploadExecutor = filePartUploadExecutor;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        this.parallelism = Math.max(parallelism, 1);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    public void upload(String bucketName, String key, InputStream inputStream, long contentLength,
+            ObjectMetadata metadata) {
+        long startedAt = System.nanoTime();
+        String uploadId = amazonS3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucketName, key, metadata)).getUploadId();
+
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicInteger retries = new AtomicInteger();
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+        try {
+            long offset = 0;
+            while (offset < contentLength && parts.stream().noneMatch(CompletableFuture::isCompletedExceptionally)) {
+                permits.acquire();
+                byte[] bytes = readPart(inputStream, (int) Math.min(partSize, contentLength - offset));
+                int partNumber = parts.size() + 1;
+                parts.add(CompletableFuture.supplyAsync(
+                                () -> uploadPart(bucketName, key, uploadId, partNumber, bytes, retries),
+                                filePartUploadExecutor)
+                        .whenComplete((partETag, e) -> permits.release()));
+                offset += bytes.length;
+            }
+            List<PartETag> partETags = parts.stream().map(CompletableFuture::join).toList();
+            amazonS3Client.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, key, uploadId, new ArrayList<>(partETags)));
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            abort(bucketName, key, uploadId, parts);
+            statistics.recordFailure();
+            throw new IllegalStateException("multipart upload failed. key=" + key, unwrap(e));
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        statistics.recordUpload(contentLength, parts.size(), elapsedNanos);
+        log.info("multipart upload completed. key={}, bytes={}, parts={}, retries={}, elapsedMs={}, throughput={}MB/s",
+                key, contentLength, parts.size(), retries.get(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                String.format("%.2f", MultipartUploadStatistics.throughput(contentLength, elapsedNanos)));
+    }
+
+    @Scheduled(initialDelay = 10 * 60 * 1000L, fixedDelay = 10 * 60 * 1000L)
+    public void logStatistics() {
+        log.info("multipart upload {}", statistics);
+    }
+
+    private byte[] readPart(InputStream inputStream, int size) throws IOException {
+        byte[] bytes = inputStream.readNBytes(size);
+        if (bytes.length != size) {
+            throw new EOFException("stream ended before content length");
+        }
+        return bytes;
+    }
+
+    private PartETag uploadPart(String bucketName, String key, String uploadId, int partNumber, byte[] bytes,
+            AtomicInteger retries) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(bytes))
+                        .withPartSize(bytes.length);
+                return amazonS3Client.uploadPart(request).getPartETag();
+            } catch (SdkClientException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                retries.incrementAndGet();
+                statistics.recordRetry();
+                log.warn("retry multipart upload part. key={}, part={}, attempt={}", key, partNumber, attempt, e);
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    private boolean isRetryable(SdkClientException e) {
+        if (e instanceof AmazonServiceException serviceException) {
+            int statusCode = serviceException.getStatusCode();
+            return statusCode >= 500 || statusCode == 429;
+        }
+        return true;
+    }
+
+    private void backOff(int attempt, SdkClientException cause) {
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    /**
+     * 전송 중인 파트가 abort 이후에 도착하지 않도록 모두 끝나기를 기다린 뒤 중단한다.
+     */
+    private void abort(String bucketName, String key, String uploadId, List<CompletableFuture<PartETag>> parts) {
+        CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+        try {
+            amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+        } catch (RuntimeException e) {
+            log.warn("failed to abort multipart upload. key={}, uploadId={}", key, uploadId, e);
+        }
+    }
+
+    private Throwable unwrap(Exception e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
@@ -0,0 +1,168 @@
+package kr.co.yigil.file.infrastructure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import kr.co.yigil.file.AttachFile;
+import kr.co.yigil.file.FileStorage;
+import kr.co.yigil.file.FileStorage.PresignedUpload;
+import kr.co.yigil.file.FileStorage.StoredObject;
+import kr.co.yigil.file.FileType;
+import kr.co.yigil.file.FileValidator;
+import kr.co.yigil.file.UploadSessionManager;
+import kr.co.yigil.global.exception.ExceptionCode;
+import kr.co.yigil.global.exception.FileException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * presigned URL로 직접 올린 파일의 업로드 세션을 Redis에 보관한다.
+ * 등록 요청의 키는 세션 소유자와 HEAD로 확인한 실제 객체가 발급 당시 요청과 일치할 때만 AttachFile로 바뀐다.
+ * 소유자 확인과 선점은 세션을 claimed 키로 옮기는 스크립트 하나로 처리해, 같은 키로 동시에 들어온 요청 중 하나만 가져간다.
+ * 확인이나 등록이 실패하면 세션을 되돌려 다시 시도할 수 있게 하고, 등록이 끝나면 지운다.
+ * 끝내 등록되지 않은 객체는 세션 만료 후 버킷 수명 주기 규칙으로 정리한다.
+ */
+@Component
+public class UploadSessionManagerImpl implements UploadSessionManager {
+
+    static final String KEY_PREFIX = "upload:session:";
+    static final String CLAIMED_KEY_PREFIX = "upload:claimed:";
+    static final String MEMBER_ID = "memberId";
+    static final String FILE_TYPE = "fileType";
+    static final String CONTENT_TYPE = "contentType";
+    static final String ORIGINAL_FILE_NAME = "originalFileName";
+    static final String FILE_SIZE = "fileSize";
+
+    /**
+     * KEYS[1] 세션, KEYS[2] 선점 키, ARGV[1] 회원 id. 소유자가 맞으면 세션을 선점 키로 옮기고 내용을 돌려준다.
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], 'memberId') ~= ARGV[1] then return {} end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    /**
+     * KEYS[1] 선점 키, KEYS[2] 세션. 선점 키가 남아 있으면 세션으로 되돌린다.
+     */
+    static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            return 1
+            """, Long.class);
+
+    private final FileStorage fileStorage;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration urlExpiration;
+    private final Duration sessionTtl;
+
+    public UploadSessionManagerImpl(FileStorage fileStorage, StringRedisTemplate stringRedisTemplate,
+            @Value("${file.upload-session.url-expiration:600000}") long urlExpirationMillis,
+            @Value("${file.upload-session.ttl:3600000}") long sessionTtlMillis) {
+        this.fileStorage = fileStorage;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.urlExpiration = Duration.ofMillis(urlExpirationMillis);
+        this.sessionTtl = Duration.ofMillis(Math.max(sessionTtlMillis, urlExpirationMillis));
+    }
+
+    @Override
+    public PresignedUpload issue(Long memberId, String originalFileName, String contentType, long fileSize) {
+        FileType fileType = FileValidator.validate(contentType, fileSize);
+        PresignedUpload upload = fileStorage.presignUpload(originalFileName, fileType, contentType, urlExpiration);
+
+        String key = key(upload.path());
+        hashOperations().putAll(key, Map.of(
+                MEMBER_ID, String.valueOf(memberId),
+                FILE_TYPE, fileType.name(),
+                CONTENT_TYPE, contentType,
+                ORIGINAL_FILE_NAME, originalFileName,
+                FILE_SIZE, String.valueOf(fileSize)
+        ));
+        stringRedisTemplate.expire(key, sessionTtl);
+        return upload;
+    }
+
+    /**
+     * 하나라도 실패하면 이번 요청에서 선점한 세션을 모두 되돌린다.
+     */
+    @Override
+    public Map<String, AttachFile> claimAll(Long memberId, List<String> paths) {
+        Map<String, AttachFile> attachFiles = new LinkedHashMap<>();
+        List<String> claimedPaths = new ArrayList<>();
+        try {
+            paths.stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(path -> {
+                        Map<String, String> session = claimSession(memberId, path);
+                        claimedPaths.add(path);
+                        attachFiles.put(path, toAttachFile(path, session));
+                    });
+        } catch (RuntimeException e) {
+            release(claimedPaths);
+            throw e;
+        }
+        return attachFiles;
+    }
+
+    @Override
+    public void release(Collection<String> paths) {
+        paths.forEach(path -> stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(claimedKey(path), key(path))));
+    }
+
+    @Override
+    public void complete(Collection<String> paths) {
+        if (paths.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.delete(paths.stream().map(this::claimedKey).toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> claimSession(Long memberId, String path) {
+        List<String> fields = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(key(path), claimedKey(path)),
+                String.valueOf(memberId));
+        if (fields == null || fields.isEmpty()) {
+            throw new FileException(ExceptionCode.UPLOAD_SESSION_NOT_FOUND);
+        }
+        Map<String, String> session = new HashMap<>();
+        for (int i = 0; i + 1 < fields.size(); i += 2) {
+            session.put(fields.get(i), fields.get(i + 1));
+        }
+        return session;
+    }
+
+    private AttachFile toAttachFile(String path, Map<String, String> session) {
+        StoredObject storedObject = fileStorage.find(path)
+                .orElseThrow(() -> new FileException(ExceptionCode.UPLOADED_FILE_NOT_FOUND));
+        long fileSize = Long.parseLong(session.get(FILE_SIZE));
+        if (storedObject.contentLength() != fileSize
+                || !Objects.equals(storedObject.contentType(), session.get(CONTENT_TYPE))) {
+            throw new FileException(ExceptionCode.UPLOADED_FILE_MISMATCH);
+        }
+
+        return new AttachFile(FileType.valueOf(session.get(FILE_TYPE)), path, session.get(ORIGINAL_FILE_NAME),
+                fileSize);
+    }
+
+    private HashOperations<String, String, String> hashOperations() {
+        return stringRedisTemplate.opsForHash();
+    }
+
+    private String key(String path) {
+        return KEY_PREFIX + path;
+    }
+
+    private String claimedKey(String path) {
+        return CLAIMED_KEY_PREFIX + path;
+    }
+}
@@ -0,0 +1,33 @@
+package kr.co.yigil.file.interfaces.controller;
+
+import kr.co.yigil.auth.Auth;
+import kr.co.yigil.auth.MemberOnly;
+import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.file.UploadSessionManager;
+import kr.co.yigil.file.interfaces.dto.request.UploadSessionRequest;
+import kr.co.yigil.file.interfaces.dto.response.UploadSessionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/files")
+public class FileApiController {
+    private final UploadSessionManager uploadSessionManager;
+
+    @PostMapping("/upload-sessions")
+    @MemberOnly
+    public ResponseEntity<UploadSessionResponse> createUploadSession(
+            @RequestBody UploadSessionRequest request,
+            @Auth Accessor accessor
+    ) {
+        var upload = uploadSessionManager.issue(accessor.getMemberId(), request.getFileName(),
+                request.getContentType(), request.getFileSize());
+        var response = new UploadSessionResponse(upload.path(), upload.uploadUrl(), upload.expiresAt().toString());
+        return ResponseEntity.ok().body(response);
+    }
+}
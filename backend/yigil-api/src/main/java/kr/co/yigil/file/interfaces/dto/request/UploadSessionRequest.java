@@ -0,0 +1,14 @@
+package kr.co.yigil.file.interfaces.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadSessionRequest {
+    private String fileName;
+    private String contentType;
+    private long fileSize;
+}
@@ -0,0 +1,12 @@
+package kr.co.yigil.file.interfaces.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class UploadSessionResponse {
+    private String key;
+    private String uploadUrl;
+    private String expiresAt;
+}
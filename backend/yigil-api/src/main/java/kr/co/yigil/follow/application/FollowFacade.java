@@ -3,6 +3,7 @@ package kr.co.yigil.follow.application;
 import kr.co.yigil.follow.domain.FollowInfo;
 import kr.co.yigil.follow.domain.FollowInfo.FollowingsResponse;
 import kr.co.yigil.follow.domain.FollowService;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.notification.domain.NotificationService;
 import kr.co.yigil.notification.domain.NotificationType;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,10 @@ public class FollowFacade {
         return followService.getFollowerList(memberId, pageable);
     }
 
+    public FollowInfo.FollowersResponse getFollowerList(final Long memberId, Cursor cursor, int size) {
+        return followService.getFollowerList(memberId, cursor, size);
+    }
+
     public FollowingsResponse getFollowingList(final Long memberId, Pageable pageable) {
         return followService.getFollowingList(memberId, pageable);
     }
@@ -2,12 +2,12 @@ package kr.co.yigil.follow.domain;
 
 public interface FollowCacheStore {
 
-    FollowCount incrementFollowingsCount(Long memberId);
+    void incrementFollowingsCount(Long memberId);
 
-    FollowCount decrementFollowingsCount(Long memberId);
+    void decrementFollowingsCount(Long memberId);
 
-    FollowCount incrementFollowersCount(Long memberId);
+    void incrementFollowersCount(Long memberId);
 
-    FollowCount decrementFollowersCount(Long memberId);
+    void decrementFollowersCount(Long memberId);
 
-}
\ No newline at end of file
+}
@@ -14,10 +14,16 @@ public class FollowInfo {
 
         private final List<FollowerInfo> content;
         private final boolean hasNext;
+        private final String nextCursor;
 
         public FollowersResponse(List<FollowerInfo> content, boolean hasNext) {
+            this(content, hasNext, null);
+        }
+
+        public FollowersResponse(List<FollowerInfo> content, boolean hasNext, String nextCursor) {
             this.content = content;
             this.hasNext = hasNext;
+            this.nextCursor = nextCursor;
         }
     }
 
@@ -1,5 +1,9 @@
 package kr.co.yigil.follow.domain;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import kr.co.yigil.global.Cursor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -7,9 +11,17 @@ public interface FollowReader {
 
     FollowCount getFollowCount(Long memberId);
 
+    Map<Long, Integer> getFollowerCounts(List<Long> memberIds);
+
+    Map<Long, Integer> getFollowingCounts(List<Long> memberIds);
+
     boolean isFollowing(Long followerId, Long followingId);
 
+    Set<Long> getFollowingIds(Long followerId, List<Long> followingIds);
+
     Slice<Follow> getFollowerSlice(Long memberId, Pageable pageable);
 
+    Slice<Follow> getFollowerSlice(Long memberId, Cursor cursor, int size);
+
     Slice<Follow> getFollowingSlice(Long memberId, Pageable pageable);
 }
@@ -1,6 +1,7 @@
 package kr.co.yigil.follow.domain;
 
 import kr.co.yigil.follow.domain.FollowInfo.FollowingsResponse;
+import kr.co.yigil.global.Cursor;
 import org.springframework.data.domain.Pageable;
 
 public interface FollowService {
@@ -11,5 +12,7 @@ public interface FollowService {
 
     FollowInfo.FollowersResponse getFollowerList(Long memberId, Pageable pageable);
 
+    FollowInfo.FollowersResponse getFollowerList(Long memberId, Cursor cursor, int size);
+
     FollowingsResponse getFollowingList(Long memberId, Pageable pageable);
 }
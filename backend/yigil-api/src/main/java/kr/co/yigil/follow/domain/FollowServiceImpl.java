@@ -5,10 +5,14 @@ import kr.co.yigil.follow.domain.FollowInfo.FollowerInfo;
 import kr.co.yigil.follow.domain.FollowInfo.FollowersResponse;
 import kr.co.yigil.follow.domain.FollowInfo.FollowingInfo;
 import kr.co.yigil.follow.domain.FollowInfo.FollowingsResponse;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.global.exception.ExceptionCode;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.domain.MemberReader;
+import kr.co.yigil.relation.domain.RelationLoader;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,6 +25,7 @@ public class FollowServiceImpl implements FollowService {
     private final MemberReader memberReader;
     private final FollowStore followStore;
     private final FollowCacheStore followCacheStore;
+    private final RelationLoader relationLoader;
 
     @Override
     @Transactional
@@ -61,11 +66,27 @@ public class FollowServiceImpl implements FollowService {
     public FollowInfo.FollowersResponse getFollowerList(Long memberId, Pageable pageable) {
         memberReader.validateMember(memberId);
         var followerSlice = followReader.getFollowerSlice(memberId, pageable);
-        var followerList = followerSlice.getContent().stream()
+        return new FollowersResponse(toFollowerInfos(followerSlice.getContent(), memberId), followerSlice.hasNext());
+    }
+
+    @Override
+    @Transactional
+    public FollowInfo.FollowersResponse getFollowerList(Long memberId, Cursor cursor, int size) {
+        memberReader.validateMember(memberId);
+        var followerSlice = followReader.getFollowerSlice(memberId, cursor, size);
+        return new FollowersResponse(toFollowerInfos(followerSlice.getContent(), memberId), followerSlice.hasNext(),
+            Cursor.next(followerSlice, Follow::getCreatedAt, Follow::getId));
+    }
+
+    private List<FollowerInfo> toFollowerInfos(List<Follow> follows, Long memberId) {
+        var followers = follows.stream()
             .map(Follow::getFollower)
-            .map(follower -> new FollowerInfo(follower, followReader.isFollowing(memberId, follower.getId())))
             .toList();
-        return new FollowersResponse(followerList, followerSlice.hasNext());
+        Set<Long> followingIds = relationLoader.getFollowingMemberIds(memberId,
+            followers.stream().map(Member::getId).toList());
+        return followers.stream()
+            .map(follower -> new FollowerInfo(follower, followingIds.contains(follower.getId())))
+            .toList();
     }
 
     @Override
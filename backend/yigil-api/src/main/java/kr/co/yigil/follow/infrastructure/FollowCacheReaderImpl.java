@@ -1,23 +1,26 @@
 package kr.co.yigil.follow.infrastructure;
 
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterReader;
+import kr.co.yigil.counter.domain.CounterValues;
 import kr.co.yigil.follow.domain.FollowCacheReader;
 import kr.co.yigil.follow.domain.FollowCount;
-import kr.co.yigil.follow.domain.FollowReader;
 import kr.co.yigil.member.domain.MemberReader;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class FollowCacheReaderImpl implements FollowCacheReader {
-    private final FollowReader followReader;
+    private final CounterReader counterReader;
     private final MemberReader memberReader;
 
     @Override
-    @Cacheable(value = "followCount")
     public FollowCount getFollowCount(Long memberId) {
         memberReader.validateMember(memberId);
-        return followReader.getFollowCount(memberId);
+        CounterValues values = counterReader.get(CounterGroup.MEMBER, memberId);
+        return new FollowCount(memberId, values.getInt(Counter.FOLLOWER_COUNT),
+            values.getInt(Counter.FOLLOWING_COUNT));
     }
 }
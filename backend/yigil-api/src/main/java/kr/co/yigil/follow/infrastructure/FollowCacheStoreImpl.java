@@ -1,46 +1,33 @@
 package kr.co.yigil.follow.infrastructure;
 
-import kr.co.yigil.follow.domain.FollowCacheReader;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterStore;
 import kr.co.yigil.follow.domain.FollowCacheStore;
-import kr.co.yigil.follow.domain.FollowCount;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class FollowCacheStoreImpl implements FollowCacheStore {
-    private final FollowCacheReader followCacheReader;
+    private final CounterStore counterStore;
 
     @Override
-    @CachePut(value = "followCount")
-    public FollowCount incrementFollowingsCount(Long memberId) {
-        FollowCount followCount = followCacheReader.getFollowCount(memberId);
-        followCount.incrementFollowingCount();
-        return followCount;
+    public void incrementFollowingsCount(Long memberId) {
+        counterStore.increment(Counter.FOLLOWING_COUNT, memberId, 1);
     }
 
     @Override
-    @CachePut(value = "followCount")
-    public FollowCount decrementFollowingsCount(Long memberId) {
-        FollowCount followCount = followCacheReader.getFollowCount(memberId);
-        followCount.decrementFollowingCount();
-        return followCount;
+    public void decrementFollowingsCount(Long memberId) {
+        counterStore.increment(Counter.FOLLOWING_COUNT, memberId, -1);
     }
 
     @Override
-    @CachePut(value = "followCount")
-    public FollowCount incrementFollowersCount(Long memberId) {
-        FollowCount followCount = followCacheReader.getFollowCount(memberId);
-        followCount.incrementFollowerCount();
-        return followCount;
+    public void incrementFollowersCount(Long memberId) {
+        counterStore.increment(Counter.FOLLOWER_COUNT, memberId, 1);
     }
 
     @Override
-    @CachePut(value = "followCount")
-    public FollowCount decrementFollowersCount(Long memberId) {
-        FollowCount followCount = followCacheReader.getFollowCount(memberId);
-        followCount.decrementFollowerCount();
-        return followCount;
+    public void decrementFollowersCount(Long memberId) {
+        counterStore.increment(Counter.FOLLOWER_COUNT, memberId, -1);
     }
 }
@@ -1,12 +1,20 @@
 package kr.co.yigil.follow.infrastructure;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import kr.co.yigil.follow.FollowCountDto;
 import kr.co.yigil.follow.domain.Follow;
 import kr.co.yigil.follow.domain.FollowCount;
 import kr.co.yigil.follow.domain.FollowReader;
+import kr.co.yigil.global.Cursor;
+import kr.co.yigil.global.IdCountDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -22,16 +30,51 @@ public class FollowReaderImpl implements FollowReader {
             followCountDto.getFollowingCount());
     }
 
+    @Override
+    public Map<Long, Integer> getFollowerCounts(List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        return followRepository.countFollowersByMemberIds(memberIds).stream()
+            .collect(Collectors.toMap(IdCountDto::getId, IdCountDto::getCount));
+    }
+
+    @Override
+    public Map<Long, Integer> getFollowingCounts(List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        return followRepository.countFollowingsByMemberIds(memberIds).stream()
+            .collect(Collectors.toMap(IdCountDto::getId, IdCountDto::getCount));
+    }
+
     @Override
     public boolean isFollowing(Long followerId, Long followingId) {
         return followRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
     }
 
+    @Override
+    public Set<Long> getFollowingIds(Long followerId, List<Long> followingIds) {
+        if (followingIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(followRepository.findFollowingIds(followerId, followingIds));
+    }
+
     @Override
     public Slice<Follow> getFollowerSlice(Long memberId, Pageable pageable) {
         return followRepository.findAllByFollowingId(memberId, pageable);
     }
 
+    @Override
+    public Slice<Follow> getFollowerSlice(Long memberId, Cursor cursor, int size) {
+        if (cursor.isFirst()) {
+            return followRepository.findAllByFollowingId(memberId, Cursor.firstPage(size, Direction.DESC));
+        }
+        return followRepository.findFollowerSliceBefore(memberId, cursor.getCreatedAt(), cursor.getId(),
+            Cursor.nextPage(size));
+    }
+
     @Override
     public Slice<Follow> getFollowingSlice(Long memberId, Pageable pageable) {
         return followRepository.findAllByFollowerId(memberId, pageable);
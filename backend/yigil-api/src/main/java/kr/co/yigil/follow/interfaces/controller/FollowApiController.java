@@ -10,6 +10,7 @@ import kr.co.yigil.follow.interfaces.dto.UnfollowResponse;
 import kr.co.yigil.follow.interfaces.dto.FollowDto.FollowersResponse;
 import kr.co.yigil.follow.interfaces.dto.FollowDto.FollowingsResponse;
 import kr.co.yigil.follow.interfaces.dto.FollowDtoMapper;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.SortBy;
 import kr.co.yigil.global.SortOrder;
 import lombok.RequiredArgsConstructor;
@@ -56,8 +57,14 @@ public class FollowApiController {
         @Auth final Accessor accessor,
         @PageableDefault(size = 5, page = 1) Pageable pageable,
         @RequestParam(name = "sortBy", defaultValue = "nickname", required = false) SortBy sortBy,
-        @RequestParam(name = "sortOrder", defaultValue = "asc", required = false) SortOrder sortOrder
+        @RequestParam(name = "sortOrder", defaultValue = "asc", required = false) SortOrder sortOrder,
+        @RequestParam(name = "cursor", required = false) String cursor
     ) {
+        if (cursor != null) {
+            var followerList = followFacade.getFollowerList(accessor.getMemberId(), Cursor.decode(cursor),
+                pageable.getPageSize());
+            return ResponseEntity.ok().body(followDtoMapper.of(followerList));
+        }
         if(sortBy == SortBy.NICKNAME) {
             sortBy = SortBy.FOLLOWER_NAME;
         }
@@ -97,8 +104,14 @@ public class FollowApiController {
         @PathVariable("memberId") final Long memberId,
         @PageableDefault(size = 5, page = 1) Pageable pageable,
         @RequestParam(name = "sortBy", defaultValue = "id", required = false) SortBy sortBy,
-        @RequestParam(name = "sortOrder", defaultValue = "desc", required = false) SortOrder sortOrder
+        @RequestParam(name = "sortOrder", defaultValue = "desc", required = false) SortOrder sortOrder,
+        @RequestParam(name = "cursor", required = false) String cursor
     ) {
+        if (cursor != null) {
+            var followerList = followFacade.getFollowerList(memberId, Cursor.decode(cursor),
+                pageable.getPageSize());
+            return ResponseEntity.ok(followDtoMapper.of(followerList));
+        }
         Sort.Direction direction = Sort.Direction.fromString(sortOrder.getValue().toUpperCase());
         PageRequest pageRequest = PageRequest.of(pageable.getPageNumber() - 1,
             pageable.getPageSize(),
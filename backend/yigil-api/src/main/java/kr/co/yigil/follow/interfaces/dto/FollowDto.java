@@ -14,6 +14,7 @@ public class FollowDto {
 
         private final List<FollowerInfo> content;
         private final boolean hasNext;
+        private final String nextCursor;
     }
 
     @Getter
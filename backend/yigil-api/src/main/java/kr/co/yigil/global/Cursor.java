@@ -0,0 +1,94 @@
+package kr.co.yigil.global;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static kr.co.yigil.global.exception.ExceptionCode.INVALID_CURSOR;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import kr.co.yigil.global.exception.BadRequestException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+/**
+ * (createdAt, id) 기준으로 목록을 이어서 조회하기 위한 커서.
+ * 클라이언트에는 base64url로 감싼 불투명한 문자열로만 주고받으며, 빈 값은 첫 페이지를 뜻한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+
+    private static final Cursor FIRST = new Cursor(null, null);
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static Cursor first() {
+        return FIRST;
+    }
+
+    public static Cursor of(LocalDateTime createdAt, Long id) {
+        return new Cursor(createdAt, id);
+    }
+
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new BadRequestException(INVALID_CURSOR);
+            }
+            return new Cursor(LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 다음 페이지가 있으면 마지막 항목의 위치를 커서로 만든다. 마지막 페이지면 null이다.
+     */
+    public static <T> String next(Slice<T> slice, Function<T, LocalDateTime> createdAt, Function<T, Long> id) {
+        if (!slice.hasNext() || slice.getContent().isEmpty()) {
+            return null;
+        }
+        List<T> content = slice.getContent();
+        T last = content.get(content.size() - 1);
+        return of(createdAt.apply(last), id.apply(last)).encode();
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+    }
+
+    public boolean isFirst() {
+        return createdAt == null || id == null;
+    }
+
+    /**
+     * 커서가 없는 첫 페이지는 keyset 조건 없이 같은 정렬로 앞에서부터 읽는다.
+     */
+    public static Pageable firstPage(int size, Direction direction) {
+        return PageRequest.of(0, size, Sort.by(direction, "createdAt", "id"));
+    }
+
+    /**
+     * keyset 쿼리는 정렬과 조건을 직접 가지고 있으므로 개수만 넘긴다.
+     */
+    public static Pageable nextPage(int size) {
+        return PageRequest.of(0, size);
+    }
+}
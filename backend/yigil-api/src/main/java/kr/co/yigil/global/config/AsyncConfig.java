@@ -3,7 +3,9 @@ package kr.co.yigil.global.config;
 
 import kr.co.yigil.decorator.MdcDecorator;
 import kr.co.yigil.global.exception.AsyncExceptionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
@@ -24,6 +26,78 @@ public class AsyncConfig implements AsyncConfigurer {
         return taskExecutor;
     }
 
+    /**
+     * S3 업로드 전용 풀. 큐가 차면 요청 스레드에서 직접 올려 업로드 스레드가 무한히 늘지 않도록 한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fileUploadExecutor(
+            @Value("${file.upload.pool-size:16}") int poolSize,
+            @Value("${file.upload.queue-capacity:256}") int queueCapacity
+    ) {
+        final ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        taskExecutor.setTaskDecorator(new MdcDecorator());
+        taskExecutor.setThreadNamePrefix("file-upload-");
+        return taskExecutor;
+    }
+
+    /**
+     * 멀티파트 업로드의 파트 전송 전용 풀. 파일 업로드 스레드가 파트 완료를 기다리므로 같은 풀을 쓰면 서로를 기다리며 멈출 수 있다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor filePartUploadExecutor(
+            @Value("${file.upload.multipart.pool-size:16}") int poolSize,
+            @Value("${file.upload.multipart.queue-capacity:64}") int queueCapacity
+    ) {
+        final ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        taskExecutor.setTaskDecorator(new MdcDecorator());
+        taskExecutor.setThreadNamePrefix("file-part-upload-");
+        return taskExecutor;
+    }
+
+    /**
+     * 크기별 이미지 생성 전용 풀. 요청 스레드에서 돌지 않도록 큐가 차면 작업을 거절하고, 그 이미지는 원본 URL을 그대로 쓴다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor(
+            @Value("${file.image-variant.pool-size:2}") int poolSize,
+            @Value("${file.image-variant.queue-capacity:200}") int queueCapacity
+    ) {
+        final ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        taskExecutor.setTaskDecorator(new MdcDecorator());
+        taskExecutor.setThreadNamePrefix("image-variant-");
+        return taskExecutor;
+    }
+
+    /**
+     * 피드 fan-out 전용 풀. 팔로워 수만큼 Redis에 쓰므로 요청 스레드와 분리하고, 큐가 차면 그 여행은 피드에 넣지 않는다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor feedFanoutExecutor(
+            @Value("${feed.fanout.pool-size:2}") int poolSize,
+            @Value("${feed.fanout.queue-capacity:1000}") int queueCapacity
+    ) {
+        final ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        taskExecutor.setTaskDecorator(new MdcDecorator());
+        taskExecutor.setThreadNamePrefix("feed-fanout-");
+        return taskExecutor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new AsyncExceptionHandler();
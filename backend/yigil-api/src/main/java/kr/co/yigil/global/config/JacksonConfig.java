@@ -0,0 +1,15 @@
+package kr.co.yigil.global.config;
+
+import com.fasterxml.jackson.databind.Module;
+import kr.co.yigil.travel.util.GeometryModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module geometryModule() {
+        return new GeometryModule();
+    }
+}
@@ -1,5 +1,8 @@
 package kr.co.yigil.global.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
@@ -7,4 +10,18 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 @EnableJpaAuditing
 public class JpaConfig {
 
+    static final int JDBC_BATCH_SIZE = 100;
+
+    /**
+     * 같은 테이블에 대한 INSERT/UPDATE를 묶어 보낸다. IDENTITY 키 엔티티의 INSERT는 Hibernate가 묶지 않으므로,
+     * 키를 돌려받지 않는 대량 INSERT는 JdbcTemplate.batchUpdate로 보낸다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
 }
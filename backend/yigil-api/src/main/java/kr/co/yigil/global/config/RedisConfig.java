@@ -1,8 +1,11 @@
 package kr.co.yigil.global.config;
 
 import java.time.Duration;
+import kr.co.yigil.global.config.cache.CacheInvalidationPublisher;
+import kr.co.yigil.global.config.cache.NearCacheProperties;
+import kr.co.yigil.global.config.cache.TwoTierCacheManager;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +14,9 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
@@ -45,11 +51,36 @@ public class RedisConfig {
     }
 
     @Bean
-    public CacheManager contentCacheManager(RedisConnectionFactory cf) {
+    @ConfigurationProperties(prefix = "cache.near")
+    public NearCacheProperties nearCacheProperties() {
+        return new NearCacheProperties();
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate,
+        NearCacheProperties nearCacheProperties) {
+        return new CacheInvalidationPublisher(stringRedisTemplate, nearCacheProperties.getChannel());
+    }
+
+    @Bean
+    public TwoTierCacheManager contentCacheManager(RedisConnectionFactory cf,
+        NearCacheProperties nearCacheProperties, CacheInvalidationPublisher cacheInvalidationPublisher) {
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(Duration.ofMinutes(60L));
 
-        return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf).cacheDefaults(redisCacheConfiguration).build();
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf)
+            .cacheDefaults(redisCacheConfiguration).build();
+        redisCacheManager.afterPropertiesSet();
+        return new TwoTierCacheManager(redisCacheManager, nearCacheProperties, cacheInvalidationPublisher);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory cf,
+        TwoTierCacheManager contentCacheManager, NearCacheProperties nearCacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(contentCacheManager, new ChannelTopic(nearCacheProperties.getChannel()));
+        return container;
     }
 
 }
@@ -0,0 +1,38 @@
+package kr.co.yigil.global.config.cache;
+
+import java.util.UUID;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 다른 노드의 L1을 비우기 위한 메시지를 발행한다. 메시지 형식은 "{nodeId}|{cacheName}|{key}" 이고, key가 없으면 캐시 전체를 비운다.
+ */
+public class CacheInvalidationPublisher {
+
+    static final String DELIMITER = "|";
+    static final String CLEAR_ALL = "";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate, String channel) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channel = channel;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        stringRedisTemplate.convertAndSend(channel, nodeId + DELIMITER + cacheName + DELIMITER + key);
+    }
+
+    public void publishClear(String cacheName) {
+        stringRedisTemplate.convertAndSend(channel, nodeId + DELIMITER + cacheName + DELIMITER + CLEAR_ALL);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+}
@@ -0,0 +1,53 @@
+package kr.co.yigil.global.config.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CacheStatistics {
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    void recordL1Hit() {
+        l1Hits.increment();
+    }
+
+    void recordL2Hit() {
+        l2Hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    public long getL1Hits() {
+        return l1Hits.sum();
+    }
+
+    public long getL2Hits() {
+        return l2Hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getL1HitRatio() {
+        long requests = getL1Hits() + getL2Hits() + getMisses();
+        return requests == 0 ? 0.0 : (double) getL1Hits() / requests;
+    }
+
+    /**
+     * L1을 지나친 요청 중 Redis에서 찾은 비율
+     */
+    public double getL2HitRatio() {
+        long requests = getL2Hits() + getMisses();
+        return requests == 0 ? 0.0 : (double) getL2Hits() / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("l1Hits=%d, l2Hits=%d, misses=%d, l1HitRatio=%.3f, l2HitRatio=%.3f",
+                getL1Hits(), getL2Hits(), getMisses(), getL1HitRatio(), getL2HitRatio());
+    }
+}
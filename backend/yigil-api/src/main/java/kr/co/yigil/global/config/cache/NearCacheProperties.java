@@ -0,0 +1,51 @@
+package kr.co.yigil.global.config.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * cache.near.caches.{cacheName}.max-size / ttl 로 캐시 이름별 L1 사용 여부와 크기를 정한다. 등록되지 않은 캐시는 Redis만 사용한다.
+ * 요청마다 읽히는 placeLists(직렬화된 인기/지역 장소 목록), placeClusters(지도 타일 클러스터), counters(카운터 해시)는
+ * 기본으로 켜 두며, 설정에서 같은 이름으로 크기나 TTL을 바꾸거나 enabled=false로 끌 수 있다.
+ */
+@Getter
+@Setter
+public class NearCacheProperties {
+
+    private String channel = "cache:invalidate";
+
+    private Map<String, Spec> caches = new HashMap<>(Map.of(
+            "placeLists", Spec.of(500, Duration.ofSeconds(30)),
+            "placeClusters", Spec.of(2_000, Duration.ofSeconds(60)),
+            "counters", Spec.of(10_000, Duration.ofSeconds(1))));
+
+    public boolean isEnabled(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        return spec != null && spec.isEnabled();
+    }
+
+    public Spec getSpec(String cacheName) {
+        return caches.get(cacheName);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        private boolean enabled = true;
+
+        private int maxSize = 1000;
+
+        private Duration ttl = Duration.ofSeconds(30);
+
+        static Spec of(int maxSize, Duration ttl) {
+            Spec spec = new Spec();
+            spec.setMaxSize(maxSize);
+            spec.setTtl(ttl);
+            return spec;
+        }
+    }
+}
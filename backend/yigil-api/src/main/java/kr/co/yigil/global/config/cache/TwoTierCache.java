@@ -0,0 +1,124 @@
+package kr.co.yigil.global.config.cache;
+
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * in-process L1 뒤에 Redis 캐시(L2)를 두는 캐시. 쓰기와 삭제는 항상 L2에 먼저 반영하고, 다른 노드의 L1은 pub/sub으로 비운다.
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache redisCache;
+    private final LocalCache localCache;
+    private final CacheInvalidationPublisher publisher;
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    public TwoTierCache(Cache redisCache, LocalCache localCache, CacheInvalidationPublisher publisher) {
+        this.redisCache = redisCache;
+        this.localCache = localCache;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public String getName() {
+        return redisCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        ValueWrapper local = localCache.get(localKey);
+        if (local != null) {
+            statistics.recordL1Hit();
+            return local;
+        }
+        ValueWrapper remote = redisCache.get(key);
+        if (remote == null) {
+            statistics.recordMiss();
+            return null;
+        }
+        statistics.recordL2Hit();
+        localCache.put(localKey, remote);
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value = redisCache.get(key, valueLoader);
+        localCache.put(toLocalKey(key), new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        String localKey = toLocalKey(key);
+        localCache.put(localKey, new SimpleValueWrapper(value));
+        publisher.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        String localKey = toLocalKey(key);
+        localCache.evict(localKey);
+        if (existing == null) {
+            publisher.publishEvict(getName(), localKey);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        String localKey = toLocalKey(key);
+        localCache.evict(localKey);
+        publisher.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.clear();
+        publisher.publishClear(getName());
+    }
+
+    public void evictLocal(String localKey) {
+        localCache.evict(localKey);
+    }
+
+    public void clearLocal() {
+        localCache.clear();
+    }
+
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
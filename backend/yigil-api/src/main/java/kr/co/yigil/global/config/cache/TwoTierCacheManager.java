@@ -0,0 +1,84 @@
+package kr.co.yigil.global.config.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * NearCacheProperties에 등록된 캐시만 TwoTierCache로 감싸고, 나머지는 Redis 캐시를 그대로 돌려준다.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager redisCacheManager;
+    private final NearCacheProperties properties;
+    private final CacheInvalidationPublisher publisher;
+    private final Map<String, TwoTierCache> twoTierCaches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager redisCacheManager, NearCacheProperties properties,
+            CacheInvalidationPublisher publisher) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.publisher = publisher;
+        log.info("near cache enabled for {}", properties.getCaches().entrySet().stream()
+                .filter(entry -> entry.getValue().isEnabled())
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList());
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (!properties.isEnabled(name)) {
+            return redisCacheManager.getCache(name);
+        }
+        return twoTierCaches.computeIfAbsent(name, this::createTwoTierCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] tokens = new String(message.getBody(), StandardCharsets.UTF_8)
+                .split("\\" + CacheInvalidationPublisher.DELIMITER, 3);
+        if (tokens.length < 3 || publisher.getNodeId().equals(tokens[0])) {
+            return;
+        }
+        TwoTierCache cache = twoTierCaches.get(tokens[1]);
+        if (cache == null) {
+            return;
+        }
+        if (CacheInvalidationPublisher.CLEAR_ALL.equals(tokens[2])) {
+            cache.clearLocal();
+            return;
+        }
+        cache.evictLocal(tokens[2]);
+    }
+
+    public Map<String, CacheStatistics> getStatistics() {
+        return twoTierCaches.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getStatistics()));
+    }
+
+    @Scheduled(initialDelay = 10 * 60 * 1000L, fixedDelay = 10 * 60 * 1000L)
+    public void logStatistics() {
+        getStatistics().forEach((name, statistics) -> log.info("near cache [{}] {}", name, statistics));
+    }
+
+    private TwoTierCache createTwoTierCache(String name) {
+        NearCacheProperties.Spec spec = properties.getSpec(name);
+        return new TwoTierCache(redisCacheManager.getCache(name),
+                new LocalCache(spec.getMaxSize(), spec.getTtl()), publisher);
+    }
+}
@@ -15,8 +15,10 @@ public class MasterDataSourceConfig {
     @Bean(name = "masterDataSource")
     @ConfigurationProperties(prefix = "spring.datasource.master.hikari")
     public DataSource masterDataSource() {
-        return DataSourceBuilder.create()
+        HikariDataSource dataSource = DataSourceBuilder.create()
                 .type(HikariDataSource.class)
                 .build();
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", true);
+        return dataSource;
     }
 }
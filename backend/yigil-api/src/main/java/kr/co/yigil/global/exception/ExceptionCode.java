@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 public enum ExceptionCode {
     INVALID_REQUEST(1000, "올바르지 않은 요청입니다."),
     NOT_FOUND_MEMBER_ID(1001, "사용자를 찾을 수 없습니다."),
+    INVALID_CURSOR(1002, "올바르지 않은 cursor입니다."),
     NOT_FOUND_POST_ID(1011, "해당하는 post가 없습니다"),
     NOT_FOUND_SPOT_ID(1021, "해당하는 spot이 없습니다"),
     NOT_FOUND_COURSE_ID(1031, "해당하는 course가 없습니다"),
@@ -38,6 +39,10 @@ public enum ExceptionCode {
     EXCEED_FILE_CAPACITY(5003, "업로드 가능한 파일 용량을 초과했습니다."),
     EXCEED_FILE_COUNT(5004, "업로드 가능한 파일 개수를 초과했습니다."), // todo 현재  모듈 구조상 AttachFiles에서  사용 불가
     INVALID_FILE_URL(5005, "유효한 파일 URL이 아닙니다."),
+    FILE_UPLOAD_FAILED(5006, "파일 업로드에 실패했습니다."),
+    UPLOAD_SESSION_NOT_FOUND(5007, "업로드 세션이 없거나 만료되었습니다."),
+    UPLOADED_FILE_NOT_FOUND(5008, "업로드된 파일을 찾을 수 없습니다."),
+    UPLOADED_FILE_MISMATCH(5009, "업로드된 파일이 요청한 파일과 다릅니다."),
 
     // GeoJson
     //    INVALID_GEOMETRY_TYPE(6001, "geometry 타입이 다릅니다"),
@@ -45,6 +50,7 @@ public enum ExceptionCode {
     GEO_JSON_CASTING_ERROR(6003, "JSON String Casting 오류가 발생했습니다."),
     INVALID_POINT_GEO_JSON(6011, "Point GeoJson 형식이 아닙니다"),
     INVALID_LINESTRING_GEO_JSON(6021, "Point GeoJson 형식이 아닙니다"),
+    INVALID_CORRIDOR_SEARCH(6031, "좌표 또는 장소와 올바른 반경이 필요합니다."),
 
     ALREADY_BOOKMARKED(7001, "이미 북마크된 장소입니다."),
     NOT_BOOKMARKED(7002, "북마크되지 않은 장소입니다."),
@@ -0,0 +1,41 @@
+package kr.co.yigil.global.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 인스턴스가 같은 예약 작업을 돌릴 때 하나만 실행하도록 SET NX PX로 잡는 락.
+ * 작업은 ttl 안에 끝나야 하며, 풀 때는 자신이 잡은 락인지 확인하고 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * @return 락을 잡아 작업을 실행했으면 true, 다른 인스턴스가 잡고 있으면 false
+     */
+    public boolean runExclusively(String key, Duration ttl, Runnable task) {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl))) {
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package kr.co.yigil.login.application;
 
+import kr.co.yigil.auth.domain.Accessor;
 import kr.co.yigil.login.domain.LoginCommand;
 import kr.co.yigil.login.domain.LoginStrategyManager;
 import kr.co.yigil.login.infrastructure.LoginStrategy;
+import kr.co.yigil.member.domain.MemberReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,9 +12,12 @@ import org.springframework.stereotype.Service;
 @Service
 public class LoginFacade {
     private final LoginStrategyManager loginStrategyManager;
+    private final MemberReader memberReader;
 
-    public Long executeLoginStrategy(LoginCommand.LoginRequest loginCommand, String accessToken) {
+    public Accessor executeLoginStrategy(LoginCommand.LoginRequest loginCommand, String accessToken) {
         LoginStrategy strategy = loginStrategyManager.getLoginStrategy(loginCommand.getProvider());
-        return strategy.processLogin(loginCommand, accessToken);
+        Long memberId = strategy.processLogin(loginCommand, accessToken);
+        var member = memberReader.getMember(memberId);
+        return Accessor.member(memberId, member.getAges(), member.getGender());
     }
 }
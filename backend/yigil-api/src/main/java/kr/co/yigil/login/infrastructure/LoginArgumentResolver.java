@@ -4,6 +4,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import kr.co.yigil.auth.Auth;
 import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.member.Ages;
+import kr.co.yigil.member.Gender;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
@@ -32,6 +34,8 @@ public class LoginArgumentResolver implements HandlerMethodArgumentResolver {
         Long memberId = (Long) session.getAttribute("memberId");
         if (memberId == null) return Accessor.guest();
 
-        return Accessor.member(memberId);
+        Ages ages = (Ages) session.getAttribute("ages");
+        Gender gender = (Gender) session.getAttribute("gender");
+        return Accessor.member(memberId, ages, gender);
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package kr.co.yigil.login.interfaces.controller;
 import static kr.co.yigil.login.util.LoginUtils.extractToken;
 
 import jakarta.servlet.http.HttpSession;
+import kr.co.yigil.auth.domain.Accessor;
 import kr.co.yigil.login.application.LoginFacade;
 import kr.co.yigil.login.domain.LoginCommand;
 import kr.co.yigil.login.interfaces.dto.mapper.LoginMapper;
@@ -31,8 +32,10 @@ public class LoginApiController {
     ) {
         String accessToken = extractToken(authorizationHeader);
         LoginCommand.LoginRequest loginCommand = loginMapper.toCommandLoginRequest(loginRequest);
-        Long loginMemberId = loginFacade.executeLoginStrategy(loginCommand, accessToken);
-        session.setAttribute("memberId", loginMemberId);
+        Accessor accessor = loginFacade.executeLoginStrategy(loginCommand, accessToken);
+        session.setAttribute("memberId", accessor.getMemberId());
+        session.setAttribute("ages", accessor.getAges());
+        session.setAttribute("gender", accessor.getGender());
 
         return ResponseEntity.ok(new LoginResponse("로그인 성공"));
     }
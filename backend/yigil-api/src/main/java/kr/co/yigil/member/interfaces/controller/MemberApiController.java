@@ -1,9 +1,12 @@
 package kr.co.yigil.member.interfaces.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import kr.co.yigil.auth.Auth;
 import kr.co.yigil.auth.MemberOnly;
 import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.member.Ages;
+import kr.co.yigil.member.Gender;
 import kr.co.yigil.member.application.MemberFacade;
 import kr.co.yigil.member.domain.MemberInfo;
 import kr.co.yigil.member.interfaces.dto.MemberDto;
@@ -39,11 +42,13 @@ public class MemberApiController {
     @MemberOnly
     public ResponseEntity<MemberDto.MemberUpdateResponse> updateMyInfo(
         @Auth final Accessor accessor,
-        @ModelAttribute MemberDto.MemberUpdateRequest request
+        @ModelAttribute MemberDto.MemberUpdateRequest request,
+        HttpSession session
     ) {
         var memberCommand = memberDtoMapper.of(request);
         var message = memberFacade.updateMemberInfo(accessor.getMemberId(),
             memberCommand);
+        updateSessionDemographics(session, request);
         var response = memberDtoMapper.of(message);
         return ResponseEntity.ok().body(response);
     }
@@ -73,4 +78,13 @@ public class MemberApiController {
         MemberDto.NicknameCheckResponse response = memberDtoMapper.of(checkInfo);
         return ResponseEntity.ok().body(response);
     }
+
+    private void updateSessionDemographics(HttpSession session, MemberDto.MemberUpdateRequest request) {
+        if (request.getAges() != null) {
+            session.setAttribute("ages", Ages.from(request.getAges()));
+        }
+        if (request.getGender() != null) {
+            session.setAttribute("gender", Gender.from(request.getGender()));
+        }
+    }
 }
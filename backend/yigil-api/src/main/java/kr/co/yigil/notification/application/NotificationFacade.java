@@ -1,5 +1,6 @@
 package kr.co.yigil.notification.application;
 
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.notification.domain.NotificationInfo;
 import kr.co.yigil.notification.domain.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,10 @@ public class NotificationFacade {
         return notificationService.getNotificationSlice(memberId, pageRequest);
     }
 
+    public NotificationInfo.NotificationsSlice getNotificationSlice(Long memberId, Cursor cursor, int size) {
+        return notificationService.getNotificationSlice(memberId, cursor, size);
+    }
+
     public void readNotification(Long memberId, List<Long> ids) {
         notificationService.readNotification(memberId, ids);
     }
@@ -12,10 +12,16 @@ public class NotificationInfo {
 
         List<NotificationsUnitInfo> notifications;
         boolean hasNext;
+        String nextCursor;
 
         public NotificationsSlice(Slice<Notification> notifications) {
+            this(notifications, null);
+        }
+
+        public NotificationsSlice(Slice<Notification> notifications, String nextCursor) {
             this.notifications = notifications.getContent().stream().map(NotificationsUnitInfo::new).toList();
             this.hasNext = notifications.hasNext();
+            this.nextCursor = nextCursor;
         }
     }
 
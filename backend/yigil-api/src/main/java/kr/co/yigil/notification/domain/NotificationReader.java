@@ -1,5 +1,6 @@
 package kr.co.yigil.notification.domain;
 
+import kr.co.yigil.global.Cursor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.http.codec.ServerSentEvent;
@@ -8,5 +9,7 @@ import reactor.core.publisher.Flux;
 public interface NotificationReader {
     Slice<Notification> getNotificationSlice(Long memberId, Pageable pageable);
 
+    Slice<Notification> getNotificationSlice(Long memberId, Cursor cursor, int size);
+
     Notification getNotification(Long memberId, Long notificationId);
 }
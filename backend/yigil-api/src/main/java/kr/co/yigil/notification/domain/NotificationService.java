@@ -1,5 +1,6 @@
 package kr.co.yigil.notification.domain;
 
+import kr.co.yigil.global.Cursor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -13,5 +14,7 @@ public interface NotificationService {
 
     NotificationInfo.NotificationsSlice getNotificationSlice(Long memberId, PageRequest pageRequest);
 
+    NotificationInfo.NotificationsSlice getNotificationSlice(Long memberId, Cursor cursor, int size);
+
     void readNotification(Long memberId, List<Long> notificationId);
 }
@@ -1,5 +1,8 @@
 package kr.co.yigil.notification.domain;
 
+import kr.co.yigil.global.Cursor;
+import kr.co.yigil.global.exception.BadRequestException;
+import kr.co.yigil.global.exception.ExceptionCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -12,6 +15,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService{
     private final NotificationReader notificationReader;
+    private final NotificationStore notificationStore;
     private final NotificationSender notificationSender;
 
 
@@ -34,12 +38,21 @@ public class NotificationServiceImpl implements NotificationService{
 
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public NotificationInfo.NotificationsSlice getNotificationSlice(Long memberId, Cursor cursor, int size) {
+        var notifications = notificationReader.getNotificationSlice(memberId, cursor, size);
+        return new NotificationInfo.NotificationsSlice(notifications,
+            Cursor.next(notifications, Notification::getCreatedAt, Notification::getId));
+    }
+
     @Transactional
     @Override
     public void readNotification(Long memberId, List<Long> ids) {
-        for(Long notificationId: ids) {
-            Notification notification = notificationReader.getNotification(memberId, notificationId);
-            notification.read();
+        List<Long> notificationIds = ids.stream().distinct().toList();
+        if (notificationIds.isEmpty()) return;
+        if (notificationStore.readAll(memberId, notificationIds) != notificationIds.size()) {
+            throw new BadRequestException(ExceptionCode.INVALID_REQUEST);
         }
     }
 }
@@ -1,6 +1,10 @@
 package kr.co.yigil.notification.domain;
 
+import java.util.List;
+
 public interface NotificationStore {
 
     void store(Notification notification);
+
+    int readAll(Long memberId, List<Long> notificationIds);
 }
@@ -1,5 +1,6 @@
 package kr.co.yigil.notification.infrastructure;
 
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.global.exception.ExceptionCode;
 import kr.co.yigil.notification.domain.Notification;
@@ -7,6 +8,7 @@ import kr.co.yigil.notification.domain.NotificationReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -20,6 +22,16 @@ public class NotificationReaderImpl implements NotificationReader {
         return notificationRepository.findAllByReceiverIdAndReadIsFalse(memberId, pageable);
     }
 
+    @Override
+    public Slice<Notification> getNotificationSlice(Long memberId, Cursor cursor, int size) {
+        if (cursor.isFirst()) {
+            return notificationRepository.findAllByReceiverIdAndReadIsFalse(memberId,
+                Cursor.firstPage(size, Direction.DESC));
+        }
+        return notificationRepository.findUnreadSliceBefore(memberId, cursor.getCreatedAt(), cursor.getId(),
+            Cursor.nextPage(size));
+    }
+
     @Override
     public Notification getNotification(Long memberId, Long notificationId) {
         return notificationRepository.findByIdAndReceiverId(notificationId, memberId)
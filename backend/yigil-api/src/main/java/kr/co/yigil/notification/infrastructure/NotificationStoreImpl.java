@@ -1,5 +1,7 @@
 package kr.co.yigil.notification.infrastructure;
 
+import java.util.List;
+
 import kr.co.yigil.notification.domain.Notification;
 import kr.co.yigil.notification.domain.NotificationStore;
 import lombok.RequiredArgsConstructor;
@@ -15,4 +17,9 @@ public class NotificationStoreImpl implements NotificationStore {
         notificationRepository.save(notification);
     }
 
+    @Override
+    public int readAll(Long memberId, List<Long> notificationIds) {
+        return notificationRepository.readAllByIdInAndReceiverId(notificationIds, memberId);
+    }
+
 }
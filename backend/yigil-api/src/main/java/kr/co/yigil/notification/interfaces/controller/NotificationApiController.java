@@ -3,6 +3,7 @@ package kr.co.yigil.notification.interfaces.controller;
 import kr.co.yigil.auth.Auth;
 import kr.co.yigil.auth.MemberOnly;
 import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.notification.application.NotificationFacade;
 import kr.co.yigil.notification.domain.NotificationInfo;
 import kr.co.yigil.notification.interfaces.dto.mapper.NotificationMapper;
@@ -18,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -39,8 +41,14 @@ public class NotificationApiController {
     @MemberOnly
     public ResponseEntity<NotificationsResponse> getNotifications(
         @Auth Accessor accessor,
-        @PageableDefault(size = 5, page = 1) Pageable pageable
+        @PageableDefault(size = 5, page = 1) Pageable pageable,
+        @RequestParam(name = "cursor", required = false) String cursor
     ) {
+        if (cursor != null) {
+            NotificationInfo.NotificationsSlice notificationSlice = notificationFacade.getNotificationSlice(
+                accessor.getMemberId(), Cursor.decode(cursor), pageable.getPageSize());
+            return ResponseEntity.ok().body(notificationMapper.toResponse(notificationSlice));
+        }
         PageRequest pageRequest = PageRequest.of(pageable.getPageNumber() - 1,
             pageable.getPageSize(), Sort.by("createdAt").descending());
         NotificationInfo.NotificationsSlice notificationSlice = notificationFacade.getNotificationSlice(
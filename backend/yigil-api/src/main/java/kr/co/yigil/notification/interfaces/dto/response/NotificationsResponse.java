@@ -12,4 +12,5 @@ import lombok.NoArgsConstructor;
 public class NotificationsResponse {
     private List<NotificationInfoDto> notifications;
     private boolean hasNext;
+    private String nextCursor;
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package kr.co.yigil.place.application;
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,8 +9,9 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import kr.co.yigil.auth.domain.Accessor;
-import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceCommand.ClusterRequest;
 import kr.co.yigil.place.domain.PlaceCommand.NearPlaceRequest;
+import kr.co.yigil.place.domain.PlaceCommand.RankedSearchRequest;
 import kr.co.yigil.place.domain.PlaceInfo;
 import kr.co.yigil.place.domain.PlaceInfo.Keyword;
 import kr.co.yigil.place.domain.PlaceInfo.Main;
@@ -34,10 +36,18 @@ public class PlaceFacade {
         return placeService.getPopularPlaceMore(accessor);
     }
 
+    public List<Main> getTrendingPlace(final int size, final Accessor accessor) {
+        return placeService.getTrendingPlace(size, accessor);
+    }
+
     public PlaceInfo.Detail retrievePlaceInfo(final Long placeId, final Accessor accessor) {
         return placeService.retrievePlace(placeId, accessor);
     }
 
+    public List<Main> getRelatedPlaces(final Long placeId, final Accessor accessor) {
+        return placeService.getRelatedPlaces(placeId, accessor);
+    }
+
     public List<Main> getPlaceInRegion(final Long regionId, final Accessor accessor) {
         return placeService.getPlaceInRegion(regionId, accessor);
     }
@@ -46,21 +56,30 @@ public class PlaceFacade {
         return placeService.getPlaceInRegionMore(regionId, accessor);
     }
 
-    public Page<Place> getNearPlace(final NearPlaceRequest command) {
+    public Page<PlaceInfo.NearPlace> getNearPlace(final NearPlaceRequest command) {
         return placeService.getNearPlace(command);
     }
 
-    public List<Main> getPopularPlaceByDemographics(final Long memberId) {
-        return placeService.getPopularPlaceByDemographics(memberId);
+    public List<PlaceInfo.Cluster> getPlaceClusters(final ClusterRequest command) {
+        return placeService.getPlaceClusters(command);
     }
 
-    public List<Main> getPopularPlaceByDemographicsMore(final Long memberId) {
-        return placeService.getPopularPlaceByDemographicsMore(memberId);
+    public List<Main> getPopularPlaceByDemographics(final Accessor accessor) {
+        return placeService.getPopularPlaceByDemographics(accessor);
+    }
+
+    public List<Main> getPopularPlaceByDemographicsMore(final Accessor accessor) {
+        return placeService.getPopularPlaceByDemographicsMore(accessor);
     }
 
     public Slice<Main> searchPlace(final String keyword, final Pageable pageable,  final Accessor accessor) {
         return placeService.searchPlace(keyword, pageable, accessor);
     }
+
+    public PlaceInfo.RankedSearch searchPlaceRanked(final RankedSearchRequest command, final Accessor accessor) {
+        return placeService.searchPlaceRanked(command, accessor);
+    }
+
     public List<Keyword> getPlaceKeywords(final String keyword) {
         return placeService.getPlaceKeywords(keyword);
     }
@@ -69,4 +88,12 @@ public class PlaceFacade {
         return placeService.getMyPlaceIds(memberId);
     }
 
+    public long getPopularPlaceVersion() {
+        return placeService.getPopularPlaceVersion();
+    }
+
+    public Set<Long> getBookmarkedPlaceIds(final Long memberId, final List<Long> placeIds) {
+        return placeService.getBookmarkedPlaceIds(memberId, placeIds);
+    }
+
 }
@@ -0,0 +1,12 @@
+package kr.co.yigil.place.domain;
+
+import java.util.List;
+import kr.co.yigil.member.Ages;
+import kr.co.yigil.member.Gender;
+
+public interface DemographicRankingIndex {
+
+    boolean isReady();
+
+    List<Long> getPlaceIds(Ages ages, Gender gender, int size);
+}
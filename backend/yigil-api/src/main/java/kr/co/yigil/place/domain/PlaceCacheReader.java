@@ -1,7 +1,15 @@
 package kr.co.yigil.place.domain;
 
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.travel.domain.dto.PlaceSpotStatDto;
+
 public interface PlaceCacheReader {
     int getSpotCount(Long placeId);
 
     double getSpotTotalRate(Long placeId);
+
+    PlaceSpotStatDto getSpotStat(Long placeId);
+
+    Map<Long, PlaceSpotStatDto> getSpotStats(List<Long> placeIds);
 }
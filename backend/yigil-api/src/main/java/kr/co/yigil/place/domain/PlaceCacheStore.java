@@ -1,10 +1,16 @@
 package kr.co.yigil.place.domain;
 
+import java.util.Map;
+
 public interface PlaceCacheStore {
-    int incrementSpotCountInPlace(Long placeId);
-    int decrementSpotCountInPlace(Long placeId);
+    void incrementSpotCountInPlace(Long placeId);
+    void decrementSpotCountInPlace(Long placeId);
+
+    void incrementSpotTotalRateInPlace(Long placeId, double rate);
+
+    void decrementSpotTotalRateInPlace(Long placeId, double rate);
 
-    double incrementSpotTotalRateInPlace(Long placeId, double rate);
+    void incrementSpotCountInPlaces(Map<Long, Integer> spotCounts);
 
-    double decrementSpotTotalRateInPlace(Long placeId, double rate);
+    void incrementSpotTotalRateInPlaces(Map<Long, Double> spotTotalRates);
 }
@@ -0,0 +1,11 @@
+package kr.co.yigil.place.domain;
+
+import java.util.List;
+import kr.co.yigil.place.domain.PlaceInfo.Main;
+
+public interface PlaceCardReader {
+
+    List<Main> getPlaceCards(List<Place> places);
+
+    List<Main> getPlaceCards(List<Place> places, Long memberId);
+}
@@ -0,0 +1,9 @@
+package kr.co.yigil.place.domain;
+
+import java.util.List;
+import kr.co.yigil.place.domain.PlaceInfo.Cluster;
+
+public interface PlaceClusterReader {
+
+    List<Cluster> getClusters(PlaceTile tile);
+}
@@ -15,6 +15,32 @@ public class PlaceCommand {
         private final int pageNo;
     }
 
+    @Getter
+    @Builder
+    @ToString
+    public static class ClusterRequest {
+        private final Coordinate minCoordinate;
+        private final Coordinate maxCoordinate;
+        private final int zoom;
+    }
+
+    @Getter
+    @Builder
+    @ToString
+    public static class RankedSearchRequest {
+        private final String keyword;
+        private final SearchCursor cursor;
+        private final int size;
+    }
+
+    @Getter
+    @Builder
+    @ToString
+    public static class SearchCursor {
+        private final int score;
+        private final Long placeId;
+    }
+
     @Getter
     @Builder
     @ToString
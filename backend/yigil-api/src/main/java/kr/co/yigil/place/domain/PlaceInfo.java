@@ -1,9 +1,12 @@
 package kr.co.yigil.place.domain;
 
+import kr.co.yigil.file.ImageVariant;
 import lombok.Getter;
 import lombok.ToString;
 import org.locationtech.jts.geom.Point;
 
+import java.io.Serializable;
+import java.util.List;
 import java.util.Optional;
 
 public class PlaceInfo {
@@ -22,7 +25,7 @@ public class PlaceInfo {
             id = place.getId();
             name = place.getName();
             reviewCount = spotCount;
-            thumbnailImageUrl = place.getImageFileUrl();
+            thumbnailImageUrl = place.getImageFileUrl(ImageVariant.CARD);
             rate = placeRate;
             isBookmarked = false;
         }
@@ -30,7 +33,7 @@ public class PlaceInfo {
             id = place.getId();
             name = place.getName();
             reviewCount = spotCount;
-            thumbnailImageUrl = place.getImageFileUrl();
+            thumbnailImageUrl = place.getImageFileUrl(ImageVariant.CARD);
             rate = placeRate;
             this.isBookmarked = isBookmarked;
         }
@@ -53,7 +56,7 @@ public class PlaceInfo {
             id = place.getId();
             name = place.getName();
             address = place.getAddress();
-            thumbnailImageUrl = place.getImageFileUrl();
+            thumbnailImageUrl = place.getImageFileUrl(ImageVariant.FULL);
             mapStaticImageUrl = place.getMapStaticImageFileUrl();
             point = new PointInfo(place.getLocation());
             rate = placeRate;
@@ -64,7 +67,7 @@ public class PlaceInfo {
             id = place.getId();
             name = place.getName();
             address = place.getAddress();
-            thumbnailImageUrl = place.getImageFileUrl();
+            thumbnailImageUrl = place.getImageFileUrl(ImageVariant.FULL);
             mapStaticImageUrl = place.getMapStaticImageFileUrl();
             point = new PointInfo(place.getLocation());
             rate = placeRate;
@@ -83,6 +86,71 @@ public class PlaceInfo {
         }
     }
 
+    @Getter
+    @ToString
+    public static class NearPlace {
+        private final Long id;
+        private final String name;
+        private final double x;
+        private final double y;
+
+        public NearPlace(Place place) {
+            id = place.getId();
+            name = place.getName();
+            x = place.getLocation().getX();
+            y = place.getLocation().getY();
+        }
+
+        public NearPlace(Long id, String name, double x, double y) {
+            this.id = id;
+            this.name = name;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    @Getter
+    @ToString
+    public static class Cluster implements Serializable {
+        private final double x;
+        private final double y;
+        private final int count;
+        private final Long representativePlaceId;
+
+        public Cluster(double x, double y, int count, Long representativePlaceId) {
+            this.x = x;
+            this.y = y;
+            this.count = count;
+            this.representativePlaceId = representativePlaceId;
+        }
+    }
+
+    @Getter
+    @ToString
+    public static class SearchHit {
+        private final Long placeId;
+        private final int score;
+
+        public SearchHit(Long placeId, int score) {
+            this.placeId = placeId;
+            this.score = score;
+        }
+    }
+
+    @Getter
+    @ToString
+    public static class RankedSearch {
+        private final List<Main> places;
+        private final boolean hasNext;
+        private final PlaceCommand.SearchCursor nextCursor;
+
+        public RankedSearch(List<Main> places, boolean hasNext, PlaceCommand.SearchCursor nextCursor) {
+            this.places = places;
+            this.hasNext = hasNext;
+            this.nextCursor = nextCursor;
+        }
+    }
+
     @Getter
     @ToString
     public static class MapStaticImageInfo {
@@ -0,0 +1,12 @@
+package kr.co.yigil.place.domain;
+
+import java.util.List;
+
+public interface PlaceKeywordIndex {
+
+    boolean isReady();
+
+    List<String> search(String keyword, int limit);
+
+    void add(Place place);
+}
@@ -0,0 +1,6 @@
+package kr.co.yigil.place.domain;
+
+public interface PlaceListCacheStore {
+
+    void evict(Place place);
+}
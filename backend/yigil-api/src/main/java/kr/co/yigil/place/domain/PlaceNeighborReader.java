@@ -0,0 +1,8 @@
+package kr.co.yigil.place.domain;
+
+import java.util.List;
+
+public interface PlaceNeighborReader {
+
+    List<Long> getNeighborPlaceIds(Long placeId);
+}
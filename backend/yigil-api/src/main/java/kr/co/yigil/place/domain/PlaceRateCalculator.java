@@ -3,4 +3,6 @@ package kr.co.yigil.place.domain;
 public interface PlaceRateCalculator {
 
     double calculatePlaceRate(Long placeId);
+
+    double calculatePlaceRate(int spotCount, double spotTotalRate);
 }
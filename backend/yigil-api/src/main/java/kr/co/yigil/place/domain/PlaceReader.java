@@ -21,7 +21,10 @@ public interface PlaceReader {
 
     List<Place> getPlaceInRegionMore(Long regionId);
 
-    Page<Place> getNearPlace(PlaceCommand.NearPlaceRequest command);
+    Page<PlaceInfo.NearPlace> getNearPlace(PlaceCommand.NearPlaceRequest command);
+
+    List<PlaceInfo.NearPlace> getPlacesWithin(PlaceCommand.Coordinate minCoordinate,
+            PlaceCommand.Coordinate maxCoordinate);
 
     List<String> getPlaceKeywords(String keyword);
 
@@ -31,4 +34,8 @@ public interface PlaceReader {
 
     Slice<Place> getPlacesByKeyword(String keyword, Pageable pageable);
 
+    List<PlaceInfo.SearchHit> searchPlaces(String keyword, PlaceCommand.SearchCursor cursor, int size);
+
+    List<Place> getPlaces(List<Long> placeIds);
+
 }
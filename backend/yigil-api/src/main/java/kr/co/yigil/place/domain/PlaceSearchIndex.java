@@ -0,0 +1,16 @@
+package kr.co.yigil.place.domain;
+
+import java.util.List;
+
+public interface PlaceSearchIndex {
+
+    boolean isReady();
+
+    List<PlaceInfo.SearchHit> search(String keyword, PlaceCommand.SearchCursor cursor, int size);
+
+    List<Long> searchIds(String keyword, int limit);
+
+    List<Long> searchIdsByName(String keyword, int limit);
+
+    void add(Place place);
+}
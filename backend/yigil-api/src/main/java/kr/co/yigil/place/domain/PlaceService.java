@@ -1,6 +1,7 @@
 package kr.co.yigil.place.domain;
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,18 +14,27 @@ import kr.co.yigil.place.domain.PlaceInfo.Main;
 public interface PlaceService {
     public List<Main> getPopularPlace(Accessor accessor);
     public List<Main> getPopularPlaceMore(Accessor accessor);
+    public List<Main> getTrendingPlace(int size, Accessor accessor);
     public List<Main> getPlaceInRegion(Long regionId, Accessor accessor);
     public List<Main> getPlaceInRegionMore(Long regionId, Accessor accessor);
     public PlaceInfo.Detail retrievePlace(Long placeId, Accessor accessor);
+    public List<Main> getRelatedPlaces(Long placeId, Accessor accessor);
     public PlaceInfo.MapStaticImageInfo findPlaceStaticImage(Long memberId, String placeName, String address);
-    public Page<Place> getNearPlace(PlaceCommand.NearPlaceRequest command);
+    public Page<PlaceInfo.NearPlace> getNearPlace(PlaceCommand.NearPlaceRequest command);
+    public List<PlaceInfo.Cluster> getPlaceClusters(PlaceCommand.ClusterRequest command);
     public List<Keyword> getPlaceKeywords(String keyword);
 
-    List<Main> getPopularPlaceByDemographics(Long memberId);
+    List<Main> getPopularPlaceByDemographics(Accessor accessor);
 
-    List<Main> getPopularPlaceByDemographicsMore(Long memberId);
+    List<Main> getPopularPlaceByDemographicsMore(Accessor accessor);
 
     Slice<Main> searchPlace(String keyword, Pageable pageable, Accessor accessor);
 
+    PlaceInfo.RankedSearch searchPlaceRanked(PlaceCommand.RankedSearchRequest command, Accessor accessor);
+
     List<Long> getMyPlaceIds(Long memberId);
+
+    long getPopularPlaceVersion();
+
+    Set<Long> getBookmarkedPlaceIds(Long memberId, List<Long> placeIds);
 }
@@ -2,30 +2,40 @@ package kr.co.yigil.place.domain;
 
 import kr.co.yigil.auth.domain.Accessor;
 import kr.co.yigil.bookmark.domain.BookmarkReader;
-import kr.co.yigil.member.Ages;
-import kr.co.yigil.member.Gender;
 import kr.co.yigil.member.domain.MemberReader;
+import kr.co.yigil.place.domain.PlaceCommand.ClusterRequest;
+import kr.co.yigil.place.domain.PlaceCommand.Coordinate;
 import kr.co.yigil.place.domain.PlaceCommand.NearPlaceRequest;
+import kr.co.yigil.place.domain.PlaceCommand.RankedSearchRequest;
+import kr.co.yigil.place.domain.PlaceCommand.SearchCursor;
+import kr.co.yigil.place.domain.PlaceInfo.Cluster;
 import kr.co.yigil.place.domain.PlaceInfo.Detail;
 import kr.co.yigil.place.domain.PlaceInfo.Keyword;
 import kr.co.yigil.place.domain.PlaceInfo.Main;
 import kr.co.yigil.place.domain.PlaceInfo.MapStaticImageInfo;
+import kr.co.yigil.place.domain.PlaceInfo.RankedSearch;
+import kr.co.yigil.place.domain.PlaceInfo.SearchHit;
 import kr.co.yigil.travel.domain.spot.SpotReader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PlaceServiceImpl implements PlaceService {
 
+    static final int MAX_CLUSTER_TILES = 64;
+    static final int MAX_TRENDING_SIZE = 20;
+
     private final PlaceReader placeReader;
     private final PopularPlaceReader popularPlaceReader;
     private final PlaceCacheReader placeCacheReader;
@@ -33,82 +43,74 @@ public class PlaceServiceImpl implements PlaceService {
     private final MemberReader memberReader;
     private final SpotReader spotReader;
     private final PlaceRateCalculator placeRateCalculator;
+    private final PlaceCardReader placeCardReader;
+    private final PlaceClusterReader placeClusterReader;
+    private final PlaceTrendReader placeTrendReader;
+    private final PlaceNeighborReader placeNeighborReader;
 
     @Override
     @Transactional(readOnly = true)
     public List<Main> getPopularPlace(final Accessor accessor) {
-        return popularPlaceReader.getPopularPlace().stream()
-                .map(place -> {
-                    int spotCount = placeCacheReader.getSpotCount(place.getId());
-                    double placeRate = placeRateCalculator.calculatePlaceRate(place.getId());
-                    if (accessor.isMember()) {
-                        boolean isBookmarked = bookmarkReader.isBookmarked(accessor.getMemberId(), place.getId());
-                        return new Main(place, spotCount, isBookmarked, placeRate);
-                    }
-                    return new Main(place, spotCount, placeRate);
-                })
-                .collect(Collectors.toList());
+        return getPlaceCards(popularPlaceReader.getPopularPlace(), accessor);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Main> getPopularPlaceMore(final Accessor accessor) {
-        return popularPlaceReader.getPopularPlaceMore().stream()
-                .map(place -> {
-                    int spotCount = placeCacheReader.getSpotCount(place.getId());
-                    double placeRate = placeRateCalculator.calculatePlaceRate(place.getId());
-                    if (accessor.isMember()) {
-                        boolean isBookmarked = bookmarkReader.isBookmarked(accessor.getMemberId(), place.getId());
-                        return new Main(place, spotCount, isBookmarked, placeRate);
-                    }
-                    return new Main(place, spotCount, placeRate);
-                })
-                .collect(Collectors.toList());
+        return getPlaceCards(popularPlaceReader.getPopularPlaceMore(), accessor);
+    }
+
+    /**
+     * 실시간 트렌드 집계가 아직 없으면 popularPlaceJob이 계산한 인기 장소로 대신한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Main> getTrendingPlace(final int size, final Accessor accessor) {
+        int limit = Math.max(1, Math.min(size, MAX_TRENDING_SIZE));
+        List<Long> placeIds = placeTrendReader.getTrendingPlaceIds(limit);
+        if (placeIds.isEmpty()) {
+            return getPlaceCards(popularPlaceReader.getPopularPlaceMore().stream().limit(limit).toList(), accessor);
+        }
+        return getPlaceCards(placeReader.getPlaces(placeIds), accessor);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Main> getPlaceInRegion(final Long regionId, final Accessor accessor) {
-        return placeReader.getPlaceInRegion(regionId).stream()
-                .map(place -> {
-                    int spotCount = placeCacheReader.getSpotCount(place.getId());
-                    double placeRate = placeRateCalculator.calculatePlaceRate(place.getId());
-                    if (accessor.isMember()) {
-                        boolean isBookmarked = bookmarkReader.isBookmarked(accessor.getMemberId(), place.getId());
-                        return new Main(place, spotCount, isBookmarked, placeRate);
-                    }
-                    return new Main(place, spotCount, placeRate);
-                })
-                .collect(Collectors.toList());
+        return getPlaceCards(placeReader.getPlaceInRegion(regionId), accessor);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Main> getPlaceInRegionMore(Long regionId, Accessor accessor) {
-        return placeReader.getPlaceInRegionMore(regionId).stream()
-                .map(place -> {
-                    int spotCount = placeCacheReader.getSpotCount(place.getId());
-                    double placeRate = placeRateCalculator.calculatePlaceRate(place.getId());
-                    if (accessor.isMember()) {
-                        boolean isBookmarked = bookmarkReader.isBookmarked(accessor.getMemberId(), place.getId());
-                        return new Main(place, spotCount, isBookmarked, placeRate);
-                    }
-                    return new Main(place, spotCount, placeRate);
-                })
-                .collect(Collectors.toList());
+        return getPlaceCards(placeReader.getPlaceInRegionMore(regionId), accessor);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Detail retrievePlace(final Long placeId, final Accessor accessor) {
         var place = placeReader.getPlace(placeId);
-        int spotCount = placeCacheReader.getSpotCount(placeId);
-        double placeRate = placeRateCalculator.calculatePlaceRate(placeId);
+        var stat = placeCacheReader.getSpotStat(placeId);
+        int spotCount = stat.getSpotCount();
+        double placeRate = placeRateCalculator.calculatePlaceRate(spotCount, stat.getSpotTotalRate());
         return accessor.isMember()
                 ? new Detail(place, spotCount, bookmarkReader.isBookmarked(accessor.getMemberId(), placeId), placeRate)
                 : new Detail(place, spotCount, placeRate);
     }
 
+    /**
+     * placeNeighborJob이 계산한, 같은 코스에 자주 함께 담긴 장소를 순위대로 돌려준다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Main> getRelatedPlaces(final Long placeId, final Accessor accessor) {
+        List<Long> neighborPlaceIds = placeNeighborReader.getNeighborPlaceIds(placeId);
+        if (neighborPlaceIds.isEmpty()) {
+            return List.of();
+        }
+        return getPlaceCards(placeReader.getPlaces(neighborPlaceIds), accessor);
+    }
+
 
     @Override
     @Transactional(readOnly = true)
@@ -129,10 +131,30 @@ public class PlaceServiceImpl implements PlaceService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Place> getNearPlace(final NearPlaceRequest command) {
+    public Page<PlaceInfo.NearPlace> getNearPlace(final NearPlaceRequest command) {
         return placeReader.getNearPlace(command);
     }
 
+    /**
+     * 뷰포트를 덮는 타일이 너무 많으면 줌을 낮춰 타일 수를 제한한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Cluster> getPlaceClusters(final ClusterRequest command) {
+        Coordinate minCoordinate = command.getMinCoordinate();
+        Coordinate maxCoordinate = command.getMaxCoordinate();
+        int zoom = Math.max(PlaceTile.MIN_ZOOM, Math.min(PlaceTile.MAX_ZOOM, command.getZoom()));
+        while (zoom > PlaceTile.MIN_ZOOM && PlaceTile.countCovering(minCoordinate, maxCoordinate, zoom) > MAX_CLUSTER_TILES) {
+            zoom--;
+        }
+
+        return PlaceTile.covering(minCoordinate, maxCoordinate, zoom).stream()
+                .flatMap(tile -> placeClusterReader.getClusters(tile).stream())
+                .filter(cluster -> cluster.getX() >= minCoordinate.getX() && cluster.getX() <= maxCoordinate.getX()
+                        && cluster.getY() >= minCoordinate.getY() && cluster.getY() <= maxCoordinate.getY())
+                .toList();
+    }
+
     @Override
     public List<Keyword> getPlaceKeywords(String keywords) {
         return placeReader.getPlaceKeywords(keywords).stream()
@@ -142,56 +164,58 @@ public class PlaceServiceImpl implements PlaceService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Main> getPopularPlaceByDemographics(final Long memberId) {
-        var member = memberReader.getMember(memberId);
-        Ages ages = member.getAges();
-        Gender gender = member.getGender();
-
-        return placeReader.getPopularPlaceByDemographics(ages, gender).stream()
-                .map(place -> {
-                    int spotCount = placeCacheReader.getSpotCount(place.getId());
-                    double placeRate = placeRateCalculator.calculatePlaceRate(place.getId());
-                    boolean isBookmarked = bookmarkReader.isBookmarked(memberId, place.getId());
-                    return new Main(place, spotCount, isBookmarked, placeRate);
-
-                })
-                .collect(Collectors.toList());
-
+    public List<Main> getPopularPlaceByDemographics(final Accessor accessor) {
+        var demographic = withDemographics(accessor);
+        return placeCardReader.getPlaceCards(
+                placeReader.getPopularPlaceByDemographics(demographic.getAges(), demographic.getGender()),
+                accessor.getMemberId());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Main> getPopularPlaceByDemographicsMore(final Long memberId) {
-        var member = memberReader.getMember(memberId);
-        Ages ages = member.getAges();
-        Gender gender = member.getGender();
-
-        return placeReader.getPopularPlaceByDemographicsMore(ages, gender).stream()
-                .map(place -> {
-                    int spotCount = placeCacheReader.getSpotCount(place.getId());
-                    double placeRate = placeRateCalculator.calculatePlaceRate(place.getId());
-                    boolean isBookmarked = bookmarkReader.isBookmarked(memberId, place.getId());
-                    return new Main(place, spotCount, isBookmarked, placeRate);
-
-                })
-                .collect(Collectors.toList());
+    public List<Main> getPopularPlaceByDemographicsMore(final Accessor accessor) {
+        var demographic = withDemographics(accessor);
+        return placeCardReader.getPlaceCards(
+                placeReader.getPopularPlaceByDemographicsMore(demographic.getAges(), demographic.getGender()),
+                accessor.getMemberId());
+    }
 
+    /**
+     * 세션에 연령대/성별이 없는 경우(기능 배포 전에 로그인한 세션)에만 회원을 읽는다.
+     */
+    private Accessor withDemographics(Accessor accessor) {
+        if (accessor.hasDemographics()) {
+            return accessor;
+        }
+        var member = memberReader.getMember(accessor.getMemberId());
+        return Accessor.member(accessor.getMemberId(), member.getAges(), member.getGender());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Slice<Main> searchPlace(String keyword, Pageable pageable, Accessor accessor) {
-       return placeReader.getPlacesByKeyword(keyword, pageable).map(
-                place -> {
-                    int spotCount = placeCacheReader.getSpotCount(place.getId());
-                    double placeRate = placeRateCalculator.calculatePlaceRate(place.getId());
-                    if (accessor.isMember()) {
-                        boolean isBookmarked = bookmarkReader.isBookmarked(accessor.getMemberId(), place.getId());
-                        return new Main(place, spotCount, isBookmarked, placeRate);
-                    }
-                    return new Main(place, spotCount, placeRate);
-                }
-        );
+        Slice<Place> places = placeReader.getPlacesByKeyword(keyword, pageable);
+        return new SliceImpl<>(getPlaceCards(places.getContent(), accessor), places.getPageable(), places.hasNext());
+    }
+
+    /**
+     * 한 건을 더 읽어 다음 페이지 여부를 판단하고, 마지막 결과의 (점수, id)를 다음 커서로 내려준다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RankedSearch searchPlaceRanked(RankedSearchRequest command, Accessor accessor) {
+        int size = command.getSize();
+        List<SearchHit> hits = placeReader.searchPlaces(command.getKeyword(), command.getCursor(), size + 1);
+        boolean hasNext = hits.size() > size;
+        List<SearchHit> pageHits = hasNext ? hits.subList(0, size) : hits;
+
+        List<Place> places = placeReader.getPlaces(pageHits.stream().map(SearchHit::getPlaceId).toList());
+        SearchCursor nextCursor = null;
+        if (hasNext) {
+            SearchHit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = SearchCursor.builder().score(last.getScore()).placeId(last.getPlaceId()).build();
+        }
+        return new RankedSearch(getPlaceCards(places, accessor), hasNext, nextCursor);
     }
 
     @Override
@@ -199,4 +223,23 @@ public class PlaceServiceImpl implements PlaceService {
         return spotReader.getMySpotPlaceIds(memberId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long getPopularPlaceVersion() {
+        return popularPlaceReader.getVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> getBookmarkedPlaceIds(Long memberId, List<Long> placeIds) {
+        return bookmarkReader.getBookmarkedPlaceIds(memberId, placeIds);
+    }
+
+    private List<Main> getPlaceCards(List<Place> places, Accessor accessor) {
+        if (accessor.isMember()) {
+            return placeCardReader.getPlaceCards(places, accessor.getMemberId());
+        }
+        return placeCardReader.getPlaceCards(places);
+    }
+
 }
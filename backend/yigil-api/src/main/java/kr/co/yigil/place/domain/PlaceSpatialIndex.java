@@ -0,0 +1,17 @@
+package kr.co.yigil.place.domain;
+
+import java.util.List;
+import kr.co.yigil.place.domain.PlaceCommand.Coordinate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface PlaceSpatialIndex {
+
+    boolean isReady();
+
+    Page<PlaceInfo.NearPlace> search(Coordinate minCoordinate, Coordinate maxCoordinate, Pageable pageable);
+
+    List<PlaceInfo.NearPlace> findAllWithin(Coordinate minCoordinate, Coordinate maxCoordinate);
+
+    void add(Place place);
+}
@@ -0,0 +1,14 @@
+package kr.co.yigil.place.domain;
+
+import java.util.Map;
+
+public interface PlaceStatsStore {
+
+    void applySpotRegistered(Long placeId, double rate);
+
+    void applySpotsRegistered(Map<Long, Integer> spotCounts, Map<Long, Double> spotTotalRates);
+
+    void applySpotRateChanged(Long placeId, double previousRate, double rate);
+
+    void applySpotDeleted(Long placeId, double rate);
+}
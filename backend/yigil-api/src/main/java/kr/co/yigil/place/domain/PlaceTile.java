@@ -0,0 +1,102 @@
+package kr.co.yigil.place.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import kr.co.yigil.place.domain.PlaceCommand.Coordinate;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 웹 메르카토르 타일 좌표(zoom/x/y). 클러스터는 타일 단위로 계산하고 캐시한다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class PlaceTile {
+
+    public static final int MIN_ZOOM = 0;
+    public static final int MAX_ZOOM = 18;
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    private final int zoom;
+    private final int x;
+    private final int y;
+
+    public PlaceTile(int zoom, int x, int y) {
+        this.zoom = zoom;
+        this.x = x;
+        this.y = y;
+    }
+
+    public static PlaceTile of(double longitude, double latitude, int zoom) {
+        return new PlaceTile(zoom, tileX(longitude, zoom), tileY(latitude, zoom));
+    }
+
+    public static List<PlaceTile> covering(Coordinate minCoordinate, Coordinate maxCoordinate, int zoom) {
+        int minX = tileX(minCoordinate.getX(), zoom);
+        int maxX = tileX(maxCoordinate.getX(), zoom);
+        int minY = tileY(maxCoordinate.getY(), zoom);
+        int maxY = tileY(minCoordinate.getY(), zoom);
+
+        List<PlaceTile> tiles = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                tiles.add(new PlaceTile(zoom, x, y));
+            }
+        }
+        return tiles;
+    }
+
+    public static long countCovering(Coordinate minCoordinate, Coordinate maxCoordinate, int zoom) {
+        long width = tileX(maxCoordinate.getX(), zoom) - tileX(minCoordinate.getX(), zoom) + 1L;
+        long height = tileY(minCoordinate.getY(), zoom) - tileY(maxCoordinate.getY(), zoom) + 1L;
+        return width * height;
+    }
+
+    public String getKey() {
+        return zoom + "/" + x + "/" + y;
+    }
+
+    public double getMinLongitude() {
+        return longitude(x);
+    }
+
+    public double getMaxLongitude() {
+        return longitude(x + 1);
+    }
+
+    public double getMinLatitude() {
+        return latitude(y + 1);
+    }
+
+    public double getMaxLatitude() {
+        return latitude(y);
+    }
+
+    public boolean contains(double longitude, double latitude) {
+        return tileX(longitude, zoom) == x && tileY(latitude, zoom) == y;
+    }
+
+    private double longitude(int tileX) {
+        return tileX / (double) (1 << zoom) * 360.0 - 180.0;
+    }
+
+    private double latitude(int tileY) {
+        double n = Math.PI - 2.0 * Math.PI * tileY / (1 << zoom);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    private static int tileX(double longitude, int zoom) {
+        int tiles = 1 << zoom;
+        int x = (int) Math.floor((longitude + 180.0) / 360.0 * tiles);
+        return Math.max(0, Math.min(tiles - 1, x));
+    }
+
+    private static int tileY(double latitude, int zoom) {
+        int tiles = 1 << zoom;
+        double lat = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+        int y = (int) Math.floor((1.0 - Math.log(Math.tan(lat) + 1.0 / Math.cos(lat)) / Math.PI) / 2.0 * tiles);
+        return Math.max(0, Math.min(tiles - 1, y));
+    }
+}
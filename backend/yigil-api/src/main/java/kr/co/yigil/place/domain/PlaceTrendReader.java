@@ -0,0 +1,8 @@
+package kr.co.yigil.place.domain;
+
+import java.util.List;
+
+public interface PlaceTrendReader {
+
+    List<Long> getTrendingPlaceIds(int size);
+}
@@ -0,0 +1,10 @@
+package kr.co.yigil.place.domain;
+
+import java.util.Map;
+
+public interface PlaceTrendStore {
+
+    void record(Long placeId);
+
+    void recordAll(Map<Long, Integer> spotCounts);
+}
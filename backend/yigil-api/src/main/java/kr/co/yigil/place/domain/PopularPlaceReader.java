@@ -6,4 +6,6 @@ public interface PopularPlaceReader {
     List<Place> getPopularPlace();
 
     List<Place> getPopularPlaceMore();
+
+    long getVersion();
 }
@@ -0,0 +1,65 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.member.Ages;
+import kr.co.yigil.member.Gender;
+import kr.co.yigil.place.domain.DemographicPlaceRanking;
+import kr.co.yigil.place.domain.DemographicRankingIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * demographicPlaceJob이 발행한 버킷별 장소 id 목록을 메모리에 올려 둔다.
+ * 배치는 기존 행을 지우고 다시 넣으므로, 가장 큰 id가 바뀌었을 때만 전체를 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DemographicRankingIndexImpl implements DemographicRankingIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final DemographicPlaceRankingRepository demographicPlaceRankingRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(0L, new EnumMap<>(Ages.class));
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${place.demographic-ranking.refresh-delay:60000}",
+            fixedDelayString = "${place.demographic-ranking.refresh-delay:60000}")
+    public void refresh() {
+        long version = demographicPlaceRankingRepository.findMaxId();
+        if (version == snapshot.version) {
+            return;
+        }
+
+        Map<Ages, Map<Gender, long[]>> buckets = new EnumMap<>(Ages.class);
+        for (DemographicPlaceRanking ranking : demographicPlaceRankingRepository.findAll()) {
+            buckets.computeIfAbsent(ranking.getAges(), ages -> new EnumMap<>(Gender.class))
+                    .put(ranking.getGender(), ranking.getPlaceIdArray());
+        }
+        snapshot = new Snapshot(version, buckets);
+        log.info("demographic ranking index loaded. version={}, buckets={}", version,
+                buckets.values().stream().mapToInt(Map::size).sum());
+    }
+
+    @Override
+    public boolean isReady() {
+        return snapshot.version > 0;
+    }
+
+    @Override
+    public List<Long> getPlaceIds(Ages ages, Gender gender, int size) {
+        long[] placeIds = snapshot.buckets.getOrDefault(ages, Map.of()).getOrDefault(gender, EMPTY);
+        return Arrays.stream(placeIds).limit(size).boxed().toList();
+    }
+
+    private record Snapshot(long version, Map<Ages, Map<Gender, long[]>> buckets) {
+    }
+}
@@ -1,27 +1,47 @@
 package kr.co.yigil.place.infrastructure;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterReader;
+import kr.co.yigil.counter.domain.CounterValues;
 import kr.co.yigil.place.domain.PlaceCacheReader;
-import kr.co.yigil.travel.domain.spot.SpotReader;
+import kr.co.yigil.travel.domain.dto.PlaceSpotStatDto;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class PlaceCacheReaderImpl implements PlaceCacheReader {
 
-    private final SpotReader spotReader;
+    private final CounterReader counterReader;
 
     @Override
-    @Cacheable(value = "spotCount")
     public int getSpotCount(Long placeId) {
-        return spotReader.getSpotCountInPlace(placeId);
+        return counterReader.get(CounterGroup.PLACE, placeId).getInt(Counter.SPOT_COUNT);
     }
 
     @Override
-    @Cacheable(value = "spotTotalRate")
     public double getSpotTotalRate(Long placeId) {
-        return spotReader.getSpotTotalRateInPlace(placeId);
+        return counterReader.get(CounterGroup.PLACE, placeId).getDouble(Counter.SPOT_TOTAL_RATE);
     }
 
+    @Override
+    public PlaceSpotStatDto getSpotStat(Long placeId) {
+        CounterValues values = counterReader.get(CounterGroup.PLACE, placeId);
+        return new PlaceSpotStatDto(placeId, (long) values.getInt(Counter.SPOT_COUNT),
+                values.getDouble(Counter.SPOT_TOTAL_RATE));
+    }
+
+    @Override
+    public Map<Long, PlaceSpotStatDto> getSpotStats(List<Long> placeIds) {
+        Map<Long, PlaceSpotStatDto> stats = new HashMap<>();
+        counterReader.getAll(CounterGroup.PLACE, placeIds).forEach((placeId, values) ->
+                stats.put(placeId, new PlaceSpotStatDto(placeId,
+                        (long) values.getInt(Counter.SPOT_COUNT),
+                        values.getDouble(Counter.SPOT_TOTAL_RATE))));
+        return stats;
+    }
 }
@@ -1,42 +1,45 @@
 package kr.co.yigil.place.infrastructure;
 
-import kr.co.yigil.place.domain.PlaceCacheReader;
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterStore;
 import kr.co.yigil.place.domain.PlaceCacheStore;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class PlaceCacheStoreImpl implements PlaceCacheStore {
 
-    private final PlaceCacheReader placeCacheReader;
+    private final CounterStore counterStore;
 
     @Override
-    @CachePut(value = "spotCount")
-    public int incrementSpotCountInPlace(Long placeId) {
-        int spotCount = placeCacheReader.getSpotCount(placeId);
-        return ++spotCount;
+    public void incrementSpotCountInPlace(Long placeId) {
+        counterStore.increment(Counter.SPOT_COUNT, placeId, 1);
     }
 
     @Override
-    @CachePut(value = "spotCount")
-    public int decrementSpotCountInPlace(Long placeId) {
-        int spotCount = placeCacheReader.getSpotCount(placeId);
-        return --spotCount;
+    public void decrementSpotCountInPlace(Long placeId) {
+        counterStore.increment(Counter.SPOT_COUNT, placeId, -1);
     }
 
     @Override
-    @CachePut(value = "spotTotalRate", key = "#placeId")
-    public double incrementSpotTotalRateInPlace(Long placeId, double rate) {
-        double spotTotalRate = placeCacheReader.getSpotTotalRate(placeId);
-        return spotTotalRate + rate;
+    public void incrementSpotTotalRateInPlace(Long placeId, double rate) {
+        counterStore.increment(Counter.SPOT_TOTAL_RATE, placeId, rate);
     }
 
     @Override
-    @CachePut(value = "spotTotalRate", key = "#placeId")
-    public double decrementSpotTotalRateInPlace(Long placeId, double rate) {
-        double spotTotalRate = placeCacheReader.getSpotTotalRate(placeId);
-        return spotTotalRate - rate;
+    public void decrementSpotTotalRateInPlace(Long placeId, double rate) {
+        counterStore.increment(Counter.SPOT_TOTAL_RATE, placeId, -rate);
+    }
+
+    @Override
+    public void incrementSpotCountInPlaces(Map<Long, Integer> spotCounts) {
+        counterStore.incrementAll(Counter.SPOT_COUNT, spotCounts);
+    }
+
+    @Override
+    public void incrementSpotTotalRateInPlaces(Map<Long, Double> spotTotalRates) {
+        counterStore.incrementAll(Counter.SPOT_TOTAL_RATE, spotTotalRates);
     }
 }
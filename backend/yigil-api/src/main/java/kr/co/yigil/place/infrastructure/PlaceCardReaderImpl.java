@@ -0,0 +1,59 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import kr.co.yigil.bookmark.domain.BookmarkReader;
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceCacheReader;
+import kr.co.yigil.place.domain.PlaceCardReader;
+import kr.co.yigil.place.domain.PlaceInfo.Main;
+import kr.co.yigil.place.domain.PlaceRateCalculator;
+import kr.co.yigil.travel.domain.dto.PlaceSpotStatDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PlaceCardReaderImpl implements PlaceCardReader {
+
+    private final PlaceCacheReader placeCacheReader;
+    private final PlaceRateCalculator placeRateCalculator;
+    private final BookmarkReader bookmarkReader;
+
+    @Override
+    public List<Main> getPlaceCards(List<Place> places) {
+        Map<Long, PlaceSpotStatDto> stats = placeCacheReader.getSpotStats(getPlaceIds(places));
+        return places.stream()
+                .map(place -> {
+                    PlaceSpotStatDto stat = stats.get(place.getId());
+                    return new Main(place, stat.getSpotCount(), calculatePlaceRate(stat));
+                })
+                .toList();
+    }
+
+    @Override
+    public List<Main> getPlaceCards(List<Place> places, Long memberId) {
+        List<Long> placeIds = getPlaceIds(places);
+        Map<Long, PlaceSpotStatDto> stats = placeCacheReader.getSpotStats(placeIds);
+        Set<Long> bookmarkedPlaceIds = bookmarkReader.getBookmarkedPlaceIds(memberId, placeIds);
+        return places.stream()
+                .map(place -> {
+                    PlaceSpotStatDto stat = stats.get(place.getId());
+                    return new Main(place, stat.getSpotCount(),
+                            bookmarkedPlaceIds.contains(place.getId()), calculatePlaceRate(stat));
+                })
+                .toList();
+    }
+
+    private List<Long> getPlaceIds(List<Place> places) {
+        return places.stream()
+                .map(Place::getId)
+                .distinct()
+                .toList();
+    }
+
+    private double calculatePlaceRate(PlaceSpotStatDto stat) {
+        return placeRateCalculator.calculatePlaceRate(stat.getSpotCount(), stat.getSpotTotalRate());
+    }
+}
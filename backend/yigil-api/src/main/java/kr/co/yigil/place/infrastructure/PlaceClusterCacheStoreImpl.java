@@ -0,0 +1,50 @@
+package kr.co.yigil.place.infrastructure;
+
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceClusterCacheStore;
+import kr.co.yigil.place.domain.PlaceTile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class PlaceClusterCacheStoreImpl implements PlaceClusterCacheStore {
+
+    static final String CACHE_NAME = "placeClusters";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 새 장소가 속한 모든 줌 레벨의 타일을 지운다. 트랜잭션 안에서는 커밋 이후에 지워 다른 요청이
+     * 커밋 전 상태로 캐시를 다시 채우지 않도록 한다.
+     */
+    @Override
+    public void evictTiles(Place place) {
+        double longitude = place.getLocation().getX();
+        double latitude = place.getLocation().getY();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(longitude, latitude);
+                }
+            });
+            return;
+        }
+        evict(longitude, latitude);
+    }
+
+    private void evict(double longitude, double latitude) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        for (int zoom = PlaceTile.MIN_ZOOM; zoom <= PlaceTile.MAX_ZOOM; zoom++) {
+            cache.evict(PlaceTile.of(longitude, latitude, zoom).getKey());
+        }
+    }
+}
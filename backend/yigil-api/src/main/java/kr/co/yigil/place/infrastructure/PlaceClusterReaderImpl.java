@@ -0,0 +1,71 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.place.domain.PlaceClusterReader;
+import kr.co.yigil.place.domain.PlaceCommand.Coordinate;
+import kr.co.yigil.place.domain.PlaceInfo.Cluster;
+import kr.co.yigil.place.domain.PlaceInfo.NearPlace;
+import kr.co.yigil.place.domain.PlaceReader;
+import kr.co.yigil.place.domain.PlaceTile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 타일을 8x8 격자(zoom + 3 타일)로 나누고 칸마다 장소를 모아 클러스터를 만든다.
+ * 대표 장소는 칸 안에서 가장 최근에 등록된 장소다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceClusterReaderImpl implements PlaceClusterReader {
+
+    static final int CELL_ZOOM_OFFSET = 3;
+
+    private final PlaceReader placeReader;
+
+    @Override
+    @Cacheable(value = "placeClusters", key = "#tile.key")
+    public List<Cluster> getClusters(PlaceTile tile) {
+        Coordinate minCoordinate = Coordinate.builder()
+                .x(tile.getMinLongitude()).y(tile.getMinLatitude()).build();
+        Coordinate maxCoordinate = Coordinate.builder()
+                .x(tile.getMaxLongitude()).y(tile.getMaxLatitude()).build();
+
+        Map<PlaceTile, CellAccumulator> cells = new LinkedHashMap<>();
+        for (NearPlace place : placeReader.getPlacesWithin(minCoordinate, maxCoordinate)) {
+            if (!tile.contains(place.getX(), place.getY())) {
+                continue;
+            }
+            PlaceTile cell = PlaceTile.of(place.getX(), place.getY(), tile.getZoom() + CELL_ZOOM_OFFSET);
+            cells.computeIfAbsent(cell, key -> new CellAccumulator()).add(place);
+        }
+
+        List<Cluster> clusters = new ArrayList<>(cells.size());
+        cells.values().forEach(cell -> clusters.add(cell.toCluster()));
+        return clusters;
+    }
+
+    private static class CellAccumulator {
+
+        private double sumX;
+        private double sumY;
+        private int count;
+        private Long representativePlaceId;
+
+        void add(NearPlace place) {
+            sumX += place.getX();
+            sumY += place.getY();
+            count++;
+            if (representativePlaceId == null || place.getId() > representativePlaceId) {
+                representativePlaceId = place.getId();
+            }
+        }
+
+        Cluster toCluster() {
+            return new Cluster(sumX / count, sumY / count, count, representativePlaceId);
+        }
+    }
+}
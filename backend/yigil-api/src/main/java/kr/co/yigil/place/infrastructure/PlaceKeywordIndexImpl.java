@@ -0,0 +1,229 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceKeywordIndex;
+import kr.co.yigil.place.domain.dto.PlaceKeywordDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 장소 이름 자동완성 인덱스. 이름마다 자모 분해 키와 초성 키를 정렬된 배열로 두고 접두어 범위를 이분 탐색한다.
+ * 범위가 넓은 짧은 접두어는 스팟 수 기준 상위 결과를 미리 계산해 둔다.
+ * 새 장소는 다음 재빌드 전까지 pending에서 선형으로 찾는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceKeywordIndexImpl implements PlaceKeywordIndex {
+
+    static final int LOAD_CHUNK_SIZE = 10_000;
+    static final int TOP_K = 10;
+    static final int SHORT_PREFIX_LENGTH = 3;
+
+    private final PlaceRepository placeRepository;
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${place.keyword-index.rebuild-delay:1800000}",
+            fixedDelayString = "${place.keyword-index.rebuild-delay:1800000}")
+    public void rebuild() {
+        Map<String, Integer> spotCounts = new HashMap<>();
+        long lastId = 0L;
+        List<PlaceKeywordDto> chunk;
+        do {
+            chunk = placeRepository.findPlaceKeywordsAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            chunk.forEach(keyword -> spotCounts.merge(keyword.getName(), keyword.getSpotCount(), Integer::sum));
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        snapshot = Snapshot.of(spotCounts);
+        pending.removeIf(spotCounts::containsKey);
+        log.info("place keyword index built. size={}", spotCounts.size());
+    }
+
+    @Override
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 초성만 입력되면 초성 키로, 그 외에는 자모 분해 키로 접두어를 찾는다. 결과는 스팟 수 내림차순이다.
+     */
+    @Override
+    public List<String> search(String keyword, int limit) {
+        if (keyword == null || HangulJamo.normalize(keyword).isEmpty()) {
+            return List.of();
+        }
+        boolean choseongOnly = HangulJamo.isChoseongOnly(keyword);
+        Function<String, String> toKey = choseongOnly ? HangulJamo::choseong : HangulJamo::decompose;
+        String prefix = toKey.apply(keyword);
+
+        Snapshot current = snapshot;
+        PrefixTable table = choseongOnly ? current.choseong : current.jamo;
+        Set<String> result = new LinkedHashSet<>();
+        for (int ref : table.search(prefix, limit)) {
+            result.add(current.names[ref]);
+        }
+        List<String> pendingMatches = pending.stream()
+                .filter(name -> toKey.apply(name).startsWith(prefix))
+                .sorted()
+                .toList();
+        for (String name : pendingMatches) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(name);
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영해 롤백된 장소 이름이 추천되지 않도록 한다.
+     */
+    @Override
+    public void add(Place place) {
+        String name = place.getName();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.add(name);
+                }
+            });
+            return;
+        }
+        pending.add(name);
+    }
+
+    private static class Snapshot {
+
+        private final String[] names;
+        private final PrefixTable jamo;
+        private final PrefixTable choseong;
+
+        private Snapshot(String[] names, PrefixTable jamo, PrefixTable choseong) {
+            this.names = names;
+            this.jamo = jamo;
+            this.choseong = choseong;
+        }
+
+        static Snapshot of(Map<String, Integer> spotCountsByName) {
+            String[] names = spotCountsByName.keySet().toArray(String[]::new);
+            int[] spotCounts = new int[names.length];
+            String[] jamoKeys = new String[names.length];
+            String[] choseongKeys = new String[names.length];
+            for (int i = 0; i < names.length; i++) {
+                spotCounts[i] = spotCountsByName.get(names[i]);
+                jamoKeys[i] = HangulJamo.decompose(names[i]);
+                choseongKeys[i] = HangulJamo.choseong(names[i]);
+            }
+
+            Integer[] ranked = new Integer[names.length];
+            Arrays.setAll(ranked, i -> i);
+            Arrays.sort(ranked, Comparator.<Integer>comparingInt(i -> -spotCounts[i]).thenComparing(i -> names[i]));
+            int[] rank = new int[names.length];
+            for (int i = 0; i < ranked.length; i++) {
+                rank[ranked[i]] = i;
+            }
+
+            return new Snapshot(names, PrefixTable.of(jamoKeys, ranked, rank),
+                    PrefixTable.of(choseongKeys, ranked, rank));
+        }
+    }
+
+    private static class PrefixTable {
+
+        private final String[] keys;
+        private final int[] refs;
+        private final int[] rank;
+        private final Map<String, int[]> topByShortPrefix;
+
+        private PrefixTable(String[] keys, int[] refs, int[] rank, Map<String, int[]> topByShortPrefix) {
+            this.keys = keys;
+            this.refs = refs;
+            this.rank = rank;
+            this.topByShortPrefix = topByShortPrefix;
+        }
+
+        static PrefixTable of(String[] keysByRef, Integer[] ranked, int[] rank) {
+            Integer[] order = new Integer[keysByRef.length];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, Comparator.comparing((Integer i) -> keysByRef[i]));
+
+            String[] keys = new String[order.length];
+            int[] refs = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                keys[i] = keysByRef[order[i]];
+                refs[i] = order[i];
+            }
+
+            Map<String, List<Integer>> top = new HashMap<>();
+            for (int ref : ranked) {
+                String key = keysByRef[ref];
+                for (int length = 1; length <= Math.min(SHORT_PREFIX_LENGTH, key.length()); length++) {
+                    List<Integer> list = top.computeIfAbsent(key.substring(0, length), prefix -> new ArrayList<>());
+                    if (list.size() < TOP_K) {
+                        list.add(ref);
+                    }
+                }
+            }
+            Map<String, int[]> topByShortPrefix = new HashMap<>(top.size());
+            top.forEach((prefix, list) -> topByShortPrefix.put(prefix,
+                    list.stream().mapToInt(Integer::intValue).toArray()));
+
+            return new PrefixTable(keys, refs, rank, topByShortPrefix);
+        }
+
+        int[] search(String prefix, int limit) {
+            if (prefix.length() <= SHORT_PREFIX_LENGTH && limit <= TOP_K) {
+                int[] top = topByShortPrefix.getOrDefault(prefix, new int[0]);
+                return Arrays.copyOf(top, Math.min(limit, top.length));
+            }
+
+            List<Integer> matched = new ArrayList<>();
+            for (int i = lowerBound(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+                matched.add(refs[i]);
+            }
+            return matched.stream()
+                    .sorted(Comparator.comparingInt(ref -> rank[ref]))
+                    .limit(limit)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
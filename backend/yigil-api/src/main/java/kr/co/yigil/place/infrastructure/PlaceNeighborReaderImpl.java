@@ -0,0 +1,21 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.util.List;
+import kr.co.yigil.place.domain.PlaceNeighbor;
+import kr.co.yigil.place.domain.PlaceNeighborReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PlaceNeighborReaderImpl implements PlaceNeighborReader {
+
+    private final PlaceNeighborRepository placeNeighborRepository;
+
+    @Override
+    public List<Long> getNeighborPlaceIds(Long placeId) {
+        return placeNeighborRepository.findByPlaceIdOrderByRankingAsc(placeId).stream()
+                .map(PlaceNeighbor::getNeighborPlaceId)
+                .toList();
+    }
+}
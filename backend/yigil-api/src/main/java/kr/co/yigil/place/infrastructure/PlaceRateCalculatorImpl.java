@@ -2,6 +2,8 @@ package kr.co.yigil.place.infrastructure;
 
 import kr.co.yigil.place.domain.PlaceCacheReader;
 import kr.co.yigil.place.domain.PlaceRateCalculator;
+import kr.co.yigil.place.domain.PlaceStats;
+import kr.co.yigil.travel.domain.dto.PlaceSpotStatDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -12,9 +14,13 @@ public class PlaceRateCalculatorImpl implements PlaceRateCalculator {
 
     @Override
     public double calculatePlaceRate(Long placeId) {
-        int spotCount = placeCacheReader.getSpotCount(placeId);
-        double spotTotalRate = placeCacheReader.getSpotTotalRate(placeId);
-        return Math.round((spotTotalRate / spotCount) * 10.0) / 10.0;
+        PlaceSpotStatDto stat = placeCacheReader.getSpotStat(placeId);
+        return calculatePlaceRate(stat.getSpotCount(), stat.getSpotTotalRate());
+    }
+
+    @Override
+    public double calculatePlaceRate(int spotCount, double spotTotalRate) {
+        return PlaceStats.calculateAverage(spotCount, spotTotalRate);
     }
 
 }
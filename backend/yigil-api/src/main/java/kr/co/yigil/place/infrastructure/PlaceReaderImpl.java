@@ -3,21 +3,32 @@ package kr.co.yigil.place.infrastructure;
 import static kr.co.yigil.global.exception.ExceptionCode.NOT_FOUND_PLACE_ID;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.member.Ages;
 import kr.co.yigil.member.Gender;
 import kr.co.yigil.place.domain.DemographicPlace;
+import kr.co.yigil.place.domain.DemographicRankingIndex;
 import kr.co.yigil.place.domain.Place;
 import kr.co.yigil.place.domain.PlaceCacheReader;
 import kr.co.yigil.place.domain.PlaceCommand.Coordinate;
 import kr.co.yigil.place.domain.PlaceCommand.NearPlaceRequest;
+import kr.co.yigil.place.domain.PlaceCommand.SearchCursor;
+import kr.co.yigil.place.domain.PlaceInfo.NearPlace;
+import kr.co.yigil.place.domain.PlaceInfo.SearchHit;
+import kr.co.yigil.place.domain.PlaceKeywordIndex;
 import kr.co.yigil.place.domain.PlaceReader;
+import kr.co.yigil.place.domain.PlaceSearchIndex;
+import kr.co.yigil.place.domain.PlaceSpatialIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
@@ -25,9 +36,17 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class PlaceReaderImpl implements PlaceReader {
 
+    private static final int KEYWORD_LIMIT = 10;
+    private static final int DEMOGRAPHIC_PLACE_SIZE = 5;
+    private static final int DEMOGRAPHIC_PLACE_MORE_SIZE = 20;
+
     private final PlaceRepository placeRepository;
     private final DemographicPlaceRepository demographicPlaceRepository;
+    private final DemographicRankingIndex demographicRankingIndex;
     private final PlaceCacheReader placeCacheReader;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceKeywordIndex placeKeywordIndex;
+    private final PlaceSearchIndex placeSearchIndex;
 
     @Override
     public Optional<Place> findPlaceByNameAndAddress(String placeName, String placeAddress) {
@@ -56,38 +75,113 @@ public class PlaceReaderImpl implements PlaceReader {
     }
 
     @Override
-    public Page<Place> getNearPlace(NearPlaceRequest command) {
+    public Page<NearPlace> getNearPlace(NearPlaceRequest command) {
         Coordinate maxCoordinate = command.getMaxCoordinate();
         Coordinate minCoordinate = command.getMinCoordinate();
         PageRequest pageRequest = PageRequest.of(command.getPageNo() - 1, 5, Sort.by("id").descending());
+        if (placeSpatialIndex.isReady()) {
+            return placeSpatialIndex.search(minCoordinate, maxCoordinate, pageRequest);
+        }
         return placeRepository.findWithinCoordinates(
                 minCoordinate.getX(), minCoordinate.getY(),
                 maxCoordinate.getX(), maxCoordinate.getY(),
                 pageRequest
-        );
+        ).map(NearPlace::new);
+    }
+
+    @Override
+    public List<NearPlace> getPlacesWithin(Coordinate minCoordinate, Coordinate maxCoordinate) {
+        if (placeSpatialIndex.isReady()) {
+            return placeSpatialIndex.findAllWithin(minCoordinate, maxCoordinate);
+        }
+        return placeRepository.findWithinCoordinates(
+                minCoordinate.getX(), minCoordinate.getY(),
+                maxCoordinate.getX(), maxCoordinate.getY()
+        ).stream().map(NearPlace::new).toList();
     }
 
     @Override
     public List<String> getPlaceKeywords(String keyword) {
+        if (placeKeywordIndex.isReady()) {
+            return placeKeywordIndex.search(keyword, KEYWORD_LIMIT);
+        }
         return placeRepository.findTop10ByNameStartingWith(keyword)
                 .stream().map(Place::getName).toList();
     }
 
+    /**
+     * 버킷 목록이 발행되기 전에는 demographic_place에서 직접 찾는다.
+     */
     @Override
     public List<Place> getPopularPlaceByDemographics(Ages ages, Gender gender) {
+        if (demographicRankingIndex.isReady()) {
+            return getPlaces(demographicRankingIndex.getPlaceIds(ages, gender, DEMOGRAPHIC_PLACE_SIZE));
+        }
         return demographicPlaceRepository.findTop5ByAgesAndGenderOrderByReferenceCountDesc(ages, gender)
                 .stream().map(DemographicPlace::getPlace).toList();
     }
 
     @Override
     public List<Place> getPopularPlaceByDemographicsMore(Ages ages, Gender gender) {
+        if (demographicRankingIndex.isReady()) {
+            return getPlaces(demographicRankingIndex.getPlaceIds(ages, gender, DEMOGRAPHIC_PLACE_MORE_SIZE));
+        }
         return demographicPlaceRepository.findTop20ByAgesAndGenderOrderByReferenceCountDesc(ages, gender)
                 .stream().map(DemographicPlace::getPlace).toList();
     }
 
+    /**
+     * 검색 인덱스로 일치하는 장소 id를 모두 찾고, 정렬과 페이지는 id 배열 안에서 DB가 처리한다.
+     * 일치하는 장소 수와 상관없이 인덱스의 정규화(공백 제거, 소문자)로 고른 같은 결과를 돌려준다.
+     */
     @Override
     public Slice<Place> getPlacesByKeyword(String keyword, Pageable pageable) {
-        return placeRepository.findByNameOrAddressContainingIgnoreCase(keyword, pageable);
+        if (!placeSearchIndex.isReady() || keyword == null) {
+            return placeRepository.findByNameOrAddressContainingIgnoreCase(keyword, pageable);
+        }
+        List<Long> placeIds = placeSearchIndex.searchIds(keyword, Integer.MAX_VALUE);
+        if (placeIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        String ids = placeIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",", "{", "}"));
+        return placeRepository.findByIdInArray(ids, toColumnSort(pageable));
+    }
+
+    /**
+     * native 쿼리는 엔티티 속성 대신 컬럼 이름으로 정렬해야 하므로 camelCase 속성을 snake_case로 바꾼다.
+     */
+    private static Pageable toColumnSort(Pageable pageable) {
+        Sort sort = Sort.by(pageable.getSort().stream()
+                .map(order -> order.withProperty(
+                        order.getProperty().replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase()))
+                .toList());
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    /**
+     * 검색 인덱스가 준비되기 전에는 관련도 없이(score 0) id 내림차순으로 DB에서 찾는다.
+     */
+    @Override
+    public List<SearchHit> searchPlaces(String keyword, SearchCursor cursor, int size) {
+        if (placeSearchIndex.isReady()) {
+            return placeSearchIndex.search(keyword, cursor, size);
+        }
+        Long lastId = cursor == null ? Long.MAX_VALUE : cursor.getPlaceId();
+        return placeRepository.findByNameOrAddressContainingIgnoreCaseAndIdLessThan(keyword, lastId,
+                        PageRequest.of(0, size))
+                .stream().map(place -> new SearchHit(place.getId(), 0)).toList();
+    }
+
+    @Override
+    public List<Place> getPlaces(List<Long> placeIds) {
+        Map<Long, Place> placesById = placeRepository.findAllById(placeIds).stream()
+                .collect(Collectors.toMap(Place::getId, Function.identity()));
+        return placeIds.stream()
+                .filter(placesById::containsKey)
+                .map(placesById::get)
+                .toList();
     }
 
 }
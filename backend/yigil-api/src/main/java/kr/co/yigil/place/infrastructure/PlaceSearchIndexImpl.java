@@ -0,0 +1,310 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceCommand.SearchCursor;
+import kr.co.yigil.place.domain.PlaceInfo.SearchHit;
+import kr.co.yigil.place.domain.PlaceSearchIndex;
+import kr.co.yigil.place.domain.dto.PlaceSearchDocumentDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 장소 이름과 주소의 2-gram 역색인. 검색어의 모든 2-gram이 들어있는 문서를 교집합으로 추린 뒤 실제 포함 여부를 확인한다.
+ * 점수는 이름 접두어 일치(3) > 이름 포함(2) > 주소 포함(1)이며, 같은 점수는 최신 장소(id 내림차순)가 먼저 온다.
+ * 한 글자 검색어는 같은 posting 맵에 함께 넣은 1-gram으로 후보를 추린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceSearchIndexImpl implements PlaceSearchIndex {
+
+    static final int LOAD_CHUNK_SIZE = 10_000;
+    static final int NAME_PREFIX_SCORE = 3;
+    static final int NAME_SCORE = 2;
+    static final int ADDRESS_SCORE = 1;
+
+    private static final Comparator<SearchHit> RANKING = Comparator.comparingInt(SearchHit::getScore)
+            .thenComparingLong(SearchHit::getPlaceId)
+            .reversed();
+
+    private final PlaceRepository placeRepository;
+
+    private final Map<Long, Document> pending = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${place.search-index.rebuild-delay:3600000}",
+            fixedDelayString = "${place.search-index.rebuild-delay:3600000}")
+    public void rebuild() {
+        List<Document> documents = new ArrayList<>();
+        long lastId = 0L;
+        List<PlaceSearchDocumentDto> chunk;
+        do {
+            chunk = placeRepository.findPlaceSearchDocumentsAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            chunk.forEach(dto -> documents.add(Document.of(dto.getId(), dto.getName(), dto.getAddress())));
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        Snapshot built = Snapshot.of(documents);
+        snapshot = built;
+        long maxId = lastId;
+        pending.keySet().removeIf(id -> id <= maxId);
+        log.info("place search index built. documents={}, grams={}", documents.size(), built.postings.size());
+    }
+
+    @Override
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    @Override
+    public List<SearchHit> search(String keyword, SearchCursor cursor, int size) {
+        String query = HangulJamo.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(size + 1, RANKING.reversed());
+        for (Document document : candidates(query)) {
+            int score = document.score(query);
+            if (score == 0) {
+                continue;
+            }
+            SearchHit hit = new SearchHit(document.id, score);
+            if (cursor != null && !isAfter(hit, cursor)) {
+                continue;
+            }
+            top.offer(hit);
+            if (top.size() > size) {
+                top.poll();
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    /**
+     * 이름이나 주소에 검색어가 들어있는 장소 id를 관련도 순으로 반환한다.
+     */
+    @Override
+    public List<Long> searchIds(String keyword, int limit) {
+        return matchIds(keyword, ADDRESS_SCORE, limit);
+    }
+
+    /**
+     * 이름에 검색어가 들어있는 장소 id를 관련도 순으로 반환한다.
+     */
+    @Override
+    public List<Long> searchIdsByName(String keyword, int limit) {
+        return matchIds(keyword, NAME_SCORE, limit);
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영해 롤백된 장소가 검색되지 않도록 한다.
+     */
+    @Override
+    public void add(Place place) {
+        Document document = Document.of(place.getId(), place.getName(), place.getAddress());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.put(document.id, document);
+                }
+            });
+            return;
+        }
+        pending.put(document.id, document);
+    }
+
+    private List<Long> matchIds(String keyword, int minScore, int limit) {
+        String query = HangulJamo.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        return candidates(query).stream()
+                .map(document -> new SearchHit(document.id, document.score(query)))
+                .filter(hit -> hit.getScore() >= minScore)
+                .sorted(RANKING)
+                .limit(limit)
+                .map(SearchHit::getPlaceId)
+                .toList();
+    }
+
+    private List<Document> candidates(String query) {
+        Snapshot current = snapshot;
+        Set<Document> candidates = new LinkedHashSet<>(pending.values());
+        Set<String> grams = query.length() < 2 ? Set.of(query) : bigrams(query);
+        for (int index : current.intersect(grams)) {
+            candidates.add(current.documents[index]);
+        }
+        return new ArrayList<>(candidates);
+    }
+
+    private static boolean isAfter(SearchHit hit, SearchCursor cursor) {
+        return hit.getScore() < cursor.getScore()
+                || (hit.getScore() == cursor.getScore() && hit.getPlaceId() < cursor.getPlaceId());
+    }
+
+    /**
+     * 색인할 때는 한 글자 검색어를 위해 1-gram도 함께 넣는다. 길이가 달라 2-gram 키와 겹치지 않는다.
+     */
+    private static Set<String> grams(String text) {
+        Set<String> grams = bigrams(text);
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+        }
+        return grams;
+    }
+
+    private static Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static class Document {
+
+        private final long id;
+        private final String name;
+        private final String address;
+
+        private Document(long id, String name, String address) {
+            this.id = id;
+            this.name = name;
+            this.address = address;
+        }
+
+        static Document of(Long id, String name, String address) {
+            return new Document(id, HangulJamo.normalize(name == null ? "" : name),
+                    HangulJamo.normalize(address == null ? "" : address));
+        }
+
+        int score(String query) {
+            if (name.startsWith(query)) {
+                return NAME_PREFIX_SCORE;
+            }
+            if (name.contains(query)) {
+                return NAME_SCORE;
+            }
+            return address.contains(query) ? ADDRESS_SCORE : 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Document other && id == other.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(id);
+        }
+    }
+
+    private static class Snapshot {
+
+        private final Document[] documents;
+        private final Map<String, int[]> postings;
+
+        private Snapshot(Document[] documents, Map<String, int[]> postings) {
+            this.documents = documents;
+            this.postings = postings;
+        }
+
+        static Snapshot of(List<Document> documentList) {
+            Document[] documents = documentList.toArray(Document[]::new);
+            Map<String, IntList> builders = new HashMap<>();
+            for (int i = 0; i < documents.length; i++) {
+                Set<String> grams = grams(documents[i].name);
+                grams.addAll(grams(documents[i].address));
+                for (String gram : grams) {
+                    builders.computeIfAbsent(gram, key -> new IntList()).add(i);
+                }
+            }
+            Map<String, int[]> postings = new HashMap<>(builders.size());
+            builders.forEach((gram, list) -> postings.put(gram, list.toArray()));
+            return new Snapshot(documents, postings);
+        }
+
+        /**
+         * 짧은 posting부터 교집합을 구한다. posting은 문서 번호 오름차순이다.
+         */
+        int[] intersect(Set<String> grams) {
+            List<int[]> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                int[] posting = postings.get(gram);
+                if (posting == null) {
+                    return new int[0];
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(posting -> posting.length));
+
+            int[] result = lists.get(0);
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = intersect(result, lists.get(i));
+            }
+            return result;
+        }
+
+        private static int[] intersect(int[] left, int[] right) {
+            int[] result = new int[Math.min(left.length, right.length)];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            while (i < left.length && j < right.length) {
+                if (left[i] == right[j]) {
+                    result[size++] = left[i];
+                    i++;
+                    j++;
+                } else if (left[i] < right[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+    }
+
+    private static class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceCommand.Coordinate;
+import kr.co.yigil.place.domain.PlaceInfo.NearPlace;
+import kr.co.yigil.place.domain.PlaceSpatialIndex;
+import kr.co.yigil.place.domain.dto.PlaceLocationDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 지도 화면의 장소 조회를 DB 대신 메모리의 STRtree로 처리한다.
+ * STRtree는 한 번 빌드하면 수정할 수 없으므로 이후 추가된 장소는 pending에 모아두고 일정 개수가 쌓이면 트리를 다시 만든다.
+ * 다른 서버에서 저장된 장소는 주기적으로 latestUploadedTime 워터마크 이후의 장소를 읽어와 반영한다. id 순서와 커밋 순서가
+ * 다를 수 있으므로 워터마크에서 REFRESH_OVERLAP만큼 앞부터 다시 읽고, 이미 같은 위치로 들어있는 장소는 건너뛴다.
+ * pending에 있는 장소는 트리의 같은 id보다 우선한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceSpatialIndexImpl implements PlaceSpatialIndex {
+
+    static final int LOAD_CHUNK_SIZE = 10_000;
+    static final int REBUILD_THRESHOLD = 500;
+    static final Duration REFRESH_OVERLAP = Duration.ofMinutes(5);
+
+    private final PlaceRepository placeRepository;
+
+    private final Map<Long, NearPlace> pending = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot;
+    private volatile LocalDateTime watermark;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<NearPlace> places = new ArrayList<>();
+        LocalDateTime loadedWatermark = LocalDateTime.now();
+        long lastId = 0L;
+        List<PlaceLocationDto> chunk;
+        do {
+            chunk = placeRepository.findPlaceLocationsAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            chunk.forEach(location -> places.add(toNearPlace(location)));
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        synchronized (this) {
+            snapshot = Snapshot.of(places);
+            watermark = loadedWatermark;
+        }
+        log.info("place spatial index loaded. size={}", places.size());
+    }
+
+    @Scheduled(fixedDelayString = "${place.spatial-index.refresh-delay:60000}")
+    public void refresh() {
+        Snapshot current = snapshot;
+        LocalDateTime since = watermark;
+        if (current == null || since == null) {
+            return;
+        }
+        LocalDateTime next = since;
+        int page = 0;
+        List<PlaceLocationDto> chunk;
+        do {
+            chunk = placeRepository.findPlaceLocationsUploadedSince(since.minus(REFRESH_OVERLAP),
+                    PageRequest.of(page++, LOAD_CHUNK_SIZE));
+            for (PlaceLocationDto location : chunk) {
+                NearPlace place = toNearPlace(location);
+                if (!isIndexed(current, place)) {
+                    pending.put(place.getId(), place);
+                }
+                if (location.getLatestUploadedTime() != null && location.getLatestUploadedTime().isAfter(next)) {
+                    next = location.getLatestUploadedTime();
+                }
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+        watermark = next;
+        if (pending.size() >= REBUILD_THRESHOLD) {
+            rebuild();
+        }
+    }
+
+    private boolean isIndexed(Snapshot current, NearPlace place) {
+        NearPlace indexed = pending.getOrDefault(place.getId(), current.byId.get(place.getId()));
+        return indexed != null && indexed.getX() == place.getX() && indexed.getY() == place.getY()
+                && Objects.equals(indexed.getName(), place.getName());
+    }
+
+    @Override
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * ST_Within과 같이 경계 위의 점은 제외하며, 기존 쿼리와 동일하게 id 내림차순으로 정렬한다.
+     * 낮은 줌에서는 영역 안의 장소가 많으므로 전체를 정렬하지 않고 offset + size개만 힙에 남긴다.
+     */
+    @Override
+    public Page<NearPlace> search(Coordinate minCoordinate, Coordinate maxCoordinate, Pageable pageable) {
+        Envelope envelope = new Envelope(minCoordinate.getX(), maxCoordinate.getX(),
+                minCoordinate.getY(), maxCoordinate.getY());
+
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        PriorityQueue<NearPlace> top = new PriorityQueue<>(Comparator.comparing(NearPlace::getId));
+        long[] total = {0L};
+        query(envelope, place -> isWithin(envelope, place), place -> {
+            total[0]++;
+            if (top.size() < limit) {
+                top.add(place);
+            } else if (limit > 0 && place.getId() > top.peek().getId()) {
+                top.poll();
+                top.add(place);
+            }
+        });
+
+        List<NearPlace> sorted = new ArrayList<>(top);
+        sorted.sort(Comparator.comparing(NearPlace::getId).reversed());
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        return new PageImpl<>(sorted.subList(from, sorted.size()), pageable, total[0]);
+    }
+
+    /**
+     * 경계 위의 점도 포함한다. 순서는 보장하지 않는다.
+     */
+    @Override
+    public List<NearPlace> findAllWithin(Coordinate minCoordinate, Coordinate maxCoordinate) {
+        Envelope envelope = new Envelope(minCoordinate.getX(), maxCoordinate.getX(),
+                minCoordinate.getY(), maxCoordinate.getY());
+
+        List<NearPlace> matched = new ArrayList<>();
+        query(envelope, place -> envelope.covers(place.getX(), place.getY()), matched::add);
+        return matched;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영해 롤백된 장소가 지도에 노출되지 않도록 한다.
+     */
+    @Override
+    public void add(Place place) {
+        NearPlace nearPlace = new NearPlace(place);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addPending(nearPlace);
+                }
+            });
+            return;
+        }
+        addPending(nearPlace);
+    }
+
+    private void addPending(NearPlace place) {
+        pending.put(place.getId(), place);
+        if (snapshot != null && pending.size() >= REBUILD_THRESHOLD) {
+            rebuild();
+        }
+    }
+
+    private synchronized void rebuild() {
+        Snapshot current = snapshot;
+        if (current == null || pending.isEmpty()) {
+            return;
+        }
+        List<NearPlace> added = new ArrayList<>(pending.values());
+        Set<Long> addedIds = added.stream().map(NearPlace::getId).collect(Collectors.toSet());
+        List<NearPlace> places = new ArrayList<>(current.places.size() + added.size());
+        current.places.stream()
+                .filter(place -> !addedIds.contains(place.getId()))
+                .forEach(places::add);
+        places.addAll(added);
+
+        snapshot = Snapshot.of(places);
+        added.forEach(place -> pending.remove(place.getId(), place));
+    }
+
+    /**
+     * pending에도 있는 id는 트리 쪽을 건너뛰어, 같은 장소가 두 번 나오거나 옮기기 전 위치로 나오지 않게 한다.
+     */
+    private void query(Envelope envelope, Predicate<NearPlace> filter, Consumer<NearPlace> consumer) {
+        Map<Long, NearPlace> pendingPlaces = new HashMap<>(pending);
+        snapshot.tree.query(envelope, item -> {
+            NearPlace place = (NearPlace) item;
+            if (!pendingPlaces.containsKey(place.getId()) && filter.test(place)) {
+                consumer.accept(place);
+            }
+        });
+        pendingPlaces.values().stream()
+                .filter(filter)
+                .forEach(consumer);
+    }
+
+    private static boolean isWithin(Envelope envelope, NearPlace place) {
+        return place.getX() > envelope.getMinX() && place.getX() < envelope.getMaxX()
+                && place.getY() > envelope.getMinY() && place.getY() < envelope.getMaxY();
+    }
+
+    private static NearPlace toNearPlace(PlaceLocationDto location) {
+        return new NearPlace(location.getId(), location.getName(), location.getX(), location.getY());
+    }
+
+    private static class Snapshot {
+
+        private final STRtree tree;
+        private final List<NearPlace> places;
+        private final Map<Long, NearPlace> byId;
+
+        private Snapshot(STRtree tree, List<NearPlace> places, Map<Long, NearPlace> byId) {
+            this.tree = tree;
+            this.places = places;
+            this.byId = byId;
+        }
+
+        static Snapshot of(List<NearPlace> places) {
+            STRtree tree = new STRtree();
+            Map<Long, NearPlace> byId = new HashMap<>(places.size() * 2);
+            places.forEach(place -> {
+                tree.insert(new Envelope(place.getX(), place.getX(), place.getY(), place.getY()), place);
+                byId.put(place.getId(), place);
+            });
+            tree.build();
+            return new Snapshot(tree, places, byId);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.util.List;
+import kr.co.yigil.place.domain.PlaceStats;
+import kr.co.yigil.place.domain.PlaceStatsReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PlaceStatsReaderImpl implements PlaceStatsReader {
+
+    private final PlaceStatsRepository placeStatsRepository;
+
+    @Override
+    public List<PlaceStats> getPlaceStats(List<Long> placeIds) {
+        return placeStatsRepository.findByPlaceIdIn(placeIds);
+    }
+}
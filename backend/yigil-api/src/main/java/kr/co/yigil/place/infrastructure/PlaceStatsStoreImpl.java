@@ -0,0 +1,72 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import kr.co.yigil.place.domain.PlaceCacheStore;
+import kr.co.yigil.place.domain.PlaceStatsStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * place_stats 테이블은 호출한 트랜잭션 안에서 갱신하고, 카운터 캐시는 커밋 이후에 같은 증감을 반영한다.
+ * 행이 있으면 증감만 하고, 아직 행이 없는 장소만 스팟을 집계해 만들므로 스팟을 저장하거나 지운 뒤에 호출해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceStatsStoreImpl implements PlaceStatsStore {
+
+    private final PlaceStatsRepository placeStatsRepository;
+    private final PlaceCacheStore placeCacheStore;
+
+    @Override
+    public void applySpotRegistered(Long placeId, double rate) {
+        LocalDateTime now = LocalDateTime.now();
+        applyOrSeed(placeId, () -> placeStatsRepository.applyDelta(placeId, 1, rate, now));
+        placeCacheStore.incrementSpotCountInPlace(placeId);
+        placeCacheStore.incrementSpotTotalRateInPlace(placeId, rate);
+    }
+
+    @Override
+    public void applySpotsRegistered(Map<Long, Integer> spotCounts, Map<Long, Double> spotTotalRates) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> placeIds = new HashSet<>(spotCounts.keySet());
+        placeIds.addAll(spotTotalRates.keySet());
+        placeIds.forEach(placeId -> applyOrSeed(placeId, () -> placeStatsRepository.applyDelta(placeId,
+                spotCounts.getOrDefault(placeId, 0), spotTotalRates.getOrDefault(placeId, 0.0), now)));
+        placeCacheStore.incrementSpotCountInPlaces(spotCounts);
+        placeCacheStore.incrementSpotTotalRateInPlaces(spotTotalRates);
+    }
+
+    @Override
+    public void applySpotRateChanged(Long placeId, double previousRate, double rate) {
+        double delta = rate - previousRate;
+        if (delta == 0) {
+            return;
+        }
+        applyOrSeed(placeId, () -> placeStatsRepository.applyDelta(placeId, 0, delta));
+        placeCacheStore.incrementSpotTotalRateInPlace(placeId, delta);
+    }
+
+    @Override
+    public void applySpotDeleted(Long placeId, double rate) {
+        applyOrSeed(placeId, () -> placeStatsRepository.applyDelta(placeId, -1, -rate));
+        placeCacheStore.decrementSpotCountInPlace(placeId);
+        placeCacheStore.decrementSpotTotalRateInPlace(placeId, rate);
+    }
+
+    /**
+     * 행이 없을 때만 스팟을 집계해 만든다. 그 사이 다른 트랜잭션이 먼저 만들었다면 그 집계에는
+     * 아직 커밋되지 않은 이 변경이 빠져 있으므로 증감을 다시 반영한다.
+     */
+    private void applyOrSeed(Long placeId, IntSupplier applyDelta) {
+        if (applyDelta.getAsInt() > 0) {
+            return;
+        }
+        if (placeStatsRepository.seed(placeId) == 0) {
+            applyDelta.getAsInt();
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package kr.co.yigil.place.infrastructure;
 
 import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceClusterCacheStore;
+import kr.co.yigil.place.domain.PlaceKeywordIndex;
+import kr.co.yigil.place.domain.PlaceSearchIndex;
+import kr.co.yigil.place.domain.PlaceSpatialIndex;
 import kr.co.yigil.place.domain.PlaceStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -9,9 +13,18 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class PlaceStoreImpl implements PlaceStore {
     private final PlaceRepository placeRepository;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceClusterCacheStore placeClusterCacheStore;
+    private final PlaceKeywordIndex placeKeywordIndex;
+    private final PlaceSearchIndex placeSearchIndex;
 
     @Override
     public Place store(Place initPlace) {
-        return placeRepository.save(initPlace);
+        Place place = placeRepository.save(initPlace);
+        placeSpatialIndex.add(place);
+        placeClusterCacheStore.evictTiles(place);
+        placeKeywordIndex.add(place);
+        placeSearchIndex.add(place);
+        return place;
     }
 }
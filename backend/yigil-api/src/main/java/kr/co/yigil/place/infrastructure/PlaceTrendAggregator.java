@@ -0,0 +1,50 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간 버킷을 ZUNIONSTORE 한 번으로 place:trending 에 합치고 상위 TRENDING_SIZE개만 남긴다.
+ * 조회는 합쳐진 sorted set에서 상위 N개를 읽기만 하므로 버킷 수와 관계없이 O(log n + N)이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceTrendAggregator {
+
+    static final int TRENDING_SIZE = 1_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Scheduled(initialDelayString = "${place.trend.aggregate-delay:300000}",
+            fixedDelayString = "${place.trend.aggregate-delay:300000}")
+    public void aggregate() {
+        aggregate(LocalDateTime.now());
+    }
+
+    void aggregate(LocalDateTime now) {
+        List<String> keys = new ArrayList<>(PlaceTrendBuckets.WINDOW_HOURS);
+        double[] weights = new double[PlaceTrendBuckets.WINDOW_HOURS];
+        for (int age = 0; age < PlaceTrendBuckets.WINDOW_HOURS; age++) {
+            keys.add(PlaceTrendBuckets.key(now.minusHours(age)));
+            weights[age] = PlaceTrendBuckets.weight(age);
+        }
+
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        Long size = zSet.unionAndStore(keys.get(0), keys.subList(1, keys.size()), PlaceTrendBuckets.TRENDING_KEY,
+                Aggregate.SUM, Weights.of(weights));
+        if (size != null && size > TRENDING_SIZE) {
+            zSet.removeRange(PlaceTrendBuckets.TRENDING_KEY, 0, size - TRENDING_SIZE - 1);
+        }
+        log.debug("place trend aggregated. places={}", size);
+    }
+}
@@ -0,0 +1,41 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 스팟 등록 수는 한 시간 단위 sorted set(place:trend:{yyyyMMddHH})에 장소별로 쌓는다.
+ * 최근 WINDOW_HOURS 시간의 버킷을 HALF_LIFE_HOURS마다 절반이 되는 가중치로 합친 결과가 place:trending 이다.
+ */
+final class PlaceTrendBuckets {
+
+    static final String TRENDING_KEY = "place:trending";
+    static final int WINDOW_HOURS = 7 * 24;
+    static final double HALF_LIFE_HOURS = 24.0;
+    static final Duration BUCKET_TTL = Duration.ofHours(WINDOW_HOURS + 1);
+
+    private static final String BUCKET_PREFIX = "place:trend:";
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    private PlaceTrendBuckets() {
+    }
+
+    static LocalDateTime hourOf(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.HOURS);
+    }
+
+    static String key(LocalDateTime time) {
+        return BUCKET_PREFIX + HOUR_FORMAT.format(time);
+    }
+
+    static double weight(int ageHours) {
+        return Math.pow(0.5, ageHours / HALF_LIFE_HOURS);
+    }
+
+    static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
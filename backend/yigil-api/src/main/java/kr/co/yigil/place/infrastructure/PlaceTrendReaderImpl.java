@@ -0,0 +1,27 @@
+package kr.co.yigil.place.infrastructure;
+
+import java.util.List;
+import java.util.Set;
+import kr.co.yigil.place.domain.PlaceTrendReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PlaceTrendReaderImpl implements PlaceTrendReader {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public List<Long> getTrendingPlaceIds(int size) {
+        Set<String> placeIds = stringRedisTemplate.opsForZSet()
+                .reverseRange(PlaceTrendBuckets.TRENDING_KEY, 0, size - 1L);
+        if (placeIds == null) {
+            return List.of();
+        }
+        return placeIds.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+}
@@ -0,0 +1,92 @@
+package kr.co.yigil.place.infrastructure;
+
+import static kr.co.yigil.place.infrastructure.PlaceTrendBuckets.bytes;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.global.lock.RedisLock;
+import kr.co.yigil.travel.domain.dto.PlaceSpotTimeDto;
+import kr.co.yigil.travel.domain.spot.SpotReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지난 시간 버킷을 DB의 스팟 등록 시각으로 다시 채운다. 진행 중인 현재 시간 버킷은 실시간으로 쌓인 값을 덮어쓰지 않도록 건드리지 않는다.
+ * Redis에 집계가 없으면 기동 시에도 한 번 채운다. 여러 인스턴스 중 락을 잡은 하나만 돌고,
+ * 각 버킷은 임시 키에 만든 뒤 RENAME으로 바꿔 넣어 읽는 쪽이 비었거나 반쯤 찬 버킷을 보지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceTrendReconciler {
+
+    static final String LOCK_KEY = "place:trend:reconcile:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final String REBUILD_SUFFIX = ":rebuild";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SpotReader spotReader;
+    private final PlaceTrendAggregator placeTrendAggregator;
+    private final RedisLock redisLock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileIfAbsent() {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(PlaceTrendBuckets.TRENDING_KEY))) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${place.trend.reconcile-cron:0 0 5 * * MON}")
+    public void reconcile() {
+        reconcile(LocalDateTime.now());
+    }
+
+    void reconcile(LocalDateTime now) {
+        boolean ran = redisLock.runExclusively(LOCK_KEY, LOCK_TTL, () -> rebuild(now));
+        if (!ran) {
+            log.debug("place trend reconcile is running on another instance");
+        }
+    }
+
+    private void rebuild(LocalDateTime now) {
+        LocalDateTime currentHour = PlaceTrendBuckets.hourOf(now);
+        LocalDateTime since = currentHour.minusHours(PlaceTrendBuckets.WINDOW_HOURS - 1);
+        List<PlaceSpotTimeDto> spotTimes = spotReader.getPlaceSpotTimes(since, currentHour);
+
+        Map<String, Map<Long, Integer>> buckets = new HashMap<>();
+        spotTimes.forEach(spotTime -> buckets
+                .computeIfAbsent(PlaceTrendBuckets.key(spotTime.getCreatedAt()), key -> new HashMap<>())
+                .merge(spotTime.getPlaceId(), 1, Integer::sum));
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (LocalDateTime hour = since; hour.isBefore(currentHour); hour = hour.plusHours(1)) {
+                String key = PlaceTrendBuckets.key(hour);
+                byte[] rawKey = bytes(key);
+                Map<Long, Integer> counts = buckets.get(key);
+                if (counts == null) {
+                    connection.keyCommands().del(rawKey);
+                    continue;
+                }
+                byte[] rebuildKey = bytes(key + REBUILD_SUFFIX);
+                connection.keyCommands().del(rebuildKey);
+                counts.forEach((placeId, count) ->
+                        connection.zSetCommands().zIncrBy(rebuildKey, count, bytes(String.valueOf(placeId))));
+                long ttl = Duration.between(now, hour.plusHours(PlaceTrendBuckets.WINDOW_HOURS + 1L)).toSeconds();
+                connection.keyCommands().expire(rebuildKey, Math.max(ttl, 1L));
+                connection.keyCommands().rename(rebuildKey, rawKey);
+            }
+            return null;
+        });
+        placeTrendAggregator.aggregate(now);
+        log.info("place trend reconciled. buckets={}, spots={}", buckets.size(), spotTimes.size());
+    }
+}
@@ -0,0 +1,55 @@
+package kr.co.yigil.place.infrastructure;
+
+import static kr.co.yigil.place.infrastructure.PlaceTrendBuckets.bytes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import kr.co.yigil.place.domain.PlaceTrendStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class PlaceTrendStoreImpl implements PlaceTrendStore {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void record(Long placeId) {
+        recordAll(Map.of(placeId, 1));
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 현재 시간 버킷에 더해 롤백된 스팟이 집계되지 않도록 한다.
+     */
+    @Override
+    public void recordAll(Map<Long, Integer> spotCounts) {
+        if (spotCounts.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    execute(spotCounts);
+                }
+            });
+            return;
+        }
+        execute(spotCounts);
+    }
+
+    private void execute(Map<Long, Integer> spotCounts) {
+        byte[] key = bytes(PlaceTrendBuckets.key(LocalDateTime.now()));
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            spotCounts.forEach((placeId, count) ->
+                    connection.zSetCommands().zIncrBy(key, count, bytes(String.valueOf(placeId))));
+            connection.keyCommands().expire(key, PlaceTrendBuckets.BUCKET_TTL.toSeconds());
+            return null;
+        });
+    }
+}
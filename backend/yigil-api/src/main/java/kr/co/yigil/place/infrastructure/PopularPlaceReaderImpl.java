@@ -28,4 +28,12 @@ public class PopularPlaceReaderImpl implements PopularPlaceReader {
                 .map(PopularPlace::getPlace)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * popularPlaceJob은 기존 행을 지우고 다시 넣으므로, 가장 큰 id가 바뀌면 인기 장소 목록이 새로 계산된 것이다.
+     */
+    @Override
+    public long getVersion() {
+        return popularPlaceRepository.findMaxId();
+    }
 }
@@ -0,0 +1,32 @@
+package kr.co.yigil.place.interfaces.cache;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import kr.co.yigil.place.interfaces.dto.PlaceInfoDto;
+import lombok.Getter;
+
+/**
+ * 비회원 기준 장소 목록과 그 목록을 직렬화한 응답 본문
+ */
+@Getter
+public class PlaceListPayload implements Serializable {
+
+    private final List<PlaceInfoDto> places;
+    private final byte[] body;
+
+    public PlaceListPayload(List<PlaceInfoDto> places, byte[] body) {
+        this.places = new ArrayList<>(places);
+        this.body = body;
+    }
+
+    public List<Long> getPlaceIds() {
+        return places.stream()
+                .map(PlaceInfoDto::getId)
+                .toList();
+    }
+
+    public boolean contains(Long placeId) {
+        return places.stream().anyMatch(place -> place.getId().equals(placeId));
+    }
+}
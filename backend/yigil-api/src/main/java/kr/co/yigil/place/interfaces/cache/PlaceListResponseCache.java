@@ -0,0 +1,153 @@
+package kr.co.yigil.place.interfaces.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.place.application.PlaceFacade;
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceListCacheStore;
+import kr.co.yigil.place.interfaces.dto.PlaceInfoDto;
+import kr.co.yigil.place.interfaces.dto.response.PopularPlaceResponse;
+import kr.co.yigil.place.interfaces.dto.response.RegionPlaceResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인기 장소, 지역 장소 목록의 비회원 응답을 직렬화된 바이트로 캐시한다. 회원 요청은 같은 캐시를 쓰고 북마크 여부만 덮어쓰며,
+ * 목록 안에 북마크한 장소가 없으면 비회원 응답을 그대로 내려준다.
+ * 인기 장소 키에는 popular_place 버전을 붙여 popularPlaceJob이 목록을 다시 채우면 새 키를 사용하도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceListResponseCache implements PlaceListCacheStore {
+
+    static final String CACHE_NAME = "placeLists";
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final PlaceFacade placeFacade;
+
+    private volatile long popularVersion;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${place.list-cache.version-check-delay:60000}",
+            fixedDelayString = "${place.list-cache.version-check-delay:60000}")
+    public void refreshPopularVersion() {
+        popularVersion = placeFacade.getPopularPlaceVersion();
+    }
+
+    public byte[] getPopularPlace(boolean more, Accessor accessor, Supplier<List<PlaceInfoDto>> loader) {
+        return get(popularKey(more), accessor, loader, PopularPlaceResponse::new);
+    }
+
+    public byte[] getRegionPlace(Long regionId, boolean more, Accessor accessor,
+            Supplier<List<PlaceInfoDto>> loader) {
+        return get(regionKey(regionId, more), accessor, loader, RegionPlaceResponse::new);
+    }
+
+    /**
+     * 장소가 속한 지역 목록을 지우고, 인기 장소 목록은 해당 장소가 들어있을 때만 지운다.
+     * 트랜잭션 안에서는 커밋 이후에 지워 커밋 전 통계로 캐시가 다시 채워지지 않도록 한다.
+     */
+    @Override
+    public void evict(Place place) {
+        Long placeId = place.getId();
+        Long regionId = place.getRegion() == null ? null : place.getRegion().getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(placeId, regionId);
+                }
+            });
+            return;
+        }
+        evict(placeId, regionId);
+    }
+
+    private byte[] get(String key, Accessor accessor, Supplier<List<PlaceInfoDto>> loader,
+            Function<List<PlaceInfoDto>, Object> responseFactory) {
+        PlaceListPayload payload = getOrLoad(key, loader, responseFactory);
+        if (!accessor.isMember() || payload.getPlaces().isEmpty()) {
+            return payload.getBody();
+        }
+
+        Set<Long> bookmarkedPlaceIds = placeFacade.getBookmarkedPlaceIds(accessor.getMemberId(),
+                payload.getPlaceIds());
+        if (bookmarkedPlaceIds.isEmpty()) {
+            return payload.getBody();
+        }
+        List<PlaceInfoDto> places = payload.getPlaces().stream()
+                .map(place -> bookmarkedPlaceIds.contains(place.getId()) ? bookmarked(place) : place)
+                .toList();
+        return write(responseFactory.apply(places));
+    }
+
+    /**
+     * 빈 목록은 캐시하지 않는다. popularPlaceJob이 목록을 지운 직후처럼 잠깐 비어있는 상태가 TTL 동안 남지 않도록 한다.
+     */
+    private PlaceListPayload getOrLoad(String key, Supplier<List<PlaceInfoDto>> loader,
+            Function<List<PlaceInfoDto>, Object> responseFactory) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        PlaceListPayload cached = cache == null ? null : cache.get(key, PlaceListPayload.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<PlaceInfoDto> places = loader.get();
+        PlaceListPayload payload = new PlaceListPayload(places, write(responseFactory.apply(places)));
+        if (cache != null && !places.isEmpty()) {
+            cache.put(key, payload);
+        }
+        return payload;
+    }
+
+    private void evict(Long placeId, Long regionId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        if (regionId != null) {
+            cache.evict(regionKey(regionId, false));
+            cache.evict(regionKey(regionId, true));
+        }
+        for (String key : List.of(popularKey(false), popularKey(true))) {
+            PlaceListPayload payload = cache.get(key, PlaceListPayload.class);
+            if (payload != null && payload.contains(placeId)) {
+                cache.evict(key);
+            }
+        }
+    }
+
+    private byte[] write(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("장소 목록 응답을 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    private String popularKey(boolean more) {
+        return (more ? "popular-more:" : "popular:") + popularVersion;
+    }
+
+    private static String regionKey(Long regionId, boolean more) {
+        return (more ? "region-more:" : "region:") + regionId;
+    }
+
+    private static PlaceInfoDto bookmarked(PlaceInfoDto place) {
+        return new PlaceInfoDto(place.getId(), place.getPlaceName(), place.getReviewCount(),
+                place.getThumbnailImageUrl(), place.getRate(), true);
+    }
+}
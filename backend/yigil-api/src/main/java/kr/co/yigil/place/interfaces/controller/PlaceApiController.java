@@ -5,6 +5,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,16 +19,19 @@ import kr.co.yigil.auth.domain.Accessor;
 import kr.co.yigil.global.SortBy;
 import kr.co.yigil.global.SortOrder;
 import kr.co.yigil.place.application.PlaceFacade;
+import kr.co.yigil.place.interfaces.cache.PlaceListResponseCache;
 import kr.co.yigil.place.interfaces.dto.PlaceDetailInfoDto;
 import kr.co.yigil.place.interfaces.dto.mapper.PlaceMapper;
 import kr.co.yigil.place.interfaces.dto.request.NearPlaceRequest;
+import kr.co.yigil.place.interfaces.dto.request.PlaceClusterRequest;
 import kr.co.yigil.place.interfaces.dto.request.PlaceImageRequest;
 import kr.co.yigil.place.interfaces.dto.response.NearPlaceResponse;
+import kr.co.yigil.place.interfaces.dto.response.PlaceClusterResponse;
 import kr.co.yigil.place.interfaces.dto.response.PlaceKeywordResponse;
+import kr.co.yigil.place.interfaces.dto.response.PlaceRankedSearchResponse;
 import kr.co.yigil.place.interfaces.dto.response.PlaceSearchResponse;
 import kr.co.yigil.place.interfaces.dto.response.PlaceStaticImageResponse;
 import kr.co.yigil.place.interfaces.dto.response.PopularPlaceResponse;
-import kr.co.yigil.place.interfaces.dto.response.RegionPlaceResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -36,6 +40,7 @@ import lombok.RequiredArgsConstructor;
 public class PlaceApiController {
     private final PlaceFacade placeFacade;
     private final PlaceMapper placeMapper;
+    private final PlaceListResponseCache placeListResponseCache;
     @GetMapping("/static-image")
     @MemberOnly
     public ResponseEntity<PlaceStaticImageResponse> findPlaceStaticImage(
@@ -49,19 +54,29 @@ public class PlaceApiController {
     }
 
     @GetMapping("/popular")
-    public ResponseEntity<PopularPlaceResponse> getPopularPlace(
+    public ResponseEntity<byte[]> getPopularPlace(
             @Auth Accessor accessor
     ) {
-        var placeInfo = placeFacade.getPopularPlace(accessor);
-        var response = placeMapper.toPopularPlaceResponse(placeInfo);
-        return ResponseEntity.ok().body(response);
+        var response = placeListResponseCache.getPopularPlace(false, accessor, () ->
+                placeMapper.toPopularPlaceResponse(placeFacade.getPopularPlace(Accessor.guest())).getPlaces());
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(response);
     }
 
     @GetMapping("/popular/more")
-    public ResponseEntity<PopularPlaceResponse> getPopularPlaceMore(
+    public ResponseEntity<byte[]> getPopularPlaceMore(
+            @Auth Accessor accessor
+    ) {
+        var response = placeListResponseCache.getPopularPlace(true, accessor, () ->
+                placeMapper.toPopularPlaceResponse(placeFacade.getPopularPlaceMore(Accessor.guest())).getPlaces());
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(response);
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<PopularPlaceResponse> getTrendingPlace(
+            @RequestParam(name = "size", defaultValue = "5") int size,
             @Auth Accessor accessor
     ) {
-        var placeInfo = placeFacade.getPopularPlaceMore(accessor);
+        var placeInfo = placeFacade.getTrendingPlace(size, accessor);
         var response = placeMapper.toPopularPlaceResponse(placeInfo);
         return ResponseEntity.ok().body(response);
     }
@@ -71,7 +86,7 @@ public class PlaceApiController {
     public ResponseEntity<PopularPlaceResponse> getPopularPlaceByDemographics(
             @Auth Accessor accessor
     ) {
-        var placeInfo = placeFacade.getPopularPlaceByDemographics(accessor.getMemberId());
+        var placeInfo = placeFacade.getPopularPlaceByDemographics(accessor);
         var response = placeMapper.toPopularPlaceResponse(placeInfo);
         return ResponseEntity.ok().body(response);
     }
@@ -81,7 +96,7 @@ public class PlaceApiController {
     public ResponseEntity<PopularPlaceResponse> getPopularPlaceByDemographicsMore(
             @Auth Accessor accessor
     ) {
-        var placeInfo = placeFacade.getPopularPlaceByDemographicsMore(accessor.getMemberId());
+        var placeInfo = placeFacade.getPopularPlaceByDemographicsMore(accessor);
         var response = placeMapper.toPopularPlaceResponse(placeInfo);
         return ResponseEntity.ok().body(response);
     }
@@ -96,24 +111,35 @@ public class PlaceApiController {
         return ResponseEntity.ok().body(response);
     }
 
+    @GetMapping("/{placeId}/related")
+    public ResponseEntity<PopularPlaceResponse> getRelatedPlaces(
+            @PathVariable("placeId") Long placeId,
+            @Auth Accessor accessor
+    ) {
+        var placeInfo = placeFacade.getRelatedPlaces(placeId, accessor);
+        var response = placeMapper.toPopularPlaceResponse(placeInfo);
+        return ResponseEntity.ok().body(response);
+    }
+
     @GetMapping("/region/{regionId}")
-    public ResponseEntity<RegionPlaceResponse> getRegionPlace(
+    public ResponseEntity<byte[]> getRegionPlace(
             @PathVariable("regionId") Long regionId,
             @Auth Accessor accessor
     ) {
-        var placeInfo = placeFacade.getPlaceInRegion(regionId, accessor);
-        var response = placeMapper.toRegionPlaceResponse(placeInfo);
-        return ResponseEntity.ok().body(response);
+        var response = placeListResponseCache.getRegionPlace(regionId, false, accessor, () ->
+                placeMapper.toRegionPlaceResponse(placeFacade.getPlaceInRegion(regionId, Accessor.guest())).getPlaces());
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(response);
     }
 
     @GetMapping("/region/{regionId}/more")
-    public ResponseEntity<RegionPlaceResponse> getRegionPlaceMore(
+    public ResponseEntity<byte[]> getRegionPlaceMore(
             @PathVariable("regionId") Long regionId,
             @Auth Accessor accessor
     ) {
-        var placeInfo = placeFacade.getPlaceInRegionMore(regionId, accessor);
-        var response = placeMapper.toRegionPlaceResponse(placeInfo);
-        return ResponseEntity.ok().body(response);
+        var response = placeListResponseCache.getRegionPlace(regionId, true, accessor, () ->
+                placeMapper.toRegionPlaceResponse(placeFacade.getPlaceInRegionMore(regionId, Accessor.guest()))
+                        .getPlaces());
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(response);
     }
 
     @GetMapping("/near")
@@ -124,6 +150,14 @@ public class PlaceApiController {
         return ResponseEntity.ok().body(response);
     }
 
+    @GetMapping("/clusters")
+    public ResponseEntity<PlaceClusterResponse> getPlaceClusters(PlaceClusterRequest request) {
+        var clusterCommand = placeMapper.toClusterCommand(request);
+        var clusterInfo = placeFacade.getPlaceClusters(clusterCommand);
+        var response = placeMapper.toPlaceClusterResponse(clusterInfo);
+        return ResponseEntity.ok().body(response);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<PlaceSearchResponse> searchPlace(
             @RequestParam(name = "keyword", required = false) String keyword,
@@ -141,6 +175,19 @@ public class PlaceApiController {
         return ResponseEntity.ok().body(response);
     }
 
+    @GetMapping("/search/ranked")
+    public ResponseEntity<PlaceRankedSearchResponse> searchPlaceRanked(
+            @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "5") int size,
+            @Auth Accessor accessor
+    ) {
+        var searchCommand = placeMapper.toRankedSearchCommand(keyword, cursor, size);
+        var searchInfo = placeFacade.searchPlaceRanked(searchCommand, accessor);
+        var response = placeMapper.toPlaceRankedSearchResponse(searchInfo);
+        return ResponseEntity.ok().body(response);
+    }
+
     @GetMapping("/keyword")
     public ResponseEntity<PlaceKeywordResponse> getPlaceKeyword(@RequestParam String keyword) {
         var keywordsInfo = placeFacade.getPlaceKeywords(keyword);
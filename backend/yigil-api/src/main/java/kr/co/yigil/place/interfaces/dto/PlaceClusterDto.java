@@ -0,0 +1,13 @@
+package kr.co.yigil.place.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PlaceClusterDto {
+    private double x;
+    private double y;
+    private int count;
+    private Long representativePlaceId;
+}
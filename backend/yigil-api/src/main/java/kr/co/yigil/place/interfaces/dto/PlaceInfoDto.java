@@ -1,11 +1,12 @@
 package kr.co.yigil.place.interfaces.dto;
 
+import java.io.Serializable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 @Data
 @AllArgsConstructor
-public class PlaceInfoDto {
+public class PlaceInfoDto implements Serializable {
     private Long id;
     private String placeName;
     private String reviewCount;
@@ -1,15 +1,18 @@
 package kr.co.yigil.place.interfaces.dto.mapper;
 
-import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.global.exception.BadRequestException;
+import kr.co.yigil.global.exception.ExceptionCode;
 import kr.co.yigil.place.domain.PlaceCommand;
 import kr.co.yigil.place.domain.PlaceInfo;
 import kr.co.yigil.place.domain.PlaceInfo.Detail;
 import kr.co.yigil.place.domain.PlaceInfo.Main;
 import kr.co.yigil.place.domain.PlaceInfo.MapStaticImageInfo;
+import kr.co.yigil.place.interfaces.dto.PlaceClusterDto;
 import kr.co.yigil.place.interfaces.dto.PlaceCoordinateDto;
 import kr.co.yigil.place.interfaces.dto.PlaceDetailInfoDto;
 import kr.co.yigil.place.interfaces.dto.PlaceInfoDto;
 import kr.co.yigil.place.interfaces.dto.request.NearPlaceRequest;
+import kr.co.yigil.place.interfaces.dto.request.PlaceClusterRequest;
 import kr.co.yigil.place.interfaces.dto.response.*;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -26,6 +29,8 @@ public interface PlaceMapper {
 
     PlaceMapper INSTANCE = Mappers.getMapper(PlaceMapper.class);
 
+    int MAX_SEARCH_SIZE = 50;
+
     @Mappings({
             @Mapping(target = "mapStaticImageUrl", source = "imageUrl"),
             @Mapping(target = "exists", source = "exists"),
@@ -78,14 +83,14 @@ public interface PlaceMapper {
     @Mappings({
             @Mapping(target = "id", source = "id"),
             @Mapping(target = "placeName", source = "name"),
-            @Mapping(target = "x", source = "location.x"),
-            @Mapping(target = "y", source = "location.y")
+            @Mapping(target = "x", source = "x"),
+            @Mapping(target = "y", source = "y")
     })
-    PlaceCoordinateDto placeToPlaceCoordinateDto(Place place);
+    PlaceCoordinateDto nearPlaceToPlaceCoordinateDto(PlaceInfo.NearPlace nearPlace);
 
-    default NearPlaceResponse toNearPlaceResponse(Page<Place> page) {
+    default NearPlaceResponse toNearPlaceResponse(Page<PlaceInfo.NearPlace> page) {
         List<PlaceCoordinateDto> placeCoordinateDtos = page.getContent().stream()
-                .map(this::placeToPlaceCoordinateDto)
+                .map(this::nearPlaceToPlaceCoordinateDto)
                 .toList();
 
         return new NearPlaceResponse(placeCoordinateDtos, page.getNumber() + 1, page.getTotalPages());
@@ -93,11 +98,61 @@ public interface PlaceMapper {
 
 
 
+    @Mapping(target = "minCoordinate.x", source = "minX")
+    @Mapping(target = "minCoordinate.y", source = "minY")
+    @Mapping(target = "maxCoordinate.x", source = "maxX")
+    @Mapping(target = "maxCoordinate.y", source = "maxY")
+    @Mapping(target = "zoom", source = "zoom")
+    PlaceCommand.ClusterRequest toClusterCommand(PlaceClusterRequest placeClusterRequest);
+
+    PlaceClusterDto clusterToPlaceClusterDto(PlaceInfo.Cluster cluster);
+
+    default PlaceClusterResponse toPlaceClusterResponse(List<PlaceInfo.Cluster> clusters) {
+        List<PlaceClusterDto> dtos = clusters.stream().map(this::clusterToPlaceClusterDto).toList();
+        return new PlaceClusterResponse(dtos);
+    }
+
     default PlaceSearchResponse toPlaceSearchResponse(Slice<Main> placeInfo) {
         List<PlaceInfoDto> dtos = placeInfo.getContent().stream().map(this::mainToDto).collect(Collectors.toList());
         return new PlaceSearchResponse(dtos, placeInfo.hasNext());
     }
 
+    default PlaceCommand.RankedSearchRequest toRankedSearchCommand(String keyword, String cursor, int size) {
+        return PlaceCommand.RankedSearchRequest.builder()
+                .keyword(keyword)
+                .cursor(toSearchCursor(cursor))
+                .size(Math.max(1, Math.min(size, MAX_SEARCH_SIZE)))
+                .build();
+    }
+
+    /**
+     * 커서는 "점수:장소 id" 형식이다.
+     */
+    default PlaceCommand.SearchCursor toSearchCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] tokens = cursor.split(":");
+        try {
+            if (tokens.length != 2) {
+                throw new NumberFormatException(cursor);
+            }
+            return PlaceCommand.SearchCursor.builder()
+                    .score(Integer.parseInt(tokens[0]))
+                    .placeId(Long.parseLong(tokens[1]))
+                    .build();
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(ExceptionCode.INVALID_REQUEST);
+        }
+    }
+
+    default PlaceRankedSearchResponse toPlaceRankedSearchResponse(PlaceInfo.RankedSearch rankedSearch) {
+        List<PlaceInfoDto> dtos = rankedSearch.getPlaces().stream().map(this::mainToDto).toList();
+        PlaceCommand.SearchCursor cursor = rankedSearch.getNextCursor();
+        String nextCursor = cursor == null ? null : cursor.getScore() + ":" + cursor.getPlaceId();
+        return new PlaceRankedSearchResponse(dtos, rankedSearch.isHasNext(), nextCursor);
+    }
+
     default PlaceKeywordResponse toPlaceKeywordResponse(List<PlaceInfo.Keyword> keywords) {
         List<String> keywordStrings = keywords.stream()
                 .map(PlaceInfo.Keyword::getKeyword)
@@ -0,0 +1,12 @@
+package kr.co.yigil.place.interfaces.dto.response;
+
+import java.util.List;
+import kr.co.yigil.place.interfaces.dto.PlaceClusterDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PlaceClusterResponse {
+    private List<PlaceClusterDto> clusters;
+}
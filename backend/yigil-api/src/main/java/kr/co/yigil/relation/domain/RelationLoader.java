@@ -0,0 +1,15 @@
+package kr.co.yigil.relation.domain;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 목록 응답의 좋아요/팔로우 여부를 행마다 조회하지 않고, 한 페이지의 id를 모아 관계 종류별로 한 번씩 조회한다.
+ * 한 요청 안에서 이미 확인한 관계는 다시 조회하지 않는다. 비회원(memberId가 null)은 항상 빈 집합이다.
+ */
+public interface RelationLoader {
+
+    Set<Long> getLikedTravelIds(Long memberId, Collection<Long> travelIds);
+
+    Set<Long> getFollowingMemberIds(Long memberId, Collection<Long> memberIds);
+}
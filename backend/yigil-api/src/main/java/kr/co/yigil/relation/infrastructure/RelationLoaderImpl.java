@@ -0,0 +1,68 @@
+package kr.co.yigil.relation.infrastructure;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import kr.co.yigil.favor.domain.FavorReader;
+import kr.co.yigil.follow.domain.FollowReader;
+import kr.co.yigil.relation.domain.RelationLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+@Component
+@RequestScope
+public class RelationLoaderImpl implements RelationLoader {
+
+    private final RelationCache liked;
+    private final RelationCache following;
+
+    public RelationLoaderImpl(FavorReader favorReader, FollowReader followReader) {
+        this.liked = new RelationCache(favorReader::getFavoredTravelIds);
+        this.following = new RelationCache(followReader::getFollowingIds);
+    }
+
+    @Override
+    public Set<Long> getLikedTravelIds(Long memberId, Collection<Long> travelIds) {
+        return liked.load(memberId, travelIds);
+    }
+
+    @Override
+    public Set<Long> getFollowingMemberIds(Long memberId, Collection<Long> memberIds) {
+        return following.load(memberId, memberIds);
+    }
+
+    /**
+     * 회원별로 확인한 대상 id의 관계 여부를 기억해 두고, 처음 보는 id만 모아 한 번의 IN 조회로 채운다.
+     */
+    static class RelationCache {
+
+        private final BiFunction<Long, List<Long>, Set<Long>> fetcher;
+        private final Map<Long, Map<Long, Boolean>> relations = new HashMap<>();
+
+        RelationCache(BiFunction<Long, List<Long>, Set<Long>> fetcher) {
+            this.fetcher = fetcher;
+        }
+
+        Set<Long> load(Long memberId, Collection<Long> targetIds) {
+            if (memberId == null || targetIds.isEmpty()) {
+                return Set.of();
+            }
+            Map<Long, Boolean> known = relations.computeIfAbsent(memberId, id -> new HashMap<>());
+            List<Long> missingIds = targetIds.stream()
+                    .filter(targetId -> targetId != null && !known.containsKey(targetId))
+                    .distinct()
+                    .toList();
+            if (!missingIds.isEmpty()) {
+                Set<Long> related = fetcher.apply(memberId, missingIds);
+                missingIds.forEach(targetId -> known.put(targetId, related.contains(targetId)));
+            }
+            return targetIds.stream()
+                    .filter(targetId -> Boolean.TRUE.equals(known.get(targetId)))
+                    .collect(Collectors.toSet());
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package kr.co.yigil.travel.application;
 
 import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.file.FileUploader;
+import kr.co.yigil.file.ImageVariantGenerator;
+import kr.co.yigil.file.UploadSessionManager;
+import kr.co.yigil.file.UploadedFiles;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.Selected;
+import kr.co.yigil.travel.domain.PathFormat;
+import kr.co.yigil.travel.domain.PathLevel;
 import kr.co.yigil.travel.domain.course.CourseCommand.ModifyCourseRequest;
 import kr.co.yigil.travel.domain.course.CourseCommand.RegisterCourseRequest;
 import kr.co.yigil.travel.domain.course.CourseCommand.RegisterCourseRequestWithSpotInfo;
@@ -14,27 +21,41 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @RequiredArgsConstructor
 public class CourseFacade {
     private final CourseService courseService;
     private final SpotService spotService;
+    private final FileUploader fileUploader;
+    private final UploadSessionManager uploadSessionManager;
+    private final ImageVariantGenerator imageVariantGenerator;
 
-    public CourseInfo.CoursesInPlaceResponseInfo getCourseSliceInPlace(Long placeId, Long memberId, Pageable pageable) {
-        return courseService.getCoursesSliceInPlace(placeId, memberId, pageable);
+    public CourseInfo.CoursesInPlaceResponseInfo getCourseSliceInPlace(Long placeId, Accessor accessor,
+            Pageable pageable) {
+        return courseService.getCoursesSliceInPlace(placeId, accessor, pageable);
+    }
+
+    public CourseInfo.CoursesInPlaceResponseInfo getCourseSliceInPlace(Long placeId, Accessor accessor, Cursor cursor,
+            int size) {
+        return courseService.getCoursesSliceInPlace(placeId, accessor, cursor, size);
     }
 
     public void registerCourse(RegisterCourseRequest command, Long memberId) {
-        courseService.registerCourse(command, memberId);
+        var uploadedFiles = upload(command.getUploadFiles(), command.getUploadKeys(), memberId);
+        registerWithUploadedFiles(uploadedFiles,
+                () -> courseService.registerCourse(command, memberId, uploadedFiles));
     }
 
     public void registerCourseWithoutSeries(RegisterCourseRequestWithSpotInfo command, Long memberId) {
-        courseService.registerCourseWithoutSeries(command, memberId);
+        var uploadedFiles = upload(command.getUploadFiles(), command.getUploadKeys(), memberId);
+        registerWithUploadedFiles(uploadedFiles,
+                () -> courseService.registerCourseWithoutSeries(command, memberId, uploadedFiles));
     }
 
-    public CourseInfo.Main retrieveCourseInfo(Long courseId) {
-        return courseService.retrieveCourseInfo(courseId);
+    public CourseInfo.Main retrieveCourseInfo(Long courseId, PathLevel pathLevel, PathFormat pathFormat) {
+        return courseService.retrieveCourseInfo(courseId, pathLevel, pathFormat);
     }
 
     public void modifyCourse(ModifyCourseRequest command, Long courseId, Long memberId) {
@@ -54,6 +75,11 @@ public class CourseFacade {
         return courseService.searchCourseByPlaceName(keyword, accessor, pageable);
     }
 
+    public CourseInfo.NearSlice searchCoursesNear(final Double x, final Double y, final Long placeId,
+            final double radius, final Accessor accessor, final Pageable pageable) {
+        return courseService.searchCoursesNear(x, y, placeId, radius, accessor, pageable);
+    }
+
     public CourseInfo.MySpotsInfo getMySpotsDetailInfo(List<Long> spotIds, Long memberId) {
         return spotService.getMySpotsDetailInfo(spotIds, memberId);
     }
@@ -61,4 +87,34 @@ public class CourseFacade {
     public CourseInfo.MyFavoriteCoursesInfo getFavoriteCoursesInfo(Long memberId, PageRequest pageRequest) {
         return courseService.getFavoriteCoursesInfo(memberId, pageRequest);
     }
+
+    /**
+     * 클라이언트가 직접 올린 파일의 키를 먼저 확인한 뒤 나머지 파일을 올린다. 업로드가 실패하면 선점한 세션을 되돌린다.
+     */
+    private UploadedFiles upload(List<MultipartFile> files, List<String> keys, Long memberId) {
+        var claimedFiles = uploadSessionManager.claimAll(memberId, keys);
+        try {
+            return fileUploader.uploadAll(files).withClaimed(claimedFiles);
+        } catch (RuntimeException e) {
+            uploadSessionManager.release(claimedFiles.keySet());
+            throw e;
+        }
+    }
+
+    /**
+     * 업로드는 트랜잭션 밖에서 끝내고, 등록이 실패하면 올린 파일을, 성공하면 쓰이지 않은 파일을 지운다.
+     * 커밋된 이미지의 크기별 이미지는 요청과 별개로 만든다.
+     */
+    private void registerWithUploadedFiles(UploadedFiles uploadedFiles, Runnable register) {
+        try {
+            register.run();
+        } catch (RuntimeException e) {
+            fileUploader.discard(uploadedFiles.getStoredPaths());
+            uploadSessionManager.release(uploadedFiles.getClaimedPaths());
+            throw e;
+        }
+        fileUploader.discard(uploadedFiles.getUnusedStoredPaths());
+        uploadSessionManager.complete(uploadedFiles.getClaimedPaths());
+        imageVariantGenerator.generate(uploadedFiles.getUsedFiles());
+    }
 }
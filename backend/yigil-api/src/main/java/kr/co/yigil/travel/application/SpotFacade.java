@@ -1,6 +1,11 @@
 package kr.co.yigil.travel.application;
 
 import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.file.FileUploader;
+import kr.co.yigil.file.ImageVariantGenerator;
+import kr.co.yigil.file.UploadSessionManager;
+import kr.co.yigil.file.UploadedFiles;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.travel.domain.spot.SpotCommand.ModifySpotRequest;
 import kr.co.yigil.travel.domain.spot.SpotCommand.RegisterSpotRequest;
@@ -18,17 +23,46 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class SpotFacade {
     private final SpotService spotService;
+    private final FileUploader fileUploader;
+    private final UploadSessionManager uploadSessionManager;
+    private final ImageVariantGenerator imageVariantGenerator;
 
     public Slice getSpotSliceInPlace(final Long placeId, final Accessor accessor, final Pageable pageable) {
         return spotService.getSpotSliceInPlace(placeId, accessor, pageable);
     }
 
+    public Slice getSpotSliceInPlace(final Long placeId, final Accessor accessor, final Cursor cursor, final int size) {
+        return spotService.getSpotSliceInPlace(placeId, accessor, cursor, size);
+    }
+
     public MySpot retrieveMySpotInfoInPlace(final Long placeId, final Long memberId) {
         return spotService.retrieveMySpotInfoInPlace(placeId, memberId);
     }
 
+    /**
+     * 이미 있는 장소에 등록하면 미리 올린 지도 이미지는 쓰이지 않으므로 등록 후 지운다.
+     * 클라이언트가 직접 올린 파일의 키는 업로드 전에 확인하고, 등록이 끝나면 업로드 세션을 닫고 크기별 이미지 생성을 맡긴다.
+     * 업로드나 등록이 실패하면 선점한 업로드 세션을 되돌려 같은 키로 다시 등록할 수 있게 한다.
+     */
     public void registerSpot(final RegisterSpotRequest command, final Long memberId) {
-        spotService.registerSpot(command, memberId);
+        var claimedFiles = uploadSessionManager.claimAll(memberId, command.getUploadKeys());
+        UploadedFiles uploadedFiles;
+        try {
+            uploadedFiles = fileUploader.uploadAll(command.getUploadFiles()).withClaimed(claimedFiles);
+        } catch (RuntimeException e) {
+            uploadSessionManager.release(claimedFiles.keySet());
+            throw e;
+        }
+        try {
+            spotService.registerSpot(command, memberId, uploadedFiles);
+        } catch (RuntimeException e) {
+            fileUploader.discard(uploadedFiles.getStoredPaths());
+            uploadSessionManager.release(uploadedFiles.getClaimedPaths());
+            throw e;
+        }
+        fileUploader.discard(uploadedFiles.getUnusedStoredPaths());
+        uploadSessionManager.complete(uploadedFiles.getClaimedPaths());
+        imageVariantGenerator.generate(uploadedFiles.getUsedFiles());
     }
 
     public Main retrieveSpotInfo(final Long spotId) {
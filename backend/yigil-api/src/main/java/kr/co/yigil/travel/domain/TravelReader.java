@@ -5,4 +5,6 @@ import java.util.List;
 public interface TravelReader {
     Travel getTravel(Long travelId);
     public List<Travel> getTravels(List<Long> travelIds);
+    long countMemberTravels(Long memberId, List<Long> travelIds);
+    List<Long> getTravelIdsNotInCourse(List<Long> travelIds);
 }
@@ -2,6 +2,7 @@ package kr.co.yigil.travel.domain;
 
 import java.util.List;
 import java.util.Objects;
+import kr.co.yigil.feed.domain.FeedStore;
 import kr.co.yigil.global.exception.AuthException;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.global.exception.ExceptionCode;
@@ -14,6 +15,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class TravelServiceImpl implements TravelService {
 
     private final TravelReader travelReader;
+    private final TravelStore travelStore;
+    private final FeedStore feedStore;
 
     @Override
     @Transactional
@@ -21,6 +24,7 @@ public class TravelServiceImpl implements TravelService {
         Travel travel = travelReader.getTravel(travelId);
         validateTravelOwner(travel, memberId);
         travel.changeOnPublic();
+        publish(travel);
     }
 
     @Override
@@ -31,23 +35,37 @@ public class TravelServiceImpl implements TravelService {
         travel.changeOnPrivate();
     }
 
+    /**
+     * 한 번의 UPDATE로 바꾸고 바뀐 행 수로 검증한다. 모자라면 그때만 원인을 찾아 예외를 던지고, 트랜잭션이 통째로 롤백된다.
+     */
     @Override
     @Transactional
     public void setTravelsVisibility(Long memberId,
         TravelCommand.VisibilityChangeRequest travelCommand) {
-        List<Long> travelIds = travelCommand.getTravelIds();
-
-        travelReader.getTravels(travelIds)
-            .forEach(travel -> {
-                validateTravelOwner(travel, memberId);
-                if (travel.isPrivate() == travelCommand.getIsPrivate()) {
-                    throw new BadRequestException(ExceptionCode.INVALID_VISIBILITY_REQUEST);
-                }
-                if (travel.isPrivate()) travel.changeOnPublic();
-                else travel.changeOnPrivate();
-            });
+        List<Long> travelIds = travelCommand.getTravelIds().stream().distinct().toList();
+        if (travelIds.isEmpty()) return;
+        boolean isPrivate = travelCommand.getIsPrivate();
+
+        int changedCount = travelStore.changeVisibility(memberId, travelIds, isPrivate);
+        if (changedCount != travelIds.size()) {
+            if (travelReader.countMemberTravels(memberId, travelIds) != travelIds.size()) {
+                throw new AuthException(ExceptionCode.INVALID_AUTHORITY);
+            }
+            throw new BadRequestException(ExceptionCode.INVALID_VISIBILITY_REQUEST);
+        }
+        if (!isPrivate) {
+            travelReader.getTravelIdsNotInCourse(travelIds)
+                .forEach(travelId -> feedStore.publish(memberId, travelId));
+        }
     }
 
+    /**
+     * 코스에 묶인 스팟은 코스로만 보이므로 피드에 따로 올리지 않는다.
+     */
+    private void publish(Travel travel) {
+        if (travel instanceof Spot spot && spot.isInCourse()) return;
+        feedStore.publish(travel.getMember().getId(), travel.getId());
+    }
 
     private void validateTravelOwner(Travel travel, Long memberId) {
         if(!Objects.equals(travel.getMember().getId(), memberId)) throw new AuthException(ExceptionCode.INVALID_AUTHORITY);
@@ -0,0 +1,8 @@
+package kr.co.yigil.travel.domain;
+
+import java.util.List;
+
+public interface TravelStore {
+
+    int changeVisibility(Long memberId, List<Long> travelIds, boolean isPrivate);
+}
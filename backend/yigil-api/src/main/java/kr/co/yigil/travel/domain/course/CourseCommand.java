@@ -6,7 +6,6 @@ import kr.co.yigil.travel.domain.Course;
 import kr.co.yigil.travel.domain.Spot;
 import kr.co.yigil.travel.domain.spot.SpotCommand.ModifySpotRequest;
 import kr.co.yigil.travel.domain.spot.SpotCommand.RegisterSpotRequest;
-import kr.co.yigil.travel.util.GeojsonConverter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +13,8 @@ import lombok.ToString;
 import org.locationtech.jts.geom.LineString;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class CourseCommand {
@@ -27,8 +28,9 @@ public class CourseCommand {
         private double rate;
         private boolean isPrivate;
         private int representativeSpotOrder;
-        private String lineStringJson;
+        private LineString lineStringJson;
         private MultipartFile mapStaticImageFile;
+        private String mapStaticImageFileKey;
         private List<RegisterSpotRequest> registerSpotRequests;
 
         public Course toEntity(List<Spot> spots, Member member, AttachFile attachFile) {
@@ -37,13 +39,35 @@ public class CourseCommand {
                     title,
                     description,
                     rate,
-                    GeojsonConverter.convertToLineString(lineStringJson),
+                    lineStringJson,
                     isPrivate,
                     spots,
                     representativeSpotOrder,
                     attachFile
                     );
         }
+
+        public List<MultipartFile> getUploadFiles() {
+            List<MultipartFile> uploadFiles = new ArrayList<>();
+            if (mapStaticImageFileKey == null) {
+                uploadFiles.add(mapStaticImageFile);
+            }
+            if (registerSpotRequests != null) {
+                registerSpotRequests.forEach(spotRequest -> uploadFiles.addAll(spotRequest.getUploadFiles()));
+            }
+            return uploadFiles;
+        }
+
+        public List<String> getUploadKeys() {
+            List<String> uploadKeys = new ArrayList<>();
+            if (mapStaticImageFileKey != null) {
+                uploadKeys.add(mapStaticImageFileKey);
+            }
+            if (registerSpotRequests != null) {
+                registerSpotRequests.forEach(spotRequest -> uploadKeys.addAll(spotRequest.getUploadKeys()));
+            }
+            return uploadKeys;
+        }
     }
 
     @Getter
@@ -55,8 +79,9 @@ public class CourseCommand {
         private double rate;
         private boolean isPrivate;
         private int representativeSpotOrder;
-        private String lineStringJson;
+        private LineString lineStringJson;
         private MultipartFile mapStaticImageFile;
+        private String mapStaticImageFileKey;
         private List<Long> spotIds;
 
         public Course toEntity(List<Spot> spots, Member member, AttachFile attachFile) {
@@ -65,13 +90,21 @@ public class CourseCommand {
                     title,
                     description,
                     rate,
-                    GeojsonConverter.convertToLineString(lineStringJson),
+                    lineStringJson,
                     isPrivate,
                     spots,
                     representativeSpotOrder,
                     attachFile
             );
         }
+
+        public List<MultipartFile> getUploadFiles() {
+            return mapStaticImageFileKey == null ? Collections.singletonList(mapStaticImageFile) : List.of();
+        }
+
+        public List<String> getUploadKeys() {
+            return mapStaticImageFileKey == null ? List.of() : List.of(mapStaticImageFileKey);
+        }
     }
 
     @Getter
@@ -0,0 +1,13 @@
+package kr.co.yigil.travel.domain.course;
+
+import java.util.List;
+import kr.co.yigil.travel.domain.Course;
+
+public interface CourseCorridorIndex {
+
+    boolean isReady();
+
+    List<Long> findCandidateIds(double x, double y, double meters);
+
+    void add(Course course);
+}
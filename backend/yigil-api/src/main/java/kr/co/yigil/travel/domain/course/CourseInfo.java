@@ -1,13 +1,18 @@
 package kr.co.yigil.travel.domain.course;
 
+import kr.co.yigil.file.ImageVariant;
 import kr.co.yigil.travel.domain.Course;
+import kr.co.yigil.travel.domain.PathFormat;
+import kr.co.yigil.travel.domain.PathLevel;
 import kr.co.yigil.travel.domain.Spot;
 import kr.co.yigil.travel.domain.dto.CourseListDto;
+import kr.co.yigil.travel.util.GeojsonConverter;
+import kr.co.yigil.travel.util.PolylineEncoder;
 import lombok.Data;
 import lombok.Getter;
 import lombok.ToString;
+import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Point;
-import org.locationtech.jts.io.geojson.GeoJsonWriter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,10 +26,16 @@ public class CourseInfo {
     public static class CoursesInPlaceResponseInfo {
         private final List<CourseInPlaceInfo> courses;
         private final boolean hasNext;
+        private final String nextCursor;
 
         public CoursesInPlaceResponseInfo(List<CourseInPlaceInfo> courses, boolean hasNext) {
+            this(courses, hasNext, null);
+        }
+
+        public CoursesInPlaceResponseInfo(List<CourseInPlaceInfo> courses, boolean hasNext, String nextCursor) {
             this.courses = courses;
             this.hasNext = hasNext;
+            this.nextCursor = nextCursor;
         }
     }
 
@@ -48,7 +59,7 @@ public class CourseInfo {
             this.id = course.getId();
             this.title = course.getTitle();
             this.content = course.getDescription();
-            this.mapStaticImageUrl = course.getMapStaticImageFileUrl();
+            this.mapStaticImageUrl = course.getMapStaticImageFileUrl(ImageVariant.CARD);
             this.ownerId = course.getMember().getId();
             this.ownerProfileImageUrl = course.getMember().getProfileImageUrl();
             this.ownerNickname = course.getMember().getNickname();
@@ -69,15 +80,22 @@ public class CourseInfo {
         private final String description;
         private final String createdDate;
         private final String lineStringJson;
+        private final String encodedPath;
         private final List<CourseSpotInfo> courseSpotList;
 
         public Main(Course course) {
+            this(course, PathLevel.FULL, PathFormat.GEOJSON);
+        }
+
+        public Main(Course course, PathLevel pathLevel, PathFormat pathFormat) {
             this.title = course.getTitle();
             this.rate = course.getRate();
             this.mapStaticImageUrl = course.getMapStaticImageFileUrl();
             this.description = course.getDescription();
             this.createdDate = course.getCreatedAt().toString();
-            this.lineStringJson = new GeoJsonWriter().write(course.getPath());;
+            LineString path = course.getPath(pathLevel);
+            this.lineStringJson = pathFormat == PathFormat.GEOJSON ? GeojsonConverter.convertToJson(path) : null;
+            this.encodedPath = pathFormat == PathFormat.POLYLINE ? PolylineEncoder.encode(path) : null;
             AtomicInteger index = new AtomicInteger(1);
             this.courseSpotList = course.getSpots().stream()
                     .map(spot -> new CourseSpotInfo(spot, index.getAndIncrement()))
@@ -172,7 +190,7 @@ public class CourseInfo {
         public CourseSearchInfo(Course course, boolean isLiked) {
             this.id = course.getId();
             this.title = course.getTitle();
-            this.mapStaticImageUrl = course.getMapStaticImageFileUrl();
+            this.mapStaticImageUrl = course.getMapStaticImageFileUrl(ImageVariant.CARD);
             this.ownerProfileImageUrl = course.getMember().getProfileImageUrl();
             this.ownerNickname = course.getMember().getNickname();
             this.spotCount = course.getSpots().size();
@@ -183,6 +201,46 @@ public class CourseInfo {
     }
 
 
+    @Getter
+    @ToString
+    public static class NearSlice {
+        private final List<CourseNearInfo> courses;
+        private final boolean hasNext;
+
+        public NearSlice(List<CourseNearInfo> courses, boolean hasNext) {
+            this.courses = courses;
+            this.hasNext = hasNext;
+        }
+    }
+
+    @Getter
+    @ToString
+    public static class CourseNearInfo {
+        private final Long id;
+        private final String title;
+        private final String mapStaticImageUrl;
+        private final String ownerProfileImageUrl;
+        private final String ownerNickname;
+        private final int spotCount;
+        private final double rate;
+        private final LocalDateTime createDate;
+        private final boolean liked;
+        private final double distance;
+
+        public CourseNearInfo(Course course, double distance, boolean isLiked) {
+            this.id = course.getId();
+            this.title = course.getTitle();
+            this.mapStaticImageUrl = course.getMapStaticImageFileUrl(ImageVariant.CARD);
+            this.ownerProfileImageUrl = course.getMember().getProfileImageUrl();
+            this.ownerNickname = course.getMember().getNickname();
+            this.spotCount = course.getSpots().size();
+            this.rate = course.getRate();
+            this.createDate = course.getCreatedAt();
+            this.liked = isLiked;
+            this.distance = distance;
+        }
+    }
+
     @Data
     public static class MySpotsInfo {
         private final List<MySpotDetailDto> mySpotDetailDtoList;
@@ -261,7 +319,7 @@ public class CourseInfo {
             this.rate = course.getRate();
             this.spotCount = course.getSpots().size();
             this.createdDate = course.getCreatedAt().toString();
-            this.mapStaticImageUrl = course.getMapStaticImageFileUrl();
+            this.mapStaticImageUrl = course.getMapStaticImageFileUrl(ImageVariant.CARD);
             this.writerId = course.getMember().getId();
             this.writerNickname = course.getMember().getNickname();
             this.writerProfileImageUrl = course.getMember().getProfileImageUrl();
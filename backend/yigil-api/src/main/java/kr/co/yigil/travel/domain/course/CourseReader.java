@@ -1,21 +1,31 @@
 package kr.co.yigil.travel.domain.course;
 
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.travel.domain.Course;
+import kr.co.yigil.travel.domain.dto.CourseDistanceDto;
 import kr.co.yigil.travel.domain.dto.CourseListDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.util.List;
+
 public interface CourseReader {
     Course getCourse(Long courseId);
 
     Slice<Course> getCoursesSliceInPlace(Long placeId, Pageable pageable);
 
+    Slice<Course> getCoursesSliceInPlace(Long placeId, Cursor cursor, int size);
+
     Page<CourseListDto> getMemberCourseList(Long memberId, Pageable pageable, Selected selectInfo);
 
     Slice<Course> searchCourseByPlaceName(String keyword, Pageable pageable);
 
     Slice<Course> getFavoriteCourses(Long memberId, Pageable pageRequest);
+
+    List<Course> getCourses(List<Long> courseIds);
+
+    Slice<CourseDistanceDto> getCourseDistancesNear(double x, double y, double meters, Pageable pageable);
 }
 
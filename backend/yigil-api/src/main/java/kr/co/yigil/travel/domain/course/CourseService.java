@@ -1,8 +1,12 @@
 package kr.co.yigil.travel.domain.course;
 
 import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.file.UploadedFiles;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.travel.domain.Course;
+import kr.co.yigil.travel.domain.PathFormat;
+import kr.co.yigil.travel.domain.PathLevel;
 import kr.co.yigil.travel.domain.course.CourseCommand.ModifyCourseRequest;
 import kr.co.yigil.travel.domain.course.CourseCommand.RegisterCourseRequest;
 import kr.co.yigil.travel.domain.course.CourseCommand.RegisterCourseRequestWithSpotInfo;
@@ -12,15 +16,20 @@ import org.springframework.data.domain.Pageable;
 
 public interface CourseService {
 
-    CourseInfo.CoursesInPlaceResponseInfo getCoursesSliceInPlace(final Long placeId, final Long memberId,final Pageable pageable);
-    void registerCourse(RegisterCourseRequest request, Long memberId);
-    void registerCourseWithoutSeries(RegisterCourseRequestWithSpotInfo request, Long memberId);
-    Main retrieveCourseInfo(Long courseId);
+    CourseInfo.CoursesInPlaceResponseInfo getCoursesSliceInPlace(final Long placeId, final Accessor accessor,final Pageable pageable);
+
+    CourseInfo.CoursesInPlaceResponseInfo getCoursesSliceInPlace(Long placeId, Accessor accessor, Cursor cursor, int size);
+    void registerCourse(RegisterCourseRequest request, Long memberId, UploadedFiles uploadedFiles);
+    void registerCourseWithoutSeries(RegisterCourseRequestWithSpotInfo request, Long memberId,
+            UploadedFiles uploadedFiles);
+    Main retrieveCourseInfo(Long courseId, PathLevel pathLevel, PathFormat pathFormat);
     Course modifyCourse(ModifyCourseRequest command, Long courseId, Long memberId);
     void deleteCourse(Long courseId, Long memberId);
 
     CourseInfo.MyCoursesResponse retrieveCourseList(Long memberId, Pageable pageable, Selected selected);
     CourseInfo.Slice searchCourseByPlaceName(String keyword, Accessor accessor, Pageable pageable);
+    CourseInfo.NearSlice searchCoursesNear(Double x, Double y, Long placeId, double radius, Accessor accessor,
+            Pageable pageable);
 
     CourseInfo.MyFavoriteCoursesInfo getFavoriteCoursesInfo(Long memberId, PageRequest pageRequest);
 }
@@ -1,20 +1,27 @@
 package kr.co.yigil.travel.domain.course;
 
 import kr.co.yigil.auth.domain.Accessor;
-import kr.co.yigil.favor.domain.FavorReader;
-import kr.co.yigil.file.FileUploader;
-import kr.co.yigil.follow.domain.FollowReader;
+import kr.co.yigil.feed.domain.FeedStore;
+import kr.co.yigil.file.UploadedFiles;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.global.exception.AuthException;
+import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.domain.MemberReader;
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceReader;
+import kr.co.yigil.relation.domain.RelationLoader;
 import kr.co.yigil.travel.domain.Course;
+import kr.co.yigil.travel.domain.PathFormat;
+import kr.co.yigil.travel.domain.PathLevel;
 import kr.co.yigil.travel.domain.Spot;
 import kr.co.yigil.travel.domain.course.CourseCommand.ModifyCourseRequest;
 import kr.co.yigil.travel.domain.course.CourseCommand.RegisterCourseRequest;
 import kr.co.yigil.travel.domain.course.CourseCommand.RegisterCourseRequestWithSpotInfo;
 import kr.co.yigil.travel.domain.course.CourseInfo.CourseSearchInfo;
 import kr.co.yigil.travel.domain.course.CourseInfo.Main;
+import kr.co.yigil.travel.domain.dto.CourseDistanceDto;
 import kr.co.yigil.travel.domain.dto.CourseListDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -25,65 +32,90 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static kr.co.yigil.global.exception.ExceptionCode.INVALID_AUTHORITY;
+import static kr.co.yigil.global.exception.ExceptionCode.INVALID_CORRIDOR_SEARCH;
 
 @Service
 @RequiredArgsConstructor
 public class CourseServiceImpl implements CourseService {
 
+    static final double MAX_CORRIDOR_RADIUS = 5_000;
+
     private final MemberReader memberReader;
+    private final PlaceReader placeReader;
     private final CourseReader courseReader;
-    private final FavorReader favorReader;
-    private final FollowReader followReader;
+    private final CourseCorridorIndex courseCorridorIndex;
+    private final RelationLoader relationLoader;
     private final CourseStore courseStore;
+    private final FeedStore feedStore;
 
     private final CourseSeriesFactory courseSeriesFactory;
     private final CourseSpotSeriesFactory courseSpotSeriesFactory;
 
-    private final FileUploader fileUploader;
-
     @Override
     @Transactional(readOnly = true)
-    public CourseInfo.CoursesInPlaceResponseInfo getCoursesSliceInPlace(final Long placeId, final Long memberId, final Pageable pageable) {
+    public CourseInfo.CoursesInPlaceResponseInfo getCoursesSliceInPlace(final Long placeId, final Accessor accessor, final Pageable pageable) {
         var courseseSlice = courseReader.getCoursesSliceInPlace(placeId, pageable);
-        List<CourseInfo.CourseInPlaceInfo> courseInPlaceInfoList = courseseSlice.getContent().stream()
-                .map(course -> {
-                    boolean isLiked = favorReader.existsByMemberIdAndTravelId(memberId, course.getId());
-                    boolean isFollowing = followReader.isFollowing(memberId, course.getMember().getId());
-                    return new CourseInfo.CourseInPlaceInfo(course, isLiked, isFollowing);
-                })
+        return new CourseInfo.CoursesInPlaceResponseInfo(toCourseInPlaceInfos(courseseSlice.getContent(), accessor),
+                courseseSlice.hasNext());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CourseInfo.CoursesInPlaceResponseInfo getCoursesSliceInPlace(final Long placeId, final Accessor accessor,
+                                                                        final Cursor cursor, final int size) {
+        var courseSlice = courseReader.getCoursesSliceInPlace(placeId, cursor, size);
+        return new CourseInfo.CoursesInPlaceResponseInfo(toCourseInPlaceInfos(courseSlice.getContent(), accessor),
+                courseSlice.hasNext(), Cursor.next(courseSlice, Course::getCreatedAt, Course::getId));
+    }
+
+    private List<CourseInfo.CourseInPlaceInfo> toCourseInPlaceInfos(List<Course> courses, Accessor accessor) {
+        Long viewerId = accessor.isMember() ? accessor.getMemberId() : null;
+        Set<Long> likedCourseIds = relationLoader.getLikedTravelIds(viewerId, getCourseIds(courses));
+        Set<Long> followingIds = relationLoader.getFollowingMemberIds(viewerId, getOwnerIds(courses));
+        return courses.stream()
+                .map(course -> new CourseInfo.CourseInPlaceInfo(course, likedCourseIds.contains(course.getId()),
+                        followingIds.contains(course.getMember().getId())))
                 .toList();
-        return new CourseInfo.CoursesInPlaceResponseInfo(courseInPlaceInfoList, courseseSlice.hasNext());
     }
 
     @Override
     @Transactional
-    public void registerCourse(final RegisterCourseRequest command, final Long memberId) {
+    public void registerCourse(final RegisterCourseRequest command, final Long memberId,
+                               final UploadedFiles uploadedFiles) {
         Member member = memberReader.getMember(memberId);
-        var spots = courseSpotSeriesFactory.store(command, memberId);
-        var mapStaticImage = fileUploader.upload(command.getMapStaticImageFile());
+        var spots = courseSpotSeriesFactory.store(command, memberId, uploadedFiles);
+        var mapStaticImage = uploadedFiles.get(command.getMapStaticImageFile(), command.getMapStaticImageFileKey());
         var initCourse = command.toEntity(spots, member, mapStaticImage);
-        courseStore.store(initCourse);
+        var course = courseStore.store(initCourse);
+        courseCorridorIndex.add(course);
+        publishIfPublic(course, memberId);
     }
 
     @Override
     @Transactional
     public void registerCourseWithoutSeries(final RegisterCourseRequestWithSpotInfo command,
-                                            final Long memberId) {
+                                            final Long memberId, final UploadedFiles uploadedFiles) {
         Member member = memberReader.getMember(memberId);
         var spots = courseSpotSeriesFactory.store(command, memberId);
-        var mapStaticImage = fileUploader.upload(command.getMapStaticImageFile());
+        var mapStaticImage = uploadedFiles.get(command.getMapStaticImageFile(), command.getMapStaticImageFileKey());
         var initCourse = command.toEntity(spots, member, mapStaticImage);
-        courseStore.store(initCourse);
+        var course = courseStore.store(initCourse);
+        courseCorridorIndex.add(course);
+        publishIfPublic(course, memberId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Main retrieveCourseInfo(final Long courseId) {
+    public Main retrieveCourseInfo(final Long courseId, final PathLevel pathLevel, final PathFormat pathFormat) {
         var course = courseReader.getCourse(courseId);
-        return new Main(course);
+        return new Main(course, pathLevel, pathFormat);
     }
 
     @Override
@@ -91,7 +123,9 @@ public class CourseServiceImpl implements CourseService {
     public Course modifyCourse(final ModifyCourseRequest command, final Long courseId, final Long memberId) {
         var course = courseReader.getCourse(courseId);
         if (!Objects.equals(course.getMember().getId(), memberId)) throw new AuthException(INVALID_AUTHORITY);
-        return courseSeriesFactory.modify(command, course);
+        var modifiedCourse = courseSeriesFactory.modify(command, course);
+        courseCorridorIndex.add(modifiedCourse);
+        return modifiedCourse;
     }
 
     @Override
@@ -119,24 +153,70 @@ public class CourseServiceImpl implements CourseService {
     public CourseInfo.Slice searchCourseByPlaceName(String keyword, Accessor accessor,
                                                     Pageable pageable) {
         var result = courseReader.searchCourseByPlaceName(keyword, pageable);
+        Long viewerId = accessor.isMember() ? accessor.getMemberId() : null;
+        Set<Long> likedCourseIds = relationLoader.getLikedTravelIds(viewerId, getCourseIds(result.getContent()));
         var courses = result.getContent().stream()
-                .map(course -> {
-                    boolean isLiked = accessor.isMember() && favorReader.existsByMemberIdAndTravelId(accessor.getMemberId(), course.getId());
-                    return new CourseSearchInfo(course, isLiked);
-                }).toList();
+                .map(course -> new CourseSearchInfo(course, likedCourseIds.contains(course.getId())))
+                .toList();
         return new CourseInfo.Slice(courses, result.hasNext());
     }
 
+    /**
+     * 경로가 좌표(또는 장소) 반경 안을 지나는 공개 코스를 가까운 순으로 돌려준다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CourseInfo.NearSlice searchCoursesNear(Double x, Double y, Long placeId, double radius, Accessor accessor,
+                                                  Pageable pageable) {
+        if (radius <= 0 || radius > MAX_CORRIDOR_RADIUS) throw new BadRequestException(INVALID_CORRIDOR_SEARCH);
+        if (placeId != null) {
+            Place place = placeReader.getPlace(placeId);
+            x = place.getLocation().getX();
+            y = place.getLocation().getY();
+        }
+        if (x == null || y == null) throw new BadRequestException(INVALID_CORRIDOR_SEARCH);
+
+        var distances = courseReader.getCourseDistancesNear(x, y, radius, pageable);
+        List<Long> courseIds = distances.getContent().stream()
+                .map(CourseDistanceDto::getId)
+                .toList();
+        Map<Long, Course> courses = courseReader.getCourses(courseIds).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+        Long viewerId = accessor.isMember() ? accessor.getMemberId() : null;
+        Set<Long> likedCourseIds = relationLoader.getLikedTravelIds(viewerId, courseIds);
+        var infos = distances.getContent().stream()
+                .filter(distance -> courses.containsKey(distance.getId()))
+                .map(distance -> new CourseInfo.CourseNearInfo(courses.get(distance.getId()), distance.getDistance(),
+                        likedCourseIds.contains(distance.getId())))
+                .toList();
+        return new CourseInfo.NearSlice(infos, distances.hasNext());
+    }
+
     @Override
     public CourseInfo.MyFavoriteCoursesInfo getFavoriteCoursesInfo(Long memberId, PageRequest pageRequest) {
         Slice<Course> favoriteCourses = courseReader.getFavoriteCourses(memberId, pageRequest);
+        Set<Long> followingIds = relationLoader.getFollowingMemberIds(memberId,
+                getOwnerIds(favoriteCourses.getContent()));
         List<CourseInfo.FavoriteCourseInfo> favoriteCourseInfoList = favoriteCourses.getContent().stream()
-                .map(course -> {
-                            boolean isFollowing = followReader.isFollowing(memberId, course.getMember().getId());
-                            return new CourseInfo.FavoriteCourseInfo(course, isFollowing);
-                        }
-                )
+                .map(course -> new CourseInfo.FavoriteCourseInfo(course,
+                        followingIds.contains(course.getMember().getId())))
                 .toList();
         return new CourseInfo.MyFavoriteCoursesInfo(favoriteCourseInfoList, favoriteCourses.hasNext());
     }
+
+    private void publishIfPublic(Course course, Long memberId) {
+        if (!course.isPrivate()) feedStore.publish(memberId, course.getId());
+    }
+
+    private List<Long> getCourseIds(List<Course> courses) {
+        return courses.stream()
+                .map(Course::getId)
+                .toList();
+    }
+
+    private List<Long> getOwnerIds(List<Course> courses) {
+        return courses.stream()
+                .map(course -> course.getMember().getId())
+                .toList();
+    }
 }
@@ -13,6 +13,7 @@ import lombok.ToString;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 public class SpotCommand {
@@ -26,6 +27,7 @@ public class SpotCommand {
         private final String description;
         private final double rate;
         private final List<MultipartFile> files;
+        private final List<String> fileKeys;
         private final RegisterPlaceRequest registerPlaceRequest;
 
         public Spot toEntity(Member member, Place place, boolean isInCourse, AttachFiles attachFiles) {
@@ -39,6 +41,25 @@ public class SpotCommand {
                     rate
             );
         }
+
+        public List<MultipartFile> getUploadFiles() {
+            List<MultipartFile> uploadFiles = new ArrayList<>();
+            if (fileKeys == null || fileKeys.isEmpty()) {
+                uploadFiles.addAll(files == null ? List.of() : files);
+            }
+            if (registerPlaceRequest.getMapStaticImageFileKey() == null) {
+                uploadFiles.add(registerPlaceRequest.getMapStaticImageFile());
+            }
+            return uploadFiles;
+        }
+
+        public List<String> getUploadKeys() {
+            List<String> uploadKeys = new ArrayList<>(fileKeys == null ? List.of() : fileKeys);
+            if (registerPlaceRequest.getMapStaticImageFileKey() != null) {
+                uploadKeys.add(registerPlaceRequest.getMapStaticImageFileKey());
+            }
+            return uploadKeys;
+        }
     }
 
     @Getter
@@ -47,6 +68,7 @@ public class SpotCommand {
     public static class RegisterPlaceRequest {
 
         private final MultipartFile mapStaticImageFile;
+        private final String mapStaticImageFileKey;
         private final String placeName;
         private final String placeAddress;
         private final String placePointJson;
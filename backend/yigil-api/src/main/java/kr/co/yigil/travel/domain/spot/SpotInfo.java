@@ -1,5 +1,6 @@
 package kr.co.yigil.travel.domain.spot;
 
+import kr.co.yigil.file.ImageVariant;
 import kr.co.yigil.travel.domain.Spot;
 import kr.co.yigil.travel.domain.dto.SpotListDto;
 import lombok.Getter;
@@ -119,10 +120,16 @@ public class SpotInfo {
     public static class Slice {
         private final List<Main> spots;
         private final boolean hasNext;
+        private final String nextCursor;
 
         public Slice(List<Main> mains, boolean hasNext) {
+            this(mains, hasNext, null);
+        }
+
+        public Slice(List<Main> mains, boolean hasNext, String nextCursor) {
             this.spots = mains;
             this.hasNext = hasNext;
+            this.nextCursor = nextCursor;
         }
     }
 
@@ -156,7 +163,7 @@ public class SpotInfo {
             this.placeId = spot.getPlace().getId();
             this.placeName = spot.getPlace().getName();
             this.rate = spot.getRate();
-            this.imageUrl = spot.getRepresentativeImageUrl();
+            this.imageUrl = spot.getRepresentativeImageUrl(ImageVariant.THUMB);
             this.createdDate = spot.getCreatedAt().toString();
 
             this.writerId = spot.getMember().getId();
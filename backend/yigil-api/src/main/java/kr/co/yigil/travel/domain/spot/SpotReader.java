@@ -1,12 +1,16 @@
 package kr.co.yigil.travel.domain.spot;
 
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.travel.domain.Spot;
+import kr.co.yigil.travel.domain.dto.PlaceSpotStatDto;
+import kr.co.yigil.travel.domain.dto.PlaceSpotTimeDto;
 import kr.co.yigil.travel.domain.dto.SpotListDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +23,8 @@ public interface SpotReader {
 
     Slice<Spot> getSpotSliceInPlace(Long placeId, Pageable pageable);
 
+    Slice<Spot> getSpotSliceInPlace(Long placeId, Cursor cursor, int size);
+
     int getSpotCountInPlace(Long placeId);
 
     Page<Spot> getSpotSliceByMemberId(Long memberId, Pageable pageable);
@@ -29,6 +35,10 @@ public interface SpotReader {
 
     double getSpotTotalRateInPlace(Long placeId);
 
+    List<PlaceSpotStatDto> getSpotStatsInPlaces(List<Long> placeIds);
+
+    List<PlaceSpotTimeDto> getPlaceSpotTimes(LocalDateTime since, LocalDateTime until);
+
     boolean isExistSpot(Long spotId, Long memberId);
 
     List<Spot> getMemberSpots(Long memberId, List<Long> spotIds);
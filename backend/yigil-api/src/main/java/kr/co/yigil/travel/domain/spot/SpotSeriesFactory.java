@@ -1,6 +1,7 @@
 package kr.co.yigil.travel.domain.spot;
 
 import kr.co.yigil.file.AttachFiles;
+import kr.co.yigil.file.UploadedFiles;
 import kr.co.yigil.travel.domain.Spot;
 import kr.co.yigil.travel.domain.spot.SpotCommand.ModifySpotRequest;
 import kr.co.yigil.travel.domain.spot.SpotCommand.RegisterSpotRequest;
@@ -9,5 +10,5 @@ public interface SpotSeriesFactory {
 
     Spot modify(ModifySpotRequest command, Spot spot);
 
-    AttachFiles initAttachFiles(RegisterSpotRequest command);
+    AttachFiles initAttachFiles(RegisterSpotRequest command, UploadedFiles uploadedFiles);
 }
@@ -1,6 +1,8 @@
 package kr.co.yigil.travel.domain.spot;
 
 import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.file.UploadedFiles;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.travel.domain.course.CourseInfo;
 import kr.co.yigil.travel.domain.spot.SpotCommand.ModifySpotRequest;
@@ -15,9 +17,11 @@ public interface SpotService {
 
     Slice getSpotSliceInPlace(Long placeId, Accessor accessor, Pageable pageable);
 
+    Slice getSpotSliceInPlace(Long placeId, Accessor accessor, Cursor cursor, int size);
+
     public SpotInfo.MySpot retrieveMySpotInfoInPlace(Long placeId, Long memberId);
 
-    void registerSpot(RegisterSpotRequest command, Long memberId);
+    void registerSpot(RegisterSpotRequest command, Long memberId, UploadedFiles uploadedFiles);
 
     public SpotInfo.Main retrieveSpotInfo(Long spotId);
 
@@ -1,10 +1,10 @@
 package kr.co.yigil.travel.domain.spot;
 
 import kr.co.yigil.auth.domain.Accessor;
-import kr.co.yigil.favor.domain.FavorReader;
+import kr.co.yigil.feed.domain.FeedStore;
 import kr.co.yigil.file.AttachFile;
-import kr.co.yigil.file.FileUploader;
-import kr.co.yigil.follow.domain.FollowReader;
+import kr.co.yigil.file.UploadedFiles;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.global.exception.AuthException;
 import kr.co.yigil.global.exception.BadRequestException;
@@ -12,9 +12,13 @@ import kr.co.yigil.global.exception.ExceptionCode;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.domain.MemberReader;
 import kr.co.yigil.place.domain.Place;
-import kr.co.yigil.place.domain.PlaceCacheStore;
+import kr.co.yigil.place.domain.PlaceListCacheStore;
 import kr.co.yigil.place.domain.PlaceReader;
+import kr.co.yigil.place.domain.PlaceStatsStore;
 import kr.co.yigil.place.domain.PlaceStore;
+import kr.co.yigil.place.domain.PlaceTrendStore;
+import kr.co.yigil.relation.domain.RelationLoader;
+import kr.co.yigil.travel.domain.Spot;
 import kr.co.yigil.travel.domain.course.CourseInfo;
 import kr.co.yigil.travel.domain.spot.SpotCommand.ModifySpotRequest;
 import kr.co.yigil.travel.domain.spot.SpotCommand.RegisterPlaceRequest;
@@ -31,6 +35,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,28 +45,39 @@ public class SpotServiceImpl implements SpotService {
     private final MemberReader memberReader;
     private final SpotReader spotReader;
     private final PlaceReader placeReader;
-    private final FavorReader favorReader;
-    private final FollowReader followReader;
+    private final RelationLoader relationLoader;
     private final SpotStore spotStore;
     private final PlaceStore placeStore;
-    private final PlaceCacheStore placeCacheStore;
+    private final PlaceStatsStore placeStatsStore;
+    private final PlaceListCacheStore placeListCacheStore;
+    private final PlaceTrendStore placeTrendStore;
+    private final FeedStore feedStore;
 
     private final SpotSeriesFactory spotSeriesFactory;
-    private final FileUploader fileUploader;
 
     @Override
     @Transactional(readOnly = true)
     public Slice getSpotSliceInPlace(final Long placeId, final Accessor accessor, final Pageable pageable) {
         var slice = spotReader.getSpotSliceInPlace(placeId, pageable);
-        var mains = slice.getContent()
-                .stream()
-                .map(spot -> {
-                    boolean isLiked = accessor.isMember() && favorReader.existsByMemberIdAndTravelId(accessor.getMemberId(),
-                            spot.getId());
-                    boolean isFollowing = followReader.isFollowing(accessor.getMemberId(), spot.getMember().getId());
-                    return new Main(spot, isLiked, isFollowing);
-                }).collect(Collectors.toList());
-        return new Slice(mains, slice.hasNext());
+        return new Slice(toMains(slice.getContent(), accessor), slice.hasNext());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice getSpotSliceInPlace(final Long placeId, final Accessor accessor, final Cursor cursor, final int size) {
+        var slice = spotReader.getSpotSliceInPlace(placeId, cursor, size);
+        return new Slice(toMains(slice.getContent(), accessor), slice.hasNext(),
+                Cursor.next(slice, Spot::getCreatedAt, Spot::getId));
+    }
+
+    private List<Main> toMains(List<Spot> spots, Accessor accessor) {
+        Long viewerId = accessor.isMember() ? accessor.getMemberId() : null;
+        Set<Long> likedSpotIds = relationLoader.getLikedTravelIds(viewerId, getSpotIds(spots));
+        Set<Long> followingIds = relationLoader.getFollowingMemberIds(viewerId, getOwnerIds(spots));
+        return spots.stream()
+                .map(spot -> new Main(spot, likedSpotIds.contains(spot.getId()),
+                        followingIds.contains(spot.getMember().getId())))
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -73,7 +89,7 @@ public class SpotServiceImpl implements SpotService {
 
     @Override
     @Transactional
-    public void registerSpot(RegisterSpotRequest command, Long memberId) {
+    public void registerSpot(RegisterSpotRequest command, Long memberId, UploadedFiles uploadedFiles) {
         Member member = memberReader.getMember(memberId);
         Optional<Place> optionalPlace = placeReader.findPlaceByNameAndAddress(
                 command.getRegisterPlaceRequest().getPlaceName(), command.getRegisterPlaceRequest().getPlaceAddress());
@@ -81,7 +97,7 @@ public class SpotServiceImpl implements SpotService {
             throw new BadRequestException(ExceptionCode.SPOT_ALREADY_EXIST_IN_PLACE);
         }
 
-        var attachFiles = spotSeriesFactory.initAttachFiles(command);
+        var attachFiles = spotSeriesFactory.initAttachFiles(command, uploadedFiles);
 
         Place place = optionalPlace.orElseGet(() -> {
             AttachFile placeAttachFile = new AttachFile(
@@ -90,11 +106,13 @@ public class SpotServiceImpl implements SpotService {
                     attachFiles.getRepresentativeFile().getOriginalFileName(),
                     attachFiles.getRepresentativeFile().getFileSize()
             );
-            return registerNewPlace(command.getRegisterPlaceRequest(), placeAttachFile);
+            return registerNewPlace(command.getRegisterPlaceRequest(), placeAttachFile, uploadedFiles);
         });
-        placeCacheStore.incrementSpotCountInPlace(place.getId());
-        placeCacheStore.incrementSpotTotalRateInPlace(place.getId(), command.getRate());
-        spotStore.store(command.toEntity(member, place, false, attachFiles));
+        Spot spot = spotStore.store(command.toEntity(member, place, false, attachFiles));
+        placeStatsStore.applySpotRegistered(place.getId(), command.getRate());
+        placeListCacheStore.evict(place);
+        placeTrendStore.record(place.getId());
+        feedStore.publish(memberId, spot.getId());
     }
 
     @Override
@@ -110,7 +128,12 @@ public class SpotServiceImpl implements SpotService {
         var spot = spotReader.getSpot(spotId);
         if (!Objects.equals(spot.getMember().getId(), memberId))
             throw new AuthException(ExceptionCode.INVALID_AUTHORITY);
+        double previousRate = spot.getRate();
         spotSeriesFactory.modify(command, spot);
+        if (spot.getPlace() != null) {
+            placeStatsStore.applySpotRateChanged(spot.getPlace().getId(), previousRate, command.getRate());
+            placeListCacheStore.evict(spot.getPlace());
+        }
     }
 
     @Override
@@ -119,15 +142,16 @@ public class SpotServiceImpl implements SpotService {
         var spot = spotReader.getSpot(spotId);
         if (!Objects.equals(spot.getMember().getId(), memberId)) throw new AuthException(
                 ExceptionCode.INVALID_AUTHORITY);
+        spotStore.remove(spot);
         if (spot.getPlace() != null) {
-            placeCacheStore.decrementSpotCountInPlace(spot.getPlace().getId());
-            placeCacheStore.decrementSpotTotalRateInPlace(spot.getPlace().getId(), spot.getRate());
+            placeStatsStore.applySpotDeleted(spot.getPlace().getId(), spot.getRate());
+            placeListCacheStore.evict(spot.getPlace());
         }
-        spotStore.remove(spot);
     }
 
-    private Place registerNewPlace(RegisterPlaceRequest command, AttachFile placeImageFile) {
-        var mapStaticImage = fileUploader.upload(command.getMapStaticImageFile());
+    private Place registerNewPlace(RegisterPlaceRequest command, AttachFile placeImageFile,
+            UploadedFiles uploadedFiles) {
+        var mapStaticImage = uploadedFiles.get(command.getMapStaticImageFile(), command.getMapStaticImageFileKey());
         return placeStore.store(command.toEntity(placeImageFile, mapStaticImage));
     }
 
@@ -156,14 +180,22 @@ public class SpotServiceImpl implements SpotService {
     @Transactional(readOnly = true)
     public SpotInfo.MyFavoriteSpotsInfo getFavoriteSpotsInfo(Long memberId, Pageable pageRequest) {
         var sliceSpot = spotReader.getFavoriteSpotList(memberId, pageRequest);
+        Set<Long> followingIds = relationLoader.getFollowingMemberIds(memberId, getOwnerIds(sliceSpot.getContent()));
         List<SpotInfo.FavoriteSpotInfo> spotInfoList = sliceSpot.getContent().stream()
-                .map(spot -> {
-                            boolean isFollowing = followReader.isFollowing(memberId, spot.getMember().getId());
-                            return new SpotInfo.FavoriteSpotInfo(spot, isFollowing);
-                        }
-
-                )
+                .map(spot -> new SpotInfo.FavoriteSpotInfo(spot, followingIds.contains(spot.getMember().getId())))
                 .toList();
         return new SpotInfo.MyFavoriteSpotsInfo(spotInfoList, sliceSpot.hasNext());
     }
+
+    private List<Long> getSpotIds(List<Spot> spots) {
+        return spots.stream()
+                .map(Spot::getId)
+                .toList();
+    }
+
+    private List<Long> getOwnerIds(List<Spot> spots) {
+        return spots.stream()
+                .map(spot -> spot.getMember().getId())
+                .toList();
+    }
 }
\ No newline at end of file
@@ -24,4 +24,14 @@ public class TravelReaderImpl implements TravelReader {
         return travelRepository.findAllById(travelIds);
     }
 
+    @Override
+    public long countMemberTravels(Long memberId, List<Long> travelIds) {
+        return travelRepository.countByIdInAndMemberId(travelIds, memberId);
+    }
+
+    @Override
+    public List<Long> getTravelIdsNotInCourse(List<Long> travelIds) {
+        return travelRepository.findIdsNotInCourse(travelIds);
+    }
+
 }
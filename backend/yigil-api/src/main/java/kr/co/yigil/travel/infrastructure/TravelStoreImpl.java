@@ -0,0 +1,17 @@
+package kr.co.yigil.travel.infrastructure;
+
+import java.util.List;
+import kr.co.yigil.travel.domain.TravelStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TravelStoreImpl implements TravelStore {
+    private final TravelRepository travelRepository;
+
+    @Override
+    public int changeVisibility(Long memberId, List<Long> travelIds, boolean isPrivate) {
+        return travelRepository.updateVisibility(memberId, travelIds, isPrivate);
+    }
+}
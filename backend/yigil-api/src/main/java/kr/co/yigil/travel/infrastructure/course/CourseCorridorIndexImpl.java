@@ -0,0 +1,117 @@
+package kr.co.yigil.travel.infrastructure.course;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import kr.co.yigil.travel.domain.Course;
+import kr.co.yigil.travel.domain.course.CourseCorridorIndex;
+import kr.co.yigil.travel.domain.dto.CourseEnvelopeDto;
+import kr.co.yigil.travel.infrastructure.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 코스 경로의 bounding box를 메모리의 STRtree에 두고, 반경 검색 전에 경로가 지나갈 수 있는 코스만 후보로 고른다.
+ * 후보는 실제 결과를 모두 포함하기만 하면 되므로 비공개·삭제 여부는 DB 쿼리에 맡기고, 경로 변경은 pending에 덮어쓴 뒤 주기적으로 전체를 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseCorridorIndexImpl implements CourseCorridorIndex {
+
+    static final int LOAD_CHUNK_SIZE = 10_000;
+    static final double METERS_PER_DEGREE = 111_320.0;
+
+    private final CourseRepository courseRepository;
+
+    private final Map<Long, Envelope> pending = new ConcurrentHashMap<>();
+    private volatile STRtree tree;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${course.corridor-index.refresh-delay:600000}",
+            fixedDelayString = "${course.corridor-index.refresh-delay:600000}")
+    public void load() {
+        Map<Long, Envelope> loadingPending = new HashMap<>(pending);
+        STRtree loaded = new STRtree();
+        int size = 0;
+        long lastId = 0L;
+        List<CourseEnvelopeDto> chunk;
+        do {
+            chunk = courseRepository.findCourseEnvelopesAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (CourseEnvelopeDto course : chunk) {
+                loaded.insert(course.getEnvelope(), course.getId());
+            }
+            size += chunk.size();
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+        loaded.build();
+
+        tree = loaded;
+        loadingPending.forEach(pending::remove);
+        log.info("course corridor index loaded. size={}", size);
+    }
+
+    @Override
+    public boolean isReady() {
+        return tree != null;
+    }
+
+    /**
+     * 기준 좌표를 반경만큼 넓힌 사각형과 경로 범위가 겹치는 코스 id를 돌려준다. 경도 1도의 길이는 위도에 따라 줄어들므로 따로 계산한다.
+     */
+    @Override
+    public List<Long> findCandidateIds(double x, double y, double meters) {
+        double latitudeDelta = meters / METERS_PER_DEGREE;
+        double longitudeDelta = meters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(y)), 0.01));
+        Envelope searchEnvelope = new Envelope(x - longitudeDelta, x + longitudeDelta,
+                y - latitudeDelta, y + latitudeDelta);
+
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (Object id : tree.query(searchEnvelope)) {
+            candidates.add((Long) id);
+        }
+        pending.forEach((id, envelope) -> {
+            if (envelope.intersects(searchEnvelope)) {
+                candidates.add(id);
+            }
+        });
+        return new ArrayList<>(candidates);
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영한다.
+     */
+    @Override
+    public void add(Course course) {
+        if (course.getPath() == null) {
+            return;
+        }
+        Long courseId = course.getId();
+        Envelope envelope = course.getPath().getEnvelopeInternal();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.put(courseId, envelope);
+                }
+            });
+            return;
+        }
+        pending.put(courseId, envelope);
+    }
+}
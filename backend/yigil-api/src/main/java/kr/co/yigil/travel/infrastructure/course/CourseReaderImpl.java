@@ -1,10 +1,14 @@
 package kr.co.yigil.travel.infrastructure.course;
 
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.global.exception.ExceptionCode;
+import kr.co.yigil.place.domain.PlaceSearchIndex;
 import kr.co.yigil.travel.domain.Course;
+import kr.co.yigil.travel.domain.course.CourseCorridorIndex;
 import kr.co.yigil.travel.domain.course.CourseReader;
+import kr.co.yigil.travel.domain.dto.CourseDistanceDto;
 import kr.co.yigil.travel.domain.dto.CourseListDto;
 import kr.co.yigil.travel.infrastructure.CourseQueryDslRepository;
 import kr.co.yigil.travel.infrastructure.CourseRepository;
@@ -12,14 +16,23 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class CourseReaderImpl implements CourseReader {
 
+    static final int PLACE_CANDIDATE_LIMIT = 1_000;
+    static final int CORRIDOR_CANDIDATE_LIMIT = 1_000;
+
     private final CourseRepository courseRepository;
     private final CourseQueryDslRepository courseQueryDslRepository;
+    private final PlaceSearchIndex placeSearchIndex;
+    private final CourseCorridorIndex courseCorridorIndex;
 
     @Override
     public Course getCourse(final Long courseId) {
@@ -32,19 +45,72 @@ public class CourseReaderImpl implements CourseReader {
         return courseRepository.findBySpots_PlaceIdAndIsPrivateFalse(placeId, pageable);
     }
 
+    @Override
+    public Slice<Course> getCoursesSliceInPlace(final Long placeId, final Cursor cursor, final int size) {
+        if (cursor.isFirst()) {
+            return courseRepository.findBySpots_PlaceIdAndIsPrivateFalse(placeId,
+                    Cursor.firstPage(size, Direction.DESC));
+        }
+        return courseRepository.findSliceInPlaceBefore(placeId, cursor.getCreatedAt(), cursor.getId(),
+                Cursor.nextPage(size));
+    }
+
     @Override
     public Page<CourseListDto> getMemberCourseList(final Long memberId, final Pageable pageable,
         final Selected visibility) {
         return courseQueryDslRepository.findAllByMemberIdAndIsPrivate(memberId, visibility, pageable);
     }
 
+    /**
+     * 장소 검색 인덱스로 이름이 일치하는 장소를 먼저 찾아 LIKE 조인 없이 id로 코스를 조회한다.
+     * 일치하는 장소가 후보 한도를 넘으면 결과를 자르지 않도록 LIKE 조인으로 찾는다.
+     */
     @Override
     public Slice<Course> searchCourseByPlaceName(final String keyword, final Pageable pageable) {
-        return courseRepository.findByPlaceNameContaining(keyword, pageable);
+        if (!placeSearchIndex.isReady()) {
+            return courseRepository.findByPlaceNameContaining(keyword, pageable);
+        }
+        List<Long> placeIds = placeSearchIndex.searchIdsByName(keyword, PLACE_CANDIDATE_LIMIT + 1);
+        if (placeIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        if (placeIds.size() > PLACE_CANDIDATE_LIMIT) {
+            return courseRepository.findByPlaceNameContaining(keyword, pageable);
+        }
+        return courseRepository.findBySpotPlaceIdIn(placeIds, pageable);
     }
 
     @Override
     public Slice<Course> getFavoriteCourses(Long memberId, Pageable pageRequest) {
         return courseRepository.findAllMembersFavoriteCourses(memberId, pageRequest);
     }
+
+    @Override
+    public List<Course> getCourses(List<Long> courseIds) {
+        return courseRepository.findAllById(courseIds);
+    }
+
+    /**
+     * 메모리의 경로 범위로 후보를 먼저 고르고, 후보가 없으면 DB를 조회하지 않는다.
+     * 인덱스가 아직 없거나 후보가 너무 많은 곳은 GiST 인덱스만으로 찾는다.
+     */
+    @Override
+    public Slice<CourseDistanceDto> getCourseDistancesNear(final double x, final double y, final double meters,
+            final Pageable pageable) {
+        int limit = pageable.getPageSize() + 1;
+        List<CourseDistanceDto> distances;
+        if (courseCorridorIndex.isReady()) {
+            List<Long> candidateIds = courseCorridorIndex.findCandidateIds(x, y, meters);
+            if (candidateIds.isEmpty()) {
+                return new SliceImpl<>(List.of(), pageable, false);
+            }
+            distances = candidateIds.size() <= CORRIDOR_CANDIDATE_LIMIT
+                    ? courseRepository.findPublicCoursesNearIn(candidateIds, x, y, meters, limit, pageable.getOffset())
+                    : courseRepository.findPublicCoursesNear(x, y, meters, limit, pageable.getOffset());
+        } else {
+            distances = courseRepository.findPublicCoursesNear(x, y, meters, limit, pageable.getOffset());
+        }
+        boolean hasNext = distances.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? distances.subList(0, pageable.getPageSize()) : distances, pageable, hasNext);
+    }
 }
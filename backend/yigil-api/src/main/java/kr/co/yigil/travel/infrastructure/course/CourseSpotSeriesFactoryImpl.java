@@ -2,13 +2,15 @@ package kr.co.yigil.travel.infrastructure.course;
 
 import kr.co.yigil.file.AttachFile;
 import kr.co.yigil.file.AttachFiles;
-import kr.co.yigil.file.FileUploader;
+import kr.co.yigil.file.UploadedFiles;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.domain.MemberReader;
 import kr.co.yigil.place.domain.Place;
-import kr.co.yigil.place.domain.PlaceCacheStore;
+import kr.co.yigil.place.domain.PlaceListCacheStore;
 import kr.co.yigil.place.domain.PlaceReader;
+import kr.co.yigil.place.domain.PlaceStatsStore;
 import kr.co.yigil.place.domain.PlaceStore;
+import kr.co.yigil.place.domain.PlaceTrendStore;
 import kr.co.yigil.travel.domain.Spot;
 import kr.co.yigil.travel.domain.course.CourseCommand.RegisterCourseRequest;
 import kr.co.yigil.travel.domain.course.CourseCommand.RegisterCourseRequestWithSpotInfo;
@@ -21,7 +23,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -34,22 +38,25 @@ public class CourseSpotSeriesFactoryImpl implements CourseSpotSeriesFactory {
 
     private final PlaceStore placeStore;
     private final SpotStore spotStore;
-    private final PlaceCacheStore placeCacheStore;
+    private final PlaceStatsStore placeStatsStore;
+    private final PlaceListCacheStore placeListCacheStore;
+    private final PlaceTrendStore placeTrendStore;
 
-    private final FileUploader fileUploader;
     @Override
-    public List<Spot> store(RegisterCourseRequest request, Long memberId) {
+    public List<Spot> store(RegisterCourseRequest request, Long memberId, UploadedFiles uploadedFiles) {
         var courseSpotRequestList = request.getRegisterSpotRequests();
         if (CollectionUtils.isEmpty(courseSpotRequestList)) return Collections.emptyList();
         Member member = memberReader.getMember(memberId);
 
-        return courseSpotRequestList.stream()
+        Map<Long, Integer> spotCounts = new HashMap<>();
+        Map<Long, Double> spotTotalRates = new HashMap<>();
+        List<Spot> spots = courseSpotRequestList.stream()
                 .map(registerSpotRequest -> {
                     var registerPlaceRequest = registerSpotRequest.getRegisterPlaceRequest();
                     Optional<Place> optionalPlace = placeReader.findPlaceByNameAndAddress(registerPlaceRequest.getPlaceName(), registerPlaceRequest.getPlaceAddress());
 
                     var attachFiles = new AttachFiles(registerSpotRequest.getFiles().stream()
-                            .map(fileUploader::upload)
+                            .map(uploadedFiles::get)
                             .collect(Collectors.toList()));
 
                     Place place = optionalPlace.orElseGet(() -> {
@@ -59,15 +66,20 @@ public class CourseSpotSeriesFactoryImpl implements CourseSpotSeriesFactory {
                                 attachFiles.getRepresentativeFile().getOriginalFileName(),
                                 attachFiles.getRepresentativeFile().getFileSize()
                         );
-                        return registerNewPlace(registerPlaceRequest, placeAttachFile);
+                        return registerNewPlace(registerPlaceRequest, placeAttachFile, uploadedFiles);
                     });
 
-                    placeCacheStore.incrementSpotCountInPlace(place.getId());
-                    placeCacheStore.incrementSpotTotalRateInPlace(place.getId(), registerSpotRequest.getRate());
+                    spotCounts.merge(place.getId(), 1, Integer::sum);
+                    spotTotalRates.merge(place.getId(), registerSpotRequest.getRate(), Double::sum);
+                    placeListCacheStore.evict(place);
                     var spot = spotStore.store(registerSpotRequest.toEntity(member, place, true, attachFiles));
 
                     return spot;
                 }).collect(Collectors.toList());
+
+        placeStatsStore.applySpotsRegistered(spotCounts, spotTotalRates);
+        placeTrendStore.recordAll(spotCounts);
+        return spots;
     }
 
     @Override
@@ -77,9 +89,9 @@ public class CourseSpotSeriesFactoryImpl implements CourseSpotSeriesFactory {
         return spots;
     }
 
-    private Place registerNewPlace(RegisterPlaceRequest command, AttachFile placeImage) {
+    private Place registerNewPlace(RegisterPlaceRequest command, AttachFile placeImage, UploadedFiles uploadedFiles) {
 
-        var mapStaticImage = fileUploader.upload(command.getMapStaticImageFile());
+        var mapStaticImage = uploadedFiles.get(command.getMapStaticImageFile(), command.getMapStaticImageFileKey());
         return placeStore.store(command.toEntity(placeImage, mapStaticImage));
     }
 }
@@ -1,9 +1,12 @@
 package kr.co.yigil.travel.infrastructure.spot;
 
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.global.exception.ExceptionCode;
 import kr.co.yigil.travel.domain.Spot;
+import kr.co.yigil.travel.domain.dto.PlaceSpotStatDto;
+import kr.co.yigil.travel.domain.dto.PlaceSpotTimeDto;
 import kr.co.yigil.travel.domain.dto.SpotListDto;
 import kr.co.yigil.travel.domain.spot.SpotReader;
 import kr.co.yigil.travel.infrastructure.SpotQueryDslRepository;
@@ -12,8 +15,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +56,15 @@ public class SpotReaderImpl implements SpotReader {
                 pageable);
     }
 
+    @Override
+    public Slice<Spot> getSpotSliceInPlace(Long placeId, Cursor cursor, int size) {
+        if (cursor.isFirst()) {
+            return spotRepository.findAllByPlaceIdAndIsPrivateIsFalse(placeId, Cursor.firstPage(size, Direction.DESC));
+        }
+        return spotRepository.findSliceInPlaceBefore(placeId, cursor.getCreatedAt(), cursor.getId(),
+                Cursor.nextPage(size));
+    }
+
     @Override
     public int getSpotCountInPlace(Long placeId) {
         return spotRepository.countByPlaceId(placeId);
@@ -77,6 +91,16 @@ public class SpotReaderImpl implements SpotReader {
         return spotRepository.getRateTotalByPlaceId(placeId).orElse(0.0);
     }
 
+    @Override
+    public List<PlaceSpotStatDto> getSpotStatsInPlaces(List<Long> placeIds) {
+        return spotRepository.findSpotStatsByPlaceIds(placeIds);
+    }
+
+    @Override
+    public List<PlaceSpotTimeDto> getPlaceSpotTimes(LocalDateTime since, LocalDateTime until) {
+        return spotRepository.findPlaceSpotTimesBetween(since, until);
+    }
+
     @Override
     public boolean isExistSpot(Long spotId, Long memberId) {
         return spotRepository.existsByIdAndMemberId(spotId, memberId);
@@ -4,6 +4,7 @@ import kr.co.yigil.file.AttachFile;
 import kr.co.yigil.file.AttachFiles;
 import kr.co.yigil.file.FileReader;
 import kr.co.yigil.file.FileUploader;
+import kr.co.yigil.file.UploadedFiles;
 import kr.co.yigil.travel.domain.Spot;
 import kr.co.yigil.travel.domain.spot.SpotCommand.ModifySpotRequest;
 import kr.co.yigil.travel.domain.spot.SpotCommand.RegisterSpotRequest;
@@ -52,10 +53,8 @@ public class SpotSeriesFactoryImpl implements SpotSeriesFactory {
     }
 
     @Override
-    public AttachFiles initAttachFiles(RegisterSpotRequest command) {
-        return new AttachFiles(command.getFiles().stream()
-                .map(fileUploader::upload)
-                .collect(Collectors.toList()));
+    public AttachFiles initAttachFiles(RegisterSpotRequest command, UploadedFiles uploadedFiles) {
+        return new AttachFiles(new ArrayList<>(uploadedFiles.getAll(command.getFiles(), command.getFileKeys())));
 
     }
 
@@ -4,10 +4,13 @@ package kr.co.yigil.travel.interfaces.controller;
 import kr.co.yigil.auth.Auth;
 import kr.co.yigil.auth.MemberOnly;
 import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.global.SortBy;
 import kr.co.yigil.global.SortOrder;
 import kr.co.yigil.travel.application.CourseFacade;
+import kr.co.yigil.travel.domain.PathFormat;
+import kr.co.yigil.travel.domain.PathLevel;
 import kr.co.yigil.travel.domain.course.CourseInfo;
 import kr.co.yigil.travel.interfaces.dto.CourseDetailInfoDto;
 import kr.co.yigil.travel.interfaces.dto.mapper.CourseMapper;
@@ -38,13 +41,19 @@ public class CourseApiController {
             @PageableDefault(size = 5, page = 1) Pageable pageable,
             @Auth Accessor accessor,
             @RequestParam(name = "sortBy", defaultValue = "created_at", required = false) SortBy sortBy,
-            @RequestParam(name = "sortOrder", defaultValue = "desc", required = false) SortOrder sortOrder
+            @RequestParam(name = "sortOrder", defaultValue = "desc", required = false) SortOrder sortOrder,
+            @RequestParam(name = "cursor", required = false) String cursor
     ) {
+        if (cursor != null) {
+            var result = courseFacade.getCourseSliceInPlace(placeId, accessor, Cursor.decode(cursor),
+                    pageable.getPageSize());
+            return ResponseEntity.ok().body(courseMapper.courseSliceToCourseInPlaceResponse(result));
+        }
         Sort.Direction direction = Sort.Direction.fromString(sortOrder.getValue().toUpperCase());
         PageRequest pageRequest = PageRequest.of(pageable.getPageNumber() - 1,
                 pageable.getPageSize(),
                 Sort.by(direction, sortBy.getValue()));
-        var result = courseFacade.getCourseSliceInPlace(placeId, accessor.getMemberId(), pageRequest);
+        var result = courseFacade.getCourseSliceInPlace(placeId, accessor, pageRequest);
         var response = courseMapper.courseSliceToCourseInPlaceResponse(result);
         return ResponseEntity.ok().body(response);
     }
@@ -75,8 +84,10 @@ public class CourseApiController {
 
     @GetMapping("/{courseId}")
     public ResponseEntity<CourseDetailInfoDto> retrieveCourse(
-            @PathVariable("courseId") Long courseId) {
-        var courseInfo = courseFacade.retrieveCourseInfo(courseId);
+            @PathVariable("courseId") Long courseId,
+            @RequestParam(name = "pathLevel", defaultValue = "full", required = false) PathLevel pathLevel,
+            @RequestParam(name = "pathFormat", defaultValue = "geojson", required = false) PathFormat pathFormat) {
+        var courseInfo = courseFacade.retrieveCourseInfo(courseId, pathLevel, pathFormat);
         var response = courseMapper.toCourseDetailInfoDto(courseInfo);
         return ResponseEntity.ok().body(response);
     }
@@ -143,6 +154,20 @@ public class CourseApiController {
         return ResponseEntity.ok().body(response);
     }
 
+    @GetMapping("/near")
+    public ResponseEntity<CoursesNearResponse> searchCoursesNear(
+            @Auth Accessor accessor,
+            @PageableDefault(size = 5, page = 1) Pageable pageable,
+            @RequestParam(name = "x", required = false) Double x,
+            @RequestParam(name = "y", required = false) Double y,
+            @RequestParam(name = "placeId", required = false) Long placeId,
+            @RequestParam(name = "radius", defaultValue = "500") double radius
+    ) {
+        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber() - 1, pageable.getPageSize());
+        var result = courseFacade.searchCoursesNear(x, y, placeId, radius, accessor, pageRequest);
+        return ResponseEntity.ok().body(courseMapper.toCoursesNearResponse(result));
+    }
+
     @PostMapping("/spots")
     public ResponseEntity<MySpotsDetailResponse> getMySpotsDetailInfo(
             @RequestBody MySpotsDetailRequest request,
@@ -3,6 +3,7 @@ package kr.co.yigil.travel.interfaces.controller;
 import kr.co.yigil.auth.Auth;
 import kr.co.yigil.auth.MemberOnly;
 import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.global.SortBy;
 import kr.co.yigil.global.SortOrder;
@@ -37,8 +38,14 @@ public class SpotApiController {
             @Auth Accessor accessor,
             @PageableDefault(size = 5, page = 1) Pageable pageable,
             @RequestParam(name = "sortBy", defaultValue = "created_at", required = false) SortBy sortBy,
-            @RequestParam(name = "sortOrder", defaultValue = "desc", required = false) SortOrder sortOrder
+            @RequestParam(name = "sortOrder", defaultValue = "desc", required = false) SortOrder sortOrder,
+            @RequestParam(name = "cursor", required = false) String cursor
     ) {
+        if (cursor != null) {
+            var result = spotFacade.getSpotSliceInPlace(placeId, accessor, Cursor.decode(cursor),
+                    pageable.getPageSize());
+            return ResponseEntity.ok().body(spotMapper.toSpotsInPlaceResponse(result));
+        }
         Sort.Direction direction = Sort.Direction.fromString(sortOrder.getValue().toUpperCase());
         PageRequest pageRequest = PageRequest.of(pageable.getPageNumber() - 1,
                 pageable.getPageSize(),
@@ -17,6 +17,7 @@ public class CourseDetailInfoDto {
     private String description;
     private String createdDate;
     private String lineStringJson;
+    private String encodedPath;
     List<CourseSpotInfoDto> spots;
 
     @Data
@@ -0,0 +1,20 @@
+package kr.co.yigil.travel.interfaces.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CourseNearDto {
+    private Long id;
+    private String title;
+    private String mapStaticImageUrl;
+    private String ownerProfileImageUrl;
+    private String ownerNickname;
+    private int spotCount;
+    private double rate;
+    private boolean liked;
+    private LocalDateTime createDate;
+    private double distance;
+}
@@ -5,13 +5,11 @@ import kr.co.yigil.travel.domain.course.CourseInfo;
 import kr.co.yigil.travel.interfaces.dto.CourseDetailInfoDto;
 import kr.co.yigil.travel.interfaces.dto.CourseDto;
 import kr.co.yigil.travel.interfaces.dto.CourseInfoDto;
+import kr.co.yigil.travel.interfaces.dto.CourseNearDto;
 import kr.co.yigil.travel.interfaces.dto.request.CourseRegisterRequest;
 import kr.co.yigil.travel.interfaces.dto.request.CourseRegisterWithoutSeriesRequest;
 import kr.co.yigil.travel.interfaces.dto.request.CourseUpdateRequest;
 import kr.co.yigil.travel.interfaces.dto.response.*;
-import org.locationtech.jts.geom.LineString;
-import org.locationtech.jts.io.ParseException;
-import org.locationtech.jts.io.geojson.GeoJsonReader;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -35,6 +33,7 @@ public interface CourseMapper {
             @Mapping(target = "representativeSpotOrder", source = "representativeSpotOrder"),
             @Mapping(target = "lineStringJson", source = "lineStringJson"),
             @Mapping(target = "mapStaticImageFile", source = "mapStaticImageFile"),
+            @Mapping(target = "mapStaticImageFileKey", source = "mapStaticImageFileKey"),
             @Mapping(target = "registerSpotRequests", source = "spotRegisterRequests")
     })
     CourseCommand.RegisterCourseRequest toRegisterCourseRequest(CourseRegisterRequest request);
@@ -47,6 +46,7 @@ public interface CourseMapper {
             @Mapping(target = "representativeSpotOrder", source = "representativeSpotOrder"),
             @Mapping(target = "lineStringJson", source = "lineStringJson"),
             @Mapping(target = "mapStaticImageFile", source = "mapStaticImageFile"),
+            @Mapping(target = "mapStaticImageFileKey", source = "mapStaticImageFileKey"),
             @Mapping(target = "spotIds", source = "spotIds")
     })
     CourseCommand.RegisterCourseRequestWithSpotInfo toRegisterCourseRequest(
@@ -58,10 +58,6 @@ public interface CourseMapper {
     })
     CourseCommand.ModifyCourseRequest toModifyCourseRequest(CourseUpdateRequest courseUpdateRequest);
 
-    default LineString map(String lineStringJson) throws ParseException {
-        return (LineString) new GeoJsonReader().read(lineStringJson);
-    }
-
 
 
     @Mappings({
@@ -98,6 +94,10 @@ public interface CourseMapper {
     @Mapping(target = "createDate", source = "createDate")
     CourseDto toCourseDto(CourseInfo.CourseSearchInfo courseSearchInfo);
 
+    CoursesNearResponse toCoursesNearResponse(CourseInfo.NearSlice slice);
+
+    CourseNearDto toCourseNearDto(CourseInfo.CourseNearInfo courseNearInfo);
+
     @Mapping(target = "spotDetails", source = "mySpotDetailDtoList")
     MySpotsDetailResponse toMySpotsDetailResponse(CourseInfo.MySpotsInfo infos);
 
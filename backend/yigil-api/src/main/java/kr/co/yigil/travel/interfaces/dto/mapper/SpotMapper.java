@@ -70,10 +70,12 @@ public interface SpotMapper {
 
     @Mappings({
             @Mapping(target = "registerPlaceRequest.mapStaticImageFile", source = "mapStaticImageFile"),
+            @Mapping(target = "registerPlaceRequest.mapStaticImageFileKey", source = "mapStaticImageFileKey"),
             @Mapping(target = "registerPlaceRequest.placeName", source = "placeName"),
             @Mapping(target = "registerPlaceRequest.placeAddress", source = "placeAddress"),
             @Mapping(target = "registerPlaceRequest.placePointJson", source = "pointJson"),
             @Mapping(target = "files", source = "files"),
+            @Mapping(target = "fileKeys", source = "fileKeys"),
             @Mapping(target = "pointJson", source = "pointJson"),
             @Mapping(target = "description", source = "description"),
             @Mapping(target = "rate", source = "rate")
@@ -83,6 +85,7 @@ public interface SpotMapper {
     default SpotCommand.RegisterPlaceRequest toRegisterPlaceRequest(SpotRegisterRequest request) {
         return SpotCommand.RegisterPlaceRequest.builder()
                 .mapStaticImageFile(request.getMapStaticImageFile())
+                .mapStaticImageFileKey(request.getMapStaticImageFileKey())
                 .placeName(request.getPlaceName())
                 .placeAddress(request.getPlaceAddress())
                 .placePointJson(request.getPointJson())
@@ -4,6 +4,7 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.LineString;
 import org.springframework.web.multipart.MultipartFile;
 
 @Data
@@ -15,8 +16,9 @@ public class CourseRegisterRequest {
     private double rate;
     private boolean isPrivate;
     private int representativeSpotOrder;
-    private String lineStringJson;
+    private LineString lineStringJson;
     private MultipartFile mapStaticImageFile;
+    private String mapStaticImageFileKey;
     private List<SpotRegisterRequest> spotRegisterRequests;
 }
 
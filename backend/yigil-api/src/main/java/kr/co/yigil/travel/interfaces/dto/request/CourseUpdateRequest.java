@@ -3,6 +3,7 @@ package kr.co.yigil.travel.interfaces.dto.request;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.LineString;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -14,7 +15,7 @@ public class CourseUpdateRequest {
     private String description;
     private double rate;
     private String title;
-    private String lineStringJson;
+    private LineString lineStringJson;
     private MultipartFile mapStaticImage;
     private List<Long> spotIdOrder;
     private List<SpotUpdateRequest> courseSpotUpdateRequests;
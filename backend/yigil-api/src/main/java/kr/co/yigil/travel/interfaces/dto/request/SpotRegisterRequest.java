@@ -14,9 +14,11 @@ public class SpotRegisterRequest {
     private String pointJson;
     private String description;
     private List<MultipartFile> files;
+    private List<String> fileKeys;
     private double rate;
 
     private MultipartFile mapStaticImageFile;
+    private String mapStaticImageFileKey;
     private String placeName;
     private String placeAddress;
 }
@@ -12,4 +12,5 @@ import lombok.NoArgsConstructor;
 public class CoursesInPlaceResponse {
     private List<CourseInfoDto> courses;
     private boolean hasNext;
+    private String nextCursor;
 }
@@ -0,0 +1,13 @@
+package kr.co.yigil.travel.interfaces.dto.response;
+
+import java.util.List;
+import kr.co.yigil.travel.interfaces.dto.CourseNearDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CoursesNearResponse {
+    private List<CourseNearDto> courses;
+    private boolean hasNext;
+}
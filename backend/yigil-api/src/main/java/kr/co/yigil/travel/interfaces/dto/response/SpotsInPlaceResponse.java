@@ -12,4 +12,5 @@ import lombok.NoArgsConstructor;
 public class SpotsInPlaceResponse {
     private List<SpotInfoDto> spots;
     private boolean hasNext;
+    private String nextCursor;
 }
@@ -1,63 +1,52 @@
 package kr.co.yigil.travel.util;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.global.exception.ExceptionCode;
-import org.jetbrains.annotations.NotNull;
+import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Point;
-import org.locationtech.jts.io.ParseException;
-import org.locationtech.jts.io.geojson.GeoJsonReader;
-import org.locationtech.jts.io.geojson.GeoJsonWriter;
 
 public class GeojsonConverter {
 
-    public static LineString convertToLineString(String geoJson) {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new GeometryModule());
 
-        GeoJsonReader reader = getGeoJsonReader();
-        try {
-            if (reader.read(geoJson) instanceof LineString lineString) {
-                return lineString;
-            }
-            throw new BadRequestException(ExceptionCode.INVALID_LINESTRING_GEO_JSON);
-        } catch (ParseException e) {
-            throw new BadRequestException(ExceptionCode.INVALID_GEO_JSON_FORMAT);
-        } catch (ClassCastException e) {
-            throw new BadRequestException(ExceptionCode.GEO_JSON_CASTING_ERROR);
+    public static LineString convertToLineString(String geoJson) {
+        if (read(geoJson) instanceof LineString lineString) {
+            return lineString;
         }
+        throw new BadRequestException(ExceptionCode.INVALID_LINESTRING_GEO_JSON);
     }
 
     public static Point convertToPoint(String geoJson) {
-        GeoJsonReader reader = getGeoJsonReader();
-        try {
-            if (reader.read(geoJson) instanceof Point point) {
-                return point;
-            } else {
-                throw new BadRequestException(ExceptionCode.INVALID_POINT_GEO_JSON);
-            }
-        } catch (ParseException e) {
-
-            throw new BadRequestException(ExceptionCode.INVALID_GEO_JSON_FORMAT);
-        } catch (ClassCastException e) {
-            throw new BadRequestException(ExceptionCode.GEO_JSON_CASTING_ERROR);
+        if (read(geoJson) instanceof Point point) {
+            return point;
         }
+        throw new BadRequestException(ExceptionCode.INVALID_POINT_GEO_JSON);
     }
 
-    @NotNull
-    private static GeoJsonReader getGeoJsonReader() {
-//        PrecisionModel precisionModel = new PrecisionModel(5186);
-//        GeometryFactory geometryFactory = new GeometryFactory(precisionModel);
-//        GeoJsonReader reader = new GeoJsonReader(geometryFactory);
-        GeoJsonReader reader = new GeoJsonReader();
-        return reader;
+    private static Geometry read(String geoJson) {
+        try {
+            return OBJECT_MAPPER.readValue(geoJson, Geometry.class);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException(ExceptionCode.INVALID_GEO_JSON_FORMAT);
+        }
     }
 
     public static String convertToJson(Point point) {
-        GeoJsonWriter writer = new GeoJsonWriter();
-        return writer.write(point);
+        return write(point);
     }
 
     public static String convertToJson(LineString lineString) {
-        GeoJsonWriter writer = new GeoJsonWriter();
-        return writer.write(lineString);
+        return write(lineString);
+    }
+
+    private static String write(Geometry geometry) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(geometry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to write geometry as GeoJSON", e);
+        }
     }
 }
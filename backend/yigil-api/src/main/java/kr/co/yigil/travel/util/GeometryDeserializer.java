@@ -0,0 +1,197 @@
+package kr.co.yigil.travel.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * JsonParser에서 토큰을 읽어 바로 Geometry를 만든다. type보다 coordinates가 먼저 와도 되도록
+ * 좌표는 중첩 리스트로 모아 두었다가 객체가 끝날 때 조립한다.
+ * GeoJsonReader가 읽던 입력을 모두 받는다. Feature는 geometry를, FeatureCollection은 각 Feature의 geometry를
+ * GeometryCollection으로 모아 돌려준다.
+ */
+public class GeometryDeserializer<T extends Geometry> extends StdDeserializer<T> {
+
+    private static final String EPSG_PREFIX = "EPSG:";
+
+    private final Class<T> geometryType;
+
+    public GeometryDeserializer(Class<T> geometryType) {
+        super(geometryType);
+        this.geometryType = geometryType;
+    }
+
+    @Override
+    public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return geometryType.cast(context.handleUnexpectedToken(geometryType, parser));
+        }
+        Geometry geometry = readGeometry(parser, context, new GeometryFactory());
+        if (geometry == null) {
+            return context.reportInputMismatch(this, "Feature requires geometry");
+        }
+        if (!geometryType.isInstance(geometry)) {
+            return context.reportInputMismatch(this, "expected %s but was %s",
+                    geometryType.getSimpleName(), geometry.getGeometryType());
+        }
+        return geometryType.cast(geometry);
+    }
+
+    /**
+     * 현재 토큰이 START_OBJECT인 GeoJSON 객체 하나를 끝까지 읽는다. geometry가 null인 Feature면 null을 돌려준다.
+     */
+    private Geometry readGeometry(JsonParser parser, DeserializationContext context, GeometryFactory factory)
+            throws IOException {
+        String type = null;
+        Object coordinates = null;
+        Geometry featureGeometry = null;
+        List<Geometry> members = null;
+        int srid = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "type" -> type = parser.getValueAsString();
+                case "coordinates" -> coordinates = readCoordinates(parser, context);
+                case "crs" -> srid = readSrid(parser);
+                case "geometry" -> featureGeometry = token == JsonToken.START_OBJECT
+                        ? readGeometry(parser, context, factory) : null;
+                case "geometries", "features" -> members = readMembers(parser, context, factory);
+                default -> parser.skipChildren();
+            }
+        }
+        if (type == null) {
+            return context.reportInputMismatch(this, "GeoJSON requires type");
+        }
+
+        Geometry geometry = switch (type) {
+            case "Feature" -> featureGeometry;
+            case "FeatureCollection", "GeometryCollection" -> factory.createGeometryCollection(
+                    (members == null ? List.<Geometry>of() : members).toArray(Geometry[]::new));
+            default -> coordinates == null
+                    ? context.reportInputMismatch(this, "GeoJSON requires type and coordinates")
+                    : build(type, coordinates, factory, context);
+        };
+        if (geometry != null) {
+            geometry.setSRID(srid);
+        }
+        return geometry;
+    }
+
+    /**
+     * FeatureCollection의 features에서 geometry가 없는 Feature는 건너뛴다.
+     */
+    private List<Geometry> readMembers(JsonParser parser, DeserializationContext context, GeometryFactory factory)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return context.reportInputMismatch(this, "geometries and features must be an array");
+        }
+        List<Geometry> members = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                members.add(readGeometry(parser, context, factory));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        members.removeIf(Objects::isNull);
+        return members;
+    }
+
+    /**
+     * 숫자 배열은 Coordinate로, 배열의 배열은 List로 읽는다.
+     */
+    private Object readCoordinates(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return context.reportInputMismatch(this, "coordinates must be an array");
+        }
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            double x = parser.getDoubleValue();
+            parser.nextToken();
+            double y = parser.getDoubleValue();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+            }
+            return new Coordinate(x, y);
+        }
+        List<Object> children = new ArrayList<>();
+        while (token != JsonToken.END_ARRAY) {
+            children.add(readCoordinates(parser, context));
+            token = parser.nextToken();
+        }
+        return children;
+    }
+
+    private int readSrid(JsonParser parser) throws IOException {
+        int srid = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("properties".equals(field)) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String property = parser.currentName();
+                    parser.nextToken();
+                    String value = parser.getValueAsString();
+                    if ("name".equals(property) && value != null && value.startsWith(EPSG_PREFIX)) {
+                        srid = Integer.parseInt(value.substring(EPSG_PREFIX.length()));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return srid;
+    }
+
+    private Geometry build(String type, Object coordinates, GeometryFactory factory,
+            DeserializationContext context) throws IOException {
+        try {
+            return switch (type) {
+                case "Point" -> factory.createPoint((Coordinate) coordinates);
+                case "LineString" -> factory.createLineString(toCoordinates(coordinates));
+                case "Polygon" -> toPolygon(coordinates, factory);
+                case "MultiPoint" -> factory.createMultiPointFromCoords(toCoordinates(coordinates));
+                case "MultiLineString" -> factory.createMultiLineString(((List<?>) coordinates).stream()
+                        .map(line -> factory.createLineString(toCoordinates(line)))
+                        .toArray(LineString[]::new));
+                case "MultiPolygon" -> factory.createMultiPolygon(((List<?>) coordinates).stream()
+                        .map(polygon -> toPolygon(polygon, factory))
+                        .toArray(Polygon[]::new));
+                default -> context.reportInputMismatch(this, "unsupported geometry type: %s", type);
+            };
+        } catch (ClassCastException | IllegalArgumentException e) {
+            return context.reportInputMismatch(this, "invalid coordinates for %s", type);
+        }
+    }
+
+    private Polygon toPolygon(Object coordinates, GeometryFactory factory) {
+        List<?> rings = (List<?>) coordinates;
+        LinearRing shell = factory.createLinearRing(toCoordinates(rings.get(0)));
+        LinearRing[] holes = rings.stream()
+                .skip(1)
+                .map(ring -> factory.createLinearRing(toCoordinates(ring)))
+                .toArray(LinearRing[]::new);
+        return factory.createPolygon(shell, holes);
+    }
+
+    private Coordinate[] toCoordinates(Object coordinates) {
+        return ((List<?>) coordinates).stream()
+                .map(Coordinate.class::cast)
+                .toArray(Coordinate[]::new);
+    }
+}
@@ -0,0 +1,24 @@
+package kr.co.yigil.travel.util;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * JTS Geometry를 GeoJSON으로 직렬화/역직렬화하는 Jackson 모듈.
+ */
+public class GeometryModule extends SimpleModule {
+
+    public GeometryModule() {
+        super("GeometryModule");
+        addSerializer(Geometry.class, new GeometrySerializer());
+        addDeserializer(Geometry.class, new GeometryDeserializer<>(Geometry.class));
+        addDeserializer(Point.class, new GeometryDeserializer<>(Point.class));
+        addDeserializer(LineString.class, new GeometryDeserializer<>(LineString.class));
+        addDeserializer(Polygon.class, new GeometryDeserializer<>(Polygon.class));
+        addDeserializer(MultiPolygon.class, new GeometryDeserializer<>(MultiPolygon.class));
+    }
+}
@@ -0,0 +1,96 @@
+package kr.co.yigil.travel.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * 좌표를 중간 Map이나 문자열 없이 JsonGenerator에 바로 쓴다.
+ * 출력 형식(좌표 표기, crs)은 기존 클라이언트가 받던 GeoJsonWriter 결과와 같게 맞춘다.
+ */
+public class GeometrySerializer extends StdSerializer<Geometry> {
+
+    private static final double SCALE = Math.pow(10, 8);
+
+    public GeometrySerializer() {
+        super(Geometry.class);
+    }
+
+    @Override
+    public void serialize(Geometry geometry, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", geometry.getGeometryType());
+        generator.writeFieldName("coordinates");
+        if (geometry instanceof Point point) {
+            writeCoordinate(generator, point.getCoordinateSequence(), 0);
+        } else if (geometry instanceof LineString lineString) {
+            writeCoordinates(generator, lineString.getCoordinateSequence());
+        } else if (geometry instanceof Polygon polygon) {
+            writePolygon(generator, polygon);
+        } else if (geometry instanceof MultiPolygon multiPolygon) {
+            generator.writeStartArray();
+            for (int i = 0; i < multiPolygon.getNumGeometries(); i++) {
+                writePolygon(generator, (Polygon) multiPolygon.getGeometryN(i));
+            }
+            generator.writeEndArray();
+        } else {
+            provider.reportMappingProblem("unsupported geometry type: %s", geometry.getGeometryType());
+        }
+        writeCrs(generator, geometry.getSRID());
+        generator.writeEndObject();
+    }
+
+    private void writePolygon(JsonGenerator generator, Polygon polygon) throws IOException {
+        generator.writeStartArray();
+        writeCoordinates(generator, polygon.getExteriorRing().getCoordinateSequence());
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            writeCoordinates(generator, polygon.getInteriorRingN(i).getCoordinateSequence());
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeCoordinates(JsonGenerator generator, CoordinateSequence sequence) throws IOException {
+        generator.writeStartArray();
+        for (int i = 0; i < sequence.size(); i++) {
+            writeCoordinate(generator, sequence, i);
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeCoordinate(JsonGenerator generator, CoordinateSequence sequence, int index)
+            throws IOException {
+        generator.writeStartArray();
+        generator.writeNumber(formatOrdinate(sequence.getX(index)));
+        generator.writeNumber(formatOrdinate(sequence.getY(index)));
+        generator.writeEndArray();
+    }
+
+    private void writeCrs(JsonGenerator generator, int srid) throws IOException {
+        generator.writeObjectFieldStart("crs");
+        generator.writeStringField("type", "name");
+        generator.writeObjectFieldStart("properties");
+        generator.writeStringField("name", "EPSG:" + srid);
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    /**
+     * GeoJsonWriter와 같은 규칙으로 소수 8자리에서 반올림하고, 정수면 소수점 없이 쓴다.
+     */
+    static String formatOrdinate(double ordinate) {
+        if (Math.abs(ordinate) >= 1e-3 && ordinate < 1e7) {
+            double rounded = Math.floor(ordinate * SCALE + 0.5) / SCALE;
+            long integral = (long) rounded;
+            return integral == rounded ? Long.toString(integral) : Double.toString(rounded);
+        }
+        return Double.toString(ordinate);
+    }
+}
@@ -0,0 +1,29 @@
+package kr.co.yigil.travel.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.locationtech.jts.geom.LineString;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/**
+ * multipart 폼의 GeoJSON 문자열 필드를 바인딩할 때 GeometryModule로 바로 LineString을 읽는다.
+ * 형식이 틀리면 바인딩 오류가 되어 400으로 응답된다.
+ */
+@Component
+public class LineStringConverter implements Converter<String, LineString> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new GeometryModule());
+
+    @Override
+    public LineString convert(String source) {
+        if (source.isBlank()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(source, LineString.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("invalid LineString GeoJSON", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package kr.co.yigil.travel.util;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+
+/**
+ * Google Encoded Polyline 알고리즘(정밀도 1e5, 위도·경도 순서)으로 경로를 인코딩한다.
+ * 좌표 배열을 그대로 내려주는 GeoJSON보다 응답이 훨씬 작고, 지도 SDK에서 바로 디코딩할 수 있다.
+ */
+public class PolylineEncoder {
+
+    private static final double PRECISION = 1e5;
+
+    public static String encode(LineString lineString) {
+        StringBuilder encoded = new StringBuilder();
+        long previousLat = 0;
+        long previousLng = 0;
+        for (Coordinate coordinate : lineString.getCoordinates()) {
+            long lat = Math.round(coordinate.getY() * PRECISION);
+            long lng = Math.round(coordinate.getX() * PRECISION);
+            encodeValue(lat - previousLat, encoded);
+            encodeValue(lng - previousLng, encoded);
+            previousLat = lat;
+            previousLng = lng;
+        }
+        return encoded.toString();
+    }
+
+    private static void encodeValue(long value, StringBuilder encoded) {
+        long shifted = value < 0 ? ~(value << 1) : value << 1;
+        while (shifted >= 0x20) {
+            encoded.append((char) ((0x20 | (shifted & 0x1f)) + 63));
+            shifted >>= 5;
+        }
+        encoded.append((char) (shifted + 63));
+    }
+}
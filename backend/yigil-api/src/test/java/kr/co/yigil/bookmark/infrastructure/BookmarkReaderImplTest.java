@@ -5,9 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Set;
 import kr.co.yigil.bookmark.domain.Bookmark;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -60,4 +62,26 @@ public class BookmarkReaderImplTest {
 
         assertTrue(isBookmarked);
     }
-}
\ No newline at end of file
+
+    @DisplayName("getBookmarkedPlaceIds 메서드가 북마크된 장소 id만 반환하는지")
+    @Test
+    void whenGetBookmarkedPlaceIds_thenReturnsBookmarkedIds() {
+        Long memberId = 1L;
+        List<Long> placeIds = List.of(1L, 2L, 3L);
+
+        when(bookmarkRepository.findBookmarkedPlaceIds(memberId, placeIds)).thenReturn(List.of(2L));
+
+        Set<Long> bookmarkedPlaceIds = bookmarkReader.getBookmarkedPlaceIds(memberId, placeIds);
+
+        assertEquals(Set.of(2L), bookmarkedPlaceIds);
+    }
+
+    @DisplayName("getBookmarkedPlaceIds 메서드가 빈 목록이면 쿼리하지 않는지")
+    @Test
+    void whenGetBookmarkedPlaceIdsWithEmptyList_thenDoesNotQuery() {
+        Set<Long> bookmarkedPlaceIds = bookmarkReader.getBookmarkedPlaceIds(1L, List.of());
+
+        assertTrue(bookmarkedPlaceIds.isEmpty());
+        verifyNoInteractions(bookmarkRepository);
+    }
+}
@@ -6,15 +6,18 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Optional;
 import kr.co.yigil.comment.domain.Comment;
+import kr.co.yigil.global.Cursor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.SliceImpl;
 
@@ -86,6 +89,19 @@ class CommentReaderImplTest {
         assertThat(result.getContent().getFirst()).isInstanceOf(Comment.class);
     }
 
+    @DisplayName("getChildCommentsByParentId 메서드가 cursor 이후의 대댓글을 keyset으로 조회하는지")
+    @Test
+    void whenGetChildCommentsByParentIdWithCursor_thenShouldReadAfterCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        var expected = new SliceImpl<>(Arrays.asList(mock(Comment.class)));
+        when(commentRepository.findChildCommentsAfter(1L, createdAt, 3L, PageRequest.of(0, 5)))
+            .thenReturn(expected);
+
+        var result = commentReader.getChildCommentsByParentId(1L, Cursor.of(createdAt, 3L), 5);
+
+        assertThat(result).isEqualTo(expected);
+    }
+
     @DisplayName("getCommentCount 메서드가 travel의 댓글 수를 잘 반환하는지")
     @Test
     void whenGetCommentCount_thenShouldReturnTravelsCommentCounts() {
@@ -116,7 +116,7 @@ class CommentApiControllerTest {
                 mockUnitInfo2);
 
         CommentDto.CommentsResponse mockResponse = new CommentDto.CommentsResponse(
-                commentsUnitInfoList, false);
+                commentsUnitInfoList, false, null);
 
         when(commentFacade.getParentCommentList(anyLong(), any(Pageable.class))).thenReturn(
                 mock(CommentInfo.CommentsResponse.class));
@@ -149,7 +149,9 @@ class CommentApiControllerTest {
                                 fieldWithPath("content[].member_image_url").type(JsonFieldType.STRING).description("프로필 이미지 url"),
                                 fieldWithPath("content[].child_count").type(JsonFieldType.NUMBER).description("자식 댓글 수"),
                                 fieldWithPath("content[].created_at").type(JsonFieldType.STRING).description("생성일"),
-                                fieldWithPath("has_next").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부")
+                                fieldWithPath("has_next").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("next_cursor").type(JsonFieldType.STRING)
+                                        .description("다음 페이지 cursor - 대댓글 cursor 조회일 때만 주어짐").optional()
                         )
                 ));
     }
@@ -169,7 +171,7 @@ class CommentApiControllerTest {
                 mockUnitInfo2);
 
         CommentDto.CommentsResponse mockResponse = new CommentDto.CommentsResponse(
-                commentsUnitInfoList, false);
+                commentsUnitInfoList, false, null);
 
         when(commentFacade.getChildCommentList(anyLong(), any(Pageable.class))).thenReturn(
                 mock(CommentInfo.CommentsResponse.class));
@@ -190,7 +192,9 @@ class CommentApiControllerTest {
                         ),
                         queryParameters(
                                 parameterWithName("page").description("페이지 번호"),
-                                parameterWithName("size").description("페이지 크기")
+                                parameterWithName("size").description("페이지 크기"),
+                                parameterWithName("cursor").description("이전 응답의 next_cursor - 빈 값이면 첫 페이지. "
+                                        + "주어지면 page 대신 오래된 순 cursor 조회").optional()
                         ),
                         responseFields(
 
@@ -204,7 +208,9 @@ class CommentApiControllerTest {
                                 fieldWithPath("content[].member_image_url").type(JsonFieldType.STRING).description("프로필 이미지"),
                                 fieldWithPath("content[].child_count").type(JsonFieldType.NUMBER).description("자식 댓글 수"),
                                 fieldWithPath("content[].created_at").type(JsonFieldType.STRING).description("생성일"),
-                                fieldWithPath("has_next").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부")
+                                fieldWithPath("has_next").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("next_cursor").type(JsonFieldType.STRING)
+                                        .description("다음 페이지 cursor - 대댓글 cursor 조회일 때만 주어짐").optional()
                         )
                 ));
     }
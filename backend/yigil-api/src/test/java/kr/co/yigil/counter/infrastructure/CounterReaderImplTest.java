@@ -0,0 +1,98 @@
+package kr.co.yigil.counter.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterSeeder;
+import kr.co.yigil.counter.domain.CounterStore;
+import kr.co.yigil.counter.domain.CounterValues;
+import kr.co.yigil.global.config.cache.NearCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CounterReaderImplTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private CounterStore counterStore;
+
+    @Mock
+    private CounterSeeder placeCounterSeeder;
+
+    private CounterReaderImpl counterReader;
+
+    @BeforeEach
+    void setUp() {
+        when(placeCounterSeeder.getGroup()).thenReturn(CounterGroup.PLACE);
+        counterReader = new CounterReaderImpl(stringRedisTemplate, counterStore,
+                new CounterNearCache(new NearCacheProperties()), List.of(placeCounterSeeder));
+    }
+
+    @DisplayName("getAll 메서드가 Redis에 있는 카운터는 그대로 반환하는지")
+    @Test
+    void getAll_WhenCached_ReturnsRedisValues() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.<Object>of(
+                Map.of("spotCount", "2", "spotTotalRate", "7.5")));
+
+        Map<Long, CounterValues> result = counterReader.getAll(CounterGroup.PLACE, List.of(1L));
+
+        assertEquals(2, result.get(1L).getInt(Counter.SPOT_COUNT));
+        assertEquals(7.5, result.get(1L).getDouble(Counter.SPOT_TOTAL_RATE));
+        verifyNoInteractions(counterStore);
+    }
+
+    @DisplayName("getAll 메서드가 없는 키만 모아 한 번에 시딩하는지")
+    @Test
+    void getAll_WhenMissed_SeedsFromDatabase() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.<Object>of(
+                Map.of("spotCount", "2", "spotTotalRate", "7.5"), Map.of(), Map.of()));
+        CounterValues loaded = new CounterValues(Map.of(Counter.SPOT_COUNT, 4, Counter.SPOT_TOTAL_RATE, 10.0));
+        when(placeCounterSeeder.load(List.of(2L, 3L))).thenReturn(Map.of(2L, loaded));
+
+        Map<Long, CounterValues> result = counterReader.getAll(CounterGroup.PLACE, List.of(1L, 2L, 3L));
+
+        assertEquals(2, result.get(1L).getInt(Counter.SPOT_COUNT));
+        assertEquals(4, result.get(2L).getInt(Counter.SPOT_COUNT));
+        assertEquals(0, result.get(3L).getInt(Counter.SPOT_COUNT));
+        verify(counterStore).seed(CounterGroup.PLACE, Map.of(2L, loaded, 3L, result.get(3L)));
+    }
+
+    @DisplayName("getAll 메서드가 빈 목록이면 Redis를 조회하지 않는지")
+    @Test
+    void getAll_WhenEmpty_ReturnsEmptyMap() {
+        Map<Long, CounterValues> result = counterReader.getAll(CounterGroup.PLACE, List.of());
+
+        assertEquals(0, result.size());
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @DisplayName("getAll 메서드가 한 번 읽은 카운터는 near cache에서 돌려주는지")
+    @Test
+    void getAll_WhenNearCached_SkipsRedis() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.<Object>of(
+                Map.of("spotCount", "2", "spotTotalRate", "7.5")));
+
+        counterReader.getAll(CounterGroup.PLACE, List.of(1L));
+        Map<Long, CounterValues> result = counterReader.getAll(CounterGroup.PLACE, List.of(1L));
+
+        assertEquals(2, result.get(1L).getInt(Counter.SPOT_COUNT));
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+}
@@ -0,0 +1,74 @@
+package kr.co.yigil.counter.infrastructure;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterValues;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CounterStoreImplTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private CounterNearCache counterNearCache;
+
+    @InjectMocks
+    private CounterStoreImpl counterStore;
+
+    @DisplayName("increment 메서드가 트랜잭션 밖에서는 바로 반영되는지")
+    @Test
+    void increment_WithoutTransaction_ExecutesImmediately() {
+        counterStore.increment(Counter.FAVOR_COUNT, 1L, 1);
+
+        verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+        verify(counterNearCache).evict(CounterGroup.TRAVEL.key(1L));
+    }
+
+    @DisplayName("increment 메서드가 트랜잭션 안에서는 커밋 이후에 반영되는지")
+    @Test
+    void increment_WithinTransaction_ExecutesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counterStore.increment(Counter.FAVOR_COUNT, 1L, 1);
+            verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("incrementAll 메서드가 빈 목록이면 Redis를 호출하지 않는지")
+    @Test
+    void incrementAll_WhenEmpty_DoesNothing() {
+        counterStore.incrementAll(Counter.SPOT_COUNT, Map.of());
+
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @DisplayName("seed 메서드가 한 번의 파이프라인으로 시딩하는지")
+    @Test
+    void seed_ExecutesPipeline() {
+        counterStore.seed(CounterGroup.MEMBER, Map.of(1L, CounterValues.empty(), 2L, CounterValues.empty()));
+
+        verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+    }
+}
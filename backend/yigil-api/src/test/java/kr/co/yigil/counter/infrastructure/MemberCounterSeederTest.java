@@ -0,0 +1,40 @@
+package kr.co.yigil.counter.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterValues;
+import kr.co.yigil.follow.domain.FollowReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MemberCounterSeederTest {
+
+    @Mock
+    private FollowReader followReader;
+
+    @InjectMocks
+    private MemberCounterSeeder memberCounterSeeder;
+
+    @DisplayName("load 메서드가 팔로워, 팔로잉 수를 카운터로 만드는지")
+    @Test
+    void load_ReturnsCounterValues() {
+        when(followReader.getFollowerCounts(List.of(1L, 2L))).thenReturn(Map.of(1L, 5));
+        when(followReader.getFollowingCounts(List.of(1L, 2L))).thenReturn(Map.of(1L, 2, 2L, 3));
+
+        Map<Long, CounterValues> result = memberCounterSeeder.load(List.of(1L, 2L));
+
+        assertEquals(5, result.get(1L).getInt(Counter.FOLLOWER_COUNT));
+        assertEquals(2, result.get(1L).getInt(Counter.FOLLOWING_COUNT));
+        assertEquals(0, result.get(2L).getInt(Counter.FOLLOWER_COUNT));
+        assertEquals(3, result.get(2L).getInt(Counter.FOLLOWING_COUNT));
+    }
+}
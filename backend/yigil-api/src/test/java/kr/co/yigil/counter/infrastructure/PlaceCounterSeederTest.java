@@ -0,0 +1,60 @@
+package kr.co.yigil.counter.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterValues;
+import kr.co.yigil.place.domain.PlaceStats;
+import kr.co.yigil.place.domain.PlaceStatsReader;
+import kr.co.yigil.travel.domain.dto.PlaceSpotStatDto;
+import kr.co.yigil.travel.domain.spot.SpotReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceCounterSeederTest {
+
+    @Mock
+    private PlaceStatsReader placeStatsReader;
+
+    @Mock
+    private SpotReader spotReader;
+
+    @InjectMocks
+    private PlaceCounterSeeder placeCounterSeeder;
+
+    @DisplayName("load 메서드가 place_stats 읽기 모델로 카운터를 만드는지")
+    @Test
+    void load_ReturnsCounterValuesFromPlaceStats() {
+        when(placeStatsReader.getPlaceStats(List.of(1L)))
+                .thenReturn(List.of(new PlaceStats(1L, 3, 12.0, null)));
+
+        Map<Long, CounterValues> result = placeCounterSeeder.load(List.of(1L));
+
+        assertEquals(3, result.get(1L).getInt(Counter.SPOT_COUNT));
+        assertEquals(12.0, result.get(1L).getDouble(Counter.SPOT_TOTAL_RATE));
+        verify(spotReader, never()).getSpotStatsInPlaces(List.of(1L));
+    }
+
+    @DisplayName("load 메서드가 place_stats에 없는 장소만 한 번의 집계 쿼리로 카운터를 만드는지")
+    @Test
+    void load_WhenPlaceStatsMissing_ReturnsCounterValuesFromSpots() {
+        when(placeStatsReader.getPlaceStats(List.of(1L))).thenReturn(List.of());
+        when(spotReader.getSpotStatsInPlaces(List.of(1L)))
+                .thenReturn(List.of(new PlaceSpotStatDto(1L, 3L, 12.0)));
+
+        Map<Long, CounterValues> result = placeCounterSeeder.load(List.of(1L));
+
+        assertEquals(3, result.get(1L).getInt(Counter.SPOT_COUNT));
+        assertEquals(12.0, result.get(1L).getDouble(Counter.SPOT_TOTAL_RATE));
+    }
+}
@@ -0,0 +1,44 @@
+package kr.co.yigil.counter.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.comment.domain.CommentReader;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterValues;
+import kr.co.yigil.favor.domain.FavorReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TravelCounterSeederTest {
+
+    @Mock
+    private FavorReader favorReader;
+
+    @Mock
+    private CommentReader commentReader;
+
+    @InjectMocks
+    private TravelCounterSeeder travelCounterSeeder;
+
+    @DisplayName("load 메서드가 좋아요, 댓글 수를 카운터로 만드는지")
+    @Test
+    void load_ReturnsCounterValues() {
+        when(favorReader.getFavorCounts(List.of(1L, 2L))).thenReturn(Map.of(1L, 4));
+        when(commentReader.getCommentCounts(List.of(1L, 2L))).thenReturn(Map.of(1L, 6));
+
+        Map<Long, CounterValues> result = travelCounterSeeder.load(List.of(1L, 2L));
+
+        assertEquals(4, result.get(1L).getInt(Counter.FAVOR_COUNT));
+        assertEquals(6, result.get(1L).getInt(Counter.COMMENT_COUNT));
+        assertEquals(0, result.get(2L).getInt(Counter.FAVOR_COUNT));
+        assertEquals(0, result.get(2L).getInt(Counter.COMMENT_COUNT));
+    }
+}
@@ -12,6 +12,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -33,6 +34,8 @@ class FavorServiceImplTest {
     private TravelReader travelReader;
     @Mock
     private FavorCountCacheStore favorCountCacheStore;
+    @Mock
+    private FavorBuffer favorBuffer;
 
     @DisplayName("addFavor 를 호출했을 때 좋아요가 잘 추가되는지 확인")
     @Test
@@ -87,4 +90,59 @@ class FavorServiceImplTest {
         verify(favorCountCacheStore).decrementFavorCount(1L);
 
     }
-}
\ No newline at end of file
+
+    @DisplayName("쓰기 지연 모드에서 addFavor 가 DB에 저장하지 않고 Redis에 기록하는지")
+    @Test
+    void GivenWriteBehind_WhenAddFavor_ThenShouldRecordInBuffer() {
+        Member owner = new Member(1L, null, null, null, null, null);
+        Travel travel = new Travel(1L, owner, null, null, 0, false);
+
+        when(favorBuffer.isEnabled()).thenReturn(true);
+        when(travelReader.getTravel(1L)).thenReturn(travel);
+        when(favorBuffer.add(2L, 1L)).thenReturn(true);
+
+        Long ownerId = favorService.addFavor(2L, 1L);
+
+        assertEquals(ownerId, 1L);
+        verify(favorCountCacheStore).incrementFavorCount(1L);
+        verifyNoInteractions(favorStore, memberReader, favorReader);
+    }
+
+    @DisplayName("쓰기 지연 모드에서 이미 누른 좋아요에 에러가 잘 발생하는지")
+    @Test
+    void GivenWriteBehindAndAlreadyFavored_WhenAddFavor_ThenShouldThrowAnError() {
+        Member owner = new Member(1L, null, null, null, null, null);
+        Travel travel = new Travel(1L, owner, null, null, 0, false);
+
+        when(favorBuffer.isEnabled()).thenReturn(true);
+        when(travelReader.getTravel(1L)).thenReturn(travel);
+        when(favorBuffer.add(2L, 1L)).thenReturn(false);
+
+        assertThrows(BadRequestException.class, () -> favorService.addFavor(2L, 1L));
+        verify(favorCountCacheStore, never()).incrementFavorCount(anyLong());
+    }
+
+    @DisplayName("쓰기 지연 모드에서 자신의 글에 좋아요를 누르면 기록하지 않고 에러가 발생하는지")
+    @Test
+    void GivenWriteBehindAndSameUserId_WhenAddFavor_ThenShouldThrowAnError() {
+        Member owner = new Member(1L, null, null, null, null, null);
+        Travel travel = new Travel(1L, owner, null, null, 0, false);
+
+        when(favorBuffer.isEnabled()).thenReturn(true);
+        when(travelReader.getTravel(1L)).thenReturn(travel);
+
+        assertThrows(BadRequestException.class, () -> favorService.addFavor(1L, 1L));
+        verify(favorBuffer, never()).add(anyLong(), anyLong());
+    }
+
+    @DisplayName("쓰기 지연 모드에서 deleteFavor 가 누르지 않은 좋아요에 에러를 발생시키는지")
+    @Test
+    void GivenWriteBehindAndNotFavored_WhenDeleteFavor_ThenShouldThrowAnError() {
+        when(favorBuffer.isEnabled()).thenReturn(true);
+        when(favorBuffer.remove(2L, 1L)).thenReturn(false);
+
+        assertThrows(BadRequestException.class, () -> favorService.deleteFavor(2L, 1L));
+        verify(favorCountCacheStore, never()).decrementFavorCount(anyLong());
+        verifyNoInteractions(favorStore);
+    }
+}
@@ -0,0 +1,147 @@
+package kr.co.yigil.favor.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import kr.co.yigil.favor.domain.BufferedFavor;
+import kr.co.yigil.favor.domain.FavorStore;
+import kr.co.yigil.global.lock.RedisLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class FavorBufferFlusherTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private RedisLock redisLock;
+    @Mock
+    private FavorStore favorStore;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FavorBufferFlusher favorBufferFlusher;
+
+    @BeforeEach
+    void setUp() {
+        favorBufferFlusher = new FavorBufferFlusher(stringRedisTemplate, redisLock, favorStore, transactionManager, 500);
+    }
+
+    @DisplayName("apply 메서드가 같은 회원과 여행의 변경을 마지막 상태로 합쳐 반영하는지")
+    @Test
+    void apply_CollapsesChangesPerMemberAndTravel() {
+        favorBufferFlusher.apply(List.of(
+                "A:2:1:2024-05-01:1", "D:2:1:2",
+                "D:3:1:3", "A:3:1:2024-05-02:4",
+                "A:4:1:2024-05-02:5"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BufferedFavor>> removed = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BufferedFavor>> added = ArgumentCaptor.forClass(List.class);
+        verify(favorStore).deleteAll(removed.capture());
+        verify(favorStore).saveAllIfAbsent(added.capture());
+
+        assertEquals(removed.getValue().stream().map(BufferedFavor::getMemberId).toList(), List.of(2L, 3L));
+        assertEquals(added.getValue().stream().map(BufferedFavor::getMemberId).toList(), List.of(3L, 4L));
+        assertEquals(added.getValue().get(0).getCreatedAt(), LocalDate.of(2024, 5, 2));
+    }
+
+    @DisplayName("flush 메서드가 반영을 마친 뒤에만 processing 목록과 시도 횟수를 지우는지")
+    @Test
+    void flush_DeletesProcessingAfterApply() {
+        givenLockAcquired();
+        givenDrained(1L);
+
+        favorBufferFlusher.flush();
+
+        verify(favorStore).saveAllIfAbsent(anyList());
+        verify(stringRedisTemplate).execute(FavorBufferKeys.COMPLETE_SCRIPT,
+                List.of(FavorBufferKeys.PROCESSING_KEY, FavorBufferKeys.ATTEMPTS_KEY, FavorBufferKeys.FLUSHED_KEY),
+                FavorBufferKeys.UNFLUSHED_PREFIX);
+    }
+
+    @DisplayName("flush 메서드가 반영에 실패하면 processing 목록을 남겨 다시 시도하게 하는지")
+    @Test
+    void flush_WhenApplyFails_KeepsProcessing() {
+        givenLockAcquired();
+        givenDrained(1L);
+        when(transactionManager.getTransaction(any())).thenThrow(new IllegalStateException("db down"));
+
+        favorBufferFlusher.flush();
+
+        verify(stringRedisTemplate, never()).execute(eq(FavorBufferKeys.COMPLETE_SCRIPT), anyList(), anyString());
+    }
+
+    @DisplayName("flush 메서드가 같은 묶음이 계속 실패하면 dead 목록으로 옮기고 반영하지 않는지")
+    @Test
+    void flush_WhenAttemptsExceeded_MovesToDeadLetter() {
+        givenLockAcquired();
+        givenDrained(FavorBufferFlusher.MAX_ATTEMPTS + 1L);
+
+        favorBufferFlusher.flush();
+
+        verify(stringRedisTemplate).execute(eq(FavorBufferKeys.DEAD_LETTER_SCRIPT), eq(List.of(
+                FavorBufferKeys.PROCESSING_KEY, FavorBufferKeys.DEAD_KEY, FavorBufferKeys.ATTEMPTS_KEY,
+                FavorBufferKeys.FLUSHED_KEY)));
+        verifyNoInteractions(favorStore, transactionManager);
+    }
+
+    @DisplayName("requeueDead 메서드가 dead 목록을 pending 뒤에 되돌리고 되돌린 수를 반환하는지")
+    @Test
+    void requeueDead_MovesLatestDeadChangesBackToPending() {
+        when(stringRedisTemplate.execute(FavorBufferKeys.REQUEUE_DEAD_SCRIPT,
+                List.of(FavorBufferKeys.DEAD_KEY, FavorBufferKeys.PENDING_KEY), FavorBufferKeys.UNFLUSHED_PREFIX))
+                .thenReturn(2L);
+
+        assertEquals(favorBufferFlusher.requeueDead(), 2L);
+    }
+
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 반영하지 않는지")
+    @Test
+    void flush_WhenLockHeld_DoesNothing() {
+        when(redisLock.runExclusively(eq(FavorBufferKeys.LOCK_KEY), any(Duration.class), any(Runnable.class)))
+                .thenReturn(false);
+
+        favorBufferFlusher.flush();
+
+        verify(stringRedisTemplate, never()).execute(eq(FavorBufferKeys.DRAIN_SCRIPT), anyList(), anyString());
+        verifyNoInteractions(favorStore);
+    }
+
+    private void givenLockAcquired() {
+        when(redisLock.runExclusively(eq(FavorBufferKeys.LOCK_KEY), any(Duration.class), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(2).run();
+                    return true;
+                });
+    }
+
+    private void givenDrained(long attempts) {
+        when(stringRedisTemplate.execute(eq(FavorBufferKeys.DRAIN_SCRIPT), anyList(), anyString()))
+                .thenReturn(List.of("A:2:1:2024-05-01:1"));
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(FavorBufferKeys.ATTEMPTS_KEY)).thenReturn(attempts);
+    }
+}
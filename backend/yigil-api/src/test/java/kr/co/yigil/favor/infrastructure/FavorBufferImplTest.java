@@ -0,0 +1,104 @@
+package kr.co.yigil.favor.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class FavorBufferImplTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private FavorRepository favorRepository;
+
+    private FavorBufferImpl favorBuffer;
+
+    @BeforeEach
+    void setUp() {
+        favorBuffer = new FavorBufferImpl(stringRedisTemplate, favorRepository, true);
+    }
+
+    @DisplayName("add 메서드가 새로 누른 좋아요면 true를 반환하는지")
+    @Test
+    void add_WhenNewFavor_ReturnsTrue() {
+        when(stringRedisTemplate.execute(eq(FavorBufferKeys.ADD_SCRIPT), anyList(), anyString(), anyString(), anyString()))
+                .thenReturn(1L);
+
+        assertTrue(favorBuffer.add(2L, 1L));
+        verify(favorRepository, never()).findMemberIdsByTravelId(1L);
+    }
+
+    @DisplayName("add 메서드가 이미 누른 좋아요면 false를 반환하는지")
+    @Test
+    void add_WhenAlreadyFavored_ReturnsFalse() {
+        when(stringRedisTemplate.execute(eq(FavorBufferKeys.ADD_SCRIPT), anyList(), anyString(), anyString(), anyString()))
+                .thenReturn(0L);
+
+        assertFalse(favorBuffer.add(2L, 1L));
+    }
+
+    @DisplayName("집합이 없으면 DB의 좋아요로 채운 뒤 다시 기록하는지")
+    @Test
+    void remove_WhenUnseeded_SeedsFromDatabaseAndRetries() {
+        when(stringRedisTemplate.execute(eq(FavorBufferKeys.REMOVE_SCRIPT), anyList(), anyString(), anyString(), anyString()))
+                .thenReturn(FavorBufferKeys.UNSEEDED, 1L);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(FavorBufferKeys.FLUSHED_KEY)).thenReturn("7");
+        when(favorRepository.findMemberIdsByTravelId(1L)).thenReturn(List.of(2L, 3L));
+
+        assertTrue(favorBuffer.remove(2L, 1L));
+        verify(stringRedisTemplate).execute(eq(FavorBufferKeys.SEED_SCRIPT),
+                eq(List.of(FavorBufferKeys.membersKey(1L), FavorBufferKeys.unflushedKey(1L), FavorBufferKeys.FLUSHED_KEY)),
+                eq("86400"), eq("7"), eq(FavorBufferKeys.SENTINEL), eq("2"), eq("3"));
+    }
+
+    @DisplayName("DB를 읽는 사이에 반영이 끝났으면 DB를 다시 읽어 채우는지")
+    @Test
+    void add_WhenFlushedWhileSeeding_RereadsDatabase() {
+        when(stringRedisTemplate.execute(eq(FavorBufferKeys.ADD_SCRIPT), anyList(), anyString(), anyString(), anyString()))
+                .thenReturn(FavorBufferKeys.UNSEEDED, 1L);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(FavorBufferKeys.FLUSHED_KEY)).thenReturn(null, "1");
+        when(favorRepository.findMemberIdsByTravelId(1L)).thenReturn(List.of(3L), List.of(2L, 3L));
+        when(stringRedisTemplate.execute(eq(FavorBufferKeys.SEED_SCRIPT), anyList(), any(Object[].class)))
+                .thenReturn(FavorBufferKeys.STALE_SEED, 1L);
+
+        assertTrue(favorBuffer.add(2L, 1L));
+        verify(favorRepository, times(2)).findMemberIdsByTravelId(1L);
+    }
+
+    @DisplayName("getUnflushedStates 메서드가 반영되지 않은 변경이 있는 여행만 돌려주는지")
+    @Test
+    void getUnflushedStates_ReturnsOnlyTravelsWithPendingChanges() {
+        when(stringRedisTemplate.execute(FavorBufferKeys.UNFLUSHED_SCRIPT,
+                List.of(FavorBufferKeys.unflushedKey(1L), FavorBufferKeys.unflushedKey(2L),
+                        FavorBufferKeys.unflushedKey(3L)), "5"))
+                .thenReturn(List.of("A:10", "", "D:11"));
+
+        Map<Long, Boolean> result = favorBuffer.getUnflushedStates(5L, List.of(1L, 2L, 3L));
+
+        assertEquals(result, Map.of(1L, true, 3L, false));
+    }
+}
@@ -2,8 +2,16 @@ package kr.co.yigil.favor.infrastructure;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import kr.co.yigil.favor.domain.FavorBuffer;
+import kr.co.yigil.global.IdCountDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +26,9 @@ class FavorReaderImplTest {
     @Mock
     private FavorRepository favorRepository;
 
+    @Mock
+    private FavorBuffer favorBuffer;
+
     @InjectMocks
     private FavorReaderImpl favorReader;
 
@@ -41,4 +52,73 @@ class FavorReaderImplTest {
         assertThat(result).isFalse();
     }
 
-}
\ No newline at end of file
+    @DisplayName("getFavorCount 메서드가 여행의 좋아요 수를 반환하는지")
+    @Test
+    void WhenCallGetFavorCount_ThenShouldReturnCount() {
+        when(favorRepository.countByTravelId(1L)).thenReturn(3);
+
+        var result = favorReader.getFavorCount(1L);
+
+        assertThat(result).isEqualTo(3);
+    }
+
+    @DisplayName("getFavoredTravelIds 메서드가 좋아요한 게시글 id만 반환하는지")
+    @Test
+    void WhenCallGetFavoredTravelIds_ThenShouldReturnFavoredIds() {
+        when(favorRepository.findFavoredTravelIds(1L, List.of(1L, 2L))).thenReturn(List.of(2L));
+
+        var result = favorReader.getFavoredTravelIds(1L, List.of(1L, 2L));
+
+        assertThat(result).isEqualTo(Set.of(2L));
+    }
+
+    @DisplayName("getFavoredTravelIds 메서드가 빈 목록이면 쿼리하지 않는지")
+    @Test
+    void WhenCallGetFavoredTravelIdsWithEmptyList_ThenShouldNotQuery() {
+        var result = favorReader.getFavoredTravelIds(1L, List.of());
+
+        assertThat(result).isEqualTo(Set.of());
+        verifyNoInteractions(favorRepository);
+    }
+
+    @DisplayName("쓰기 지연 모드에서 existsByMemberIdAndTravelId 메서드가 반영되지 않은 변경으로 답하는지")
+    @Test
+    void GivenUnflushedChange_WhenCallExistsByMemberIdAndTravelId_ThenShouldNotQuery() {
+        when(favorBuffer.isEnabled()).thenReturn(true);
+        when(favorBuffer.getUnflushedStates(1L, List.of(2L))).thenReturn(Map.of(2L, true));
+
+        var result = favorReader.existsByMemberIdAndTravelId(1L, 2L);
+
+        assertThat(result).isTrue();
+        verify(favorRepository, never()).existsByMemberIdAndTravelId(anyLong(), anyLong());
+    }
+
+    @DisplayName("쓰기 지연 모드에서 getFavoredTravelIds 메서드가 반영되지 않은 변경을 DB 결과에 합치는지")
+    @Test
+    void GivenUnflushedChanges_WhenCallGetFavoredTravelIds_ThenShouldMergeWithDatabase() {
+        when(favorBuffer.isEnabled()).thenReturn(true);
+        when(favorBuffer.getUnflushedStates(1L, List.of(1L, 2L, 3L, 4L))).thenReturn(Map.of(1L, true, 2L, false));
+        when(favorRepository.findFavoredTravelIds(1L, List.of(3L, 4L))).thenReturn(List.of(4L));
+
+        var result = favorReader.getFavoredTravelIds(1L, List.of(1L, 2L, 3L, 4L));
+
+        assertThat(result).isEqualTo(Set.of(1L, 4L));
+    }
+
+    @DisplayName("getFavorCounts 메서드가 GROUP BY 결과를 여행 id별 개수로 바꾸는지")
+    @Test
+    void WhenGetFavorCounts_ThenShouldReturnCountsByTravelId() {
+        when(favorRepository.countByTravelIds(List.of(1L, 2L))).thenReturn(List.of(new IdCountDto(1L, 3L)));
+
+        Map<Long, Integer> result = favorReader.getFavorCounts(List.of(1L, 2L));
+
+        assertThat(result).isEqualTo(Map.of(1L, 3));
+    }
+
+    @DisplayName("getFavorCounts 메서드가 빈 목록이면 조회하지 않는지")
+    @Test
+    void GivenEmptyIds_WhenGetFavorCounts_ThenShouldNotQuery() {
+        assertThat(favorReader.getFavorCounts(List.of())).isEqualTo(Map.of());
+        verifyNoInteractions(favorRepository);
+    }
+}
@@ -1,19 +1,29 @@
 package kr.co.yigil.favor.infrastructure;
 
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.time.LocalDate;
+import java.util.List;
+import kr.co.yigil.favor.domain.BufferedFavor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class FavorStoreImplTest {
 
     @Mock
     private FavorRepository favorRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
     @InjectMocks
     private FavorStoreImpl favorStore;
 
@@ -32,4 +42,21 @@ class FavorStoreImplTest {
 
         verify(favorRepository).deleteById(1L);
     }
-}
\ No newline at end of file
+
+    @DisplayName("saveAllIfAbsent 메서드가 한 번의 batch INSERT로 저장하는지")
+    @Test
+    void WhenSaveAllIfAbsent_ThenShouldBatchInsert() {
+        favorStore.saveAllIfAbsent(List.of(new BufferedFavor(1L, 2L, LocalDate.now()),
+                new BufferedFavor(3L, 2L, LocalDate.now())));
+
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO favor"), anyList());
+    }
+
+    @DisplayName("deleteAll 메서드가 빈 목록이면 DB를 호출하지 않는지")
+    @Test
+    void GivenEmpty_WhenDeleteAll_ThenShouldDoNothing() {
+        favorStore.deleteAll(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,130 @@
+package kr.co.yigil.feed.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import kr.co.yigil.file.ImageVariant;
+import kr.co.yigil.global.Cursor;
+import kr.co.yigil.member.Member;
+import kr.co.yigil.member.SocialLoginType;
+import kr.co.yigil.relation.domain.RelationLoader;
+import kr.co.yigil.travel.domain.Course;
+import kr.co.yigil.travel.domain.TravelReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FeedServiceImplTest {
+
+    @Mock
+    private FeedReader feedReader;
+    @Mock
+    private TravelReader travelReader;
+    @Mock
+    private RelationLoader relationLoader;
+
+    @InjectMocks
+    private FeedServiceImpl feedService;
+
+    @DisplayName("getFeed 메서드가 피드 list와 DB에서 읽은 id를 최신순으로 합쳐 카드를 만드는지")
+    @Test
+    void getFeed_ShouldMergePushedAndCelebrityTravels() {
+        Course travel9 = course(9L, false);
+        Course travel7 = course(7L, false);
+        when(feedReader.getPushedTravelIds(1L, null, 3)).thenReturn(List.of(9L, 5L));
+        when(feedReader.getCelebrityTravelIds(1L, null, 3)).thenReturn(List.of(7L, 3L));
+        when(travelReader.getTravels(List.of(9L, 7L))).thenReturn(List.of(travel7, travel9));
+        when(relationLoader.getFollowingMemberIds(eq(1L), any())).thenReturn(Set.of(2L));
+
+        var result = feedService.getFeed(1L, Cursor.first(), 2);
+
+        assertThat(result.getCards()).extracting(FeedInfo.FeedCard::getTravelId).containsExactly(9L, 7L);
+        assertTrue(result.isHasNext());
+        assertEquals(Cursor.decode(result.getNextCursor()).getId(), 7L);
+    }
+
+    @DisplayName("getFeed 메서드가 비공개로 바뀐 여행을 건너뛰고 마지막 페이지면 cursor를 주지 않는지")
+    @Test
+    void getFeed_ShouldSkipPrivateTravels() {
+        Course publicTravel = course(4L, false);
+        Course privateTravel = course(3L, true);
+        when(feedReader.getPushedTravelIds(1L, 5L, 11)).thenReturn(List.of(4L, 3L));
+        when(feedReader.getCelebrityTravelIds(1L, 5L, 11)).thenReturn(List.of());
+        when(travelReader.getTravels(List.of(4L, 3L))).thenReturn(List.of(publicTravel, privateTravel));
+        when(relationLoader.getFollowingMemberIds(eq(1L), any())).thenReturn(Set.of(2L));
+
+        var result = feedService.getFeed(1L, Cursor.of(LocalDateTime.now(), 5L), 10);
+
+        assertThat(result.getCards()).extracting(FeedInfo.FeedCard::getTravelId).containsExactly(4L);
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @DisplayName("getFeed 메서드가 한 페이지가 모두 걸러져도 다음 id를 이어 읽어 피드를 끝내지 않는지")
+    @Test
+    void getFeed_WhenWholePageIsFiltered_ShouldReadNextIds() {
+        Course travel7 = course(7L, false);
+        Course travel6 = course(6L, false);
+        when(feedReader.getPushedTravelIds(1L, null, 3)).thenReturn(List.of(9L, 8L, 7L));
+        when(feedReader.getCelebrityTravelIds(1L, null, 3)).thenReturn(List.of());
+        when(feedReader.getPushedTravelIds(1L, 8L, 3)).thenReturn(List.of(7L, 6L, 5L));
+        when(feedReader.getCelebrityTravelIds(1L, 8L, 3)).thenReturn(List.of());
+        when(travelReader.getTravels(List.of(9L, 8L))).thenReturn(List.of());
+        when(travelReader.getTravels(List.of(7L, 6L))).thenReturn(List.of(travel7, travel6));
+        when(relationLoader.getFollowingMemberIds(eq(1L), any())).thenReturn(Set.of(2L));
+
+        var result = feedService.getFeed(1L, Cursor.first(), 2);
+
+        assertThat(result.getCards()).extracting(FeedInfo.FeedCard::getTravelId).containsExactly(7L, 6L);
+        assertTrue(result.isHasNext());
+        assertEquals(Cursor.decode(result.getNextCursor()).getId(), 6L);
+    }
+
+    @DisplayName("getFeed 메서드가 언팔로우한 회원의 여행을 피드 list에 남아 있어도 건너뛰는지")
+    @Test
+    void getFeed_ShouldSkipUnfollowedMembers() {
+        Course followedTravel = course(4L, false);
+        Course unfollowedTravel = course(3L, false, 3L);
+        when(feedReader.getPushedTravelIds(1L, null, 11)).thenReturn(List.of(4L, 3L));
+        when(feedReader.getCelebrityTravelIds(1L, null, 11)).thenReturn(List.of());
+        when(travelReader.getTravels(List.of(4L, 3L))).thenReturn(List.of(followedTravel, unfollowedTravel));
+        when(relationLoader.getFollowingMemberIds(eq(1L), any())).thenReturn(Set.of(2L));
+
+        var result = feedService.getFeed(1L, Cursor.first(), 10);
+
+        assertThat(result.getCards()).extracting(FeedInfo.FeedCard::getTravelId).containsExactly(4L);
+        assertFalse(result.isHasNext());
+    }
+
+    private Course course(Long id, boolean isPrivate) {
+        return course(id, isPrivate, 2L);
+    }
+
+    private Course course(Long id, boolean isPrivate, Long ownerId) {
+        Member member = new Member(ownerId, ownerId + "@email", "22222222", "nickname", "image.jpg",
+                SocialLoginType.KAKAO);
+        Course course = mock(Course.class);
+        lenient().when(course.getId()).thenReturn(id);
+        lenient().when(course.isPrivate()).thenReturn(isPrivate);
+        lenient().when(course.getMember()).thenReturn(member);
+        lenient().when(course.getTitle()).thenReturn("title" + id);
+        lenient().when(course.getCreatedAt()).thenReturn(LocalDateTime.now());
+        lenient().when(course.getMapStaticImageFileUrl(ImageVariant.CARD)).thenReturn("map" + id + ".png");
+        return course;
+    }
+}
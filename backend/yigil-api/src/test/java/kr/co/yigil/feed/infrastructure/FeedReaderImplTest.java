@@ -0,0 +1,84 @@
+package kr.co.yigil.feed.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterReader;
+import kr.co.yigil.counter.domain.CounterValues;
+import kr.co.yigil.follow.infrastructure.FollowRepository;
+import kr.co.yigil.travel.infrastructure.TravelRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class FeedReaderImplTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ListOperations<String, String> listOperations;
+    @Mock
+    private FollowRepository followRepository;
+    @Mock
+    private TravelRepository travelRepository;
+    @Mock
+    private CounterReader counterReader;
+
+    private FeedReaderImpl feedReader;
+
+    @BeforeEach
+    void setUp() {
+        feedReader = new FeedReaderImpl(stringRedisTemplate, followRepository, travelRepository, counterReader, 100);
+    }
+
+    @DisplayName("getPushedTravelIds 메서드가 cursor 이전의 id를 중복 없이 최신순으로 반환하는지")
+    @Test
+    void getPushedTravelIds_ShouldReturnIdsBeforeCursor() {
+        when(stringRedisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("feed:1", 0, -1)).thenReturn(List.of("9", "12", "7", "9", "5", "3"));
+
+        var result = feedReader.getPushedTravelIds(1L, 10L, 3);
+
+        assertThat(result).containsExactly(9L, 7L, 5L);
+    }
+
+    @DisplayName("getCelebrityTravelIds 메서드가 팔로워 수가 기준 이상인 회원의 여행만 DB에서 읽는지")
+    @Test
+    void getCelebrityTravelIds_ShouldReadOnlyCelebrities() {
+        when(followRepository.findFollowingIdsByFollowerId(1L)).thenReturn(List.of(2L, 3L));
+        when(counterReader.getAll(CounterGroup.MEMBER, List.of(2L, 3L))).thenReturn(Map.of(
+                2L, new CounterValues(Map.of(Counter.FOLLOWER_COUNT, 150)),
+                3L, new CounterValues(Map.of(Counter.FOLLOWER_COUNT, 5))));
+        when(travelRepository.findPublicTravelIdsBefore(List.of(2L), Long.MAX_VALUE, PageRequest.of(0, 10)))
+                .thenReturn(List.of(30L, 20L));
+
+        var result = feedReader.getCelebrityTravelIds(1L, null, 10);
+
+        assertThat(result).containsExactly(30L, 20L);
+    }
+
+    @DisplayName("getCelebrityTravelIds 메서드가 팔로워가 많은 회원이 없으면 DB를 조회하지 않는지")
+    @Test
+    void getCelebrityTravelIds_WithoutCelebrities_ShouldNotQueryTravels() {
+        when(followRepository.findFollowingIdsByFollowerId(1L)).thenReturn(List.of(3L));
+        when(counterReader.getAll(any(), any())).thenReturn(Map.of());
+
+        var result = feedReader.getCelebrityTravelIds(1L, 10L, 10);
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(travelRepository);
+    }
+}
@@ -0,0 +1,98 @@
+package kr.co.yigil.feed.infrastructure;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterReader;
+import kr.co.yigil.counter.domain.CounterValues;
+import kr.co.yigil.follow.infrastructure.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+class FeedStoreImplTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private FollowRepository followRepository;
+    @Mock
+    private CounterReader counterReader;
+
+    private FeedStoreImpl feedStore;
+
+    @BeforeEach
+    void setUp() {
+        feedStore = new FeedStoreImpl(stringRedisTemplate, followRepository, counterReader, Runnable::run, 100, 300);
+    }
+
+    @DisplayName("publish 메서드가 팔로워들의 피드에 여행을 넣는지")
+    @Test
+    void publish_WithoutTransaction_PushesToFollowers() {
+        when(counterReader.get(CounterGroup.MEMBER, 1L)).thenReturn(followers(2));
+        when(followRepository.findFollowerIdsByFollowingId(1L)).thenReturn(List.of(2L, 3L));
+
+        feedStore.publish(1L, 10L);
+
+        verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @DisplayName("publish 메서드가 트랜잭션 안에서는 커밋 이후에 반영되는지")
+    @Test
+    void publish_WithinTransaction_PushesAfterCommit() {
+        when(counterReader.get(CounterGroup.MEMBER, 1L)).thenReturn(followers(1));
+        when(followRepository.findFollowerIdsByFollowingId(1L)).thenReturn(List.of(2L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            feedStore.publish(1L, 10L);
+            verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("publish 메서드가 팔로워 수가 기준 이상인 회원은 fan-out 하지 않는지")
+    @Test
+    void publish_WithCelebrity_SkipsFanout() {
+        when(counterReader.get(CounterGroup.MEMBER, 1L)).thenReturn(followers(100));
+
+        feedStore.publish(1L, 10L);
+
+        verify(followRepository, never()).findFollowerIdsByFollowingId(anyLong());
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @DisplayName("publish 메서드가 팔로워가 없으면 Redis를 호출하지 않는지")
+    @Test
+    void publish_WithoutFollowers_DoesNothing() {
+        when(counterReader.get(CounterGroup.MEMBER, 1L)).thenReturn(CounterValues.empty());
+        when(followRepository.findFollowerIdsByFollowingId(1L)).thenReturn(List.of());
+
+        feedStore.publish(1L, 10L);
+
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    private CounterValues followers(int count) {
+        return new CounterValues(Map.of(Counter.FOLLOWER_COUNT, count));
+    }
+}
@@ -0,0 +1,101 @@
+package kr.co.yigil.feed.interfaces.controller;
+
+import static kr.co.yigil.RestDocumentUtils.getDocumentRequest;
+import static kr.co.yigil.RestDocumentUtils.getDocumentResponse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import kr.co.yigil.feed.application.FeedFacade;
+import kr.co.yigil.feed.domain.FeedInfo;
+import kr.co.yigil.feed.interfaces.dto.FeedCardDto;
+import kr.co.yigil.feed.interfaces.dto.mapper.FeedMapper;
+import kr.co.yigil.feed.interfaces.dto.response.FeedResponse;
+import kr.co.yigil.global.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@ExtendWith({SpringExtension.class, RestDocumentationExtension.class})
+@WebMvcTest(FeedApiController.class)
+@AutoConfigureRestDocs
+public class FeedApiControllerTest {
+
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FeedFacade feedFacade;
+
+    @MockBean
+    private FeedMapper feedMapper;
+
+    @BeforeEach
+    void setUp(WebApplicationContext webApplicationContext,
+               RestDocumentationContextProvider restDocumentation) {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(documentationConfiguration(restDocumentation)).build();
+    }
+
+    @DisplayName("getFeed가 올바르게 동작하는지 테스트")
+    @Test
+    void whenGetFeed_thenReturns200AndFeedResponse() throws Exception {
+        FeedInfo.FeedSlice feedSlice = mock(FeedInfo.FeedSlice.class);
+        when(feedFacade.getFeed(any(), any(Cursor.class), anyInt())).thenReturn(feedSlice);
+        FeedCardDto card = new FeedCardDto(10L, "SPOT", "장소 이름", "image.jpg", 4.5, 2L, "nickname",
+                "profile.jpg", "2024-03-01T12:00");
+        when(feedMapper.toResponse(feedSlice)).thenReturn(new FeedResponse(List.of(card), true, "next-cursor"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/feed")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andDo(document("feed/get-feed",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        queryParameters(
+                                parameterWithName("size").description("페이지 크기").optional(),
+                                parameterWithName("cursor").description("이전 응답의 next_cursor - 빈 값이면 첫 페이지").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("has_next").type(JsonFieldType.BOOLEAN)
+                                        .description("다음 페이지가 있는지 여부"),
+                                fieldWithPath("next_cursor").type(JsonFieldType.STRING)
+                                        .description("다음 페이지 cursor").optional(),
+                                subsectionWithPath("cards").description("피드 카드 목록"),
+                                fieldWithPath("cards[].travel_id").type(JsonFieldType.NUMBER).description("여행의 id"),
+                                fieldWithPath("cards[].travel_type").type(JsonFieldType.STRING).description("SPOT 또는 COURSE"),
+                                fieldWithPath("cards[].title").type(JsonFieldType.STRING).description("코스 제목 또는 스팟의 장소 이름"),
+                                fieldWithPath("cards[].image_url").type(JsonFieldType.STRING).description("대표 이미지 또는 코스 지도 이미지 url"),
+                                fieldWithPath("cards[].rate").type(JsonFieldType.NUMBER).description("여행의 평점"),
+                                fieldWithPath("cards[].owner_id").type(JsonFieldType.NUMBER).description("작성자 id"),
+                                fieldWithPath("cards[].owner_nickname").type(JsonFieldType.STRING).description("작성자 닉네임"),
+                                fieldWithPath("cards[].owner_profile_image_url").type(JsonFieldType.STRING).description("작성자 프로필 이미지 url"),
+                                fieldWithPath("cards[].create_date").type(JsonFieldType.STRING).description("여행의 생성일시")
+                        )
+                ));
+
+        verify(feedFacade).getFeed(any(), any(Cursor.class), anyInt());
+    }
+}
@@ -1,21 +1,13 @@
 package kr.co.yigil.file;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
-import java.io.IOException;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -25,29 +17,28 @@ import org.springframework.web.multipart.MultipartFile;
 public class FileUploadEventListenerTest {
 
     @Mock
-    private AmazonS3Client mockAmazonS3Client;
+    private FileStorage fileStorage;
 
     @InjectMocks
     private FileUploadEventListener fileUploadEventListener;
 
-    @Captor
-    private ArgumentCaptor<PutObjectRequest> putObjectRequestCaptor;
-
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
     }
 
-    @DisplayName("파일 업로드가 S3로 잘 동작하는지")
+    @DisplayName("파일 업로드가 FileStorage로 잘 동작하고 저장 경로를 콜백으로 넘기는지")
     @Test
-    void shouldUploadFileToS3() throws IOException {
+    void shouldUploadFileToStorage() {
         MultipartFile mockFile = new MockMultipartFile("file", "test.jpg", "image/jpeg", new byte[10]);
         Consumer<String> mockConsumer = mock(Consumer.class);
         FileUploadEvent event = new FileUploadEvent(new Object(), mockFile, mockConsumer);
+        when(fileStorage.store(mockFile, FileType.IMAGE)).thenReturn("images/test.jpg");
+
         fileUploadEventListener.handleFileUpload(event);
 
-        verify(mockAmazonS3Client).putObject(eq("cdn.yigil.co.kr"), anyString(), any(), any(
-                ObjectMetadata.class));
+        verify(fileStorage).store(mockFile, FileType.IMAGE);
+        verify(mockConsumer).accept("images/test.jpg");
     }
 
 }
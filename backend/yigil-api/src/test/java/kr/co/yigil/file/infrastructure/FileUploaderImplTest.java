@@ -0,0 +1,162 @@
+package kr.co.yigil.file.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import kr.co.yigil.file.FileStorage;
+import kr.co.yigil.file.FileType;
+import kr.co.yigil.file.UploadedFiles;
+import kr.co.yigil.global.exception.FileException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+public class FileUploaderImplTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("uploadAll 메서드가 모든 파일을 동시에 올리고 요청 파일로 결과를 찾을 수 있는지")
+    @Test
+    void uploadAll_ShouldUploadFilesConcurrently() {
+        List<MultipartFile> files = images(5);
+        CountDownLatch allInFlight = new CountDownLatch(files.size());
+        InMemoryFileStorage storage = new InMemoryFileStorage(allInFlight, null);
+        FileUploaderImpl fileUploader = new FileUploaderImpl(mock(ApplicationEventPublisher.class), storage, executor);
+
+        UploadedFiles uploadedFiles = fileUploader.uploadAll(files);
+
+        assertEquals(storage.stored.size(), 5);
+        assertEquals(uploadedFiles.get(files.get(2)).getOriginalFileName(), "image2.jpg");
+        assertEquals(uploadedFiles.getUnusedStoredPaths().size(), 4);
+    }
+
+    @DisplayName("uploadAll 메서드가 하나라도 실패하면 이미 올린 파일을 지우고 예외를 던지는지")
+    @Test
+    void uploadAll_WhenOneFails_ShouldDiscardUploadedFiles() {
+        List<MultipartFile> files = images(3);
+        InMemoryFileStorage storage = new InMemoryFileStorage(null, "image1.jpg");
+        FileUploaderImpl fileUploader = new FileUploaderImpl(mock(ApplicationEventPublisher.class), storage, executor);
+
+        assertThrows(FileException.class, () -> fileUploader.uploadAll(files));
+
+        assertTrue(storage.stored.isEmpty());
+    }
+
+    @DisplayName("uploadAll 메서드가 업로드 전에 파일 형식을 검증해 아무것도 올리지 않는지")
+    @Test
+    void uploadAll_WithInvalidFile_ShouldNotUploadAnything() {
+        List<MultipartFile> files = new ArrayList<>(images(2));
+        files.add(new MockMultipartFile("file", "doc.pdf", "application/pdf", new byte[10]));
+        InMemoryFileStorage storage = new InMemoryFileStorage(null, null);
+        FileUploaderImpl fileUploader = new FileUploaderImpl(mock(ApplicationEventPublisher.class), storage, executor);
+
+        assertThrows(FileException.class, () -> fileUploader.uploadAll(files));
+
+        assertEquals(storage.putCount, 0);
+    }
+
+    private List<MultipartFile> images(int count) {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            files.add(new MockMultipartFile("file", "image" + i + ".jpg", "image/jpeg", new byte[10]));
+        }
+        return files;
+    }
+
+    /**
+     * 로컬 S3 대용. allInFlight가 주어지면 모든 업로드가 동시에 진행 중일 때까지 각 업로드를 붙잡아 둔다.
+     */
+    private static class InMemoryFileStorage implements FileStorage {
+
+        private final CountDownLatch allInFlight;
+        private final String failingFileName;
+        private final ConcurrentHashMap<String, byte[]> stored = new ConcurrentHashMap<>();
+        private volatile int putCount;
+
+        InMemoryFileStorage(CountDownLatch allInFlight, String failingFileName) {
+            this.allInFlight = allInFlight;
+            this.failingFileName = failingFileName;
+        }
+
+        @Override
+        public String store(MultipartFile file, FileType fileType) {
+            putCount++;
+            if (allInFlight != null) {
+                allInFlight.countDown();
+                awaitAllInFlight();
+            }
+            if (file.getOriginalFilename().equals(failingFileName)) {
+                throw new IllegalStateException("upload failed");
+            }
+            String path = "images/" + file.getOriginalFilename();
+            try {
+                stored.put(path, file.getBytes());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return path;
+        }
+
+        @Override
+        public void store(String path, byte[] bytes, String contentType) {
+            stored.put(path, bytes);
+        }
+
+        @Override
+        public byte[] load(String path) {
+            return stored.get(path);
+        }
+
+        @Override
+        public void delete(List<String> paths) {
+            paths.forEach(stored::remove);
+        }
+
+        @Override
+        public PresignedUpload presignUpload(String originalFileName, FileType fileType, String contentType,
+                Duration expiresIn) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<StoredObject> find(String path) {
+            return Optional.ofNullable(stored.get(path)).map(bytes -> new StoredObject("image/jpeg", bytes.length));
+        }
+
+        private void awaitAllInFlight() {
+            try {
+                if (!allInFlight.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("uploads were not in flight together");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package kr.co.yigil.file.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import javax.imageio.ImageIO;
+import kr.co.yigil.file.AttachFile;
+import kr.co.yigil.file.FileStorage;
+import kr.co.yigil.file.FileType;
+import kr.co.yigil.file.ImageVariant;
+import kr.co.yigil.file.repository.AttachFileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ImageVariantGeneratorImplTest {
+
+    private static final String PATH = "images/uuid_photo.png";
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+
+    @Mock
+    private FileStorage fileStorage;
+
+    @Mock
+    private AttachFileRepository attachFileRepository;
+
+    private ImageVariantGeneratorImpl imageVariantGenerator;
+
+    @BeforeEach
+    void setUp() {
+        imageVariantGenerator = new ImageVariantGeneratorImpl(fileStorage, attachFileRepository, Runnable::run,
+                MAX_SOURCE_PIXELS);
+    }
+
+    @DisplayName("generateVariants 메서드가 원본보다 좁은 크기별 JPEG를 만들고 경로를 기록하는지")
+    @Test
+    void generateVariants_ShouldStoreResizedJpegsAndRecordPaths() throws Exception {
+        when(fileStorage.load(PATH)).thenReturn(png(2000, 1000));
+        ArgumentCaptor<byte[]> bytesCaptor = ArgumentCaptor.forClass(byte[].class);
+
+        imageVariantGenerator.generateVariants(1L, PATH);
+
+        verify(fileStorage).store(eq("variants/thumb/images/uuid_photo.jpg"), bytesCaptor.capture(), eq("image/jpeg"));
+        verify(fileStorage).store(eq("variants/card/images/uuid_photo.jpg"), any(), eq("image/jpeg"));
+        verify(fileStorage).store(eq("variants/full/images/uuid_photo.jpg"), any(), eq("image/jpeg"));
+        verify(attachFileRepository).updateVariants(1L, "variants/thumb/images/uuid_photo.jpg",
+                "variants/card/images/uuid_photo.jpg", "variants/full/images/uuid_photo.jpg");
+
+        BufferedImage thumb = ImageIO.read(new ByteArrayInputStream(bytesCaptor.getValue()));
+        assertEquals(thumb.getWidth(), ImageVariant.THUMB.getMaxWidth());
+        assertEquals(thumb.getHeight(), ImageVariant.THUMB.getMaxWidth() / 2);
+    }
+
+    @DisplayName("generateVariants 메서드가 원본이 더 좁은 크기는 만들지 않고 원본을 쓰게 두는지")
+    @Test
+    void generateVariants_WhenOriginalIsNarrow_ShouldSkipLargerVariants() throws Exception {
+        when(fileStorage.load(PATH)).thenReturn(png(500, 500));
+
+        imageVariantGenerator.generateVariants(1L, PATH);
+
+        verify(fileStorage).store(eq("variants/thumb/images/uuid_photo.jpg"), any(), eq("image/jpeg"));
+        verify(attachFileRepository).updateVariants(1L, "variants/thumb/images/uuid_photo.jpg", null, null);
+    }
+
+    @DisplayName("generateVariants 메서드가 읽을 수 없는 이미지면 아무것도 기록하지 않는지")
+    @Test
+    void generateVariants_WhenUnsupportedFormat_ShouldNotRecord() {
+        when(fileStorage.load(PATH)).thenReturn(new byte[]{1, 2, 3});
+
+        imageVariantGenerator.generateVariants(1L, PATH);
+
+        verify(fileStorage, never()).store(anyString(), any(byte[].class), anyString());
+        verifyNoInteractions(attachFileRepository);
+    }
+
+    @DisplayName("generateVariants 메서드가 픽셀 수 상한을 넘는 원본은 디코딩하지 않고 건너뛰는지")
+    @Test
+    void generateVariants_WhenSourceExceedsPixelCap_ShouldSkip() throws Exception {
+        ImageVariantGeneratorImpl generator = new ImageVariantGeneratorImpl(fileStorage, attachFileRepository,
+                Runnable::run, 1_000_000L);
+        when(fileStorage.load(PATH)).thenReturn(png(2000, 1000));
+
+        generator.generateVariants(1L, PATH);
+
+        verify(fileStorage, never()).store(anyString(), any(byte[].class), anyString());
+        verifyNoInteractions(attachFileRepository);
+    }
+
+    @DisplayName("generateVariants 메서드가 큰 원본을 서브샘플링해 읽어도 가장 큰 크기를 채우는지")
+    @Test
+    void generateVariants_WhenSourceIsWide_ShouldSubsampleAboveWidestVariant() throws Exception {
+        when(fileStorage.load(PATH)).thenReturn(png(6000, 300));
+        ArgumentCaptor<byte[]> bytesCaptor = ArgumentCaptor.forClass(byte[].class);
+
+        imageVariantGenerator.generateVariants(1L, PATH);
+
+        verify(fileStorage).store(eq("variants/full/images/uuid_photo.jpg"), bytesCaptor.capture(), eq("image/jpeg"));
+        BufferedImage full = ImageIO.read(new ByteArrayInputStream(bytesCaptor.getValue()));
+        assertEquals(full.getWidth(), ImageVariant.FULL.getMaxWidth());
+        assertEquals(full.getHeight(), 72);
+    }
+
+    @DisplayName("subsampling 메서드가 읽은 가로가 목표보다 좁아지지 않는 간격을 고르는지")
+    @Test
+    void subsampling_ShouldKeepWidthAboveTarget() {
+        assertEquals(ImageVariantGeneratorImpl.subsampling(6000, 1440), 4);
+        assertEquals(ImageVariantGeneratorImpl.subsampling(2000, 1440), 1);
+        assertEquals(ImageVariantGeneratorImpl.subsampling(100, 1440), 1);
+    }
+
+    @DisplayName("generate 메서드가 저장된 이미지 파일만 변환 대상으로 넘기는지")
+    @Test
+    void generate_ShouldOnlySubmitPersistedImages() throws Exception {
+        AttachFile image = attachFile(1L, FileType.IMAGE);
+        AttachFile video = attachFile(2L, FileType.VIDEO);
+        AttachFile unsaved = attachFile(null, FileType.IMAGE);
+        when(fileStorage.load(PATH)).thenReturn(png(100, 100));
+
+        imageVariantGenerator.generate(List.of(image, video, unsaved));
+
+        verify(fileStorage).load(PATH);
+    }
+
+    @DisplayName("generate 메서드가 작업 큐가 가득 차도 예외를 던지지 않는지")
+    @Test
+    void generate_WhenQueueIsFull_ShouldNotThrow() {
+        Executor rejecting = command -> {
+            throw new RejectedExecutionException();
+        };
+        ImageVariantGeneratorImpl generator = new ImageVariantGeneratorImpl(fileStorage, attachFileRepository,
+                rejecting, MAX_SOURCE_PIXELS);
+
+        generator.generate(List.of(attachFile(1L, FileType.IMAGE)));
+
+        verifyNoInteractions(fileStorage);
+        verify(attachFileRepository, never()).updateVariants(anyLong(), any(), any(), any());
+    }
+
+    @DisplayName("variantPath 메서드가 확장자를 jpg로 바꾼 크기별 경로를 만드는지")
+    @Test
+    void variantPath_ShouldReplaceExtension() {
+        assertEquals(ImageVariantGeneratorImpl.variantPath("images/a.b.png", ImageVariant.CARD),
+                "variants/card/images/a.b.jpg");
+        assertTrue(ImageVariantGeneratorImpl.variantPath("images/noext", ImageVariant.THUMB)
+                .endsWith("images/noext.jpg"));
+    }
+
+    private AttachFile attachFile(Long id, FileType fileType) {
+        AttachFile attachFile = mock(AttachFile.class);
+        when(attachFile.getId()).thenReturn(id);
+        if (id != null) {
+            when(attachFile.isImage()).thenReturn(fileType == FileType.IMAGE);
+        }
+        if (id != null && fileType == FileType.IMAGE) {
+            when(attachFile.getStoredPath()).thenReturn(PATH);
+        }
+        return attachFile;
+    }
+
+    private byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,172 @@
+package kr.co.yigil.file.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import kr.co.yigil.file.FileStorage.PresignedUpload;
+import kr.co.yigil.file.FileStorage.StoredObject;
+import kr.co.yigil.file.FileType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+public class S3FileStorageTest {
+
+    @Mock
+    private AmazonS3Client amazonS3Client;
+
+    @Mock
+    private S3MultipartUploader multipartUploader;
+
+    private S3FileStorage s3FileStorage;
+
+    @BeforeEach
+    void setUp() {
+        s3FileStorage = new S3FileStorage(amazonS3Client, multipartUploader, 1024);
+    }
+
+    @DisplayName("store 메서드가 파일 종류에 맞는 경로로 S3에 올리는지")
+    @Test
+    void store_ShouldPutObjectUnderFileTypePath() {
+        MockMultipartFile file = new MockMultipartFile("file", "test.mp4", "video/mp4", new byte[10]);
+
+        String path = s3FileStorage.store(file, FileType.VIDEO);
+
+        assertTrue(path.startsWith("videos/") && path.endsWith("_test.mp4"));
+        verify(amazonS3Client).putObject(eq(S3FileStorage.BUCKET_NAME), eq(path), any(), any(ObjectMetadata.class));
+        verifyNoInteractions(multipartUploader);
+    }
+
+    @DisplayName("store 메서드가 임계값 이상인 파일은 멀티파트로 올리는지")
+    @Test
+    void store_WhenLargerThanThreshold_ShouldUseMultipartUpload() {
+        MockMultipartFile file = new MockMultipartFile("file", "large.mp4", "video/mp4", new byte[2048]);
+
+        String path = s3FileStorage.store(file, FileType.VIDEO);
+
+        verify(multipartUploader).upload(eq(S3FileStorage.BUCKET_NAME), eq(path), any(), eq(2048L),
+                any(ObjectMetadata.class));
+        verifyNoInteractions(amazonS3Client);
+    }
+
+    @DisplayName("store 메서드가 지정한 경로에 바이트 배열을 올리는지")
+    @Test
+    void store_WithBytes_ShouldPutObjectAtPath() {
+        ArgumentCaptor<ObjectMetadata> captor = ArgumentCaptor.forClass(ObjectMetadata.class);
+
+        s3FileStorage.store("variants/thumb/images/a.jpg", new byte[10], "image/jpeg");
+
+        verify(amazonS3Client).putObject(eq(S3FileStorage.BUCKET_NAME), eq("variants/thumb/images/a.jpg"), any(),
+                captor.capture());
+        assertEquals(captor.getValue().getContentLength(), 10L);
+        assertEquals(captor.getValue().getContentType(), "image/jpeg");
+    }
+
+    @DisplayName("delete 메서드가 여러 파일을 한 번의 요청으로 지우는지")
+    @Test
+    void delete_ShouldDeleteObjectsInOneRequest() {
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+
+        s3FileStorage.delete(List.of("images/a.png", "images/b.png"));
+
+        verify(amazonS3Client).deleteObjects(captor.capture());
+        assertEquals(captor.getValue().getKeys().stream().map(KeyVersion::getKey).toList(),
+                List.of("images/a.png", "images/b.png"));
+    }
+
+    @DisplayName("delete 메서드가 지울 파일이 없으면 S3를 호출하지 않는지")
+    @Test
+    void delete_WhenEmpty_ShouldNotCallS3() {
+        s3FileStorage.delete(List.of());
+
+        verifyNoInteractions(amazonS3Client);
+    }
+
+    @DisplayName("presignUpload 메서드가 파일 종류 경로에 Content-Type이 서명된 PUT URL을 발급하는지")
+    @Test
+    void presignUpload_ShouldGeneratePutUrlWithContentType() throws Exception {
+        ArgumentCaptor<GeneratePresignedUrlRequest> captor = ArgumentCaptor.forClass(GeneratePresignedUrlRequest.class);
+        when(amazonS3Client.generatePresignedUrl(any(GeneratePresignedUrlRequest.class)))
+                .thenReturn(new URL("https://cdn.yigil.co.kr/images/presigned"));
+
+        PresignedUpload upload = s3FileStorage.presignUpload("test.png", FileType.IMAGE, "image/png",
+                Duration.ofMinutes(10));
+
+        verify(amazonS3Client).generatePresignedUrl(captor.capture());
+        assertTrue(upload.path().startsWith("images/") && upload.path().endsWith("_test.png"));
+        assertEquals(upload.uploadUrl(), "https://cdn.yigil.co.kr/images/presigned");
+        assertEquals(captor.getValue().getMethod(), HttpMethod.PUT);
+        assertEquals(captor.getValue().getKey(), upload.path());
+        assertEquals(captor.getValue().getContentType(), "image/png");
+    }
+
+    @DisplayName("sanitize 메서드가 파일 이름에서 경로와 제어 문자를 걷어내는지")
+    @Test
+    void sanitize_ShouldStripPathAndControlCharacters() {
+        assertEquals(S3FileStorage.sanitize("../../etc/pass\nwd.png"), "passwd.png");
+        assertEquals(S3FileStorage.sanitize("C:\\Users\\me\\my photo.png"), "my_photo.png");
+        assertEquals(S3FileStorage.sanitize(".."), "file");
+        assertEquals(S3FileStorage.sanitize(null), "file");
+        assertEquals(S3FileStorage.sanitize("a".repeat(200) + ".png").length(), S3FileStorage.MAX_FILE_NAME_LENGTH);
+    }
+
+    @DisplayName("presignUpload 메서드가 경로가 섞인 파일 이름으로도 파일 종류 경로 아래에만 키를 만드는지")
+    @Test
+    void presignUpload_WithPathInFileName_ShouldKeepKeyUnderFileTypePath() throws Exception {
+        when(amazonS3Client.generatePresignedUrl(any(GeneratePresignedUrlRequest.class)))
+                .thenReturn(new URL("https://cdn.yigil.co.kr/images/presigned"));
+
+        PresignedUpload upload = s3FileStorage.presignUpload("../videos/evil.png", FileType.IMAGE, "image/png",
+                Duration.ofMinutes(10));
+
+        assertTrue(upload.path().startsWith("images/") && upload.path().endsWith("_evil.png"));
+        assertFalse(upload.path().contains(".."));
+        assertEquals(upload.path().indexOf('/'), upload.path().lastIndexOf('/'));
+    }
+
+    @DisplayName("find 메서드가 HEAD 결과로 객체의 형식과 크기를 반환하는지")
+    @Test
+    void find_ShouldReturnObjectMetadata() {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType("image/png");
+        metadata.setContentLength(10L);
+        when(amazonS3Client.getObjectMetadata(S3FileStorage.BUCKET_NAME, "images/a.png")).thenReturn(metadata);
+
+        Optional<StoredObject> result = s3FileStorage.find("images/a.png");
+
+        assertEquals(result, Optional.of(new StoredObject("image/png", 10L)));
+    }
+
+    @DisplayName("find 메서드가 객체가 없으면 빈 값을 반환하는지")
+    @Test
+    void find_WhenNotFound_ReturnsEmpty() {
+        AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+        notFound.setStatusCode(404);
+        when(amazonS3Client.getObjectMetadata(S3FileStorage.BUCKET_NAME, "images/a.png")).thenThrow(notFound);
+
+        assertFalse(s3FileStorage.find("images/a.png").isPresent());
+    }
+}
@@ -0,0 +1,218 @@
+package kr.co.yigil.file.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class S3MultipartUploaderTest {
+
+    private static final String BUCKET = "cdn.yigil.co.kr";
+    private static final String KEY = "videos/uuid_large.mp4";
+    private static final int PART_SIZE = (int) S3MultipartUploader.MIN_PART_SIZE;
+
+    private ExecutorService executor;
+    private InMemoryMultipartS3 s3;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+        s3 = new InMemoryMultipartS3();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("upload 메서드가 파트를 동시에 올리고 순서대로 이어 붙인 객체를 만드는지")
+    @Test
+    void upload_ShouldUploadPartsConcurrentlyAndAssembleObject() {
+        byte[] content = content(PART_SIZE * 2 + 1024);
+        s3.allInFlight = new CountDownLatch(3);
+        S3MultipartUploader uploader = uploader(3, 3);
+
+        uploader.upload(BUCKET, KEY, new ByteArrayInputStream(content), content.length, new ObjectMetadata());
+
+        assertArrayEquals(s3.objects.get(KEY), content);
+        assertEquals(s3.uploadPartCalls.get(), 3);
+        MultipartUploadStatistics statistics = uploader.getStatistics();
+        assertEquals(statistics.getUploads(), 1L);
+        assertEquals(statistics.getParts(), 3L);
+        assertEquals(statistics.getBytes(), (long) content.length);
+        assertTrue(statistics.getThroughputMegabytesPerSecond() > 0);
+    }
+
+    @DisplayName("upload 메서드가 일시적으로 실패한 파트만 다시 보내는지")
+    @Test
+    void upload_WhenPartFailsOnce_ShouldRetryOnlyThatPart() {
+        byte[] content = content(PART_SIZE * 2 + 1024);
+        s3.failures.put(2, new AtomicInteger(1));
+        s3.failureStatus = 503;
+        S3MultipartUploader uploader = uploader(2, 3);
+
+        uploader.upload(BUCKET, KEY, new ByteArrayInputStream(content), content.length, new ObjectMetadata());
+
+        assertArrayEquals(s3.objects.get(KEY), content);
+        assertEquals(s3.uploadPartCalls.get(), 4);
+        assertEquals(uploader.getStatistics().getRetries(), 1L);
+    }
+
+    @DisplayName("upload 메서드가 재시도 후에도 실패하면 업로드를 중단하고 예외를 던지는지")
+    @Test
+    void upload_WhenPartKeepsFailing_ShouldAbort() {
+        byte[] content = content(PART_SIZE + 1024);
+        s3.failures.put(1, new AtomicInteger(Integer.MAX_VALUE));
+        s3.failureStatus = 500;
+        S3MultipartUploader uploader = uploader(2, 3);
+
+        assertThrows(IllegalStateException.class, () -> uploader.upload(BUCKET, KEY,
+                new ByteArrayInputStream(content), content.length, new ObjectMetadata()));
+
+        assertTrue(s3.aborted.contains(KEY));
+        assertTrue(s3.objects.isEmpty());
+        verify(s3.client, never()).completeMultipartUpload(any());
+        assertEquals(uploader.getStatistics().getFailures(), 1L);
+    }
+
+    @DisplayName("upload 메서드가 재시도해도 소용없는 클라이언트 오류는 다시 보내지 않는지")
+    @Test
+    void upload_WhenClientError_ShouldNotRetry() {
+        byte[] content = content(PART_SIZE);
+        s3.failures.put(1, new AtomicInteger(Integer.MAX_VALUE));
+        s3.failureStatus = 403;
+        S3MultipartUploader uploader = uploader(2, 3);
+
+        assertThrows(IllegalStateException.class, () -> uploader.upload(BUCKET, KEY,
+                new ByteArrayInputStream(content), content.length, new ObjectMetadata()));
+
+        assertEquals(s3.uploadPartCalls.get(), 1);
+        assertTrue(s3.aborted.contains(KEY));
+    }
+
+    @DisplayName("upload 메서드가 스트림이 내용 길이보다 먼저 끝나면 업로드를 중단하는지")
+    @Test
+    void upload_WhenStreamEndsEarly_ShouldAbort() {
+        byte[] content = content(PART_SIZE);
+        S3MultipartUploader uploader = uploader(2, 3);
+
+        assertThrows(IllegalStateException.class, () -> uploader.upload(BUCKET, KEY,
+                new ByteArrayInputStream(content), content.length * 2L, new ObjectMetadata()));
+
+        assertTrue(s3.aborted.contains(KEY));
+    }
+
+    private S3MultipartUploader uploader(int parallelism, int maxAttempts) {
+        return new S3MultipartUploader(s3.client, executor, PART_SIZE, parallelism, maxAttempts, 1);
+    }
+
+    private byte[] content(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+
+    /**
+     * 로컬 S3 대용. 업로드 id별로 받은 파트를 모아 두었다가 complete 요청에서 파트 번호 순서로 이어 붙인다.
+     * allInFlight가 주어지면 그 수만큼의 파트가 동시에 전송 중일 때까지 각 파트를 붙잡아 둔다.
+     */
+    private static class InMemoryMultipartS3 {
+
+        private final AmazonS3Client client = mock(AmazonS3Client.class);
+        private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final Set<String> aborted = ConcurrentHashMap.newKeySet();
+        private final Map<Integer, AtomicInteger> failures = new ConcurrentHashMap<>();
+        private final AtomicInteger uploadPartCalls = new AtomicInteger();
+        private volatile int failureStatus;
+        private volatile CountDownLatch allInFlight;
+
+        InMemoryMultipartS3() {
+            when(client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenAnswer(invocation -> {
+                InitiateMultipartUploadRequest request = invocation.getArgument(0);
+                uploads.put(request.getKey(), new ConcurrentHashMap<>());
+                InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+                result.setUploadId(request.getKey());
+                return result;
+            });
+            when(client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+                UploadPartRequest request = invocation.getArgument(0);
+                uploadPartCalls.incrementAndGet();
+                awaitAllInFlight();
+                AtomicInteger remainingFailures = failures.get(request.getPartNumber());
+                if (remainingFailures != null && remainingFailures.getAndDecrement() > 0) {
+                    AmazonServiceException exception = new AmazonServiceException("part upload failed");
+                    exception.setStatusCode(failureStatus);
+                    throw exception;
+                }
+                uploads.get(request.getUploadId()).put(request.getPartNumber(),
+                        request.getInputStream().readAllBytes());
+                UploadPartResult result = new UploadPartResult();
+                result.setPartNumber(request.getPartNumber());
+                result.setETag("etag-" + request.getPartNumber());
+                return result;
+            });
+            when(client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenAnswer(invocation -> {
+                CompleteMultipartUploadRequest request = invocation.getArgument(0);
+                Map<Integer, byte[]> parts = uploads.remove(request.getUploadId());
+                ByteArrayOutputStream object = new ByteArrayOutputStream();
+                request.getPartETags().stream()
+                        .sorted(Comparator.comparingInt(PartETag::getPartNumber))
+                        .forEach(partETag -> object.writeBytes(parts.get(partETag.getPartNumber())));
+                objects.put(request.getKey(), object.toByteArray());
+                return new CompleteMultipartUploadResult();
+            });
+            doAnswer(invocation -> {
+                AbortMultipartUploadRequest request = invocation.getArgument(0);
+                uploads.remove(request.getUploadId());
+                aborted.add(request.getKey());
+                return null;
+            }).when(client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        }
+
+        private void awaitAllInFlight() throws InterruptedException {
+            CountDownLatch latch = allInFlight;
+            if (latch == null) {
+                return;
+            }
+            latch.countDown();
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("parts were not in flight together");
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package kr.co.yigil.file.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import kr.co.yigil.file.AttachFile;
+import kr.co.yigil.file.FileStorage;
+import kr.co.yigil.file.FileStorage.PresignedUpload;
+import kr.co.yigil.file.FileStorage.StoredObject;
+import kr.co.yigil.file.FileType;
+import kr.co.yigil.global.exception.ExceptionCode;
+import kr.co.yigil.global.exception.FileException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class UploadSessionManagerImplTest {
+
+    private static final String PATH = "images/uuid_test.png";
+    private static final String KEY = UploadSessionManagerImpl.KEY_PREFIX + PATH;
+    private static final String CLAIMED_KEY = UploadSessionManagerImpl.CLAIMED_KEY_PREFIX + PATH;
+
+    @Mock
+    private FileStorage fileStorage;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private UploadSessionManagerImpl uploadSessionManager;
+
+    @BeforeEach
+    void setUp() {
+        uploadSessionManager = new UploadSessionManagerImpl(fileStorage, stringRedisTemplate, 600000, 3600000);
+    }
+
+    @DisplayName("issue 메서드가 presigned URL을 발급하고 세션을 만료 시간과 함께 저장하는지")
+    @Test
+    void issue_ShouldPresignAndStoreSession() {
+        PresignedUpload upload = new PresignedUpload(PATH, "https://upload", Instant.now());
+        when(fileStorage.presignUpload("test.png", FileType.IMAGE, "image/png", Duration.ofMinutes(10)))
+                .thenReturn(upload);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        PresignedUpload result = uploadSessionManager.issue(1L, "test.png", "image/png", 10L);
+
+        assertEquals(result, upload);
+        verify(hashOperations).putAll(eq(KEY), anyMap());
+        verify(stringRedisTemplate).expire(KEY, Duration.ofHours(1));
+    }
+
+    @DisplayName("issue 메서드가 지원하지 않는 형식이면 URL을 발급하지 않는지")
+    @Test
+    void issue_WithInvalidContentType_ShouldThrow() {
+        assertThrows(FileException.class,
+                () -> uploadSessionManager.issue(1L, "doc.pdf", "application/pdf", 10L));
+
+        verifyNoInteractions(fileStorage);
+    }
+
+    @DisplayName("claimAll 메서드가 세션과 실제 객체가 일치하면 AttachFile을 반환하는지")
+    @Test
+    void claimAll_WhenObjectMatchesSession_ReturnsAttachFile() {
+        givenSession(1L);
+        when(fileStorage.find(PATH)).thenReturn(Optional.of(new StoredObject("image/png", 10L)));
+
+        Map<String, AttachFile> result = uploadSessionManager.claimAll(1L, List.of(PATH, PATH));
+
+        assertEquals(result.size(), 1);
+        AttachFile attachFile = result.get(PATH);
+        assertEquals(attachFile.getFileType(), FileType.IMAGE);
+        assertEquals(attachFile.getOriginalFileName(), "test.png");
+        assertEquals(attachFile.getFileSize(), 10L);
+    }
+
+    @DisplayName("claimAll 메서드가 다른 회원의 세션이거나 이미 선점된 세션이면 예외를 던지고 S3를 확인하지 않는지")
+    @Test
+    void claimAll_WhenSessionNotClaimable_ShouldThrow() {
+        when(stringRedisTemplate.execute(UploadSessionManagerImpl.CLAIM_SCRIPT, List.of(KEY, CLAIMED_KEY), "1"))
+                .thenReturn(List.of());
+
+        FileException exception = assertThrows(FileException.class,
+                () -> uploadSessionManager.claimAll(1L, List.of(PATH)));
+
+        assertEquals(exception.getCode(), ExceptionCode.UPLOAD_SESSION_NOT_FOUND.getCode());
+        verify(fileStorage, never()).find(anyString());
+    }
+
+    @DisplayName("claimAll 메서드가 객체가 아직 올라가지 않았으면 예외를 던지는지")
+    @Test
+    void claimAll_WhenObjectMissing_ShouldThrow() {
+        givenSession(1L);
+        when(fileStorage.find(PATH)).thenReturn(Optional.empty());
+
+        FileException exception = assertThrows(FileException.class,
+                () -> uploadSessionManager.claimAll(1L, List.of(PATH)));
+
+        assertEquals(exception.getCode(), ExceptionCode.UPLOADED_FILE_NOT_FOUND.getCode());
+        verify(stringRedisTemplate).execute(UploadSessionManagerImpl.RELEASE_SCRIPT, List.of(CLAIMED_KEY, KEY));
+    }
+
+    @DisplayName("claimAll 메서드가 발급 때와 다른 크기의 객체면 예외를 던지는지")
+    @Test
+    void claimAll_WhenSizeDiffers_ShouldThrow() {
+        givenSession(1L);
+        when(fileStorage.find(PATH)).thenReturn(Optional.of(new StoredObject("image/png", 99999999L)));
+
+        FileException exception = assertThrows(FileException.class,
+                () -> uploadSessionManager.claimAll(1L, List.of(PATH)));
+
+        assertEquals(exception.getCode(), ExceptionCode.UPLOADED_FILE_MISMATCH.getCode());
+        verify(stringRedisTemplate).execute(UploadSessionManagerImpl.RELEASE_SCRIPT, List.of(CLAIMED_KEY, KEY));
+    }
+
+    @DisplayName("release 메서드가 선점한 세션을 되돌리는지")
+    @Test
+    void release_ShouldMoveClaimedSessionsBack() {
+        uploadSessionManager.release(List.of(PATH));
+
+        verify(stringRedisTemplate).execute(UploadSessionManagerImpl.RELEASE_SCRIPT, List.of(CLAIMED_KEY, KEY));
+    }
+
+    @DisplayName("complete 메서드가 선점한 업로드 세션을 지우는지")
+    @Test
+    void complete_ShouldDeleteSessions() {
+        uploadSessionManager.complete(Set.of(PATH));
+
+        verify(stringRedisTemplate).delete(List.of(CLAIMED_KEY));
+    }
+
+    @DisplayName("complete 메서드가 닫을 세션이 없으면 Redis를 호출하지 않는지")
+    @Test
+    void complete_WhenEmpty_ShouldNotCallRedis() {
+        uploadSessionManager.complete(Set.of());
+
+        verify(stringRedisTemplate, never()).delete(any(List.class));
+    }
+
+    private void givenSession(Long ownerId) {
+        when(stringRedisTemplate.execute(UploadSessionManagerImpl.CLAIM_SCRIPT, List.of(KEY, CLAIMED_KEY),
+                String.valueOf(ownerId))).thenReturn(List.of(
+                UploadSessionManagerImpl.MEMBER_ID, String.valueOf(ownerId),
+                UploadSessionManagerImpl.FILE_TYPE, FileType.IMAGE.name(),
+                UploadSessionManagerImpl.CONTENT_TYPE, "image/png",
+                UploadSessionManagerImpl.ORIGINAL_FILE_NAME, "test.png",
+                UploadSessionManagerImpl.FILE_SIZE, "10"
+        ));
+    }
+}
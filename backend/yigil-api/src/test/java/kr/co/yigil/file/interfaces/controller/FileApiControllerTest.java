@@ -0,0 +1,91 @@
+package kr.co.yigil.file.interfaces.controller;
+
+import static kr.co.yigil.RestDocumentUtils.getDocumentRequest;
+import static kr.co.yigil.RestDocumentUtils.getDocumentResponse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import java.time.Instant;
+import kr.co.yigil.file.FileStorage.PresignedUpload;
+import kr.co.yigil.file.UploadSessionManager;
+import kr.co.yigil.file.interfaces.dto.request.UploadSessionRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@ExtendWith({SpringExtension.class, RestDocumentationExtension.class})
+@WebMvcTest(FileApiController.class)
+@AutoConfigureRestDocs
+class FileApiControllerTest {
+
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UploadSessionManager uploadSessionManager;
+
+    @BeforeEach
+    void setUp(
+            WebApplicationContext webApplicationContext,
+            RestDocumentationContextProvider restDocumentation
+    ) {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(documentationConfiguration(restDocumentation)).build();
+    }
+
+    @DisplayName("업로드 세션 발급 요청이 오면 200 응답과 presigned URL이 반환되는지")
+    @Test
+    void whenCreateUploadSession_thenShouldReturn200AndPresignedUrl() throws Exception {
+        PresignedUpload upload = new PresignedUpload("images/uuid_test.png",
+                "https://s3.ap-northeast-2.amazonaws.com/cdn.yigil.co.kr/images/uuid_test.png?X-Amz-Signature=sig",
+                Instant.parse("2024-01-01T00:10:00Z"));
+        when(uploadSessionManager.issue(any(), anyString(), anyString(), anyLong())).thenReturn(upload);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        String json = objectMapper.writeValueAsString(new UploadSessionRequest("test.png", "image/png", 1024L));
+
+        mockMvc.perform(post("/api/v1/files/upload-sessions")
+                        .contentType("application/json")
+                        .content(json)
+                )
+                .andExpect(status().isOk())
+                .andDo(document("files/create-upload-session",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        requestFields(
+                                fieldWithPath("file_name").type(JsonFieldType.STRING).description("원본 파일 이름"),
+                                fieldWithPath("content_type").type(JsonFieldType.STRING)
+                                        .description("파일 형식. 업로드할 때 같은 Content-Type 헤더를 보내야 합니다."),
+                                fieldWithPath("file_size").type(JsonFieldType.NUMBER).description("파일 크기(byte)")
+                        ),
+                        responseFields(
+                                fieldWithPath("key").type(JsonFieldType.STRING)
+                                        .description("스팟/코스 등록 시 파일 대신 보낼 객체 키"),
+                                fieldWithPath("upload_url").type(JsonFieldType.STRING).description("PUT 업로드 URL"),
+                                fieldWithPath("expires_at").type(JsonFieldType.STRING).description("업로드 URL 만료 시각")
+                        )
+                ));
+    }
+}
@@ -2,6 +2,7 @@ package kr.co.yigil.follow.domain;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
@@ -10,9 +11,11 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Set;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.domain.MemberReader;
+import kr.co.yigil.relation.domain.RelationLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,6 +40,9 @@ public class FollowServiceImplTest {
     @Mock
     private FollowCacheStore followCacheStore;
 
+    @Mock
+    private RelationLoader relationLoader;
+
     @InjectMocks
     private FollowServiceImpl followService;
 
@@ -140,10 +146,12 @@ public class FollowServiceImplTest {
 
         when(followReader.getFollowerSlice(anyLong(), any())).thenReturn(mockFollowList);
         when(mockFollow.getFollower()).thenReturn(mockMember);
+        when(relationLoader.getFollowingMemberIds(memberId, List.of(memberId))).thenReturn(Set.of(memberId));
 
         var result = followService.getFollowerList(memberId, pageable);
 
         assertThat(result).isNotNull().isInstanceOf(FollowInfo.FollowersResponse.class);
+        assertTrue(result.getContent().getFirst().isFollowing());
     }
 
     @DisplayName("getFollowingList 를 호출했을 때 팔로잉 리스트 조회가 잘 되는지 확인")
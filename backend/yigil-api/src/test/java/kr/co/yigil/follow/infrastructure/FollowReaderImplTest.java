@@ -4,13 +4,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import kr.co.yigil.follow.FollowCountDto;
 import kr.co.yigil.follow.domain.Follow;
 import kr.co.yigil.follow.domain.FollowCount;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.domain.MemberReader;
 import org.junit.jupiter.api.BeforeEach;
@@ -88,6 +92,21 @@ public class FollowReaderImplTest {
         assertEquals(expectedSlice, actualSlice);
     }
 
+    @DisplayName("getFollowerSlice 메서드가 cursor 이후의 팔로워를 keyset으로 조회하는지")
+    @Test
+    void whenGetFollowerSliceWithCursor_thenReadsAfterCursor() {
+        Long memberId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        Slice<Follow> expectedSlice = new SliceImpl<>(new ArrayList<>());
+
+        when(followRepository.findFollowerSliceBefore(memberId, createdAt, 4L, PageRequest.of(0, 5)))
+            .thenReturn(expectedSlice);
+
+        Slice<Follow> actualSlice = followReader.getFollowerSlice(memberId, Cursor.of(createdAt, 4L), 5);
+
+        assertEquals(expectedSlice, actualSlice);
+    }
+
     @DisplayName("getFollowingSlice 메서드가 올바른 Slice를 반환하는지")
     @Test
     void whenGetFollowingSlice_thenReturnsCorrectSlice() {
@@ -104,4 +123,22 @@ public class FollowReaderImplTest {
         assertEquals(expectedSlice, actualSlice);
     }
 
-}
\ No newline at end of file
+    @DisplayName("getFollowingIds 메서드가 팔로우 중인 id만 반환하는지")
+    @Test
+    void whenGetFollowingIds_thenReturnsFollowingIds() {
+        when(followRepository.findFollowingIds(1L, List.of(2L, 3L))).thenReturn(List.of(3L));
+
+        Set<Long> followingIds = followReader.getFollowingIds(1L, List.of(2L, 3L));
+
+        assertEquals(Set.of(3L), followingIds);
+    }
+
+    @DisplayName("getFollowingIds 메서드가 빈 목록이면 쿼리하지 않는지")
+    @Test
+    void whenGetFollowingIdsWithEmptyList_thenDoesNotQuery() {
+        Set<Long> followingIds = followReader.getFollowingIds(1L, List.of());
+
+        assertTrue(followingIds.isEmpty());
+        verifyNoInteractions(followRepository);
+    }
+}
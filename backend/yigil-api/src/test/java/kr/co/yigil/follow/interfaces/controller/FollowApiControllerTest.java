@@ -18,6 +18,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -140,14 +141,18 @@ public class FollowApiControllerTest {
                     parameterWithName("page").description("현재 페이지").optional(),
                     parameterWithName("size").description("페이지 크기").optional(),
                     parameterWithName("sortBy").description("정렬 옵션").optional(),
-                    parameterWithName("sortOrder").description("정렬 순서").optional()
+                    parameterWithName("sortOrder").description("정렬 순서").optional(),
+                    parameterWithName("cursor").description("이전 응답의 next_cursor - 빈 값이면 첫 페이지. "
+                        + "주어지면 page, sortBy, sortOrder 대신 최근 팔로우순 cursor 조회").optional()
                 ),
                 responseFields(
                     fieldWithPath("content[].member_id").description("회원 ID"),
                     fieldWithPath("content[].nickname").description("닉네임"),
                     fieldWithPath("content[].profile_image_url").description("프로필 이미지 URL"),
                     fieldWithPath("content[].following").description("팔로우 여부"),
-                    fieldWithPath("has_next").description("다음 페이지 존재 여부")
+                    fieldWithPath("has_next").description("다음 페이지 존재 여부"),
+                    fieldWithPath("next_cursor").type(JsonFieldType.STRING)
+                        .description("다음 페이지 cursor - cursor 조회일 때만 주어짐").optional()
                 )
 
             ));
@@ -233,7 +238,9 @@ public class FollowApiControllerTest {
                     fieldWithPath("content[].nickname").description("닉네임"),
                     fieldWithPath("content[].profile_image_url").description("프로필 이미지 URL"),
                     fieldWithPath("content[].following").description("팔로우 여부"),
-                    fieldWithPath("has_next").description("다음 페이지 존재 여부")
+                    fieldWithPath("has_next").description("다음 페이지 존재 여부"),
+                    fieldWithPath("next_cursor").type(JsonFieldType.STRING)
+                        .description("다음 페이지 cursor - cursor 조회일 때만 주어짐").optional()
                 )
             ));
 
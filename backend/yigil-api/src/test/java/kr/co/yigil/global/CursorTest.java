@@ -0,0 +1,63 @@
+package kr.co.yigil.global;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.yigil.global.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+class CursorTest {
+
+    @DisplayName("encode한 cursor를 decode하면 같은 위치가 되는지")
+    @Test
+    void decode_ShouldRestoreEncodedCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000);
+
+        Cursor cursor = Cursor.decode(Cursor.of(createdAt, 42L).encode());
+
+        assertEquals(cursor.getCreatedAt(), createdAt);
+        assertEquals(cursor.getId(), 42L);
+    }
+
+    @DisplayName("빈 cursor는 첫 페이지로 해석되는지")
+    @Test
+    void decode_WithBlankToken_ShouldReturnFirst() {
+        assertTrue(Cursor.decode("").isFirst());
+        assertTrue(Cursor.decode(null).isFirst());
+    }
+
+    @DisplayName("형식이 맞지 않는 cursor에 예외를 던지는지")
+    @Test
+    void decode_WithMalformedToken_ShouldThrowBadRequestException() {
+        assertThrows(BadRequestException.class, () -> Cursor.decode("%%%"));
+        assertThrows(BadRequestException.class, () -> Cursor.decode("bm90LWEtY3Vyc29y"));
+    }
+
+    @DisplayName("next가 다음 페이지가 있을 때 마지막 항목으로 cursor를 만드는지")
+    @Test
+    void next_WithNextPage_ShouldPointToLastItem() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        var slice = new SliceImpl<>(List.of(1L, 2L), PageRequest.of(0, 2), true);
+
+        String next = Cursor.next(slice, id -> createdAt.minusMinutes(id), id -> id);
+
+        Cursor cursor = Cursor.decode(next);
+        assertEquals(cursor.getCreatedAt(), createdAt.minusMinutes(2));
+        assertEquals(cursor.getId(), 2L);
+    }
+
+    @DisplayName("next가 마지막 페이지에서는 null을 반환하는지")
+    @Test
+    void next_WithoutNextPage_ShouldReturnNull() {
+        var slice = new SliceImpl<>(List.of(1L), PageRequest.of(0, 2), false);
+
+        assertNull(Cursor.next(slice, id -> LocalDateTime.now(), id -> id));
+    }
+}
@@ -0,0 +1,42 @@
+package kr.co.yigil.global.config.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+class LocalCacheTest {
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 제거하는지")
+    @Test
+    void put_WhenOverMaxSize_EvictsLeastRecentlyUsed() {
+        LocalCache localCache = new LocalCache(2, Duration.ofMinutes(1));
+        localCache.put("a", new SimpleValueWrapper(1));
+        localCache.put("b", new SimpleValueWrapper(2));
+        localCache.get("a");
+
+        localCache.put("c", new SimpleValueWrapper(3));
+
+        assertNotNull(localCache.get("a"));
+        assertNull(localCache.get("b"));
+        assertEquals(2, localCache.size());
+    }
+
+    @DisplayName("TTL이 지난 항목은 반환하지 않는지")
+    @Test
+    void get_WhenExpired_ReturnsNull() {
+        Clock clock = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+        LocalCache localCache = new LocalCache(10, Duration.ZERO, clock);
+        localCache.put("a", new SimpleValueWrapper(1));
+
+        assertNull(localCache.get("a"));
+        assertEquals(0, localCache.size());
+    }
+}
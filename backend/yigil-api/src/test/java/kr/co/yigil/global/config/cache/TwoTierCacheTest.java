@@ -0,0 +1,84 @@
+package kr.co.yigil.global.config.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+
+    @Mock
+    private Cache redisCache;
+
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    private TwoTierCache twoTierCache;
+
+    @BeforeEach
+    void setUp() {
+        twoTierCache = new TwoTierCache(redisCache, new LocalCache(10, Duration.ofMinutes(1)), publisher);
+    }
+
+    @DisplayName("Redis에서 읽은 값을 L1에 올려 두 번째 조회는 Redis를 거치지 않는지")
+    @Test
+    void get_SecondCall_HitsLocalCache() {
+        when(redisCache.get(1L)).thenReturn(new SimpleValueWrapper(3));
+
+        twoTierCache.get(1L);
+        Cache.ValueWrapper result = twoTierCache.get(1L);
+
+        assertEquals(3, result.get());
+        verify(redisCache, times(1)).get(1L);
+        assertEquals(1, twoTierCache.getStatistics().getL1Hits());
+        assertEquals(1, twoTierCache.getStatistics().getL2Hits());
+    }
+
+    @DisplayName("두 계층 모두 없으면 miss로 집계하는지")
+    @Test
+    void get_WhenMissing_RecordsMiss() {
+        when(redisCache.get(1L)).thenReturn(null);
+
+        assertNull(twoTierCache.get(1L));
+        assertEquals(1, twoTierCache.getStatistics().getMisses());
+    }
+
+    @DisplayName("evict 메서드가 Redis와 L1을 비우고 다른 노드에 무효화를 알리는지")
+    @Test
+    void evict_EvictsBothTiersAndPublishes() {
+        when(redisCache.getName()).thenReturn("placeCluster");
+        twoTierCache.put(1L, 3);
+
+        twoTierCache.evict(1L);
+
+        verify(redisCache).evict(1L);
+        verify(publisher, times(2)).publishEvict("placeCluster", "1");
+        when(redisCache.get(1L)).thenReturn(null);
+        assertNull(twoTierCache.get(1L));
+    }
+
+    @DisplayName("evictLocal 메서드가 Redis는 건드리지 않고 L1만 비우는지")
+    @Test
+    void evictLocal_EvictsOnlyLocal() {
+        when(redisCache.getName()).thenReturn("placeCluster");
+        twoTierCache.put(1L, 3);
+
+        twoTierCache.evictLocal("1");
+        when(redisCache.get(1L)).thenReturn(new SimpleValueWrapper(3));
+
+        assertEquals(3, twoTierCache.get(1L).get());
+        verify(redisCache).get(1L);
+    }
+}
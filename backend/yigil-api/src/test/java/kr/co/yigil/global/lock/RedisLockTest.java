@@ -0,0 +1,83 @@
+package kr.co.yigil.global.lock;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class RedisLockTest {
+
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private RedisLock redisLock;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @DisplayName("락을 잡으면 작업을 실행하고 락을 푸는지")
+    @Test
+    void runExclusively_WhenAcquired_RunsTaskAndReleases() {
+        when(valueOperations.setIfAbsent(eq("lock"), anyString(), eq(TTL))).thenReturn(true);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertTrue(redisLock.runExclusively("lock", TTL, () -> ran.set(true)));
+
+        assertTrue(ran.get());
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(),
+                anyString());
+    }
+
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 작업을 실행하지 않는지")
+    @Test
+    void runExclusively_WhenHeld_SkipsTask() {
+        when(valueOperations.setIfAbsent(eq("lock"), anyString(), eq(TTL))).thenReturn(false);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertFalse(redisLock.runExclusively("lock", TTL, () -> ran.set(true)));
+
+        assertFalse(ran.get());
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class),
+                anyList(), anyString());
+    }
+
+    @DisplayName("작업이 실패해도 락을 푸는지")
+    @Test
+    void runExclusively_WhenTaskFails_StillReleases() {
+        when(valueOperations.setIfAbsent(eq("lock"), anyString(), eq(TTL))).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> redisLock.runExclusively("lock", TTL, () -> {
+            throw new IllegalStateException();
+        }));
+
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(),
+                anyString());
+    }
+}
@@ -7,9 +7,14 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import kr.co.yigil.auth.domain.Accessor;
 import kr.co.yigil.login.domain.LoginCommand;
 import kr.co.yigil.login.domain.LoginStrategyManager;
 import kr.co.yigil.login.infrastructure.LoginStrategy;
+import kr.co.yigil.member.Ages;
+import kr.co.yigil.member.Gender;
+import kr.co.yigil.member.Member;
+import kr.co.yigil.member.domain.MemberReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +26,9 @@ class LoginFacadeTest {
     @Mock
     private LoginStrategyManager loginStrategyManager;
 
+    @Mock
+    private MemberReader memberReader;
+
     @InjectMocks
     private LoginFacade loginFacade;
 
@@ -37,12 +45,18 @@ class LoginFacadeTest {
         LoginStrategy loginStrategy = mock(LoginStrategy.class);
         when(loginStrategyManager.getLoginStrategy(loginCommand.getProvider())).thenReturn(loginStrategy);
         when(loginStrategy.processLogin(loginCommand, "accessToken")).thenReturn(1L);
+        Member member = mock(Member.class);
+        when(member.getAges()).thenReturn(Ages.TWENTIES);
+        when(member.getGender()).thenReturn(Gender.FEMALE);
+        when(memberReader.getMember(1L)).thenReturn(member);
 
-        loginFacade.executeLoginStrategy(loginCommand, "accessToken");
+        Accessor accessor = loginFacade.executeLoginStrategy(loginCommand, "accessToken");
 
         verify(loginStrategyManager, times(1)).getLoginStrategy(loginCommand.getProvider());
         verify(loginStrategy, times(1)).processLogin(loginCommand, "accessToken");
-        assertThat(loginFacade.executeLoginStrategy(loginCommand, "accessToken")).isEqualTo(1L);
+        assertThat(accessor.getMemberId()).isEqualTo(1L);
+        assertThat(accessor.getAges()).isEqualTo(Ages.TWENTIES);
+        assertThat(accessor.getGender()).isEqualTo(Gender.FEMALE);
     }
 
 
@@ -1,5 +1,6 @@
 package kr.co.yigil.login.infrastructure;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -9,6 +10,8 @@ import jakarta.servlet.http.HttpSession;
 import kr.co.yigil.auth.Auth;
 import kr.co.yigil.auth.domain.Accessor;
 import kr.co.yigil.login.infrastructure.LoginArgumentResolver;
+import kr.co.yigil.member.Ages;
+import kr.co.yigil.member.Gender;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -64,4 +67,17 @@ public class LoginArgumentResolverTest {
         assertTrue(result instanceof Accessor && ((Accessor) result).isMember() && ((Accessor) result).getMemberId().equals(memberId));
     }
 
-}
\ No newline at end of file
+    @DisplayName("세션에 연령대/성별이 있을 때 Accessor에 함께 담기는지")
+    @Test
+    void shouldReturnMemberWithDemographicsWhenInSession() throws Exception {
+        when(session.getAttribute("memberId")).thenReturn(1L);
+        when(session.getAttribute("ages")).thenReturn(Ages.THIRTIES);
+        when(session.getAttribute("gender")).thenReturn(Gender.FEMALE);
+
+        Accessor result = (Accessor) resolver.resolveArgument(methodParameter, null, webRequest, null);
+        assertTrue(result.hasDemographics());
+        assertEquals(result.getAges(), Ages.THIRTIES);
+        assertEquals(result.getGender(), Gender.FEMALE);
+    }
+
+}
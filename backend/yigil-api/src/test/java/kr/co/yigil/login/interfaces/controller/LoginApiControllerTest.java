@@ -4,6 +4,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -16,9 +17,12 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.response
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import kr.co.yigil.auth.domain.Accessor;
 import kr.co.yigil.login.application.LoginFacade;
 import kr.co.yigil.login.interfaces.dto.mapper.LoginMapper;
 import kr.co.yigil.login.interfaces.dto.request.LoginRequest;
+import kr.co.yigil.member.Ages;
+import kr.co.yigil.member.Gender;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -63,6 +67,8 @@ public class LoginApiControllerTest {
     @Test
     void whenLogin_thenReturns200AndLoginResponse() throws Exception {
         MockHttpSession session = new MockHttpSession();
+        when(loginFacade.executeLoginStrategy(any(), any()))
+                .thenReturn(Accessor.member(1L, Ages.TWENTIES, Gender.MALE));
 
         mockMvc.perform(post("/api/v1/login")
                         .header("Authorization", "Bearer mockAccessToken")
@@ -90,7 +96,9 @@ public class LoginApiControllerTest {
 
         verify(loginMapper).toCommandLoginRequest(any(LoginRequest.class));
         verify(loginFacade).executeLoginStrategy(any(), any());
-        assertThat(session.getAttribute("memberId")).isNotNull();
+        assertThat(session.getAttribute("memberId")).isEqualTo(1L);
+        assertThat(session.getAttribute("ages")).isEqualTo(Ages.TWENTIES);
+        assertThat(session.getAttribute("gender")).isEqualTo(Gender.MALE);
     }
 
     @DisplayName("로그아웃 요청이 들어왔을 때 200 응답과 response가 잘 반환되는지")
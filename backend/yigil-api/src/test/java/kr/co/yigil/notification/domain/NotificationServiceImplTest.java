@@ -1,6 +1,7 @@
 package kr.co.yigil.notification.domain;
 
-import kr.co.yigil.member.Member;
+import kr.co.yigil.global.Cursor;
+import kr.co.yigil.global.exception.BadRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,11 +10,14 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
@@ -26,6 +30,9 @@ class NotificationServiceImplTest {
     @Mock
     private NotificationSender notificationSender;
 
+    @Mock
+    private NotificationStore notificationStore;
+
     @InjectMocks
     private NotificationServiceImpl notificationService;
 
@@ -72,17 +79,44 @@ class NotificationServiceImplTest {
                 any(PageRequest.class));
     }
 
+    @DisplayName("cursor로 조회하면 마지막 알림 위치를 next cursor로 돌려주는지")
+    @Test
+    void givenCursor_whenGetNotificationSlice_thenReturnsNextCursorOfLastNotification() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        Notification notification = mock(Notification.class);
+        when(notification.getId()).thenReturn(7L);
+        when(notification.getMessage()).thenReturn("message");
+        when(notification.getCreatedAt()).thenReturn(createdAt);
+        Slice<Notification> slice = new SliceImpl<>(List.of(notification), PageRequest.of(0, 1), true);
+        when(notificationReader.getNotificationSlice(1L, Cursor.first(), 1)).thenReturn(slice);
+
+        var result = notificationService.getNotificationSlice(1L, Cursor.first(), 1);
+
+        Cursor next = Cursor.decode(result.getNextCursor());
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(next.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(next.getId()).isEqualTo(7L);
+    }
+
     @DisplayName("When valid parameters, readNotification method should be called correctly")
     @Test
     void givenValidParameters_whenReadNotification_thenShouldBeCalledCorrectly() {
-        Notification notification = new Notification(mock(Member.class), mock(Member.class), "message");
-        List<Long> ids = List.of(1L);
-        when(notificationReader.getNotification(anyLong(), anyLong())).thenReturn(notification);
+        List<Long> ids = List.of(1L, 2L, 2L);
+        when(notificationStore.readAll(1L, List.of(1L, 2L))).thenReturn(2);
 
         notificationService.readNotification(1L, ids);
 
-        verify(notificationReader, times(1)).getNotification(anyLong(), anyLong());
-        assertThat(notification.isRead()).isTrue();
+        verify(notificationStore, times(1)).readAll(1L, List.of(1L, 2L));
+        verifyNoInteractions(notificationReader);
+    }
+
+    @DisplayName("다른 회원의 알림이나 없는 알림이 섞여 있으면 readNotification이 예외를 던지는지")
+    @Test
+    void givenForeignNotification_whenReadNotification_thenThrowsBadRequestException() {
+        when(notificationStore.readAll(1L, List.of(1L, 2L))).thenReturn(1);
+
+        assertThatThrownBy(() -> notificationService.readNotification(1L, List.of(1L, 2L)))
+            .isInstanceOf(BadRequestException.class);
     }
 
-}
\ No newline at end of file
+}
@@ -7,8 +7,10 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.notification.domain.Notification;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
@@ -50,6 +53,22 @@ public class NotificationReaderImplTest {
         assertEquals(expectedSlice, actualSlice);
     }
 
+    @DisplayName("getNotificationSlice 메서드가 cursor 이후의 알림을 keyset으로 조회하는지")
+    @Test
+    void whenGetNotificationSliceWithCursor_thenReadsAfterCursor() {
+        Long memberId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        Slice<Notification> expectedSlice = new SliceImpl<>(new ArrayList<>());
+
+        when(notificationRepository.findUnreadSliceBefore(memberId, createdAt, 7L, PageRequest.of(0, 5)))
+                .thenReturn(expectedSlice);
+
+        Slice<Notification> actualSlice = notificationReader.getNotificationSlice(memberId,
+                Cursor.of(createdAt, 7L), 5);
+
+        assertEquals(expectedSlice, actualSlice);
+    }
+
     @DisplayName("getNotification 메서드가 올바른 Notification을 반환하는지")
     @Test
     void whenGetNotification_thenReturnsCorrectNotification() {
@@ -9,6 +9,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 
@@ -36,4 +39,11 @@ public class NotificationStoreImplTest {
 
         verify(notificationRepository, times(1)).save(notification);
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenReadAll_thenReturnsUpdatedCount() {
+        when(notificationRepository.readAllByIdInAndReceiverId(List.of(1L, 2L), 1L)).thenReturn(2);
+
+        assertThat(notificationStore.readAll(1L, List.of(1L, 2L))).isEqualTo(2);
+    }
+}
@@ -101,7 +101,7 @@ public class NotificationApiControllerTest {
         NotificationInfoDto notificationInfoDto2 = new NotificationInfoDto(2L, "message", "createDate", 1L, "image1.jpg", false);
 
         when(notificationMapper.toResponse(any(NotificationInfo.NotificationsSlice.class))).thenReturn(
-                new NotificationsResponse(List.of(notificationInfoDto1, notificationInfoDto2), false));
+                new NotificationsResponse(List.of(notificationInfoDto1, notificationInfoDto2), false, null));
 
         mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/notifications"))
                 .andExpect(status().isOk())
@@ -110,11 +110,15 @@ public class NotificationApiControllerTest {
                                 getDocumentResponse(),
                                 queryParameters(
                                         parameterWithName("page").description("현재 페이지").optional(),
-                                        parameterWithName("size").description("페이지 크기").optional()
+                                        parameterWithName("size").description("페이지 크기").optional(),
+                                        parameterWithName("cursor").description("이전 응답의 next_cursor - 빈 값이면 첫 페이지. "
+                                                + "주어지면 page 대신 cursor 조회").optional()
                                 ),
                                 responseFields(
                                         fieldWithPath("has_next").type(JsonFieldType.BOOLEAN)
                                                 .description("다음 페이지가 있는지 여부"),
+                                        fieldWithPath("next_cursor").type(JsonFieldType.STRING)
+                                                .description("다음 페이지 cursor - cursor 조회일 때만 주어짐").optional(),
                                         subsectionWithPath("notifications").description("notification의 정보"),
                                         fieldWithPath("notifications[].notification_id").type(JsonFieldType.NUMBER).description("Notification의 id"),
                                         fieldWithPath("notifications[].message").description("Notification의 메시지"),
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,7 +18,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 import kr.co.yigil.auth.domain.Accessor;
-import kr.co.yigil.place.domain.Place;
 import kr.co.yigil.place.domain.PlaceCommand;
 import kr.co.yigil.place.domain.PlaceInfo;
 import kr.co.yigil.place.domain.PlaceInfo.Detail;
@@ -81,29 +81,29 @@ public class PlaceFacadeTest {
     @DisplayName("getPopularPlaceByDemographics 메서드가 Response를 잘 반환하는지")
     @Test
     void getPopularPlaceByDemographics_ShouldReturnResponse() {
-        Long memberId = 1L;
+        Accessor accessor = Accessor.member(1L);
         Main mockResponse = mock(Main.class);
 
-        when(placeService.getPopularPlaceByDemographics(memberId)).thenReturn(List.of(mockResponse));
+        when(placeService.getPopularPlaceByDemographics(accessor)).thenReturn(List.of(mockResponse));
 
-        var result = placeFacade.getPopularPlaceByDemographics(memberId);
+        var result = placeFacade.getPopularPlaceByDemographics(accessor);
 
         assertEquals(result, List.of(mockResponse));
-        verify(placeService).getPopularPlaceByDemographics(anyLong());
+        verify(placeService).getPopularPlaceByDemographics(any(Accessor.class));
     }
 
     @DisplayName("getPopularPlaceByDemographicsMore 메서드가 Response를 잘 반환하는지")
     @Test
     void getPopularPlaceByDemographicsMore_ShouldReturnResponse() {
-        Long memberId = 1L;
+        Accessor accessor = Accessor.member(1L);
         Main mockResponse = mock(Main.class);
 
-        when(placeService.getPopularPlaceByDemographicsMore(memberId)).thenReturn(List.of(mockResponse));
+        when(placeService.getPopularPlaceByDemographicsMore(accessor)).thenReturn(List.of(mockResponse));
 
-        var result = placeFacade.getPopularPlaceByDemographicsMore(memberId);
+        var result = placeFacade.getPopularPlaceByDemographicsMore(accessor);
 
         assertEquals(result, List.of(mockResponse));
-        verify(placeService).getPopularPlaceByDemographicsMore(anyLong());
+        verify(placeService).getPopularPlaceByDemographicsMore(any(Accessor.class));
     }
 
     @DisplayName("retrievePlaceInfo 메서드가 Response를 잘 반환하는지")
@@ -155,7 +155,7 @@ public class PlaceFacadeTest {
     @Test
     void getNearPlace_ShouldReturnResponse() {
         PlaceCommand.NearPlaceRequest mockCommand = mock(PlaceCommand.NearPlaceRequest.class);
-        Page<Place> mockResponse = mock(Page.class);
+        Page<PlaceInfo.NearPlace> mockResponse = mock(Page.class);
 
         when(placeService.getNearPlace(mockCommand)).thenReturn(mockResponse);
 
@@ -166,6 +166,20 @@ public class PlaceFacadeTest {
                 kr.co.yigil.place.domain.PlaceCommand.NearPlaceRequest.class));
     }
 
+    @DisplayName("getPlaceClusters 메서드가 Response를 잘 반환하는지")
+    @Test
+    void getPlaceClusters_ShouldReturnResponse() {
+        PlaceCommand.ClusterRequest mockCommand = mock(PlaceCommand.ClusterRequest.class);
+        PlaceInfo.Cluster mockCluster = mock(PlaceInfo.Cluster.class);
+
+        when(placeService.getPlaceClusters(mockCommand)).thenReturn(List.of(mockCluster));
+
+        var result = placeFacade.getPlaceClusters(mockCommand);
+
+        assertEquals(result, List.of(mockCluster));
+        verify(placeService).getPlaceClusters(mockCommand);
+    }
+
     @DisplayName("getPlaceKeywords 메서드가 Response를 잘 반환하는지")
     @Test
     void getPlaceKeywords_ShouldReturnResponse() {
@@ -197,6 +211,21 @@ public class PlaceFacadeTest {
         verify(placeService).searchPlace(keyword, pageable, accessor);
     }
 
+    @DisplayName("searchPlaceRanked 메서드가 RankedSearch를 잘 반환하는지")
+    @Test
+    void searchPlaceRanked_ShouldReturnResponse() {
+        PlaceCommand.RankedSearchRequest command = mock(PlaceCommand.RankedSearchRequest.class);
+        Accessor accessor = mock(Accessor.class);
+        PlaceInfo.RankedSearch mockResponse = mock(PlaceInfo.RankedSearch.class);
+
+        when(placeService.searchPlaceRanked(command, accessor)).thenReturn(mockResponse);
+
+        var result = placeFacade.searchPlaceRanked(command, accessor);
+
+        assertEquals(result, mockResponse);
+        verify(placeService).searchPlaceRanked(command, accessor);
+    }
+
     @DisplayName("getMyPlaceIds 메서드가 Response를 잘 반환하는지")
     @Test
     void getMyPlaceIds_ShouldReturnResponse() {
@@ -210,4 +239,47 @@ public class PlaceFacadeTest {
         assertEquals(result, mockResponse);
         verify(placeService).getMyPlaceIds(memberId);
     }
+
+    @DisplayName("getBookmarkedPlaceIds 메서드가 Response를 잘 반환하는지")
+    @Test
+    void getBookmarkedPlaceIds_ShouldReturnResponse() {
+        Long memberId = 1L;
+        List<Long> placeIds = List.of(1L, 2L);
+        Set<Long> mockResponse = Set.of(2L);
+
+        when(placeService.getBookmarkedPlaceIds(memberId, placeIds)).thenReturn(mockResponse);
+
+        var result = placeFacade.getBookmarkedPlaceIds(memberId, placeIds);
+
+        assertEquals(result, mockResponse);
+        verify(placeService).getBookmarkedPlaceIds(memberId, placeIds);
+    }
+
+    @DisplayName("getTrendingPlace 메서드가 Response를 잘 반환하는지")
+    @Test
+    void getTrendingPlace_ShouldReturnResponse() {
+        Accessor accessor = mock(Accessor.class);
+        List<Main> mockResponse = List.of(mock(Main.class));
+
+        when(placeService.getTrendingPlace(5, accessor)).thenReturn(mockResponse);
+
+        var result = placeFacade.getTrendingPlace(5, accessor);
+
+        assertEquals(result, mockResponse);
+        verify(placeService).getTrendingPlace(5, accessor);
+    }
+
+    @DisplayName("getRelatedPlaces 메서드가 Response를 잘 반환하는지")
+    @Test
+    void getRelatedPlaces_ShouldReturnResponse() {
+        Accessor accessor = mock(Accessor.class);
+        List<Main> mockResponse = List.of(mock(Main.class));
+
+        when(placeService.getRelatedPlaces(1L, accessor)).thenReturn(mockResponse);
+
+        var result = placeFacade.getRelatedPlaces(1L, accessor);
+
+        assertEquals(result, mockResponse);
+        verify(placeService).getRelatedPlaces(1L, accessor);
+    }
 }
@@ -6,6 +6,7 @@ import kr.co.yigil.member.Ages;
 import kr.co.yigil.member.Gender;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.domain.MemberReader;
+import kr.co.yigil.travel.domain.dto.PlaceSpotStatDto;
 import kr.co.yigil.travel.domain.spot.SpotReader;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,10 +20,19 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +59,18 @@ public class PlaceServiceImplTest {
     @Mock
     private SpotReader spotReader;
 
+    @Mock
+    private PlaceCardReader placeCardReader;
+
+    @Mock
+    private PlaceClusterReader placeClusterReader;
+
+    @Mock
+    private PlaceTrendReader placeTrendReader;
+
+    @Mock
+    private PlaceNeighborReader placeNeighborReader;
+
 
     @InjectMocks
     private PlaceServiceImpl placeService;
@@ -57,14 +79,11 @@ public class PlaceServiceImplTest {
     @Test
     void getPopularPlace_ShouldReturnListOfInfo() {
         Place mockPlace = mock(Place.class);
-        when(mockPlace.getId()).thenReturn(1L);
         Accessor mockAccessor = mock(Accessor.class);
         when(mockAccessor.isMember()).thenReturn(true);
         when(mockAccessor.getMemberId()).thenReturn(1L);
-        when(placeCacheReader.getSpotCount(1L)).thenReturn(1);
-        when(bookmarkReader.isBookmarked(1L, 1L)).thenReturn(true);
         when(popularPlaceReader.getPopularPlace()).thenReturn(List.of(mockPlace));
-        when(placeRateCalculator.calculatePlaceRate(1L)).thenReturn(1.0);
+        when(placeCardReader.getPlaceCards(List.of(mockPlace), 1L)).thenReturn(List.of(mock(PlaceInfo.Main.class)));
 
         List<PlaceInfo.Main> popularPlace = placeService.getPopularPlace(mockAccessor);
 
@@ -75,14 +94,11 @@ public class PlaceServiceImplTest {
     @Test
     void getPopularPlaceMore_ShouldReturnListOfInfo() {
         Place mockPlace = mock(Place.class);
-        when(mockPlace.getId()).thenReturn(1L);
         Accessor mockAccessor = mock(Accessor.class);
         when(mockAccessor.isMember()).thenReturn(true);
         when(mockAccessor.getMemberId()).thenReturn(1L);
-        when(placeCacheReader.getSpotCount(1L)).thenReturn(1);
-        when(bookmarkReader.isBookmarked(1L, 1L)).thenReturn(true);
         when(popularPlaceReader.getPopularPlaceMore()).thenReturn(List.of(mockPlace));
-        when(placeRateCalculator.calculatePlaceRate(1L)).thenReturn(1.0);
+        when(placeCardReader.getPlaceCards(List.of(mockPlace), 1L)).thenReturn(List.of(mock(PlaceInfo.Main.class)));
 
         List<PlaceInfo.Main> popularPlaceMore = placeService.getPopularPlaceMore(mockAccessor);
 
@@ -100,16 +116,28 @@ public class PlaceServiceImplTest {
         Place mockPlace = mock(Place.class);
         List<Place> places = List.of(mockPlace);
         when(placeReader.getPopularPlaceByDemographics(any(), any())).thenReturn(places);
-        when(mockPlace.getId()).thenReturn(1L);
-        when(placeCacheReader.getSpotCount(anyLong())).thenReturn(1);
-        when(bookmarkReader.isBookmarked(anyLong(), anyLong())).thenReturn(true);
-        when(placeRateCalculator.calculatePlaceRate(1L)).thenReturn(1.0);
+        when(placeCardReader.getPlaceCards(places, 1L)).thenReturn(List.of(mock(PlaceInfo.Main.class)));
 
-        List<PlaceInfo.Main> popularPlaceByDemographics = placeService.getPopularPlaceByDemographics(1L);
+        List<PlaceInfo.Main> popularPlaceByDemographics = placeService.getPopularPlaceByDemographics(Accessor.member(1L));
 
         assertNotNull(popularPlaceByDemographics);
     }
 
+    @DisplayName("getPopularPlaceByDemographics 메서드가 세션의 연령대/성별이 있으면 회원을 읽지 않는지")
+    @Test
+    void getPopularPlaceByDemographics_WithAccessorDemographics_ShouldNotReadMember() {
+        Place mockPlace = mock(Place.class);
+        List<Place> places = List.of(mockPlace);
+        when(placeReader.getPopularPlaceByDemographics(Ages.TWENTIES, Gender.FEMALE)).thenReturn(places);
+        when(placeCardReader.getPlaceCards(places, 1L)).thenReturn(List.of(mock(PlaceInfo.Main.class)));
+
+        List<PlaceInfo.Main> result = placeService.getPopularPlaceByDemographics(
+                Accessor.member(1L, Ages.TWENTIES, Gender.FEMALE));
+
+        assertEquals(result.size(), 1);
+        verifyNoInteractions(memberReader);
+    }
+
     @DisplayName("getPopularPlaceByDemographicsMore 메서드가 Info 객체의 List를 잘 반환하는지")
     @Test
     void getPopularPlaceByDemographicsMore_ShouldReturnListOfInfo() {
@@ -121,29 +149,38 @@ public class PlaceServiceImplTest {
         Place mockPlace = mock(Place.class);
         List<Place> places = List.of(mockPlace);
         when(placeReader.getPopularPlaceByDemographicsMore(any(), any())).thenReturn(places);
-        when(mockPlace.getId()).thenReturn(1L);
-        when(placeCacheReader.getSpotCount(anyLong())).thenReturn(1);
-        when(bookmarkReader.isBookmarked(anyLong(), anyLong())).thenReturn(true);
-        when(placeRateCalculator.calculatePlaceRate(1L)).thenReturn(1.0);
+        when(placeCardReader.getPlaceCards(places, 1L)).thenReturn(List.of(mock(PlaceInfo.Main.class)));
 
         List<PlaceInfo.Main> popularPlaceByDemographicsMore = placeService.getPopularPlaceByDemographicsMore(
-                1L);
+                Accessor.member(1L));
 
         assertNotNull(popularPlaceByDemographicsMore);
     }
 
+    @DisplayName("getPopularPlace 메서드가 비회원일 때 북마크 없이 Info 객체의 List를 반환하는지")
+    @Test
+    void getPopularPlace_WhenGuest_ShouldReturnListOfInfo() {
+        Place mockPlace = mock(Place.class);
+        Accessor mockAccessor = mock(Accessor.class);
+        when(mockAccessor.isMember()).thenReturn(false);
+        when(popularPlaceReader.getPopularPlace()).thenReturn(List.of(mockPlace));
+        when(placeCardReader.getPlaceCards(List.of(mockPlace))).thenReturn(List.of(mock(PlaceInfo.Main.class)));
+
+        List<PlaceInfo.Main> popularPlace = placeService.getPopularPlace(mockAccessor);
+
+        assertEquals(1, popularPlace.size());
+        verify(placeCardReader, never()).getPlaceCards(anyList(), anyLong());
+    }
+
     @DisplayName("getPlaceInRegion 메서드가 Info 객체의 List를 잘 반환하는지")
     @Test
     void getPlaceInRegion_ShouldReturnListOfInfo() {
         Place mockPlace = mock(Place.class);
-        when(mockPlace.getId()).thenReturn(1L);
         Accessor mockAccessor = mock(Accessor.class);
         when(mockAccessor.isMember()).thenReturn(true);
         when(mockAccessor.getMemberId()).thenReturn(1L);
-        when(placeCacheReader.getSpotCount(1L)).thenReturn(1);
-        when(bookmarkReader.isBookmarked(1L, 1L)).thenReturn(true);
         when(placeReader.getPlaceInRegion(1L)).thenReturn(List.of(mockPlace));
-        when(placeRateCalculator.calculatePlaceRate(1L)).thenReturn(1.0);
+        when(placeCardReader.getPlaceCards(List.of(mockPlace), 1L)).thenReturn(List.of(mock(PlaceInfo.Main.class)));
 
         List<PlaceInfo.Main> placeInRegion = placeService.getPlaceInRegion(1L, mockAccessor);
 
@@ -154,14 +191,11 @@ public class PlaceServiceImplTest {
     @Test
     void getPlaceInRegionMore_ShouldRetrunListOfInfo() {
         Place mockPlace = mock(Place.class);
-        when(mockPlace.getId()).thenReturn(1L);
         Accessor mockAccessor = mock(Accessor.class);
         when(mockAccessor.isMember()).thenReturn(true);
         when(mockAccessor.getMemberId()).thenReturn(1L);
-        when(placeCacheReader.getSpotCount(1L)).thenReturn(1);
-        when(bookmarkReader.isBookmarked(1L, 1L)).thenReturn(true);
         when(placeReader.getPlaceInRegionMore(1L)).thenReturn(List.of(mockPlace));
-        when(placeRateCalculator.calculatePlaceRate(1L)).thenReturn(1.0);
+        when(placeCardReader.getPlaceCards(List.of(mockPlace), 1L)).thenReturn(List.of(mock(PlaceInfo.Main.class)));
 
         List<PlaceInfo.Main> placeInRegionMore = placeService.getPlaceInRegionMore(1L, mockAccessor);
 
@@ -176,10 +210,10 @@ public class PlaceServiceImplTest {
         Accessor mockAccessor = mock(Accessor.class);
         when(mockAccessor.isMember()).thenReturn(true);
         when(mockAccessor.getMemberId()).thenReturn(1L);
-        when(placeCacheReader.getSpotCount(1L)).thenReturn(1);
+        when(placeCacheReader.getSpotStat(1L)).thenReturn(new PlaceSpotStatDto(1L, 1L, 1.0));
         when(bookmarkReader.isBookmarked(1L, 1L)).thenReturn(true);
         when(placeReader.getPlace(1L)).thenReturn(mockPlace);
-        when(placeRateCalculator.calculatePlaceRate(1L)).thenReturn(1.0);
+        when(placeRateCalculator.calculatePlaceRate(1, 1.0)).thenReturn(1.0);
         Point mockPoint = mock(Point.class);
         when(mockPlace.getLocation()).thenReturn(mockPoint);
 
@@ -196,10 +230,10 @@ public class PlaceServiceImplTest {
         Accessor mockAccessor = mock(Accessor.class);
         when(mockAccessor.isMember()).thenReturn(true);
         when(mockAccessor.getMemberId()).thenReturn(1L);
-        when(placeCacheReader.getSpotCount(1L)).thenReturn(1);
+        when(placeCacheReader.getSpotStat(1L)).thenReturn(new PlaceSpotStatDto(1L, 1L, 1.0));
         when(bookmarkReader.isBookmarked(1L, 1L)).thenReturn(true);
         when(placeReader.getPlace(1L)).thenReturn(mockPlace);
-        when(placeRateCalculator.calculatePlaceRate(1L)).thenReturn(1.0);
+        when(placeRateCalculator.calculatePlaceRate(1, 1.0)).thenReturn(1.0);
         Point mockPoint = mock(Point.class);
         when(mockPlace.getLocation()).thenReturn(mockPoint);
 
@@ -233,6 +267,39 @@ public class PlaceServiceImplTest {
         assertNotNull(result);
     }
 
+    @DisplayName("getPlaceClusters 메서드가 뷰포트 안의 클러스터만 반환하는지")
+    @Test
+    void getPlaceClusters_ShouldReturnClustersInViewport() {
+        PlaceCommand.ClusterRequest command = PlaceCommand.ClusterRequest.builder()
+                .minCoordinate(PlaceCommand.Coordinate.builder().x(126.9).y(37.4).build())
+                .maxCoordinate(PlaceCommand.Coordinate.builder().x(127.1).y(37.6).build())
+                .zoom(8)
+                .build();
+        PlaceInfo.Cluster inside = new PlaceInfo.Cluster(127.0, 37.5, 3, 1L);
+        PlaceInfo.Cluster outside = new PlaceInfo.Cluster(127.5, 37.5, 2, 2L);
+        when(placeClusterReader.getClusters(any(PlaceTile.class))).thenReturn(List.of(inside, outside));
+
+        var result = placeService.getPlaceClusters(command);
+
+        assertEquals(result, List.of(inside));
+        verify(placeClusterReader).getClusters(PlaceTile.of(127.0, 37.5, 8));
+    }
+
+    @DisplayName("getPlaceClusters 메서드가 타일이 너무 많으면 줌을 낮춰 조회하는지")
+    @Test
+    void getPlaceClusters_WhenTooManyTiles_LowersZoom() {
+        PlaceCommand.ClusterRequest command = PlaceCommand.ClusterRequest.builder()
+                .minCoordinate(PlaceCommand.Coordinate.builder().x(124.0).y(33.0).build())
+                .maxCoordinate(PlaceCommand.Coordinate.builder().x(132.0).y(39.0).build())
+                .zoom(18)
+                .build();
+        when(placeClusterReader.getClusters(any(PlaceTile.class))).thenReturn(List.of());
+
+        placeService.getPlaceClusters(command);
+
+        verify(placeClusterReader, atMost(PlaceServiceImpl.MAX_CLUSTER_TILES)).getClusters(any(PlaceTile.class));
+    }
+
     @DisplayName("getPlaceKeywords 메서드가 Keyword 객체의 List를 잘 반환하는지")
     @Test
     void getPlaceKeywords_ShouldReturnListOfKeyword() {
@@ -246,21 +313,62 @@ public class PlaceServiceImplTest {
     @Test
     void searchPlace_ShouldReturnSlice() {
         Place mockPlace = mock(Place.class);
-        when(mockPlace.getId()).thenReturn(1L);
         Accessor mockAccessor = mock(Accessor.class);
         when(mockAccessor.isMember()).thenReturn(true);
         when(mockAccessor.getMemberId()).thenReturn(1L);
-        when(placeCacheReader.getSpotCount(1L)).thenReturn(1);
-        when(bookmarkReader.isBookmarked(1L, 1L)).thenReturn(true);
         Slice<Place> mockSlice = new SliceImpl<>(List.of(mockPlace));
         when(placeReader.getPlacesByKeyword(anyString(), any())).thenReturn(mockSlice);
-        when(placeRateCalculator.calculatePlaceRate(1L)).thenReturn(1.0);
+        when(placeCardReader.getPlaceCards(List.of(mockPlace), 1L)).thenReturn(List.of(mock(PlaceInfo.Main.class)));
 
         var result = placeService.searchPlace("키워드", mock(Pageable.class), mockAccessor);
 
         assertNotNull(result);
     }
 
+    @DisplayName("searchPlaceRanked 메서드가 한 건 더 조회해 다음 커서를 만들어 반환하는지")
+    @Test
+    void searchPlaceRanked_WhenMoreHits_ReturnsNextCursor() {
+        Place first = mock(Place.class);
+        Place second = mock(Place.class);
+        Accessor mockAccessor = mock(Accessor.class);
+        when(mockAccessor.isMember()).thenReturn(false);
+        PlaceCommand.RankedSearchRequest command = PlaceCommand.RankedSearchRequest.builder()
+                .keyword("서울").size(2).build();
+        when(placeReader.searchPlaces("서울", null, 3)).thenReturn(List.of(
+                new PlaceInfo.SearchHit(5L, 3), new PlaceInfo.SearchHit(4L, 2), new PlaceInfo.SearchHit(1L, 2)));
+        when(placeReader.getPlaces(List.of(5L, 4L))).thenReturn(List.of(first, second));
+        when(placeCardReader.getPlaceCards(List.of(first, second)))
+                .thenReturn(List.of(mock(PlaceInfo.Main.class), mock(PlaceInfo.Main.class)));
+
+        var result = placeService.searchPlaceRanked(command, mockAccessor);
+
+        assertEquals(result.getPlaces().size(), 2);
+        assertTrue(result.isHasNext());
+        assertEquals(result.getNextCursor().getScore(), 2);
+        assertEquals(result.getNextCursor().getPlaceId(), 4L);
+    }
+
+    @DisplayName("searchPlaceRanked 메서드가 마지막 페이지에서 커서 없이 반환하는지")
+    @Test
+    void searchPlaceRanked_WhenLastPage_ReturnsNoCursor() {
+        Place place = mock(Place.class);
+        Accessor mockAccessor = mock(Accessor.class);
+        when(mockAccessor.isMember()).thenReturn(true);
+        when(mockAccessor.getMemberId()).thenReturn(1L);
+        PlaceCommand.SearchCursor cursor = PlaceCommand.SearchCursor.builder().score(2).placeId(4L).build();
+        PlaceCommand.RankedSearchRequest command = PlaceCommand.RankedSearchRequest.builder()
+                .keyword("서울").cursor(cursor).size(2).build();
+        when(placeReader.searchPlaces("서울", cursor, 3)).thenReturn(List.of(new PlaceInfo.SearchHit(1L, 2)));
+        when(placeReader.getPlaces(List.of(1L))).thenReturn(List.of(place));
+        when(placeCardReader.getPlaceCards(List.of(place), 1L)).thenReturn(List.of(mock(PlaceInfo.Main.class)));
+
+        var result = placeService.searchPlaceRanked(command, mockAccessor);
+
+        assertEquals(result.getPlaces().size(), 1);
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
     @DisplayName("getMyPlaceIds 메서드가 List를 잘 반환하는지")
     @Test
     void getMyPlaceIds_ShouldReturnList() {
@@ -269,4 +377,81 @@ public class PlaceServiceImplTest {
 
         assertNotNull(result);
     }
+
+    @DisplayName("getPopularPlaceVersion 메서드가 인기 장소 버전을 잘 반환하는지")
+    @Test
+    void getPopularPlaceVersion_ShouldReturnVersion() {
+        when(popularPlaceReader.getVersion()).thenReturn(3L);
+
+        assertEquals(placeService.getPopularPlaceVersion(), 3L);
+    }
+
+    @DisplayName("getBookmarkedPlaceIds 메서드가 북마크한 장소 id를 잘 반환하는지")
+    @Test
+    void getBookmarkedPlaceIds_ShouldReturnBookmarkedIds() {
+        when(bookmarkReader.getBookmarkedPlaceIds(1L, List.of(1L, 2L))).thenReturn(Set.of(2L));
+
+        var result = placeService.getBookmarkedPlaceIds(1L, List.of(1L, 2L));
+
+        assertEquals(result, Set.of(2L));
+    }
+
+    @DisplayName("getTrendingPlace 메서드가 트렌드 순서대로 장소 카드를 반환하는지")
+    @Test
+    void getTrendingPlace_ReturnsTrendingPlaceCards() {
+        Accessor accessor = Accessor.guest();
+        Place place = mock(Place.class);
+        List<PlaceInfo.Main> cards = List.of(mock(PlaceInfo.Main.class));
+        when(placeTrendReader.getTrendingPlaceIds(5)).thenReturn(List.of(3L));
+        when(placeReader.getPlaces(List.of(3L))).thenReturn(List.of(place));
+        when(placeCardReader.getPlaceCards(List.of(place))).thenReturn(cards);
+
+        var result = placeService.getTrendingPlace(5, accessor);
+
+        assertEquals(result, cards);
+    }
+
+    @DisplayName("getTrendingPlace 메서드가 트렌드 집계가 없으면 인기 장소로 대신하는지")
+    @Test
+    void getTrendingPlace_WhenNoTrend_FallsBackToPopularPlace() {
+        Accessor accessor = Accessor.guest();
+        Place first = mock(Place.class);
+        Place second = mock(Place.class);
+        List<PlaceInfo.Main> cards = List.of(mock(PlaceInfo.Main.class));
+        when(placeTrendReader.getTrendingPlaceIds(PlaceServiceImpl.MAX_TRENDING_SIZE)).thenReturn(List.of());
+        when(popularPlaceReader.getPopularPlaceMore()).thenReturn(List.of(first, second));
+        when(placeCardReader.getPlaceCards(List.of(first, second))).thenReturn(cards);
+
+        var result = placeService.getTrendingPlace(100, accessor);
+
+        assertEquals(result, cards);
+    }
+
+    @DisplayName("getRelatedPlaces 메서드가 이웃 순위대로 장소 카드를 반환하는지")
+    @Test
+    void getRelatedPlaces_ReturnsNeighborPlaceCards() {
+        Accessor accessor = mock(Accessor.class);
+        Place place = mock(Place.class);
+        List<PlaceInfo.Main> cards = List.of(mock(PlaceInfo.Main.class));
+        when(accessor.isMember()).thenReturn(true);
+        when(accessor.getMemberId()).thenReturn(1L);
+        when(placeNeighborReader.getNeighborPlaceIds(3L)).thenReturn(List.of(5L));
+        when(placeReader.getPlaces(List.of(5L))).thenReturn(List.of(place));
+        when(placeCardReader.getPlaceCards(List.of(place), 1L)).thenReturn(cards);
+
+        var result = placeService.getRelatedPlaces(3L, accessor);
+
+        assertEquals(result, cards);
+    }
+
+    @DisplayName("getRelatedPlaces 메서드가 이웃이 없으면 장소를 조회하지 않는지")
+    @Test
+    void getRelatedPlaces_WhenNoNeighbor_ReturnsEmptyList() {
+        when(placeNeighborReader.getNeighborPlaceIds(3L)).thenReturn(List.of());
+
+        var result = placeService.getRelatedPlaces(3L, Accessor.guest());
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(placeReader, placeCardReader);
+    }
 }
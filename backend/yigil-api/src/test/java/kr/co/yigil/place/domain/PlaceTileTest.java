@@ -0,0 +1,40 @@
+package kr.co.yigil.place.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class PlaceTileTest {
+
+    @DisplayName("of 메서드가 경위도를 웹 메르카토르 타일 좌표로 변환하는지")
+    @Test
+    void of_ReturnsMercatorTile() {
+        PlaceTile tile = PlaceTile.of(126.978, 37.5665, 10);
+
+        assertEquals(tile.getKey(), "10/873/396");
+        assertTrue(tile.contains(126.978, 37.5665));
+        assertTrue(tile.getMinLongitude() <= 126.978 && 126.978 < tile.getMaxLongitude());
+        assertTrue(tile.getMinLatitude() < 37.5665 && 37.5665 <= tile.getMaxLatitude());
+    }
+
+    @DisplayName("covering 메서드가 뷰포트를 덮는 타일을 모두 반환하는지")
+    @Test
+    void covering_ReturnsAllTilesInViewport() {
+        PlaceCommand.Coordinate min = PlaceCommand.Coordinate.builder().x(-10.0).y(-10.0).build();
+        PlaceCommand.Coordinate max = PlaceCommand.Coordinate.builder().x(10.0).y(10.0).build();
+
+        assertEquals(PlaceTile.covering(min, max, 1).size(), 4);
+        assertEquals(PlaceTile.countCovering(min, max, 1), 4);
+    }
+
+    @DisplayName("contains 메서드가 다른 타일의 좌표에 false를 반환하는지")
+    @Test
+    void contains_WhenOtherTile_ReturnsFalse() {
+        PlaceTile tile = PlaceTile.of(127.0, 37.5, 10);
+
+        assertFalse(tile.contains(tile.getMaxLongitude(), 37.5));
+    }
+}
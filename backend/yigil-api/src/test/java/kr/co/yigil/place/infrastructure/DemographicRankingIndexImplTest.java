@@ -0,0 +1,64 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import kr.co.yigil.member.Ages;
+import kr.co.yigil.member.Gender;
+import kr.co.yigil.place.domain.DemographicPlaceRanking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class DemographicRankingIndexImplTest {
+
+    @Mock
+    private DemographicPlaceRankingRepository demographicPlaceRankingRepository;
+
+    @InjectMocks
+    private DemographicRankingIndexImpl demographicRankingIndex;
+
+    @DisplayName("refresh 전에는 isReady가 false를 반환하는지")
+    @Test
+    void isReady_BeforeRefresh_ReturnsFalse() {
+        assertFalse(demographicRankingIndex.isReady());
+    }
+
+    @DisplayName("getPlaceIds 메서드가 버킷의 장소 id를 순서대로 size만큼 반환하는지")
+    @Test
+    void getPlaceIds_ReturnsRankedIdsLimitedBySize() {
+        when(demographicPlaceRankingRepository.findMaxId()).thenReturn(3L);
+        when(demographicPlaceRankingRepository.findAll()).thenReturn(List.of(
+                new DemographicPlaceRanking(Ages.TWENTIES, Gender.MALE, List.of(5L, 3L, 9L)),
+                new DemographicPlaceRanking(Ages.TWENTIES, Gender.FEMALE, List.of(7L))
+        ));
+
+        demographicRankingIndex.refresh();
+
+        assertTrue(demographicRankingIndex.isReady());
+        assertEquals(demographicRankingIndex.getPlaceIds(Ages.TWENTIES, Gender.MALE, 2), List.of(5L, 3L));
+        assertEquals(demographicRankingIndex.getPlaceIds(Ages.TWENTIES, Gender.FEMALE, 5), List.of(7L));
+        assertEquals(demographicRankingIndex.getPlaceIds(Ages.THIRTIES, Gender.MALE, 5), List.of());
+    }
+
+    @DisplayName("refresh 메서드가 버전이 같으면 버킷을 다시 읽지 않는지")
+    @Test
+    void refresh_WhenVersionUnchanged_ShouldNotReload() {
+        when(demographicPlaceRankingRepository.findMaxId()).thenReturn(3L);
+        when(demographicPlaceRankingRepository.findAll()).thenReturn(List.of());
+
+        demographicRankingIndex.refresh();
+        demographicRankingIndex.refresh();
+
+        verify(demographicPlaceRankingRepository, times(1)).findAll();
+    }
+}
@@ -0,0 +1,36 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class HangulJamoTest {
+
+    @DisplayName("decompose 메서드가 겹모음과 겹받침까지 기본 자모로 분해하는지")
+    @Test
+    void decompose_SplitsCompoundJamo() {
+        assertEquals(HangulJamo.decompose("경복궁"), "ㄱㅕㅇㅂㅗㄱㄱㅜㅇ");
+        assertEquals(HangulJamo.decompose("과 닭"), "ㄱㅗㅏㄷㅏㄹㄱ");
+        assertEquals(HangulJamo.decompose("ㄳ"), "ㄱㅅ");
+        assertEquals(HangulJamo.decompose("CGV 강남"), "cgvㄱㅏㅇㄴㅏㅁ");
+    }
+
+    @DisplayName("choseong 메서드가 한글 음절의 초성만 모으는지")
+    @Test
+    void choseong_ReturnsInitialConsonants() {
+        assertEquals(HangulJamo.choseong("경복궁"), "ㄱㅂㄱ");
+        assertEquals(HangulJamo.choseong("롯데 월드"), "ㄹㄷㅇㄷ");
+    }
+
+    @DisplayName("isChoseongOnly 메서드가 자음만 입력되었는지 판단하는지")
+    @Test
+    void isChoseongOnly_ReturnsWhetherOnlyConsonants() {
+        assertTrue(HangulJamo.isChoseongOnly("ㄱㅂ ㄱ"));
+        assertFalse(HangulJamo.isChoseongOnly("경ㅂ"));
+        assertFalse(HangulJamo.isChoseongOnly("ㅏ"));
+        assertFalse(HangulJamo.isChoseongOnly(" "));
+    }
+}
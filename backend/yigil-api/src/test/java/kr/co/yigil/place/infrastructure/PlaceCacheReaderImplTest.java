@@ -3,7 +3,13 @@ package kr.co.yigil.place.infrastructure;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
 
-import kr.co.yigil.travel.domain.spot.SpotReader;
+import java.util.List;
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterGroup;
+import kr.co.yigil.counter.domain.CounterReader;
+import kr.co.yigil.counter.domain.CounterValues;
+import kr.co.yigil.travel.domain.dto.PlaceSpotStatDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,7 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 public class PlaceCacheReaderImplTest {
 
     @Mock
-    private SpotReader spotReader;
+    private CounterReader counterReader;
 
     @InjectMocks
     private PlaceCacheReaderImpl placeCacheReader;
@@ -23,24 +29,48 @@ public class PlaceCacheReaderImplTest {
     @DisplayName("getSpotCount 메서드가 spot의 Count를 잘 반환하는지")
     @Test
     void getSpotCount_ReturnsSpotCount() {
-        Long placeId = 1L;
-        int expectedSpotCount = 1;
-        when(spotReader.getSpotCountInPlace(placeId)).thenReturn(expectedSpotCount);
+        when(counterReader.get(CounterGroup.PLACE, 1L))
+                .thenReturn(new CounterValues(Map.of(Counter.SPOT_COUNT, 3L)));
 
-        int result = placeCacheReader.getSpotCount(placeId);
+        int result = placeCacheReader.getSpotCount(1L);
 
-        assertEquals(expectedSpotCount, result);
+        assertEquals(3, result);
     }
 
     @DisplayName("getSpotTotalRate 메서드가 spot의 TotalRate를 잘 반환하는지")
     @Test
     void getSpotTotalRate_ReturnsSpotTotalRate() {
-        Long placeId = 1L;
-        double expectedSpotTotalRate = 1.0;
-        when(spotReader.getSpotTotalRateInPlace(placeId)).thenReturn(expectedSpotTotalRate);
+        when(counterReader.get(CounterGroup.PLACE, 1L))
+                .thenReturn(new CounterValues(Map.of(Counter.SPOT_TOTAL_RATE, 7.5)));
 
-        double result = placeCacheReader.getSpotTotalRate(placeId);
+        double result = placeCacheReader.getSpotTotalRate(1L);
 
-        assertEquals(expectedSpotTotalRate, result);
+        assertEquals(7.5, result);
+    }
+
+    @DisplayName("getSpotStat 메서드가 한 번의 조회로 개수와 평점 합계를 반환하는지")
+    @Test
+    void getSpotStat_ReturnsCountAndTotalRate() {
+        when(counterReader.get(CounterGroup.PLACE, 1L))
+                .thenReturn(new CounterValues(Map.of(Counter.SPOT_COUNT, 2L, Counter.SPOT_TOTAL_RATE, 7.0)));
+
+        PlaceSpotStatDto result = placeCacheReader.getSpotStat(1L);
+
+        assertEquals(2, result.getSpotCount());
+        assertEquals(7.0, result.getSpotTotalRate());
+    }
+
+    @DisplayName("getSpotStats 메서드가 장소별 카운터를 한 번에 변환하는지")
+    @Test
+    void getSpotStats_ReturnsStatsForAllPlaces() {
+        when(counterReader.getAll(CounterGroup.PLACE, List.of(1L, 2L))).thenReturn(Map.of(
+                1L, new CounterValues(Map.of(Counter.SPOT_COUNT, 2L, Counter.SPOT_TOTAL_RATE, 7.0)),
+                2L, CounterValues.empty()));
+
+        Map<Long, PlaceSpotStatDto> result = placeCacheReader.getSpotStats(List.of(1L, 2L));
+
+        assertEquals(2, result.get(1L).getSpotCount());
+        assertEquals(7.0, result.get(1L).getSpotTotalRate());
+        assertEquals(0, result.get(2L).getSpotCount());
     }
 }
@@ -1,9 +1,10 @@
 package kr.co.yigil.place.infrastructure;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
 
-import kr.co.yigil.place.domain.PlaceCacheReader;
+import java.util.Map;
+import kr.co.yigil.counter.domain.Counter;
+import kr.co.yigil.counter.domain.CounterStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,7 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 public class PlaceCacheStoreImplTest {
 
     @Mock
-    private PlaceCacheReader placeCacheReader;
+    private CounterStore counterStore;
 
     @InjectMocks
     private PlaceCacheStoreImpl placeCacheStore;
@@ -23,48 +24,52 @@ public class PlaceCacheStoreImplTest {
     @DisplayName("incrementSpotCountInPlace 메서드가 spotCount를 잘 증가시키는지")
     @Test
     void incrementSpotCountInPlace_IncreasesSpotCount() {
-        Long placeId = 1L;
-        int spotCount = 1;
-        when(placeCacheReader.getSpotCount(placeId)).thenReturn(spotCount);
+        placeCacheStore.incrementSpotCountInPlace(1L);
 
-        int result = placeCacheStore.incrementSpotCountInPlace(placeId);
-
-        assertEquals(spotCount + 1, result);
+        verify(counterStore).increment(Counter.SPOT_COUNT, 1L, 1);
     }
 
     @DisplayName("decrementSpotCountInPlace 메서드가 spotCount를 잘 감소시키는지")
     @Test
     void decrementSpotCountInPlace_DecreasesSpotCount() {
-        Long placeId = 1L;
-        int spotCount = 1;
-        when(placeCacheReader.getSpotCount(placeId)).thenReturn(spotCount);
-
-        int result = placeCacheStore.decrementSpotCountInPlace(placeId);
+        placeCacheStore.decrementSpotCountInPlace(1L);
 
-        assertEquals(spotCount - 1, result);
+        verify(counterStore).increment(Counter.SPOT_COUNT, 1L, -1);
     }
 
     @DisplayName("incrementSpotTotalRateInPlace 메서드가 spotTotalRate를 잘 증가시키는지")
     @Test
     void incrementSpotTotalRateInPlace_IncreasesSpotTotalRate() {
-        Long placeId = 1L;
-        double spotTotalRate = 1.0;
-        when(placeCacheReader.getSpotTotalRate(placeId)).thenReturn(spotTotalRate);
-
-        double result = placeCacheStore.incrementSpotTotalRateInPlace(placeId, 1.0);
+        placeCacheStore.incrementSpotTotalRateInPlace(1L, 1.5);
 
-        assertEquals(spotTotalRate + 1.0, result);
+        verify(counterStore).increment(Counter.SPOT_TOTAL_RATE, 1L, 1.5);
     }
 
     @DisplayName("decrementSpotTotalRateInPlace 메서드가 spotTotalRate를 잘 감소시키는지")
     @Test
     void decrementSpotTotalRateInPlace_DecreasesSpotTotalRate() {
-        Long placeId = 1L;
-        double spotTotalRate = 1.0;
-        when(placeCacheReader.getSpotTotalRate(placeId)).thenReturn(spotTotalRate);
+        placeCacheStore.decrementSpotTotalRateInPlace(1L, 1.5);
+
+        verify(counterStore).increment(Counter.SPOT_TOTAL_RATE, 1L, -1.5);
+    }
+
+    @DisplayName("incrementSpotCountInPlaces 메서드가 여러 장소의 spotCount를 한 번에 증가시키는지")
+    @Test
+    void incrementSpotCountInPlaces_IncreasesAll() {
+        Map<Long, Integer> spotCounts = Map.of(1L, 2, 2L, 1);
+
+        placeCacheStore.incrementSpotCountInPlaces(spotCounts);
+
+        verify(counterStore).incrementAll(Counter.SPOT_COUNT, spotCounts);
+    }
+
+    @DisplayName("incrementSpotTotalRateInPlaces 메서드가 여러 장소의 spotTotalRate를 한 번에 증가시키는지")
+    @Test
+    void incrementSpotTotalRateInPlaces_IncreasesAll() {
+        Map<Long, Double> spotTotalRates = Map.of(1L, 8.0);
 
-        double result = placeCacheStore.decrementSpotTotalRateInPlace(placeId, 1.0);
+        placeCacheStore.incrementSpotTotalRateInPlaces(spotTotalRates);
 
-        assertEquals(spotTotalRate - 1.0, result);
+        verify(counterStore).incrementAll(Counter.SPOT_TOTAL_RATE, spotTotalRates);
     }
 }
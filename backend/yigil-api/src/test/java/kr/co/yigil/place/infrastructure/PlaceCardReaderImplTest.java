@@ -0,0 +1,82 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import kr.co.yigil.bookmark.domain.BookmarkReader;
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceCacheReader;
+import kr.co.yigil.place.domain.PlaceInfo.Main;
+import kr.co.yigil.place.domain.PlaceRateCalculator;
+import kr.co.yigil.travel.domain.dto.PlaceSpotStatDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceCardReaderImplTest {
+
+    @Mock
+    private PlaceCacheReader placeCacheReader;
+
+    @Mock
+    private PlaceRateCalculator placeRateCalculator;
+
+    @Mock
+    private BookmarkReader bookmarkReader;
+
+    @InjectMocks
+    private PlaceCardReaderImpl placeCardReader;
+
+    @DisplayName("getPlaceCards 메서드가 비회원에게 북마크 조회 없이 Main 목록을 반환하는지")
+    @Test
+    void getPlaceCards_WhenGuest_ReturnsMainsWithoutBookmark() {
+        Place place = mockPlace(1L);
+        when(placeCacheReader.getSpotStats(List.of(1L)))
+                .thenReturn(Map.of(1L, new PlaceSpotStatDto(1L, 2L, 7.0)));
+        when(placeRateCalculator.calculatePlaceRate(2, 7.0)).thenReturn(3.5);
+
+        List<Main> result = placeCardReader.getPlaceCards(List.of(place));
+
+        assertEquals(1, result.size());
+        assertEquals(2, result.get(0).getReviewCount());
+        assertEquals(3.5, result.get(0).getRate());
+        assertFalse(result.get(0).isBookmarked());
+        verifyNoInteractions(bookmarkReader);
+    }
+
+    @DisplayName("getPlaceCards 메서드가 회원의 북마크 여부를 한 번에 반영하는지")
+    @Test
+    void getPlaceCards_WhenMember_ReturnsMainsWithBookmark() {
+        Place first = mockPlace(1L);
+        Place second = mockPlace(2L);
+        when(placeCacheReader.getSpotStats(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, new PlaceSpotStatDto(1L, 1L, 5.0),
+                2L, new PlaceSpotStatDto(2L, 2L, 6.0)));
+        when(bookmarkReader.getBookmarkedPlaceIds(10L, List.of(1L, 2L))).thenReturn(Set.of(2L));
+        when(placeRateCalculator.calculatePlaceRate(1, 5.0)).thenReturn(5.0);
+        when(placeRateCalculator.calculatePlaceRate(2, 6.0)).thenReturn(3.0);
+
+        List<Main> result = placeCardReader.getPlaceCards(List.of(first, second), 10L);
+
+        assertFalse(result.get(0).isBookmarked());
+        assertTrue(result.get(1).isBookmarked());
+        assertEquals(3.0, result.get(1).getRate());
+    }
+
+    private Place mockPlace(Long id) {
+        Place place = mock(Place.class);
+        when(place.getId()).thenReturn(id);
+        return place;
+    }
+}
@@ -0,0 +1,46 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceTile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceClusterCacheStoreImplTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @InjectMocks
+    private PlaceClusterCacheStoreImpl placeClusterCacheStore;
+
+    @DisplayName("evictTiles 메서드가 장소가 속한 모든 줌 레벨의 타일을 지우는지")
+    @Test
+    void evictTiles_EvictsTileOfEveryZoom() {
+        Place place = new Place(1L, "장소", "주소",
+                new GeometryFactory().createPoint(new Coordinate(127.0, 37.5)), null, null, null);
+        when(cacheManager.getCache(PlaceClusterCacheStoreImpl.CACHE_NAME)).thenReturn(cache);
+
+        placeClusterCacheStore.evictTiles(place);
+
+        verify(cache, times(PlaceTile.MAX_ZOOM - PlaceTile.MIN_ZOOM + 1)).evict(anyString());
+        verify(cache).evict("0/0/0");
+        verify(cache).evict(PlaceTile.of(127.0, 37.5, PlaceTile.MAX_ZOOM).getKey());
+    }
+}
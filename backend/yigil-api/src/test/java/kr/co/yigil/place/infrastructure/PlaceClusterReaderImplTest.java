@@ -0,0 +1,66 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.Comparator;
+import java.util.List;
+import kr.co.yigil.place.domain.PlaceInfo.Cluster;
+import kr.co.yigil.place.domain.PlaceInfo.NearPlace;
+import kr.co.yigil.place.domain.PlaceReader;
+import kr.co.yigil.place.domain.PlaceTile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceClusterReaderImplTest {
+
+    @Mock
+    private PlaceReader placeReader;
+
+    @InjectMocks
+    private PlaceClusterReaderImpl placeClusterReader;
+
+    @DisplayName("getClusters 메서드가 같은 격자 칸의 장소를 하나의 클러스터로 묶는지")
+    @Test
+    void getClusters_GroupsPlacesInSameCell() {
+        PlaceTile tile = PlaceTile.of(127.0, 37.5, 10);
+        when(placeReader.getPlacesWithin(any(), any())).thenReturn(List.of(
+                new NearPlace(1L, "장소1", 127.0001, 37.5001),
+                new NearPlace(2L, "장소2", 127.0003, 37.5003),
+                new NearPlace(3L, "장소3", tile.getMinLongitude() + 0.0001, tile.getMaxLatitude() - 0.0001)
+        ));
+
+        List<Cluster> result = placeClusterReader.getClusters(tile).stream()
+                .sorted(Comparator.comparingInt(Cluster::getCount).reversed())
+                .toList();
+
+        assertEquals(result.size(), 2);
+        assertEquals(result.get(0).getCount(), 2);
+        assertEquals(result.get(0).getRepresentativePlaceId(), 2L);
+        assertEquals(result.get(0).getX(), 127.0002, 1e-9);
+        assertEquals(result.get(0).getY(), 37.5002, 1e-9);
+        assertEquals(result.get(1).getCount(), 1);
+        assertEquals(result.get(1).getRepresentativePlaceId(), 3L);
+    }
+
+    @DisplayName("getClusters 메서드가 타일 경계 밖의 장소를 제외하는지")
+    @Test
+    void getClusters_ExcludesPlacesOutsideTile() {
+        PlaceTile tile = PlaceTile.of(127.0, 37.5, 10);
+        when(placeReader.getPlacesWithin(any(), any())).thenReturn(List.of(
+                new NearPlace(1L, "장소1", 127.0001, 37.5001),
+                new NearPlace(2L, "장소2", tile.getMaxLongitude(), 37.5001)
+        ));
+
+        List<Cluster> result = placeClusterReader.getClusters(tile);
+
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).getRepresentativePlaceId(), 1L);
+    }
+}
@@ -0,0 +1,85 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.dto.PlaceKeywordDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceKeywordIndexImplTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @InjectMocks
+    private PlaceKeywordIndexImpl placeKeywordIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(placeRepository.findPlaceKeywordsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new PlaceKeywordDto(1L, "경복궁", 30L),
+                new PlaceKeywordDto(2L, "경주 불국사", 50L),
+                new PlaceKeywordDto(3L, "가방 가게", 5L),
+                new PlaceKeywordDto(4L, "갑사", 10L),
+                new PlaceKeywordDto(5L, "경복궁", 15L),
+                new PlaceKeywordDto(6L, "광화문", 0L)
+        ));
+        placeKeywordIndex.rebuild();
+    }
+
+    @DisplayName("search 메서드가 접두어에 맞는 이름을 스팟 수 내림차순으로 반환하는지")
+    @Test
+    void search_ByPrefix_ReturnsNamesOrderedBySpotCount() {
+        assertTrue(placeKeywordIndex.isReady());
+        assertEquals(placeKeywordIndex.search("경", 10), List.of("경주 불국사", "경복궁"));
+    }
+
+    @DisplayName("search 메서드가 초성만으로 이름을 찾는지")
+    @Test
+    void search_ByChoseong_ReturnsMatchedNames() {
+        assertEquals(placeKeywordIndex.search("ㄱㅂㄱ", 10), List.of("경복궁"));
+        assertEquals(placeKeywordIndex.search("ㄱㅎ", 10), List.of("광화문"));
+    }
+
+    @DisplayName("search 메서드가 입력 중인 음절의 받침을 다음 음절의 초성으로도 매칭하는지")
+    @Test
+    void search_ByPartialSyllable_ReturnsMatchedNames() {
+        assertEquals(placeKeywordIndex.search("갑", 10), List.of("갑사", "가방 가게"));
+        assertEquals(placeKeywordIndex.search("경복ㄱ", 10), List.of("경복궁"));
+        assertEquals(placeKeywordIndex.search("고", 10), List.of("광화문"));
+    }
+
+    @DisplayName("search 메서드가 긴 접두어에도 limit만큼 반환하는지")
+    @Test
+    void search_WithLongPrefix_RespectsLimit() {
+        assertEquals(placeKeywordIndex.search("경복궁", 1), List.of("경복궁"));
+        assertEquals(placeKeywordIndex.search("가", 1), List.of("갑사"));
+    }
+
+    @DisplayName("add 메서드로 추가한 장소 이름이 재빌드 전에도 검색되는지")
+    @Test
+    void add_ShouldBeSearchableBeforeRebuild() {
+        Place place = mock(Place.class);
+        when(place.getName()).thenReturn("경포대");
+
+        placeKeywordIndex.add(place);
+
+        assertEquals(placeKeywordIndex.search("경", 10), List.of("경주 불국사", "경복궁", "경포대"));
+        assertFalse(placeKeywordIndex.search("ㄱㅍㄷ", 10).isEmpty());
+    }
+}
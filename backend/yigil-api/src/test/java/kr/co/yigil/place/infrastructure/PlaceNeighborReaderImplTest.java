@@ -0,0 +1,34 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import kr.co.yigil.place.domain.PlaceNeighbor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceNeighborReaderImplTest {
+
+    @Mock
+    private PlaceNeighborRepository placeNeighborRepository;
+
+    @InjectMocks
+    private PlaceNeighborReaderImpl placeNeighborReader;
+
+    @DisplayName("getNeighborPlaceIds 메서드가 순위대로 이웃 장소 id를 반환하는지")
+    @Test
+    void getNeighborPlaceIds_ReturnsNeighborIdsInRankingOrder() {
+        when(placeNeighborRepository.findByPlaceIdOrderByRankingAsc(1L)).thenReturn(List.of(
+                new PlaceNeighbor(1L, 7L, 5, 1),
+                new PlaceNeighbor(1L, 3L, 2, 2)
+        ));
+
+        assertEquals(placeNeighborReader.getNeighborPlaceIds(1L), List.of(7L, 3L));
+    }
+}
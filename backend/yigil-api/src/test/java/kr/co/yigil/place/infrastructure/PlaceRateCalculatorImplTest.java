@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
 import kr.co.yigil.place.domain.PlaceCacheReader;
+import kr.co.yigil.travel.domain.dto.PlaceSpotStatDto;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -26,11 +27,25 @@ class PlaceRateCalculatorImplTest {
         double spotTotalRate = 3.0;
         double expectedPlaceRate = 1.5;
 
-        when(placeCacheReader.getSpotCount(placeId)).thenReturn(spotCount);
-        when(placeCacheReader.getSpotTotalRate(placeId)).thenReturn(spotTotalRate);
+        when(placeCacheReader.getSpotStat(placeId))
+                .thenReturn(new PlaceSpotStatDto(placeId, (long) spotCount, spotTotalRate));
 
         double result = placeRateCalculator.calculatePlaceRate(placeId);
 
         assertEquals(expectedPlaceRate, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void calculatePlaceRate_WithStats_ReturnsRoundedRate() {
+        double result = placeRateCalculator.calculatePlaceRate(3, 10.0);
+
+        assertEquals(3.3, result);
+    }
+
+    @Test
+    void calculatePlaceRate_WithoutSpots_ReturnsZero() {
+        double result = placeRateCalculator.calculatePlaceRate(0, 0.0);
+
+        assertEquals(0.0, result);
+    }
+}
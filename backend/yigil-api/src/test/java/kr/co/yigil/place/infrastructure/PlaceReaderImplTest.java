@@ -5,27 +5,43 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.member.Ages;
 import kr.co.yigil.member.Gender;
 import kr.co.yigil.place.domain.DemographicPlace;
+import kr.co.yigil.place.domain.DemographicRankingIndex;
 import kr.co.yigil.place.domain.Place;
 import kr.co.yigil.place.domain.PlaceCommand;
+import kr.co.yigil.place.domain.PlaceInfo.NearPlace;
+import kr.co.yigil.place.domain.PlaceInfo.SearchHit;
+import kr.co.yigil.place.domain.PlaceKeywordIndex;
+import kr.co.yigil.place.domain.PlaceSearchIndex;
+import kr.co.yigil.place.domain.PlaceSpatialIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 @ExtendWith(MockitoExtension.class)
 public class PlaceReaderImplTest {
@@ -36,6 +52,18 @@ public class PlaceReaderImplTest {
     @Mock
     private DemographicPlaceRepository demographicPlaceRepository;
 
+    @Mock
+    private DemographicRankingIndex demographicRankingIndex;
+
+    @Mock
+    private PlaceSpatialIndex placeSpatialIndex;
+
+    @Mock
+    private PlaceKeywordIndex placeKeywordIndex;
+
+    @Mock
+    private PlaceSearchIndex placeSearchIndex;
+
     @InjectMocks
     private PlaceReaderImpl placeReader;
 
@@ -135,9 +163,29 @@ public class PlaceReaderImplTest {
         assertEquals(placeReader.getPlaceInRegionMore(regionId).size(), 20);
     }
 
-    @DisplayName("getNearPlace 메서드가 Page<Place>를 잘 반환하는지")
+    @DisplayName("getNearPlace 메서드가 공간 인덱스가 준비되면 인덱스로 조회하는지")
+    @Test
+    void getNearPlace_WhenIndexReady_ReturnsPageFromIndex() {
+        PlaceCommand.NearPlaceRequest command = mock(PlaceCommand.NearPlaceRequest.class);
+        when(command.getPageNo()).thenReturn(1);
+        PlaceCommand.Coordinate mockCoordinate = mock(PlaceCommand.Coordinate.class);
+        when(command.getMinCoordinate()).thenReturn(mockCoordinate);
+        when(command.getMaxCoordinate()).thenReturn(mockCoordinate);
+
+        Page<NearPlace> mockPage = mock(Page.class);
+        when(placeSpatialIndex.isReady()).thenReturn(true);
+        when(placeSpatialIndex.search(any(), any(), any(Pageable.class))).thenReturn(mockPage);
+
+        var result = placeReader.getNearPlace(command);
+
+        assertEquals(result, mockPage);
+        verify(placeRepository, never()).findWithinCoordinates(
+                anyDouble(), anyDouble(), anyDouble(), anyDouble(), any(Pageable.class));
+    }
+
+    @DisplayName("getNearPlace 메서드가 공간 인덱스가 준비되지 않았으면 DB로 조회하는지")
     @Test
-    void getNearPlace_ReturnsPageOfPlace() {
+    void getNearPlace_WhenIndexNotReady_ReturnsPageFromRepository() {
         PlaceCommand.NearPlaceRequest command = mock(PlaceCommand.NearPlaceRequest.class);
         when(command.getPageNo()).thenReturn(1);
         PlaceCommand.Coordinate mockCoordinate = mock(PlaceCommand.Coordinate.class);
@@ -146,14 +194,47 @@ public class PlaceReaderImplTest {
         when(command.getMinCoordinate()).thenReturn(mockCoordinate);
         when(command.getMaxCoordinate()).thenReturn(mockCoordinate);
 
-        Page<Place> mockPage = mock(Page.class);
-
+        Place place = new Place(1L, "장소", "주소",
+                new GeometryFactory().createPoint(new Coordinate(127.0, 37.0)), null, null, null);
+        when(placeSpatialIndex.isReady()).thenReturn(false);
         when(placeRepository.findWithinCoordinates(
-                anyDouble(), anyDouble(), anyDouble(), anyDouble(), any(Pageable.class))).thenReturn(mockPage);
+                anyDouble(), anyDouble(), anyDouble(), anyDouble(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(place)));
 
         var result = placeReader.getNearPlace(command);
 
-        assertEquals(result, mockPage);
+        assertEquals(result.getContent().size(), 1);
+        assertEquals(result.getContent().get(0).getId(), 1L);
+        assertEquals(result.getContent().get(0).getX(), 127.0);
+    }
+
+    @DisplayName("getPlacesWithin 메서드가 공간 인덱스가 준비되면 인덱스로 조회하는지")
+    @Test
+    void getPlacesWithin_WhenIndexReady_ReturnsPlacesFromIndex() {
+        PlaceCommand.Coordinate mockCoordinate = mock(PlaceCommand.Coordinate.class);
+        List<NearPlace> places = List.of(new NearPlace(1L, "장소", 127.0, 37.0));
+        when(placeSpatialIndex.isReady()).thenReturn(true);
+        when(placeSpatialIndex.findAllWithin(mockCoordinate, mockCoordinate)).thenReturn(places);
+
+        var result = placeReader.getPlacesWithin(mockCoordinate, mockCoordinate);
+
+        assertEquals(result, places);
+    }
+
+    @DisplayName("getPlacesWithin 메서드가 공간 인덱스가 준비되지 않았으면 DB로 조회하는지")
+    @Test
+    void getPlacesWithin_WhenIndexNotReady_ReturnsPlacesFromRepository() {
+        PlaceCommand.Coordinate mockCoordinate = mock(PlaceCommand.Coordinate.class);
+        Place place = new Place(1L, "장소", "주소",
+                new GeometryFactory().createPoint(new Coordinate(127.0, 37.0)), null, null, null);
+        when(placeSpatialIndex.isReady()).thenReturn(false);
+        when(placeRepository.findWithinCoordinates(anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(List.of(place));
+
+        var result = placeReader.getPlacesWithin(mockCoordinate, mockCoordinate);
+
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).getId(), 1L);
     }
 
     @DisplayName("getPopularPlaceByDemographics 메서드가 Place의 리스트를 잘 반환하는지")
@@ -172,6 +253,23 @@ public class PlaceReaderImplTest {
 
     }
 
+    @DisplayName("getPopularPlaceByDemographics 메서드가 버킷 목록이 발행되어 있으면 id 순서대로 장소를 한 번에 읽는지")
+    @Test
+    void getPopularPlaceByDemographics_WhenRankingReady_ReturnsPlacesInRankingOrder() {
+        Place place1 = mock(Place.class);
+        Place place2 = mock(Place.class);
+        when(place1.getId()).thenReturn(1L);
+        when(place2.getId()).thenReturn(2L);
+        when(demographicRankingIndex.isReady()).thenReturn(true);
+        when(demographicRankingIndex.getPlaceIds(Ages.TWENTIES, Gender.MALE, 5)).thenReturn(List.of(2L, 1L));
+        when(placeRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(place1, place2));
+
+        List<Place> result = placeReader.getPopularPlaceByDemographics(Ages.TWENTIES, Gender.MALE);
+
+        assertEquals(result, List.of(place2, place1));
+        verifyNoInteractions(demographicPlaceRepository);
+    }
+
     @DisplayName("getPopularPlaceByDemographicsMore 메서드가 Place의 리스트를 잘 반환하는지")
     @Test
     void getPopularPlaceByDemographicsMore_ReturnsListOfPlace() {
@@ -202,6 +300,19 @@ public class PlaceReaderImplTest {
         assertEquals(result.size(), 2);
     }
 
+    @DisplayName("getPlaceKeywords 메서드가 자동완성 인덱스가 준비되면 인덱스로 조회하는지")
+    @Test
+    void getPlaceKeywords_WhenIndexReady_ReturnsKeywordsFromIndex() {
+        String keyword = "ㄱㅂㄱ";
+        when(placeKeywordIndex.isReady()).thenReturn(true);
+        when(placeKeywordIndex.search(keyword, 10)).thenReturn(List.of("경복궁"));
+
+        List<String> result = placeReader.getPlaceKeywords(keyword);
+
+        assertEquals(result, List.of("경복궁"));
+        verify(placeRepository, never()).findTop10ByNameStartingWith(keyword);
+    }
+
     @DisplayName("getPlacesByKeyword 메서드가 Place의 Slice를 잘 반환하는지")
     @Test
     void getPlacesByKeyword_ReturnsSliceOfPlace() {
@@ -214,4 +325,83 @@ public class PlaceReaderImplTest {
 
         assertEquals(result, mockSlice);
     }
+
+    @DisplayName("getPlacesByKeyword 메서드가 검색 인덱스가 준비되면 일치하는 id 배열 안에서 컬럼 이름으로 정렬해 조회하는지")
+    @Test
+    void getPlacesByKeyword_WhenIndexReady_QueriesByIds() {
+        String keyword = "keyword";
+        Pageable pageable = PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "latestUploadedTime"));
+        Slice<Place> mockSlice = mock(Slice.class);
+        when(placeSearchIndex.isReady()).thenReturn(true);
+        when(placeSearchIndex.searchIds(keyword, Integer.MAX_VALUE)).thenReturn(List.of(3L, 1L));
+        when(placeRepository.findByIdInArray("{3,1}",
+                PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "latest_uploaded_time")))).thenReturn(mockSlice);
+
+        var result = placeReader.getPlacesByKeyword(keyword, pageable);
+
+        assertEquals(result, mockSlice);
+        verify(placeRepository, never()).findByNameOrAddressContainingIgnoreCase(keyword, pageable);
+    }
+
+    @DisplayName("getPlacesByKeyword 메서드가 일치하는 장소가 많아도 LIKE로 넘기지 않고 인덱스 결과 안에서 조회하는지")
+    @Test
+    void getPlacesByKeyword_WhenManyMatches_StaysOnIndex() {
+        String keyword = "a";
+        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "id"));
+        Slice<Place> mockSlice = mock(Slice.class);
+        List<Long> placeIds = LongStream.rangeClosed(1, 5_000).boxed().toList();
+        when(placeSearchIndex.isReady()).thenReturn(true);
+        when(placeSearchIndex.searchIds(keyword, Integer.MAX_VALUE)).thenReturn(placeIds);
+        when(placeRepository.findByIdInArray(any(String.class), eq(pageable))).thenReturn(mockSlice);
+
+        var result = placeReader.getPlacesByKeyword(keyword, pageable);
+
+        assertEquals(result, mockSlice);
+        verify(placeRepository, never()).findByNameOrAddressContainingIgnoreCase(keyword, pageable);
+    }
+
+    @DisplayName("searchPlaces 메서드가 검색 인덱스가 준비되면 인덱스로 조회하는지")
+    @Test
+    void searchPlaces_WhenIndexReady_ReturnsHitsFromIndex() {
+        String keyword = "keyword";
+        PlaceCommand.SearchCursor cursor = PlaceCommand.SearchCursor.builder().score(3).placeId(10L).build();
+        List<SearchHit> hits = List.of(new SearchHit(5L, 3));
+        when(placeSearchIndex.isReady()).thenReturn(true);
+        when(placeSearchIndex.search(keyword, cursor, 6)).thenReturn(hits);
+
+        var result = placeReader.searchPlaces(keyword, cursor, 6);
+
+        assertEquals(result, hits);
+        verify(placeRepository, never()).findByNameOrAddressContainingIgnoreCaseAndIdLessThan(any(), any(), any());
+    }
+
+    @DisplayName("searchPlaces 메서드가 검색 인덱스가 준비되지 않았으면 DB에서 id 내림차순으로 조회하는지")
+    @Test
+    void searchPlaces_WhenIndexNotReady_ReturnsHitsFromRepository() {
+        String keyword = "keyword";
+        Place place = mock(Place.class);
+        when(place.getId()).thenReturn(7L);
+        when(placeRepository.findByNameOrAddressContainingIgnoreCaseAndIdLessThan(eq(keyword), eq(Long.MAX_VALUE),
+                any(Pageable.class))).thenReturn(List.of(place));
+
+        var result = placeReader.searchPlaces(keyword, null, 6);
+
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).getPlaceId(), 7L);
+        assertEquals(result.get(0).getScore(), 0);
+    }
+
+    @DisplayName("getPlaces 메서드가 요청한 id 순서대로 Place를 반환하는지")
+    @Test
+    void getPlaces_ReturnsPlacesInRequestedOrder() {
+        Place first = mock(Place.class);
+        Place second = mock(Place.class);
+        when(first.getId()).thenReturn(1L);
+        when(second.getId()).thenReturn(2L);
+        when(placeRepository.findAllById(List.of(2L, 3L, 1L))).thenReturn(List.of(first, second));
+
+        var result = placeReader.getPlaces(List.of(2L, 3L, 1L));
+
+        assertEquals(result, List.of(second, first));
+    }
 }
@@ -0,0 +1,161 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceCommand.SearchCursor;
+import kr.co.yigil.place.domain.PlaceInfo.SearchHit;
+import kr.co.yigil.place.domain.dto.PlaceSearchDocumentDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceSearchIndexImplTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @InjectMocks
+    private PlaceSearchIndexImpl placeSearchIndex;
+
+    @DisplayName("rebuild 전에는 isReady가 false를 반환하는지")
+    @Test
+    void isReady_BeforeRebuild_ReturnsFalse() {
+        assertFalse(placeSearchIndex.isReady());
+    }
+
+    @DisplayName("search 메서드가 이름 접두어, 이름 포함, 주소 포함 순으로 정렬해 반환하는지")
+    @Test
+    void search_ReturnsHitsOrderedByScoreThenIdDesc() {
+        givenDocuments(
+                document(1L, "서울숲", "서울 성동구"),
+                document(2L, "남산 서울타워", "서울 용산구"),
+                document(3L, "서울 식물원", "서울 강서구"),
+                document(4L, "해운대", "부산 해운대구")
+        );
+
+        List<SearchHit> result = placeSearchIndex.search("서울", null, 10);
+
+        assertTrue(placeSearchIndex.isReady());
+        assertEquals(result.stream().map(SearchHit::getPlaceId).toList(), List.of(3L, 1L, 2L));
+        assertEquals(result.stream().map(SearchHit::getScore).toList(), List.of(
+                PlaceSearchIndexImpl.NAME_PREFIX_SCORE, PlaceSearchIndexImpl.NAME_PREFIX_SCORE,
+                PlaceSearchIndexImpl.NAME_SCORE));
+    }
+
+    @DisplayName("search 메서드가 주소만 일치하는 장소도 낮은 점수로 반환하는지")
+    @Test
+    void search_WhenOnlyAddressMatches_ReturnsAddressScore() {
+        givenDocuments(document(1L, "해운대", "부산 해운대구"), document(2L, "광안리", "부산 수영구"));
+
+        List<SearchHit> result = placeSearchIndex.search("수영구", null, 10);
+
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).getPlaceId(), 2L);
+        assertEquals(result.get(0).getScore(), PlaceSearchIndexImpl.ADDRESS_SCORE);
+    }
+
+    @DisplayName("search 메서드가 공백과 대소문자를 무시하고 한 글자 검색어도 처리하는지")
+    @Test
+    void search_IgnoresWhitespaceAndCaseAndHandlesSingleCharacter() {
+        givenDocuments(document(1L, "Blue Bottle 성수", "서울 성동구"), document(2L, "숲속 카페", "경기 가평군"));
+
+        assertEquals(placeSearchIndex.search("bluebottle", null, 10).stream().map(SearchHit::getPlaceId).toList(),
+                List.of(1L));
+        assertEquals(placeSearchIndex.search("숲", null, 10).stream().map(SearchHit::getPlaceId).toList(),
+                List.of(2L));
+    }
+
+    @DisplayName("search 메서드가 커서 이후의 결과만 이어서 반환하는지")
+    @Test
+    void search_WithCursor_ReturnsNextPage() {
+        givenDocuments(
+                document(1L, "서울숲", "서울 성동구"),
+                document(2L, "남산 서울타워", "서울 용산구"),
+                document(3L, "서울 식물원", "서울 강서구"),
+                document(4L, "경복궁", "서울 종로구")
+        );
+
+        List<SearchHit> first = placeSearchIndex.search("서울", null, 2);
+        SearchHit last = first.get(first.size() - 1);
+        SearchCursor cursor = SearchCursor.builder().score(last.getScore()).placeId(last.getPlaceId()).build();
+        List<SearchHit> second = placeSearchIndex.search("서울", cursor, 2);
+
+        assertEquals(first.stream().map(SearchHit::getPlaceId).toList(), List.of(3L, 1L));
+        assertEquals(second.stream().map(SearchHit::getPlaceId).toList(), List.of(2L, 4L));
+    }
+
+    @DisplayName("add 메서드로 추가한 장소가 재빌드 전에도 검색되는지")
+    @Test
+    void add_ShouldBeSearchableBeforeRebuild() {
+        givenDocuments(document(1L, "서울숲", "서울 성동구"));
+
+        placeSearchIndex.add(new Place(2L, "서울대공원", "경기 과천시", null, null, null, null));
+        List<SearchHit> result = placeSearchIndex.search("서울", null, 10);
+
+        assertEquals(result.stream().map(SearchHit::getPlaceId).toList(), List.of(2L, 1L));
+    }
+
+    @DisplayName("searchIdsByName 메서드가 이름이 일치하는 장소 id만 반환하는지")
+    @Test
+    void searchIdsByName_ReturnsOnlyNameMatches() {
+        givenDocuments(
+                document(1L, "서울숲", "서울 성동구"),
+                document(2L, "경복궁", "서울 종로구"),
+                document(3L, "남산 서울타워", "서울 용산구")
+        );
+
+        List<Long> result = placeSearchIndex.searchIdsByName("서울", 10);
+
+        assertEquals(result, List.of(1L, 3L));
+    }
+
+    @DisplayName("searchIds 메서드가 이름이나 주소가 일치하는 장소 id를 관련도 순으로 반환하는지")
+    @Test
+    void searchIds_ReturnsNameAndAddressMatches() {
+        givenDocuments(
+                document(1L, "서울숲", "서울 성동구"),
+                document(2L, "경복궁", "서울 종로구"),
+                document(3L, "해운대", "부산 해운대구")
+        );
+
+        List<Long> result = placeSearchIndex.searchIds("서울", 10);
+
+        assertEquals(result, List.of(1L, 2L));
+    }
+
+    @DisplayName("한 글자 검색어가 그 글자를 가진 문서만 후보로 고르는지")
+    @Test
+    void searchIds_WithSingleCharacter_UsesUnigramPosting() {
+        givenDocuments(
+                document(1L, "숲속 카페", "경기 가평군"),
+                document(2L, "경복궁", "서울 종로구"),
+                document(3L, "서울숲", "서울 성동구")
+        );
+
+        assertEquals(placeSearchIndex.searchIds("숲", 10), List.of(1L, 3L));
+        assertEquals(placeSearchIndex.searchIds("종", 10), List.of(2L));
+        assertTrue(placeSearchIndex.searchIds("뷁", 10).isEmpty());
+    }
+
+    private void givenDocuments(PlaceSearchDocumentDto... documents) {
+        when(placeRepository.findPlaceSearchDocumentsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(documents));
+        placeSearchIndex.rebuild();
+    }
+
+    private PlaceSearchDocumentDto document(Long id, String name, String address) {
+        return new PlaceSearchDocumentDto(id, name, address);
+    }
+}
@@ -0,0 +1,192 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceCommand;
+import kr.co.yigil.place.domain.PlaceInfo.NearPlace;
+import kr.co.yigil.place.domain.dto.PlaceLocationDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceSpatialIndexImplTest {
+
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @InjectMocks
+    private PlaceSpatialIndexImpl placeSpatialIndex;
+
+    @DisplayName("load 전에는 isReady가 false를 반환하는지")
+    @Test
+    void isReady_BeforeLoad_ReturnsFalse() {
+        assertFalse(placeSpatialIndex.isReady());
+    }
+
+    @DisplayName("search 메서드가 영역 안의 장소만 id 내림차순으로 페이징해 반환하는지")
+    @Test
+    void search_ReturnsPlacesWithinEnvelopeOrderedByIdDesc() {
+        when(placeRepository.findPlaceLocationsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                location(1L, 127.1, 37.1),
+                location(2L, 127.2, 37.2),
+                location(3L, 127.3, 37.3),
+                location(4L, 129.0, 35.0),
+                location(5L, 127.0, 37.5)
+        ));
+        placeSpatialIndex.load();
+
+        Page<NearPlace> result = placeSpatialIndex.search(coordinate(127.0, 37.0), coordinate(128.0, 38.0),
+                PageRequest.of(0, 2));
+
+        assertTrue(placeSpatialIndex.isReady());
+        assertEquals(result.getTotalElements(), 3);
+        assertEquals(result.getTotalPages(), 2);
+        assertEquals(result.getContent().stream().map(NearPlace::getId).toList(), List.of(3L, 2L));
+    }
+
+    @DisplayName("search 메서드가 범위를 벗어난 페이지에 빈 결과를 반환하는지")
+    @Test
+    void search_WhenPageOutOfRange_ReturnsEmptyContent() {
+        when(placeRepository.findPlaceLocationsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(location(1L, 127.1, 37.1)));
+        placeSpatialIndex.load();
+
+        Page<NearPlace> result = placeSpatialIndex.search(coordinate(127.0, 37.0), coordinate(128.0, 38.0),
+                PageRequest.of(3, 5));
+
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(result.getTotalElements(), 1);
+    }
+
+    @DisplayName("findAllWithin 메서드가 경계 위의 장소를 포함해 모두 반환하는지")
+    @Test
+    void findAllWithin_IncludesPlacesOnBoundary() {
+        when(placeRepository.findPlaceLocationsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                location(1L, 127.0, 37.0),
+                location(2L, 127.5, 37.5),
+                location(3L, 129.0, 35.0)
+        ));
+        placeSpatialIndex.load();
+        placeSpatialIndex.add(place(4L, 128.0, 38.0));
+
+        List<NearPlace> result = placeSpatialIndex.findAllWithin(coordinate(127.0, 37.0), coordinate(128.0, 38.0));
+
+        assertEquals(result.stream().map(NearPlace::getId).sorted().toList(), List.of(1L, 2L, 4L));
+    }
+
+    @DisplayName("add 메서드로 추가한 장소가 트리를 다시 만들기 전에도 조회되는지")
+    @Test
+    void add_ShouldBeSearchableImmediately() {
+        when(placeRepository.findPlaceLocationsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(location(1L, 127.1, 37.1)));
+        placeSpatialIndex.load();
+
+        placeSpatialIndex.add(place(2L, 127.5, 37.5));
+        Page<NearPlace> result = placeSpatialIndex.search(coordinate(127.0, 37.0), coordinate(128.0, 38.0),
+                PageRequest.of(0, 5));
+
+        assertEquals(result.getContent().stream().map(NearPlace::getId).toList(), List.of(2L, 1L));
+    }
+
+    @DisplayName("add 메서드로 임계치 이상 추가되면 트리를 다시 만들어도 중복 없이 조회되는지")
+    @Test
+    void add_OverThreshold_RebuildsWithoutDuplicates() {
+        when(placeRepository.findPlaceLocationsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(location(1L, 127.1, 37.1)));
+        placeSpatialIndex.load();
+
+        IntStream.rangeClosed(1, PlaceSpatialIndexImpl.REBUILD_THRESHOLD)
+                .forEach(i -> placeSpatialIndex.add(place((long) i, 127.5, 37.5)));
+        Page<NearPlace> result = placeSpatialIndex.search(coordinate(127.0, 37.0), coordinate(128.0, 38.0),
+                PageRequest.of(0, 5));
+
+        assertEquals(result.getTotalElements(), PlaceSpatialIndexImpl.REBUILD_THRESHOLD);
+        assertEquals(result.getContent().get(0).getId(), (long) PlaceSpatialIndexImpl.REBUILD_THRESHOLD);
+    }
+
+    @DisplayName("refresh 메서드가 늦게 커밋된 낮은 id의 장소도 워터마크로 반영하는지")
+    @Test
+    void refresh_ShouldLoadLateCommittedPlacesByWatermark() {
+        when(placeRepository.findPlaceLocationsAfter(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(location(5L, 127.1, 37.1)));
+        when(placeRepository.findPlaceLocationsUploadedSince(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(location(2L, 127.2, 37.2), location(5L, 127.1, 37.1)));
+        placeSpatialIndex.load();
+
+        placeSpatialIndex.refresh();
+        Page<NearPlace> result = placeSpatialIndex.search(coordinate(127.0, 37.0), coordinate(128.0, 38.0),
+                PageRequest.of(0, 5));
+
+        assertEquals(result.getTotalElements(), 2);
+        assertEquals(result.getContent().stream().map(NearPlace::getId).toList(), List.of(5L, 2L));
+    }
+
+    @DisplayName("refresh 메서드가 옮겨진 장소를 새 위치로만 조회되게 하는지")
+    @Test
+    void refresh_WhenPlaceMoved_ReplacesOldLocation() {
+        when(placeRepository.findPlaceLocationsAfter(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(location(1L, 127.1, 37.1)));
+        when(placeRepository.findPlaceLocationsUploadedSince(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(location(1L, 129.0, 35.0)));
+        placeSpatialIndex.load();
+
+        placeSpatialIndex.refresh();
+
+        assertEquals(placeSpatialIndex.search(coordinate(127.0, 37.0), coordinate(128.0, 38.0),
+                PageRequest.of(0, 5)).getTotalElements(), 0);
+        assertEquals(placeSpatialIndex.findAllWithin(coordinate(128.0, 34.0), coordinate(130.0, 36.0)).size(), 1);
+    }
+
+    @DisplayName("search 메서드가 중간 페이지도 id 내림차순으로 잘라 반환하는지")
+    @Test
+    void search_WithOffset_ReturnsTopNPage() {
+        when(placeRepository.findPlaceLocationsAfter(eq(0L), any(Pageable.class))).thenReturn(
+                LongStream.rangeClosed(1, 10).mapToObj(id -> location(id, 127.0 + id * 0.01, 37.5)).toList());
+        placeSpatialIndex.load();
+
+        Page<NearPlace> result = placeSpatialIndex.search(coordinate(127.0, 37.0), coordinate(128.0, 38.0),
+                PageRequest.of(1, 3));
+
+        assertEquals(result.getTotalElements(), 10);
+        assertEquals(result.getContent().stream().map(NearPlace::getId).toList(), List.of(7L, 6L, 5L));
+    }
+
+    private PlaceLocationDto location(Long id, double x, double y) {
+        return new PlaceLocationDto(id, "장소" + id, point(x, y));
+    }
+
+    private Place place(Long id, double x, double y) {
+        return new Place(id, "장소" + id, "주소", point(x, y), null, null, null);
+    }
+
+    private Point point(double x, double y) {
+        return geometryFactory.createPoint(new Coordinate(x, y));
+    }
+
+    private PlaceCommand.Coordinate coordinate(double x, double y) {
+        return PlaceCommand.Coordinate.builder().x(x).y(y).build();
+    }
+}
@@ -0,0 +1,117 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import kr.co.yigil.place.domain.PlaceCacheStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceStatsStoreImplTest {
+
+    @Mock
+    private PlaceStatsRepository placeStatsRepository;
+
+    @Mock
+    private PlaceCacheStore placeCacheStore;
+
+    @InjectMocks
+    private PlaceStatsStoreImpl placeStatsStore;
+
+    @DisplayName("applySpotRegistered 메서드가 통계 테이블과 캐시에 같은 증가분을 반영하는지")
+    @Test
+    void applySpotRegistered_AppliesDeltaToTableAndCache() {
+        when(placeStatsRepository.applyDelta(eq(1L), eq(1), eq(4.0), any(LocalDateTime.class))).thenReturn(1);
+
+        placeStatsStore.applySpotRegistered(1L, 4.0);
+
+        verify(placeStatsRepository, never()).seed(anyLong());
+        verify(placeCacheStore).incrementSpotCountInPlace(1L);
+        verify(placeCacheStore).incrementSpotTotalRateInPlace(1L, 4.0);
+    }
+
+    @DisplayName("applySpotRegistered 메서드가 행이 없을 때만 스팟을 집계해 만드는지")
+    @Test
+    void applySpotRegistered_WhenRowMissing_Seeds() {
+        when(placeStatsRepository.applyDelta(eq(1L), eq(1), eq(4.0), any(LocalDateTime.class))).thenReturn(0);
+        when(placeStatsRepository.seed(1L)).thenReturn(1);
+
+        placeStatsStore.applySpotRegistered(1L, 4.0);
+
+        verify(placeStatsRepository, times(1)).applyDelta(eq(1L), eq(1), eq(4.0), any(LocalDateTime.class));
+        verify(placeStatsRepository).seed(1L);
+    }
+
+    @DisplayName("applySpotDeleted 메서드가 다른 트랜잭션이 먼저 행을 만들었으면 감소분을 다시 반영하는지")
+    @Test
+    void applySpotDeleted_WhenSeededConcurrently_AppliesDeltaAgain() {
+        when(placeStatsRepository.applyDelta(1L, -1, -4.0)).thenReturn(0, 1);
+        when(placeStatsRepository.seed(1L)).thenReturn(0);
+
+        placeStatsStore.applySpotDeleted(1L, 4.0);
+
+        verify(placeStatsRepository, times(2)).applyDelta(1L, -1, -4.0);
+    }
+
+    @DisplayName("applySpotsRegistered 메서드가 장소마다 한 번씩 증가분을 반영하는지")
+    @Test
+    void applySpotsRegistered_AppliesDeltaPerPlace() {
+        Map<Long, Integer> spotCounts = Map.of(1L, 2, 2L, 1);
+        Map<Long, Double> spotTotalRates = Map.of(1L, 7.0, 2L, 3.0);
+        when(placeStatsRepository.applyDelta(anyLong(), anyInt(), anyDouble(), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        placeStatsStore.applySpotsRegistered(spotCounts, spotTotalRates);
+
+        verify(placeStatsRepository).applyDelta(eq(1L), eq(2), eq(7.0), any(LocalDateTime.class));
+        verify(placeStatsRepository).applyDelta(eq(2L), eq(1), eq(3.0), any(LocalDateTime.class));
+        verify(placeCacheStore).incrementSpotCountInPlaces(spotCounts);
+        verify(placeCacheStore).incrementSpotTotalRateInPlaces(spotTotalRates);
+    }
+
+    @DisplayName("applySpotRateChanged 메서드가 업로드 시각을 건드리지 않고 평점 차이만 반영하는지")
+    @Test
+    void applySpotRateChanged_AppliesRateDifference() {
+        when(placeStatsRepository.applyDelta(1L, 0, 1.5)).thenReturn(1);
+
+        placeStatsStore.applySpotRateChanged(1L, 3.0, 4.5);
+
+        verify(placeStatsRepository, never()).applyDelta(anyLong(), anyInt(), anyDouble(), any());
+        verify(placeCacheStore).incrementSpotTotalRateInPlace(1L, 1.5);
+    }
+
+    @DisplayName("applySpotRateChanged 메서드가 평점이 같으면 아무것도 하지 않는지")
+    @Test
+    void applySpotRateChanged_WhenSameRate_DoesNothing() {
+        placeStatsStore.applySpotRateChanged(1L, 3.0, 3.0);
+
+        verifyNoInteractions(placeStatsRepository, placeCacheStore);
+    }
+
+    @DisplayName("applySpotDeleted 메서드가 통계 테이블과 캐시에 감소분을 반영하는지")
+    @Test
+    void applySpotDeleted_AppliesNegativeDelta() {
+        when(placeStatsRepository.applyDelta(1L, -1, -4.0)).thenReturn(1);
+
+        placeStatsStore.applySpotDeleted(1L, 4.0);
+
+        verify(placeStatsRepository, never()).seed(anyLong());
+        verify(placeCacheStore).decrementSpotCountInPlace(1L);
+        verify(placeCacheStore).decrementSpotTotalRateInPlace(1L, 4.0);
+    }
+}
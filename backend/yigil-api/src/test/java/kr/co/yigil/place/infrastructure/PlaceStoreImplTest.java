@@ -6,6 +6,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceClusterCacheStore;
+import kr.co.yigil.place.domain.PlaceKeywordIndex;
+import kr.co.yigil.place.domain.PlaceSearchIndex;
+import kr.co.yigil.place.domain.PlaceSpatialIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +23,18 @@ public class PlaceStoreImplTest {
     @Mock
     private PlaceRepository placeRepository;
 
+    @Mock
+    private PlaceSpatialIndex placeSpatialIndex;
+
+    @Mock
+    private PlaceClusterCacheStore placeClusterCacheStore;
+
+    @Mock
+    private PlaceKeywordIndex placeKeywordIndex;
+
+    @Mock
+    private PlaceSearchIndex placeSearchIndex;
+
     @InjectMocks
     private PlaceStoreImpl placeStore;
 
@@ -32,5 +48,9 @@ public class PlaceStoreImplTest {
 
         assertEquals(place, savedPlace);
         verify(placeRepository).save(place);
+        verify(placeSpatialIndex).add(place);
+        verify(placeClusterCacheStore).evictTiles(place);
+        verify(placeKeywordIndex).add(place);
+        verify(placeSearchIndex).add(place);
     }
 }
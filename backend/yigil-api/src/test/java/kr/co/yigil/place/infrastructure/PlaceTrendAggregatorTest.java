@@ -0,0 +1,71 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceTrendAggregatorTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private PlaceTrendAggregator placeTrendAggregator;
+
+    @DisplayName("aggregate 메서드가 현재 시간부터 윈도우 크기만큼의 버킷을 감쇠 가중치로 합치는지")
+    @Test
+    void aggregate_UnionsBucketsInWindowWithDecayWeights() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 13, 20);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.unionAndStore(anyString(), anyCollection(), anyString(), any(Aggregate.class),
+                any(Weights.class))).thenReturn(10L);
+
+        placeTrendAggregator.aggregate(now);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> otherKeys = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Weights> weights = ArgumentCaptor.forClass(Weights.class);
+        verify(zSetOperations).unionAndStore(eq("place:trend:2024050113"), otherKeys.capture(),
+                eq(PlaceTrendBuckets.TRENDING_KEY), eq(Aggregate.SUM), weights.capture());
+        assertEquals(otherKeys.getValue().size(), PlaceTrendBuckets.WINDOW_HOURS - 1);
+        assertEquals(weights.getValue().getWeight(0), 1.0);
+        assertEquals(weights.getValue().getWeight(24), 0.5, 1e-9);
+        verify(zSetOperations, never()).removeRange(anyString(), anyLong(), anyLong());
+    }
+
+    @DisplayName("aggregate 메서드가 상위 TRENDING_SIZE개만 남기는지")
+    @Test
+    void aggregate_TrimsToTrendingSize() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.unionAndStore(anyString(), anyCollection(), anyString(), any(Aggregate.class),
+                any(Weights.class))).thenReturn(1_500L);
+
+        placeTrendAggregator.aggregate(LocalDateTime.of(2024, 5, 1, 13, 20));
+
+        verify(zSetOperations).removeRange(PlaceTrendBuckets.TRENDING_KEY, 0, 499);
+    }
+}
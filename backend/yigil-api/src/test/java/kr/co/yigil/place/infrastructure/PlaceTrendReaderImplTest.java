@@ -0,0 +1,49 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceTrendReaderImplTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private PlaceTrendReaderImpl placeTrendReader;
+
+    @DisplayName("getTrendingPlaceIds 메서드가 점수 내림차순으로 상위 장소 id를 반환하는지")
+    @Test
+    void getTrendingPlaceIds_ReturnsTopPlaceIds() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange(PlaceTrendBuckets.TRENDING_KEY, 0, 2))
+                .thenReturn(new LinkedHashSet<>(List.of("7", "3", "9")));
+
+        List<Long> result = placeTrendReader.getTrendingPlaceIds(3);
+
+        assertEquals(result, List.of(7L, 3L, 9L));
+    }
+
+    @DisplayName("getTrendingPlaceIds 메서드가 집계가 없으면 빈 목록을 반환하는지")
+    @Test
+    void getTrendingPlaceIds_WhenAbsent_ReturnsEmpty() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange(PlaceTrendBuckets.TRENDING_KEY, 0, 4)).thenReturn(null);
+
+        assertEquals(placeTrendReader.getTrendingPlaceIds(5), List.of());
+    }
+}
@@ -0,0 +1,108 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.yigil.global.lock.RedisLock;
+import kr.co.yigil.travel.domain.dto.PlaceSpotTimeDto;
+import kr.co.yigil.travel.domain.spot.SpotReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceTrendReconcilerTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private SpotReader spotReader;
+
+    @Mock
+    private PlaceTrendAggregator placeTrendAggregator;
+
+    @Mock
+    private RedisLock redisLock;
+
+    @InjectMocks
+    private PlaceTrendReconciler placeTrendReconciler;
+
+    @DisplayName("reconcile 메서드가 현재 시간 이전의 버킷만 DB로 다시 채우고 합치는지")
+    @Test
+    void reconcile_RebuildsPastBucketsAndAggregates() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 13, 20);
+        LocalDateTime currentHour = LocalDateTime.of(2024, 5, 1, 13, 0);
+        LocalDateTime since = currentHour.minusHours(PlaceTrendBuckets.WINDOW_HOURS - 1);
+        when(spotReader.getPlaceSpotTimes(since, currentHour)).thenReturn(List.of(
+                new PlaceSpotTimeDto(1L, currentHour.minusMinutes(10)),
+                new PlaceSpotTimeDto(1L, currentHour.minusMinutes(30))));
+        givenLockAcquired();
+
+        placeTrendReconciler.reconcile(now);
+
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(stringRedisTemplate).executePipelined(callback.capture());
+        verify(placeTrendAggregator).aggregate(now);
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        RedisZSetCommands zSetCommands = mock(RedisZSetCommands.class);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(connection.zSetCommands()).thenReturn(zSetCommands);
+        callback.getValue().doInRedis(connection);
+
+        String bucketKey = PlaceTrendBuckets.key(currentHour.minusHours(1));
+        byte[] rebuildKey = PlaceTrendBuckets.bytes(bucketKey + ":rebuild");
+        verify(zSetCommands).zIncrBy(rebuildKey, 2, PlaceTrendBuckets.bytes("1"));
+        verify(keyCommands).rename(rebuildKey, PlaceTrendBuckets.bytes(bucketKey));
+        verify(keyCommands).del(PlaceTrendBuckets.bytes(PlaceTrendBuckets.key(since)));
+    }
+
+    @DisplayName("reconcile 메서드가 다른 인스턴스가 락을 잡고 있으면 다시 채우지 않는지")
+    @Test
+    void reconcile_WhenLockHeld_DoesNothing() {
+        when(redisLock.runExclusively(eq(PlaceTrendReconciler.LOCK_KEY), any(Duration.class), any(Runnable.class)))
+                .thenReturn(false);
+
+        placeTrendReconciler.reconcile(LocalDateTime.of(2024, 5, 1, 13, 20));
+
+        verifyNoInteractions(spotReader, placeTrendAggregator);
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @DisplayName("reconcileIfAbsent 메서드가 집계가 이미 있으면 아무것도 하지 않는지")
+    @Test
+    void reconcileIfAbsent_WhenTrendingExists_DoesNothing() {
+        when(stringRedisTemplate.hasKey(PlaceTrendBuckets.TRENDING_KEY)).thenReturn(true);
+
+        placeTrendReconciler.reconcileIfAbsent();
+
+        verifyNoInteractions(spotReader, placeTrendAggregator);
+    }
+
+    private void givenLockAcquired() {
+        when(redisLock.runExclusively(eq(PlaceTrendReconciler.LOCK_KEY), any(Duration.class), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(2).run();
+                    return true;
+                });
+    }
+}
@@ -0,0 +1,59 @@
+package kr.co.yigil.place.infrastructure;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceTrendStoreImplTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @InjectMocks
+    private PlaceTrendStoreImpl placeTrendStore;
+
+    @DisplayName("record 메서드가 트랜잭션 밖에서는 바로 반영되는지")
+    @Test
+    void record_WithoutTransaction_ExecutesImmediately() {
+        placeTrendStore.record(1L);
+
+        verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @DisplayName("recordAll 메서드가 트랜잭션 안에서는 커밋 이후에 반영되는지")
+    @Test
+    void recordAll_WithinTransaction_ExecutesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            placeTrendStore.recordAll(Map.of(1L, 2, 2L, 1));
+            verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("recordAll 메서드가 빈 목록이면 Redis를 호출하지 않는지")
+    @Test
+    void recordAll_WhenEmpty_DoesNothing() {
+        placeTrendStore.recordAll(Map.of());
+
+        verifyNoInteractions(stringRedisTemplate);
+    }
+}
@@ -49,4 +49,11 @@ public class PopularPlaceReaderImplTest {
         assertEquals(result, List.of(place));
     }
 
+    @DisplayName("getVersion 메서드가 popular_place의 최대 id를 반환하는지")
+    @Test
+    void getVersion_ReturnsMaxId() {
+        when(popularPlaceRepository.findMaxId()).thenReturn(42L);
+
+        assertEquals(popularPlaceReader.getVersion(), 42L);
+    }
 }
@@ -0,0 +1,153 @@
+package kr.co.yigil.place.interfaces.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Set;
+import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.place.application.PlaceFacade;
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.interfaces.dto.PlaceInfoDto;
+import kr.co.yigil.place.interfaces.dto.response.PopularPlaceResponse;
+import kr.co.yigil.region.domain.Region;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceListResponseCacheTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private PlaceFacade placeFacade;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private PlaceListResponseCache placeListResponseCache;
+
+    @DisplayName("캐시에 없으면 비회원 목록을 읽어 직렬화한 뒤 캐시에 저장하는지")
+    @Test
+    void getPopularPlace_WhenMiss_LoadsAndPutsPayload() throws Exception {
+        List<PlaceInfoDto> places = List.of(place(1L, false));
+        when(cacheManager.getCache(PlaceListResponseCache.CACHE_NAME)).thenReturn(cache);
+
+        byte[] result = placeListResponseCache.getPopularPlace(false, Accessor.guest(), () -> places);
+
+        assertArrayEquals(result, objectMapper.writeValueAsBytes(new PopularPlaceResponse(places)));
+        verify(cache).put(eq("popular:0"), any(PlaceListPayload.class));
+    }
+
+    @DisplayName("캐시에 있으면 목록을 다시 읽지 않고 저장된 본문을 그대로 반환하는지")
+    @Test
+    void getPopularPlace_WhenHit_ReturnsCachedBody() {
+        PlaceListPayload payload = new PlaceListPayload(List.of(place(1L, false)), new byte[]{1, 2, 3});
+        when(cacheManager.getCache(PlaceListResponseCache.CACHE_NAME)).thenReturn(cache);
+        when(cache.get("popular-more:0", PlaceListPayload.class)).thenReturn(payload);
+
+        byte[] result = placeListResponseCache.getPopularPlace(true, Accessor.guest(), () -> fail("loader"));
+
+        assertSame(result, payload.getBody());
+    }
+
+    @DisplayName("빈 목록은 캐시에 저장하지 않는지")
+    @Test
+    void getRegionPlace_WhenEmpty_DoesNotPut() {
+        when(cacheManager.getCache(PlaceListResponseCache.CACHE_NAME)).thenReturn(cache);
+
+        placeListResponseCache.getRegionPlace(1L, false, Accessor.guest(), List::of);
+
+        verify(cache, never()).put(any(), any());
+    }
+
+    @DisplayName("회원이 목록의 장소를 북마크하지 않았으면 비회원 본문을 그대로 반환하는지")
+    @Test
+    void getRegionPlace_WhenMemberHasNoBookmark_ReturnsCachedBody() {
+        PlaceListPayload payload = new PlaceListPayload(List.of(place(1L, false)), new byte[]{1, 2, 3});
+        when(cacheManager.getCache(PlaceListResponseCache.CACHE_NAME)).thenReturn(cache);
+        when(cache.get("region:3", PlaceListPayload.class)).thenReturn(payload);
+        when(placeFacade.getBookmarkedPlaceIds(7L, List.of(1L))).thenReturn(Set.of());
+
+        byte[] result = placeListResponseCache.getRegionPlace(3L, false, Accessor.member(7L), () -> fail("loader"));
+
+        assertSame(result, payload.getBody());
+    }
+
+    @DisplayName("회원이 북마크한 장소만 북마크 여부를 덮어써 반환하는지")
+    @Test
+    void getPopularPlace_WhenMemberHasBookmark_OverlaysBookmarkFlags() throws Exception {
+        PlaceListPayload payload = new PlaceListPayload(List.of(place(1L, false), place(2L, false)), new byte[0]);
+        when(cacheManager.getCache(PlaceListResponseCache.CACHE_NAME)).thenReturn(cache);
+        when(cache.get("popular:0", PlaceListPayload.class)).thenReturn(payload);
+        when(placeFacade.getBookmarkedPlaceIds(7L, List.of(1L, 2L))).thenReturn(Set.of(2L));
+
+        byte[] result = placeListResponseCache.getPopularPlace(false, Accessor.member(7L), () -> fail("loader"));
+
+        JsonNode places = objectMapper.readTree(result).get("places");
+        assertFalse(places.get(0).get("bookmarked").asBoolean());
+        assertTrue(places.get(1).get("bookmarked").asBoolean());
+        assertFalse(payload.getPlaces().get(1).isBookmarked());
+    }
+
+    @DisplayName("popularPlaceJob이 다시 실행되면 새 버전의 키를 사용하는지")
+    @Test
+    void refreshPopularVersion_ChangesPopularKey() {
+        when(placeFacade.getPopularPlaceVersion()).thenReturn(9L);
+        when(cacheManager.getCache(PlaceListResponseCache.CACHE_NAME)).thenReturn(cache);
+
+        placeListResponseCache.refreshPopularVersion();
+        placeListResponseCache.getPopularPlace(false, Accessor.guest(), () -> List.of(place(1L, false)));
+
+        verify(cache).put(eq("popular:9"), any(PlaceListPayload.class));
+    }
+
+    @DisplayName("evict 메서드가 지역 목록과 해당 장소가 들어있는 인기 장소 목록만 지우는지")
+    @Test
+    void evict_RemovesRegionListsAndPopularListsContainingPlace() {
+        Place place = mock(Place.class);
+        Region region = mock(Region.class);
+        when(place.getId()).thenReturn(1L);
+        when(place.getRegion()).thenReturn(region);
+        when(region.getId()).thenReturn(3L);
+        when(cacheManager.getCache(PlaceListResponseCache.CACHE_NAME)).thenReturn(cache);
+        when(cache.get("popular:0", PlaceListPayload.class))
+                .thenReturn(new PlaceListPayload(List.of(place(1L, false)), new byte[0]));
+        when(cache.get("popular-more:0", PlaceListPayload.class))
+                .thenReturn(new PlaceListPayload(List.of(place(2L, false)), new byte[0]));
+
+        placeListResponseCache.evict(place);
+
+        verify(cache).evict("region:3");
+        verify(cache).evict("region-more:3");
+        verify(cache).evict("popular:0");
+        verify(cache, never()).evict("popular-more:0");
+    }
+
+    private PlaceInfoDto place(Long id, boolean bookmarked) {
+        return new PlaceInfoDto(id, "장소" + id, "1", "http://image.com", "4.0", bookmarked);
+    }
+}
@@ -1,8 +1,8 @@
 package kr.co.yigil.place.interfaces.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.co.yigil.auth.domain.Accessor;
 import kr.co.yigil.place.application.PlaceFacade;
-import kr.co.yigil.place.domain.Place;
 import kr.co.yigil.place.domain.PlaceCommand;
 import kr.co.yigil.place.domain.PlaceCommand.NearPlaceRequest;
 import kr.co.yigil.place.domain.PlaceInfo;
@@ -10,16 +10,20 @@ import kr.co.yigil.place.domain.PlaceInfo.Detail;
 import kr.co.yigil.place.domain.PlaceInfo.Keyword;
 import kr.co.yigil.place.domain.PlaceInfo.Main;
 import kr.co.yigil.place.domain.PlaceInfo.MapStaticImageInfo;
+import kr.co.yigil.place.interfaces.cache.PlaceListResponseCache;
+import kr.co.yigil.place.interfaces.dto.PlaceClusterDto;
 import kr.co.yigil.place.interfaces.dto.PlaceCoordinateDto;
 import kr.co.yigil.place.interfaces.dto.PlaceDetailInfoDto;
 import kr.co.yigil.place.interfaces.dto.PlaceInfoDto;
 import kr.co.yigil.place.interfaces.dto.mapper.PlaceMapper;
+import kr.co.yigil.place.interfaces.dto.request.PlaceClusterRequest;
 import kr.co.yigil.place.interfaces.dto.request.PlaceImageRequest;
 import kr.co.yigil.place.interfaces.dto.response.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -36,6 +40,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import static kr.co.yigil.RestDocumentUtils.getDocumentRequest;
 import static kr.co.yigil.RestDocumentUtils.getDocumentResponse;
@@ -62,6 +67,12 @@ class PlaceApiControllerTest {
 	@MockBean
 	private PlaceMapper placeMapper;
 
+	@MockBean
+	private PlaceListResponseCache placeListResponseCache;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
 	@BeforeEach
 	void setUp(WebApplicationContext webApplicationContext,
 		RestDocumentationContextProvider restDocumentationContextProvider) {
@@ -119,6 +130,7 @@ class PlaceApiControllerTest {
 
 		when(placeFacade.getPopularPlace(any(Accessor.class))).thenReturn(mockInfo);
 		when(placeMapper.toPopularPlaceResponse(mockInfo)).thenReturn(mockResponse);
+		givenPopularPlaceCache(false);
 
 		mockMvc.perform(get("/api/v1/places/popular"))
 			.andExpect(status().isOk())
@@ -149,6 +161,7 @@ class PlaceApiControllerTest {
 
 		when(placeFacade.getPopularPlaceMore(any(Accessor.class))).thenReturn(mockInfo);
 		when(placeMapper.toPopularPlaceResponse(mockInfo)).thenReturn(mockResponse);
+		givenPopularPlaceCache(true);
 
 		mockMvc.perform(get("/api/v1/places/popular/more"))
 			.andExpect(status().isOk())
@@ -170,6 +183,39 @@ class PlaceApiControllerTest {
 
 	}
 
+	@DisplayName("getTrendingPlace가 잘 동작하는지")
+	@Test
+	void getTrendingPlace_ShouldReturnOk() throws Exception {
+		Main placeInfo = mock(Main.class);
+		List<Main> mockInfo = List.of(placeInfo);
+		PlaceInfoDto mockDto = new PlaceInfoDto(1L, "장소명", "10", "http://image.com", "3.5", true);
+		PopularPlaceResponse mockResponse = new PopularPlaceResponse(List.of(mockDto));
+
+		when(placeFacade.getTrendingPlace(eq(5), any(Accessor.class))).thenReturn(mockInfo);
+		when(placeMapper.toPopularPlaceResponse(mockInfo)).thenReturn(mockResponse);
+
+		mockMvc.perform(get("/api/v1/places/trending").param("size", "5"))
+			.andExpect(status().isOk())
+			.andDo(document(
+				"places/get-trending-place",
+				getDocumentRequest(),
+				getDocumentResponse(),
+				queryParameters(
+					parameterWithName("size").description("조회할 장소 개수 - default:5, 최대 20").optional()
+				),
+				responseFields(
+					subsectionWithPath("places").description("최근 스팟 등록이 많은 순으로 정렬된 place의 정보"),
+					fieldWithPath("places[].id").type(JsonFieldType.NUMBER).description("place의 고유 Id"),
+					fieldWithPath("places[].place_name").type(JsonFieldType.STRING).description("장소의 장소명"),
+					fieldWithPath("places[].review_count").type(JsonFieldType.STRING).description("리뷰의 개수"),
+					fieldWithPath("places[].thumbnail_image_url").type(JsonFieldType.STRING)
+						.description("장소의 대표 이미지의 Url"),
+					fieldWithPath("places[].rate").type(JsonFieldType.STRING).description("장소의 평점 정보"),
+					fieldWithPath("places[].bookmarked").type(JsonFieldType.BOOLEAN).description("해당 장소의 북마크 여부")
+				)
+			));
+	}
+
 	@DisplayName("getPopularPlaceByDemographics가 잘 동작하는지")
 	@Test
 	void getPopularPlaceByDemographics_ShouldReturnOk() throws Exception {
@@ -178,7 +224,7 @@ class PlaceApiControllerTest {
 		PlaceInfoDto mockDto = new PlaceInfoDto(1L, "장소명", "10", "http://image.com", "3.5", true);
 		PopularPlaceResponse mockResponse = new PopularPlaceResponse(List.of(mockDto));
 
-		when(placeFacade.getPopularPlaceByDemographics(anyLong())).thenReturn(mockInfo);
+		when(placeFacade.getPopularPlaceByDemographics(any(Accessor.class))).thenReturn(mockInfo);
 		when(placeMapper.toPopularPlaceResponse(mockInfo)).thenReturn(mockResponse);
 
 		mockMvc.perform(get("/api/v1/places/popular-demographics"))
@@ -208,7 +254,7 @@ class PlaceApiControllerTest {
 		PlaceInfoDto mockDto = new PlaceInfoDto(1L, "장소명", "10", "http://image.com", "3.5", true);
 		PopularPlaceResponse mockResponse = new PopularPlaceResponse(List.of(mockDto));
 
-		when(placeFacade.getPopularPlaceByDemographicsMore(anyLong())).thenReturn(mockInfo);
+		when(placeFacade.getPopularPlaceByDemographicsMore(any(Accessor.class))).thenReturn(mockInfo);
 		when(placeMapper.toPopularPlaceResponse(mockInfo)).thenReturn(mockResponse);
 
 		mockMvc.perform(get("/api/v1/places/popular-demographics-more"))
@@ -268,6 +314,39 @@ class PlaceApiControllerTest {
 			));
 	}
 
+	@DisplayName("getRelatedPlaces 메서드가 잘 동작하는지")
+	@Test
+	void getRelatedPlaces_ShouldReturnOk() throws Exception {
+		Main placeInfo = mock(Main.class);
+		List<Main> mockInfo = List.of(placeInfo);
+		PlaceInfoDto mockDto = new PlaceInfoDto(2L, "장소명", "10", "http://image.com", "3.5", false);
+		PopularPlaceResponse mockResponse = new PopularPlaceResponse(List.of(mockDto));
+
+		when(placeFacade.getRelatedPlaces(anyLong(), any(Accessor.class))).thenReturn(mockInfo);
+		when(placeMapper.toPopularPlaceResponse(mockInfo)).thenReturn(mockResponse);
+
+		mockMvc.perform(get("/api/v1/places/{placeId}/related", 1L))
+			.andExpect(status().isOk())
+			.andDo(document(
+				"places/get-related-places",
+				getDocumentRequest(),
+				getDocumentResponse(),
+				pathParameters(
+					parameterWithName("placeId").description("장소의 고유 아이디")
+				),
+				responseFields(
+					subsectionWithPath("places").description("같은 코스에 함께 담긴 횟수가 많은 순으로 정렬된 place의 정보"),
+					fieldWithPath("places[].id").type(JsonFieldType.NUMBER).description("place의 고유 Id"),
+					fieldWithPath("places[].place_name").type(JsonFieldType.STRING).description("장소의 장소명"),
+					fieldWithPath("places[].review_count").type(JsonFieldType.STRING).description("리뷰의 개수"),
+					fieldWithPath("places[].thumbnail_image_url").type(JsonFieldType.STRING)
+						.description("장소의 대표 이미지의 Url"),
+					fieldWithPath("places[].rate").type(JsonFieldType.STRING).description("장소의 평점 정보"),
+					fieldWithPath("places[].bookmarked").type(JsonFieldType.BOOLEAN).description("해당 장소의 북마크 여부")
+				)
+			));
+	}
+
 	@DisplayName("getRegionPlaceMore 메서드가 잘 동작하는지")
 	@Test
 	void getRegionPlaceMore_ShouldReturnOk() throws Exception {
@@ -278,6 +357,7 @@ class PlaceApiControllerTest {
 
 		when(placeFacade.getPlaceInRegionMore(anyLong(), any(Accessor.class))).thenReturn(mockInfo);
 		when(placeMapper.toRegionPlaceResponse(mockInfo)).thenReturn(mockResponse);
+		givenRegionPlaceCache(true);
 
 		mockMvc.perform(get("/api/v1/places/region/{regionId}/more", 1L))
 			.andExpect(status().isOk())
@@ -311,6 +391,7 @@ class PlaceApiControllerTest {
 
 		when(placeFacade.getPlaceInRegion(anyLong(), any(Accessor.class))).thenReturn(mockInfo);
 		when(placeMapper.toRegionPlaceResponse(mockInfo)).thenReturn(mockResponse);
+		givenRegionPlaceCache(false);
 
 		mockMvc.perform(get("/api/v1/places/region/{regionId}", 1L))
 			.andExpect(status().isOk())
@@ -341,7 +422,7 @@ class PlaceApiControllerTest {
 		when(placeMapper.toNearPlaceCommand(any(
 			kr.co.yigil.place.interfaces.dto.request.NearPlaceRequest.class))).thenReturn(mockRequest);
 
-		Page<Place> mockSlice = mock(Page.class);
+		Page<PlaceInfo.NearPlace> mockSlice = mock(Page.class);
 		when(placeFacade.getNearPlace(mockRequest)).thenReturn(mockSlice);
 
 		PlaceCoordinateDto mockDto = new PlaceCoordinateDto(1L, 127.0, 38.0, "장소명");
@@ -379,6 +460,48 @@ class PlaceApiControllerTest {
 			));
 	}
 
+	@DisplayName("getPlaceClusters 메서드가 잘 동작하는지")
+	@Test
+	void getPlaceClusters_ShouldReturnOk() throws Exception {
+		PlaceCommand.ClusterRequest mockRequest = mock(PlaceCommand.ClusterRequest.class);
+		when(placeMapper.toClusterCommand(any(PlaceClusterRequest.class))).thenReturn(mockRequest);
+
+		List<PlaceInfo.Cluster> mockClusters = List.of(mock(PlaceInfo.Cluster.class));
+		when(placeFacade.getPlaceClusters(mockRequest)).thenReturn(mockClusters);
+
+		PlaceClusterDto mockDto = new PlaceClusterDto(127.0, 37.5, 12, 1L);
+		PlaceClusterResponse mockResponse = new PlaceClusterResponse(List.of(mockDto));
+		when(placeMapper.toPlaceClusterResponse(mockClusters)).thenReturn(mockResponse);
+
+		mockMvc.perform(get("/api/v1/places/clusters")
+				.param("minX", "126")
+				.param("minY", "37")
+				.param("maxX", "128")
+				.param("maxY", "38")
+				.param("zoom", "8"))
+			.andExpect(status().isOk())
+			.andDo(document(
+				"places/get-place-clusters",
+				getDocumentRequest(),
+				getDocumentResponse(),
+				queryParameters(
+					parameterWithName("minX").description("최소 x 좌표"),
+					parameterWithName("minY").description("최소 y 좌표"),
+					parameterWithName("maxX").description("최대 x 좌표"),
+					parameterWithName("maxY").description("최대 y 좌표"),
+					parameterWithName("zoom").description("지도의 줌 레벨(웹 메르카토르 기준 0~18)")
+				),
+				responseFields(
+					subsectionWithPath("clusters").description("장소 클러스터의 정보"),
+					fieldWithPath("clusters[].x").type(JsonFieldType.NUMBER).description("클러스터 중심의 x 좌표"),
+					fieldWithPath("clusters[].y").type(JsonFieldType.NUMBER).description("클러스터 중심의 y 좌표"),
+					fieldWithPath("clusters[].count").type(JsonFieldType.NUMBER).description("클러스터에 속한 장소의 개수"),
+					fieldWithPath("clusters[].representative_place_id").type(JsonFieldType.NUMBER)
+						.description("클러스터의 대표 장소 아이디")
+				)
+			));
+	}
+
 	@DisplayName("getPlaceKeyword 메서드가 잘 동작하는지")
 	@Test
 	void getPlaceKeyword_ShouldReturnOk() throws Exception {
@@ -453,6 +576,47 @@ class PlaceApiControllerTest {
 			));
 	}
 
+	@DisplayName("searchPlaceRanked 메서드가 잘 동작하는지")
+	@Test
+	void searchPlaceRanked_ShouldReturnOk() throws Exception {
+		PlaceCommand.RankedSearchRequest command = mock(PlaceCommand.RankedSearchRequest.class);
+		PlaceInfo.RankedSearch mockInfo = mock(PlaceInfo.RankedSearch.class);
+		PlaceInfoDto mockDto = new PlaceInfoDto(1L, "장소명", "10", "http://image.com", "3.5", true);
+		PlaceRankedSearchResponse mockResponse = new PlaceRankedSearchResponse(List.of(mockDto), true, "3:1");
+
+		when(placeMapper.toRankedSearchCommand("서울", "3:5", 5)).thenReturn(command);
+		when(placeFacade.searchPlaceRanked(eq(command), any(Accessor.class))).thenReturn(mockInfo);
+		when(placeMapper.toPlaceRankedSearchResponse(mockInfo)).thenReturn(mockResponse);
+
+		mockMvc.perform(get("/api/v1/places/search/ranked")
+				.param("keyword", "서울")
+				.param("cursor", "3:5")
+				.param("size", "5"))
+			.andExpect(status().isOk())
+			.andDo(document(
+				"places/search-place-ranked",
+				getDocumentRequest(),
+				getDocumentResponse(),
+				queryParameters(
+					parameterWithName("keyword").description("검색하고자 하는 키워드"),
+					parameterWithName("cursor").description("이전 응답의 next_cursor - 첫 페이지는 생략").optional(),
+					parameterWithName("size").description("페이지 크기 - default:5, 최대 50").optional()
+				),
+				responseFields(
+					fieldWithPath("has_next").type(JsonFieldType.BOOLEAN).description("다음 페이지가 있는지 여부"),
+					fieldWithPath("next_cursor").type(JsonFieldType.STRING).description("다음 페이지 커서").optional(),
+					subsectionWithPath("places").description("관련도 순으로 정렬된 place의 정보"),
+					fieldWithPath("places[].id").type(JsonFieldType.NUMBER).description("place의 고유 Id"),
+					fieldWithPath("places[].place_name").type(JsonFieldType.STRING).description("장소의 장소명"),
+					fieldWithPath("places[].review_count").type(JsonFieldType.STRING).description("리뷰의 개수"),
+					fieldWithPath("places[].thumbnail_image_url").type(JsonFieldType.STRING)
+						.description("장소의 대표 이미지의 Url"),
+					fieldWithPath("places[].rate").type(JsonFieldType.STRING).description("장소의 평점 정보"),
+					fieldWithPath("places[].bookmarked").type(JsonFieldType.BOOLEAN).description("해당 장소의 북마크 여부")
+				)
+			));
+	}
+
 	@DisplayName("getMyPlaceId 메서드가 잘 동작하는지")
 	@Test
 	void getMyPlaceId_ShouldReturnOk() throws Exception {
@@ -470,4 +634,19 @@ class PlaceApiControllerTest {
 				)
 			));
 	}
+
+	private void givenPopularPlaceCache(boolean more) {
+		when(placeListResponseCache.getPopularPlace(eq(more), any(Accessor.class), any())).thenAnswer(invocation -> {
+			Supplier<List<PlaceInfoDto>> loader = invocation.getArgument(2);
+			return objectMapper.writeValueAsBytes(new PopularPlaceResponse(loader.get()));
+		});
+	}
+
+	private void givenRegionPlaceCache(boolean more) {
+		when(placeListResponseCache.getRegionPlace(anyLong(), eq(more), any(Accessor.class), any())).thenAnswer(
+			invocation -> {
+				Supplier<List<PlaceInfoDto>> loader = invocation.getArgument(3);
+				return objectMapper.writeValueAsBytes(new RegionPlaceResponse(loader.get()));
+			});
+	}
 }
@@ -0,0 +1,83 @@
+package kr.co.yigil.relation.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import kr.co.yigil.favor.domain.FavorReader;
+import kr.co.yigil.follow.domain.FollowReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class RelationLoaderImplTest {
+
+    @Mock
+    private FavorReader favorReader;
+
+    @Mock
+    private FollowReader followReader;
+
+    private RelationLoaderImpl relationLoader;
+
+    @BeforeEach
+    void setUp() {
+        relationLoader = new RelationLoaderImpl(favorReader, followReader);
+    }
+
+    @DisplayName("getLikedTravelIds 메서드가 한 번의 조회로 좋아요한 id를 모아 반환하는지")
+    @Test
+    void getLikedTravelIds_ShouldLoadInOneQuery() {
+        when(favorReader.getFavoredTravelIds(1L, List.of(10L, 11L, 12L))).thenReturn(Set.of(11L));
+
+        Set<Long> result = relationLoader.getLikedTravelIds(1L, List.of(10L, 11L, 12L, 11L));
+
+        assertEquals(result, Set.of(11L));
+        verify(favorReader).getFavoredTravelIds(1L, List.of(10L, 11L, 12L));
+    }
+
+    @DisplayName("getLikedTravelIds 메서드가 같은 요청에서 이미 확인한 id는 다시 조회하지 않는지")
+    @Test
+    void getLikedTravelIds_ShouldOnlyLoadUnknownIds() {
+        when(favorReader.getFavoredTravelIds(1L, List.of(10L, 11L))).thenReturn(Set.of(11L));
+        when(favorReader.getFavoredTravelIds(1L, List.of(12L))).thenReturn(Set.of(12L));
+        relationLoader.getLikedTravelIds(1L, List.of(10L, 11L));
+
+        Set<Long> result = relationLoader.getLikedTravelIds(1L, List.of(10L, 11L, 12L));
+        Set<Long> cached = relationLoader.getLikedTravelIds(1L, List.of(11L, 12L));
+
+        assertEquals(result, Set.of(11L, 12L));
+        assertEquals(cached, Set.of(11L, 12L));
+        verify(favorReader).getFavoredTravelIds(1L, List.of(10L, 11L));
+        verify(favorReader).getFavoredTravelIds(1L, List.of(12L));
+        verifyNoMoreInteractions(favorReader);
+    }
+
+    @DisplayName("getFollowingMemberIds 메서드가 회원별로 따로 기억하는지")
+    @Test
+    void getFollowingMemberIds_ShouldMemoizePerMember() {
+        when(followReader.getFollowingIds(1L, List.of(5L))).thenReturn(Set.of(5L));
+        when(followReader.getFollowingIds(2L, List.of(5L))).thenReturn(Set.of());
+
+        assertEquals(relationLoader.getFollowingMemberIds(1L, List.of(5L)), Set.of(5L));
+        assertEquals(relationLoader.getFollowingMemberIds(2L, List.of(5L)), Set.of());
+        assertEquals(relationLoader.getFollowingMemberIds(1L, List.of(5L)), Set.of(5L));
+    }
+
+    @DisplayName("비회원이거나 대상이 없으면 조회하지 않고 빈 집합을 반환하는지")
+    @Test
+    void load_WithGuestOrEmptyIds_ShouldNotQuery() {
+        assertEquals(relationLoader.getLikedTravelIds(null, List.of(10L)), Set.of());
+        assertEquals(relationLoader.getFollowingMemberIds(1L, List.of()), Set.of());
+
+        verifyNoInteractions(favorReader, followReader);
+    }
+}
@@ -2,9 +2,14 @@ package kr.co.yigil.travel.application;
 
 import kr.co.yigil.auth.domain.Accessor;
 import kr.co.yigil.file.FileUploader;
+import kr.co.yigil.file.ImageVariantGenerator;
+import kr.co.yigil.file.UploadSessionManager;
+import kr.co.yigil.file.UploadedFiles;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.member.*;
 import kr.co.yigil.travel.domain.Course;
+import kr.co.yigil.travel.domain.PathFormat;
+import kr.co.yigil.travel.domain.PathLevel;
 import kr.co.yigil.travel.domain.course.CourseCommand.ModifyCourseRequest;
 import kr.co.yigil.travel.domain.course.CourseCommand.RegisterCourseRequest;
 import kr.co.yigil.travel.domain.course.CourseCommand.RegisterCourseRequestWithSpotInfo;
@@ -27,6 +32,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -45,13 +51,19 @@ public class CourseFacadeTest {
     @Mock
     private FileUploader fileUploader;
 
+    @Mock
+    private UploadSessionManager uploadSessionManager;
+
+    @Mock
+    private ImageVariantGenerator imageVariantGenerator;
+
 
     //todo: CourseFacadeTest 작성하기
 
     @DisplayName("getCourseSliceInPlace 메서드가 유효한 요청이 들어왔을 때 Course의 Slice객체를 잘 반환하는지")
     @Test
     void whenGetCoursesSliceInPlace_WithValidRequest() {
-        Long memberId = 1L;
+        Accessor accessor = Accessor.member(1L);
 //        String email = "test@test.com";
 //        String socialLoginId = "12345";
 //        String nickname = "tester";
@@ -75,36 +87,68 @@ public class CourseFacadeTest {
         Pageable pageable = PageRequest.of(0, 10);
         CourseInfo.CoursesInPlaceResponseInfo mockResponse = mock(CourseInfo.CoursesInPlaceResponseInfo.class);
 
-        when(courseService.getCoursesSliceInPlace(eq(placeId), anyLong(),any(Pageable.class))).thenReturn(
+        when(courseService.getCoursesSliceInPlace(eq(placeId), any(Accessor.class),any(Pageable.class))).thenReturn(
                 mockResponse);
 
-        var result = courseFacade.getCourseSliceInPlace(placeId, memberId,  pageable);
+        var result = courseFacade.getCourseSliceInPlace(placeId, accessor,  pageable);
 
         assertNotNull(result);
         assertEquals(mockResponse, result);
-        verify(courseService, times(1)).getCoursesSliceInPlace(eq(placeId), eq(memberId), any(Pageable.class));
+        verify(courseService, times(1)).getCoursesSliceInPlace(eq(placeId), eq(accessor), any(Pageable.class));
     }
 
     @DisplayName("registerCourse 메서드가 CourseServicer를 잘 호출하는지")
     @Test
     void registerCourse_ShouldCallService() {
         RegisterCourseRequest command = mock(RegisterCourseRequest.class);
+        UploadedFiles uploadedFiles = mock(UploadedFiles.class);
         Long memberId = 1L;
 
+        when(command.getUploadFiles()).thenReturn(List.of());
+        when(fileUploader.uploadAll(List.of())).thenReturn(uploadedFiles);
+        when(uploadedFiles.withClaimed(any())).thenReturn(uploadedFiles);
+        when(uploadedFiles.getUnusedStoredPaths()).thenReturn(List.of());
+
         courseFacade.registerCourse(command, memberId);
 
-        verify(courseService).registerCourse(command, memberId);
+        verify(courseService).registerCourse(command, memberId, uploadedFiles);
+        verify(fileUploader).discard(List.of());
+        verify(imageVariantGenerator).generate(List.of());
+    }
+
+    @DisplayName("registerCourse 메서드가 등록에 실패하면 미리 올린 파일을 모두 지우는지")
+    @Test
+    void registerCourse_WhenServiceFails_ShouldDiscardUploadedFiles() {
+        RegisterCourseRequest command = mock(RegisterCourseRequest.class);
+        UploadedFiles uploadedFiles = mock(UploadedFiles.class);
+        Long memberId = 1L;
+
+        when(command.getUploadFiles()).thenReturn(List.of());
+        when(fileUploader.uploadAll(List.of())).thenReturn(uploadedFiles);
+        when(uploadedFiles.withClaimed(any())).thenReturn(uploadedFiles);
+        when(uploadedFiles.getStoredPaths()).thenReturn(List.of("images/spot.png"));
+        doThrow(new RuntimeException()).when(courseService).registerCourse(command, memberId, uploadedFiles);
+
+        assertThrows(RuntimeException.class, () -> courseFacade.registerCourse(command, memberId));
+
+        verify(fileUploader).discard(List.of("images/spot.png"));
     }
 
     @DisplayName("registerCourseWithoutSeries 메서드가 CourseService를 잘 호출하는지")
     @Test
     void registerCourseWithoutSeries_ShouldCallServiceAndUploader() {
         RegisterCourseRequestWithSpotInfo command = mock(RegisterCourseRequestWithSpotInfo.class);
+        UploadedFiles uploadedFiles = mock(UploadedFiles.class);
         Long memberId = 1L;
 
+        when(fileUploader.uploadAll(any())).thenReturn(uploadedFiles);
+        when(uploadedFiles.withClaimed(any())).thenReturn(uploadedFiles);
+        when(uploadedFiles.getUnusedStoredPaths()).thenReturn(List.of());
+
         courseFacade.registerCourseWithoutSeries(command, memberId);
 
-        verify(courseService).registerCourseWithoutSeries(command, memberId);
+        verify(courseService).registerCourseWithoutSeries(command, memberId, uploadedFiles);
+        verify(fileUploader).uploadAll(any());
     }
 
     @DisplayName("retrieveCourseInfo 메서드가 CourseInfo를 잘 반환하는지")
@@ -113,12 +157,13 @@ public class CourseFacadeTest {
         Long courseId = 1L;
         CourseInfo.Main expectedCourseInfo = mock(CourseInfo.Main.class);
 
-        when(courseService.retrieveCourseInfo(courseId)).thenReturn(expectedCourseInfo);
+        when(courseService.retrieveCourseInfo(courseId, PathLevel.FULL, PathFormat.GEOJSON))
+                .thenReturn(expectedCourseInfo);
 
-        CourseInfo.Main result = courseFacade.retrieveCourseInfo(courseId);
+        CourseInfo.Main result = courseFacade.retrieveCourseInfo(courseId, PathLevel.FULL, PathFormat.GEOJSON);
 
         assertEquals(expectedCourseInfo, result);
-        verify(courseService).retrieveCourseInfo(courseId);
+        verify(courseService).retrieveCourseInfo(courseId, PathLevel.FULL, PathFormat.GEOJSON);
     }
 
     @DisplayName("modifyCourse 메서드가 CourseService를 잘 호출하는지")
@@ -1,7 +1,11 @@
 package kr.co.yigil.travel.application;
 
 import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.file.AttachFile;
 import kr.co.yigil.file.FileUploader;
+import kr.co.yigil.file.ImageVariantGenerator;
+import kr.co.yigil.file.UploadSessionManager;
+import kr.co.yigil.file.UploadedFiles;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.travel.domain.dto.SpotListDto;
 import kr.co.yigil.travel.domain.spot.SpotCommand.ModifySpotRequest;
@@ -22,9 +26,12 @@ import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +44,12 @@ public class SpotFacadeTest {
     @Mock
     private FileUploader fileUploader;
 
+    @Mock
+    private UploadSessionManager uploadSessionManager;
+
+    @Mock
+    private ImageVariantGenerator imageVariantGenerator;
+
     @InjectMocks
     private SpotFacade spotFacade;
 
@@ -71,13 +84,68 @@ public class SpotFacadeTest {
     @Test
     void registerSpot_ShouldCallService() {
         RegisterSpotRequest command = mock(RegisterSpotRequest.class);
+        UploadedFiles uploadedFiles = mock(UploadedFiles.class);
+        Long memberId = 1L;
+
+        when(command.getUploadFiles()).thenReturn(List.of());
+        when(fileUploader.uploadAll(List.of())).thenReturn(uploadedFiles);
+        when(uploadedFiles.withClaimed(Map.of())).thenReturn(uploadedFiles);
+        when(uploadedFiles.getUnusedStoredPaths()).thenReturn(List.of("images/map.png"));
+        List<AttachFile> usedFiles = List.of(mock(AttachFile.class));
+        when(uploadedFiles.getUsedFiles()).thenReturn(usedFiles);
+        doNothing().when(spotService).registerSpot(command, memberId, uploadedFiles);
+
+        spotFacade.registerSpot(command, memberId);
+
+        verify(spotService).registerSpot(command, memberId, uploadedFiles);
+        verify(fileUploader).discard(List.of("images/map.png"));
+        verify(imageVariantGenerator).generate(usedFiles);
+    }
+
+    @DisplayName("registerSpot 메서드가 등록에 실패하면 미리 올린 파일을 모두 지우고 업로드 세션을 되돌리는지")
+    @Test
+    void registerSpot_WhenServiceFails_ShouldDiscardUploadedFiles() {
+        RegisterSpotRequest command = mock(RegisterSpotRequest.class);
+        UploadedFiles uploadedFiles = mock(UploadedFiles.class);
+        Long memberId = 1L;
+        RuntimeException exception = new RuntimeException();
+
+        when(command.getUploadFiles()).thenReturn(List.of());
+        when(fileUploader.uploadAll(List.of())).thenReturn(uploadedFiles);
+        when(uploadedFiles.withClaimed(Map.of())).thenReturn(uploadedFiles);
+        when(uploadedFiles.getStoredPaths()).thenReturn(List.of("images/spot.png", "images/map.png"));
+        when(uploadedFiles.getClaimedPaths()).thenReturn(Set.of("images/claimed.png"));
+        doThrow(exception).when(spotService).registerSpot(command, memberId, uploadedFiles);
+
+        RuntimeException thrown = assertThrows(RuntimeException.class,
+                () -> spotFacade.registerSpot(command, memberId));
+
+        assertEquals(thrown, exception);
+        verify(fileUploader).discard(List.of("images/spot.png", "images/map.png"));
+        verify(uploadSessionManager).release(Set.of("images/claimed.png"));
+        verifyNoInteractions(imageVariantGenerator);
+    }
+
+    @DisplayName("registerSpot 메서드가 직접 올린 파일의 키를 확인해 등록하고 업로드 세션을 닫는지")
+    @Test
+    void registerSpot_WithUploadKeys_ShouldClaimAndCompleteSessions() {
+        RegisterSpotRequest command = mock(RegisterSpotRequest.class);
+        UploadedFiles uploadedFiles = mock(UploadedFiles.class);
+        Map<String, AttachFile> claimedFiles = Map.of("images/spot.png", mock(AttachFile.class));
         Long memberId = 1L;
 
-        doNothing().when(spotService).registerSpot(command, memberId);
+        when(command.getUploadKeys()).thenReturn(List.of("images/spot.png"));
+        when(command.getUploadFiles()).thenReturn(List.of());
+        when(uploadSessionManager.claimAll(memberId, List.of("images/spot.png"))).thenReturn(claimedFiles);
+        when(fileUploader.uploadAll(List.of())).thenReturn(uploadedFiles);
+        when(uploadedFiles.withClaimed(claimedFiles)).thenReturn(uploadedFiles);
+        when(uploadedFiles.getUnusedStoredPaths()).thenReturn(List.of());
+        when(uploadedFiles.getClaimedPaths()).thenReturn(Set.of("images/spot.png"));
 
         spotFacade.registerSpot(command, memberId);
 
-        verify(spotService).registerSpot(command, memberId);
+        verify(spotService).registerSpot(command, memberId, uploadedFiles);
+        verify(uploadSessionManager).complete(Set.of("images/spot.png"));
     }
 
     @DisplayName("retrieveSpotinfo 메서드가 SpotInfo를 잘 반환하는지")
@@ -0,0 +1,62 @@
+package kr.co.yigil.travel.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import kr.co.yigil.member.Member;
+import kr.co.yigil.member.SocialLoginType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+public class CourseTest {
+
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+    private final Member member = new Member(1L, "member", "123456", "member", "image.png", SocialLoginType.KAKAO);
+
+    @DisplayName("코스를 만들 때 축척별로 점 수가 줄어든 경로를 함께 만드는지")
+    @Test
+    void createCourse_ShouldPrecomputeSimplifiedPaths() {
+        LineString path = zigzag(1000);
+
+        Course course = new Course(member, "title", "description", 4.5, path, false, new ArrayList<>(), 1, null);
+
+        assertSame(course.getPath(PathLevel.FULL), path);
+        int medium = course.getPath(PathLevel.MEDIUM).getNumPoints();
+        int low = course.getPath(PathLevel.LOW).getNumPoints();
+        assertTrue(medium < path.getNumPoints());
+        assertTrue(low < medium);
+        assertEquals(course.getPath(PathLevel.LOW).getStartPoint(), path.getStartPoint());
+        assertEquals(course.getPath(PathLevel.LOW).getEndPoint(), path.getEndPoint());
+    }
+
+    @DisplayName("코스 경로를 수정하면 간략화 경로도 새로 만드는지")
+    @Test
+    void updateCourse_ShouldRecomputeSimplifiedPaths() {
+        Course course = new Course(member, "title", "description", 4.5, zigzag(1000), false, new ArrayList<>(), 1,
+                null);
+        LineString newPath = geometryFactory.createLineString(new Coordinate[]{
+                new Coordinate(127.0, 37.0), new Coordinate(127.1, 37.1)});
+
+        course.updateCourse("title", "description", 4.0, newPath, new ArrayList<>(), null);
+
+        assertEquals(course.getPath(PathLevel.LOW), newPath);
+        assertEquals(course.getPath(PathLevel.MEDIUM), newPath);
+    }
+
+    /**
+     * 동쪽으로 약 1m씩 나아가며 남북으로 수십 cm~수 m 흔들리는 경로.
+     */
+    private LineString zigzag(int size) {
+        Coordinate[] coordinates = new Coordinate[size];
+        for (int i = 0; i < size; i++) {
+            double wobble = (i % 2 == 0 ? 1 : -1) * (i % 10 == 0 ? 0.0001 : 0.00001);
+            coordinates[i] = new Coordinate(127.0 + i * 0.00001, 37.5 + wobble);
+        }
+        return geometryFactory.createLineString(coordinates);
+    }
+}
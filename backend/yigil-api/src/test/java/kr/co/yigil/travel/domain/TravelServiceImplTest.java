@@ -1,15 +1,20 @@
 package kr.co.yigil.travel.domain;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import kr.co.yigil.feed.domain.FeedStore;
 import kr.co.yigil.global.exception.AuthException;
+import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.global.exception.ExceptionCode;
 import kr.co.yigil.member.Member;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +30,10 @@ public class TravelServiceImplTest {
 
     @Mock
     private TravelReader travelReader;
+    @Mock
+    private TravelStore travelStore;
+    @Mock
+    private FeedStore feedStore;
 
     @InjectMocks
     private TravelServiceImpl travelService;
@@ -47,8 +56,26 @@ public class TravelServiceImplTest {
 
         doNothing().when(travel).changeOnPublic();
         when(member.getId()).thenReturn(1L);
+        when(travel.getId()).thenReturn(1L);
         travelService.changeOnPublic(1L, 1L);
         verify(travel).changeOnPublic();
+        verify(feedStore).publish(1L, 1L);
+    }
+
+    @DisplayName("changeOnPublic 메서드가 코스에 묶인 스팟은 피드에 올리지 않는지")
+    @Test
+    void changeOnPublic_WithSpotInCourse_ShouldNotPublishFeed() {
+        Spot spot = mock(Spot.class);
+        member = mock(Member.class);
+        when(spot.getMember()).thenReturn(member);
+        when(member.getId()).thenReturn(1L);
+        when(spot.isInCourse()).thenReturn(true);
+        when(travelReader.getTravel(1L)).thenReturn(spot);
+
+        travelService.changeOnPublic(1L, 1L);
+
+        verify(spot).changeOnPublic();
+        verify(feedStore, never()).publish(anyLong(), anyLong());
     }
 
     @DisplayName("changeOnPublic 메서드가 유효하지 않은 memberId가 있을 때 예외를 잘 발생시키는지")
@@ -104,15 +131,54 @@ public class TravelServiceImplTest {
 
         TravelCommand.VisibilityChangeRequest command = new TravelCommand.VisibilityChangeRequest(
             List.of(travelId1, travelId2), false);
-        Member owner = new Member(memberId, null, null, null, null, null);
-        Travel travel1 = new Travel(travelId1, owner, null, null, 0, true);
-        Travel travel2 = new Travel(travelId2, owner, null, null, 0, true);
-
-        when(travelReader.getTravels(List.of(travelId1, travelId2))).thenReturn(List.of(travel1, travel2));
+        when(travelStore.changeVisibility(memberId, List.of(travelId1, travelId2), false)).thenReturn(2);
+        when(travelReader.getTravelIdsNotInCourse(List.of(travelId1, travelId2))).thenReturn(List.of(travelId1));
 
         travelService.setTravelsVisibility(memberId, command);
 
-        assertFalse(travel1.isPrivate());
-        assertFalse(travel2.isPrivate());
+        verify(feedStore).publish(memberId, travelId1);
+        verify(feedStore, never()).publish(memberId, travelId2);
+        verify(travelReader, never()).getTravels(anyList());
+    }
+
+    @DisplayName("setTravelsVisibility 가 비공개로 바꿀 때는 피드에 올리지 않는지")
+    @Test
+    void WhenSetTravelsVisibilityToPrivate_ThenDoesNotPublish() {
+        TravelCommand.VisibilityChangeRequest command = new TravelCommand.VisibilityChangeRequest(
+            List.of(1L, 1L, 2L), true);
+        when(travelStore.changeVisibility(1L, List.of(1L, 2L), true)).thenReturn(2);
+
+        travelService.setTravelsVisibility(1L, command);
+
+        verifyNoInteractions(feedStore);
+    }
+
+    @DisplayName("setTravelsVisibility 가 다른 회원의 여행이 섞여 있을 때 예외를 잘 발생시키는지")
+    @Test
+    void WhenSetTravelsVisibilityWithForeignTravel_ThenThrowsAuthException() {
+        TravelCommand.VisibilityChangeRequest command = new TravelCommand.VisibilityChangeRequest(
+            List.of(1L, 2L), false);
+        when(travelStore.changeVisibility(1L, List.of(1L, 2L), false)).thenReturn(1);
+        when(travelReader.countMemberTravels(1L, List.of(1L, 2L))).thenReturn(1L);
+
+        Exception exception = assertThrows(AuthException.class,
+            () -> travelService.setTravelsVisibility(1L, command));
+
+        assertEquals(ExceptionCode.INVALID_AUTHORITY.getMessage(), exception.getMessage());
+        verifyNoInteractions(feedStore);
+    }
+
+    @DisplayName("setTravelsVisibility 가 이미 같은 공개 상태인 여행이 섞여 있을 때 예외를 잘 발생시키는지")
+    @Test
+    void WhenSetTravelsVisibilityWithSameVisibility_ThenThrowsBadRequestException() {
+        TravelCommand.VisibilityChangeRequest command = new TravelCommand.VisibilityChangeRequest(
+            List.of(1L, 2L), false);
+        when(travelStore.changeVisibility(1L, List.of(1L, 2L), false)).thenReturn(1);
+        when(travelReader.countMemberTravels(1L, List.of(1L, 2L))).thenReturn(2L);
+
+        Exception exception = assertThrows(BadRequestException.class,
+            () -> travelService.setTravelsVisibility(1L, command));
+
+        assertEquals(ExceptionCode.INVALID_VISIBILITY_REQUEST.getMessage(), exception.getMessage());
     }
 }
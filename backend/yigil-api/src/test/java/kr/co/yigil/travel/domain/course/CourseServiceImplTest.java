@@ -1,22 +1,32 @@
 package kr.co.yigil.travel.domain.course;
 
 import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.feed.domain.FeedStore;
 import kr.co.yigil.file.AttachFile;
-import kr.co.yigil.file.FileUploader;
-import kr.co.yigil.follow.domain.FollowReader;
+import kr.co.yigil.file.ImageVariant;
+import kr.co.yigil.file.UploadedFiles;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.global.exception.AuthException;
+import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.domain.MemberReader;
+import kr.co.yigil.place.domain.Place;
+import kr.co.yigil.place.domain.PlaceReader;
+import kr.co.yigil.relation.domain.RelationLoader;
 import kr.co.yigil.travel.domain.Course;
+import kr.co.yigil.travel.domain.PathFormat;
+import kr.co.yigil.travel.domain.PathLevel;
 import kr.co.yigil.travel.domain.Spot;
 import kr.co.yigil.travel.domain.course.CourseCommand.ModifyCourseRequest;
 import kr.co.yigil.travel.domain.course.CourseCommand.RegisterCourseRequest;
 import kr.co.yigil.travel.domain.course.CourseInfo.Main;
+import kr.co.yigil.travel.domain.dto.CourseDistanceDto;
 import kr.co.yigil.travel.domain.dto.CourseListDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.geojson.GeoJsonReader;
@@ -29,10 +39,14 @@ import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
@@ -50,12 +64,16 @@ public class CourseServiceImplTest {
     private CourseSeriesFactory courseSeriesFactory;
     @Mock
     private CourseSpotSeriesFactory courseSpotSeriesFactory;
-
     @Mock
-    private FileUploader fileUploader;
+    private FeedStore feedStore;
+    @Mock
+    private PlaceReader placeReader;
+    @Mock
+    private CourseCorridorIndex courseCorridorIndex;
+
 
     @Mock
-    private FollowReader followReader;
+    private RelationLoader relationLoader;
 
     @InjectMocks
     private CourseServiceImpl courseService;
@@ -65,17 +83,33 @@ public class CourseServiceImplTest {
     @Test
     void getCoursesSliceInPlace_ReturnsSlice() {
         Long placeId = 1L;
-        Long memberId = 1L;
+        Accessor accessor = Accessor.member(1L);
         Pageable pageable = PageRequest.of(0, 10);
         Slice<Course> expectedSlice = mock(Slice.class);
 
         when(courseReader.getCoursesSliceInPlace(placeId, pageable)).thenReturn(expectedSlice);
 
-        var result = courseService.getCoursesSliceInPlace(placeId, memberId,pageable);
+        var result = courseService.getCoursesSliceInPlace(placeId, accessor,pageable);
 
         assertThat(result).isInstanceOf(CourseInfo.CoursesInPlaceResponseInfo.class);
 //        assertEquals(expectedSlice, result);
         verify(courseReader).getCoursesSliceInPlace(placeId, pageable);
+        verify(relationLoader).getLikedTravelIds(eq(1L), any());
+    }
+
+    @DisplayName("getCoursesSliceInPlace 메서드가 비회원이면 관계 조회에 회원 아이디를 넘기지 않는지")
+    @Test
+    void getCoursesSliceInPlace_WhenGuest_PassesNoViewer() {
+        Long placeId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+        Slice<Course> expectedSlice = new SliceImpl<>(List.of(), pageable, false);
+
+        when(courseReader.getCoursesSliceInPlace(placeId, pageable)).thenReturn(expectedSlice);
+
+        courseService.getCoursesSliceInPlace(placeId, Accessor.guest(), pageable);
+
+        verify(relationLoader).getLikedTravelIds(isNull(), any());
+        verify(relationLoader).getFollowingMemberIds(isNull(), any());
     }
 
     @DisplayName("registerCourse 메서드가 Course를 잘 생성하는지")
@@ -88,16 +122,42 @@ public class CourseServiceImplTest {
         Course course = mock(Course.class);
         MultipartFile mockMultipartFile = mock(MultipartFile.class);
         AttachFile mockAttachFile = mock(AttachFile.class);
+        UploadedFiles uploadedFiles = mock(UploadedFiles.class);
 
         when(command.getMapStaticImageFile()).thenReturn(mockMultipartFile);
         when(memberReader.getMember(memberId)).thenReturn(member);
-        when(courseSpotSeriesFactory.store(command, memberId)).thenReturn(spots);
-        when(fileUploader.upload(mockMultipartFile)).thenReturn(mockAttachFile);
+        when(courseSpotSeriesFactory.store(command, memberId, uploadedFiles)).thenReturn(spots);
+        when(uploadedFiles.get(mockMultipartFile, null)).thenReturn(mockAttachFile);
         when(command.toEntity(spots, member, mockAttachFile)).thenReturn(course);
+        when(courseStore.store(course)).thenReturn(course);
+        when(course.getId()).thenReturn(10L);
 
-        courseService.registerCourse(command, memberId);
+        courseService.registerCourse(command, memberId, uploadedFiles);
 
         verify(courseStore).store(any(Course.class));
+        verify(courseCorridorIndex).add(course);
+        verify(feedStore).publish(memberId, 10L);
+    }
+
+    @DisplayName("registerCourse 메서드가 비공개 Course는 피드에 올리지 않는지")
+    @Test
+    void registerCourse_WithPrivateCourse_ShouldNotPublishFeed() {
+        Long memberId = 1L;
+        RegisterCourseRequest command = mock(RegisterCourseRequest.class);
+        Member member = mock(Member.class);
+        List<Spot> spots = new ArrayList<>();
+        Course course = mock(Course.class);
+        UploadedFiles uploadedFiles = mock(UploadedFiles.class);
+
+        when(memberReader.getMember(memberId)).thenReturn(member);
+        when(courseSpotSeriesFactory.store(command, memberId, uploadedFiles)).thenReturn(spots);
+        when(command.toEntity(spots, member, null)).thenReturn(course);
+        when(courseStore.store(course)).thenReturn(course);
+        when(course.isPrivate()).thenReturn(true);
+
+        courseService.registerCourse(command, memberId, uploadedFiles);
+
+        verify(feedStore, never()).publish(anyLong(), anyLong());
     }
 
     @DisplayName("retrieveCourseInfo 메서드가 CourseInfo를 잘 반환하는지")
@@ -111,10 +171,12 @@ public class CourseServiceImplTest {
         when(courseReader.getCourse(courseId)).thenReturn(course);
         when(course.getCreatedAt()).thenReturn(LocalDateTime.now());
         when(course.getMapStaticImageFileUrl()).thenReturn("~~~");
-        when(course.getPath()).thenReturn(path);
-        Main result = courseService.retrieveCourseInfo(courseId);
+        when(course.getPath(PathLevel.LOW)).thenReturn(path);
+        Main result = courseService.retrieveCourseInfo(courseId, PathLevel.LOW, PathFormat.POLYLINE);
 
         assertNotNull(result);
+        assertNull(result.getLineStringJson());
+        assertEquals(result.getEncodedPath(), "_{rc@_qo]_seK_seK");
         verify(courseReader).getCourse(courseId);
     }
 
@@ -229,24 +291,74 @@ public class CourseServiceImplTest {
 
         Page<Course> favoriteCourses = new PageImpl<>(List.of(mockCourse1));
         when(courseReader.getFavoriteCourses(memberId, pageRequest)).thenReturn(favoriteCourses);
-        when(followReader.isFollowing(anyLong(), anyLong())).thenReturn(true);
 
         when(mockCourse1.getMember()).thenReturn(mockMember);
         when(mockCourse1.getId()).thenReturn(1L);
         when(mockCourse1.getTitle()).thenReturn("test");
         when(mockCourse1.getCreatedAt()).thenReturn(LocalDateTime.now());
         when(mockCourse1.getRate()).thenReturn(5.0);
-        when(mockCourse1.getMapStaticImageFileUrl()).thenReturn("test.jpg");
+        when(mockCourse1.getMapStaticImageFileUrl(ImageVariant.CARD)).thenReturn("test.jpg");
 
         when(mockMember.getId()).thenReturn(1L);
         when(mockMember.getNickname()).thenReturn("test");
 
-        when(followReader.isFollowing(anyLong(), anyLong())).thenReturn(true);
+        when(relationLoader.getFollowingMemberIds(memberId, List.of(1L))).thenReturn(Set.of(1L));
 
         var result = courseService.getFavoriteCoursesInfo(memberId, pageRequest);
 
         assertThat(result).isNotNull().isInstanceOf(CourseInfo.MyFavoriteCoursesInfo.class);
+        assertTrue(result.getContents().getFirst().isFollowing());
+
+
+    }
 
+    @DisplayName("searchCoursesNear 메서드가 장소 좌표로 찾은 코스를 거리 순서대로 반환하는지")
+    @Test
+    void searchCoursesNear_WithPlaceId_ShouldReturnCoursesInDistanceOrder() {
+        Accessor accessor = mock(Accessor.class);
+        Place place = mock(Place.class);
+        Member member = mock(Member.class);
+        Course near = mock(Course.class);
+        Course far = mock(Course.class);
+        CourseDistanceDto nearDistance = mock(CourseDistanceDto.class);
+        CourseDistanceDto farDistance = mock(CourseDistanceDto.class);
+        Pageable pageable = PageRequest.of(0, 5);
+
+        when(placeReader.getPlace(1L)).thenReturn(place);
+        when(place.getLocation()).thenReturn(new GeometryFactory().createPoint(new Coordinate(127.0, 37.5)));
+        when(nearDistance.getId()).thenReturn(2L);
+        when(nearDistance.getDistance()).thenReturn(30.0);
+        when(farDistance.getId()).thenReturn(1L);
+        when(farDistance.getDistance()).thenReturn(250.0);
+        when(courseReader.getCourseDistancesNear(127.0, 37.5, 500, pageable))
+                .thenReturn(new SliceImpl<>(List.of(nearDistance, farDistance), pageable, false));
+        when(courseReader.getCourses(List.of(2L, 1L))).thenReturn(List.of(far, near));
+        when(near.getId()).thenReturn(2L);
+        when(far.getId()).thenReturn(1L);
+        when(near.getMember()).thenReturn(member);
+        when(far.getMember()).thenReturn(member);
+        when(near.getSpots()).thenReturn(List.of());
+        when(far.getSpots()).thenReturn(List.of());
+        when(relationLoader.getLikedTravelIds(null, List.of(2L, 1L))).thenReturn(Set.of(1L));
+
+        var result = courseService.searchCoursesNear(null, null, 1L, 500, accessor, pageable);
+
+        assertEquals(result.getCourses().get(0).getId(), 2L);
+        assertEquals(result.getCourses().get(0).getDistance(), 30.0);
+        assertTrue(result.getCourses().get(1).isLiked());
+    }
 
+    @DisplayName("searchCoursesNear 메서드가 좌표나 반경이 올바르지 않으면 예외를 발생시키는지")
+    @Test
+    void searchCoursesNear_WithInvalidRequest_ShouldThrowBadRequestException() {
+        Accessor accessor = mock(Accessor.class);
+        Pageable pageable = PageRequest.of(0, 5);
+
+        assertThrows(BadRequestException.class,
+                () -> courseService.searchCoursesNear(null, null, null, 500, accessor, pageable));
+        assertThrows(BadRequestException.class,
+                () -> courseService.searchCoursesNear(127.0, 37.5, null, 0, accessor, pageable));
+        assertThrows(BadRequestException.class,
+                () -> courseService.searchCoursesNear(127.0, 37.5, null, 10_000, accessor, pageable));
     }
 }
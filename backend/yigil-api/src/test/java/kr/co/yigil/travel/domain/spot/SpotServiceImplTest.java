@@ -1,20 +1,23 @@
 package kr.co.yigil.travel.domain.spot;
 
 import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.feed.domain.FeedStore;
 import kr.co.yigil.file.AttachFile;
 import kr.co.yigil.file.AttachFiles;
 import kr.co.yigil.file.FileType;
-import kr.co.yigil.file.FileUploader;
-import kr.co.yigil.follow.domain.FollowReader;
+import kr.co.yigil.file.UploadedFiles;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.global.exception.AuthException;
 import kr.co.yigil.global.exception.ExceptionCode;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.domain.MemberReader;
 import kr.co.yigil.place.domain.Place;
-import kr.co.yigil.place.domain.PlaceCacheStore;
 import kr.co.yigil.place.domain.PlaceReader;
+import kr.co.yigil.place.domain.PlaceListCacheStore;
+import kr.co.yigil.place.domain.PlaceStatsStore;
+import kr.co.yigil.place.domain.PlaceTrendStore;
 import kr.co.yigil.place.domain.PlaceStore;
+import kr.co.yigil.relation.domain.RelationLoader;
 import kr.co.yigil.travel.domain.Spot;
 import kr.co.yigil.travel.domain.course.CourseInfo;
 import kr.co.yigil.travel.domain.dto.SpotListDto;
@@ -27,6 +30,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.locationtech.jts.geom.Point;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -38,6 +42,7 @@ import org.springframework.data.domain.Slice;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -59,14 +64,18 @@ public class SpotServiceImplTest {
     @Mock
     private PlaceStore placeStore;
     @Mock
-    private PlaceCacheStore placeCacheStore;
+    private PlaceStatsStore placeStatsStore;
+    @Mock
+    private PlaceListCacheStore placeListCacheStore;
+    @Mock
+    private PlaceTrendStore placeTrendStore;
+    @Mock
+    private FeedStore feedStore;
 
     @Mock
     private SpotSeriesFactory spotSeriesFactory;
     @Mock
-    private FileUploader fileUploader;
-    @Mock
-    private FollowReader followReader;
+    private RelationLoader relationLoader;
 
     @InjectMocks
     private SpotServiceImpl spotService;
@@ -133,20 +142,27 @@ public class SpotServiceImplTest {
         Place place = new Place(placeId, placeName, placeAddress, null, null, null, null);
         Spot spot = mock(Spot.class);
         AttachFiles mockAttachFiles = mock(AttachFiles.class);
+        UploadedFiles uploadedFiles = mock(UploadedFiles.class);
 
         when(command.getRegisterPlaceRequest()).thenReturn(placeCommand);
-        when(spotSeriesFactory.initAttachFiles(command)).thenReturn(mockAttachFiles);
+        when(spotSeriesFactory.initAttachFiles(command, uploadedFiles)).thenReturn(mockAttachFiles);
         when(command.toEntity(member, place, false, mockAttachFiles)).thenReturn(spot);
         when(placeCommand.getPlaceName()).thenReturn(placeName);
         when(placeCommand.getPlaceAddress()).thenReturn(placeAddress);
         when(memberReader.getMember(memberId)).thenReturn(member);
         when(placeReader.findPlaceByNameAndAddress(anyString(), anyString())).thenReturn(Optional.of(place));
         when(spotStore.store(any(Spot.class))).thenReturn(spot);
+        when(spot.getId()).thenReturn(10L);
 
-        spotService.registerSpot(command, memberId);
+        spotService.registerSpot(command, memberId, uploadedFiles);
 
-        verify(spotStore).store(any(Spot.class));
-        verify(placeCacheStore).incrementSpotCountInPlace(anyLong());
+        InOrder inOrder = inOrder(spotStore, placeStatsStore);
+        inOrder.verify(spotStore).store(any(Spot.class));
+        inOrder.verify(placeStatsStore).applySpotRegistered(anyLong(), anyDouble());
+        verify(uploadedFiles, never()).get(any(), any());
+        verify(placeListCacheStore).evict(place);
+        verify(placeTrendStore).record(placeId);
+        verify(feedStore).publish(memberId, 10L);
     }
 
     @DisplayName("registerSpot 메서드가 새로운 Place와 Spot을 잘 저장하는지")
@@ -162,10 +178,11 @@ public class SpotServiceImplTest {
         Spot spot = mock(Spot.class);
         RegisterPlaceRequest placeCommand = mock(RegisterPlaceRequest.class);
         AttachFiles mockAttachFiles = new AttachFiles(List.of(mock(AttachFile.class)));
+        UploadedFiles uploadedFiles = mock(UploadedFiles.class);
 
         when(memberReader.getMember(memberId)).thenReturn(member);
         when(command.getRegisterPlaceRequest()).thenReturn(placeCommand);
-        when(spotSeriesFactory.initAttachFiles(command)).thenReturn(mockAttachFiles);
+        when(spotSeriesFactory.initAttachFiles(command, uploadedFiles)).thenReturn(mockAttachFiles);
         when(command.toEntity(member, place, false, mockAttachFiles)).thenReturn(spot);
         when(placeCommand.getPlaceName()).thenReturn(placeName);
         when(placeCommand.getPlaceAddress()).thenReturn(placeAddress);
@@ -173,9 +190,9 @@ public class SpotServiceImplTest {
         when(placeStore.store(any())).thenReturn(place);
         when(spotStore.store(any(Spot.class))).thenReturn(spot);
 
-        spotService.registerSpot(command, memberId);
+        spotService.registerSpot(command, memberId, uploadedFiles);
 
-        verify(fileUploader, times(1)).upload(any());
+        verify(uploadedFiles, times(1)).get(any(), any());
         verify(placeStore).store(any());
         verify(spotStore).store(any(Spot.class));
     }
@@ -220,6 +237,30 @@ public class SpotServiceImplTest {
         verify(spotSeriesFactory).modify(command, spot);
     }
 
+    @DisplayName("modifySpot 메서드가 평점 변경분을 장소 통계에 반영하고 장소 목록 캐시를 비우는지")
+    @Test
+    void modifySpot_WithPlace_ShouldApplyRateChangeAndEvictPlaceList() {
+        ModifySpotRequest command = mock(ModifySpotRequest.class);
+        Long spotId = 1L;
+        Long memberId = 1L;
+        Spot spot = mock(Spot.class);
+        Member member = mock(Member.class);
+        Place place = mock(Place.class);
+
+        when(spot.getMember()).thenReturn(member);
+        when(spotReader.getSpot(spotId)).thenReturn(spot);
+        when(member.getId()).thenReturn(memberId);
+        when(spot.getRate()).thenReturn(3.0);
+        when(spot.getPlace()).thenReturn(place);
+        when(place.getId()).thenReturn(10L);
+        when(command.getRate()).thenReturn(5.0);
+
+        spotService.modifySpot(command, spotId, memberId);
+
+        verify(placeStatsStore).applySpotRateChanged(10L, 3.0, 5.0);
+        verify(placeListCacheStore).evict(place);
+    }
+
     @DisplayName("modifySpot 메서드가 유효하지 않은 memberId가 주어졌을 때 예외를 잘 발생시키는지")
     @Test
     void modifySpot_WithInvalidMemberId_ShouldThrowAuthException() {
@@ -369,12 +410,14 @@ public class SpotServiceImplTest {
         when(member.getNickname()).thenReturn("nickname");
         when(spot.getRate()).thenReturn(3.5);
         when(spot.getCreatedAt()).thenReturn(LocalDateTime.now());
-        when(followReader.isFollowing(anyLong(), anyLong())).thenReturn(true);
+        when(member.getId()).thenReturn(2L);
+        when(relationLoader.getFollowingMemberIds(memberId, List.of(2L))).thenReturn(Set.of(2L));
 
         var result = spotService.getFavoriteSpotsInfo(memberId, pageable);
 
         assertThat(result).isNotNull().isInstanceOf(SpotInfo.MyFavoriteSpotsInfo.class);
         assertThat(result.getContents().getFirst()).isInstanceOf(SpotInfo.FavoriteSpotInfo.class);
+        assertTrue(result.getContents().getFirst().isFollowing());
     }
 }
 
@@ -0,0 +1,30 @@
+package kr.co.yigil.travel.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TravelStoreImplTest {
+
+    @Mock
+    private TravelRepository travelRepository;
+
+    @InjectMocks
+    private TravelStoreImpl travelStore;
+
+    @DisplayName("changeVisibility 메서드가 한 번의 UPDATE로 바뀐 행 수를 반환하는지")
+    @Test
+    void changeVisibility_ReturnsUpdatedCount() {
+        when(travelRepository.updateVisibility(1L, List.of(1L, 2L), true)).thenReturn(2);
+
+        assertEquals(2, travelStore.changeVisibility(1L, List.of(1L, 2L), true));
+    }
+}
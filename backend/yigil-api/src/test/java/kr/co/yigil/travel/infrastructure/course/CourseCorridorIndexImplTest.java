@@ -0,0 +1,74 @@
+package kr.co.yigil.travel.infrastructure.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import kr.co.yigil.travel.domain.Course;
+import kr.co.yigil.travel.domain.dto.CourseEnvelopeDto;
+import kr.co.yigil.travel.infrastructure.CourseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class CourseCorridorIndexImplTest {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @InjectMocks
+    private CourseCorridorIndexImpl courseCorridorIndex;
+
+    @DisplayName("load 전에는 준비되지 않은 상태인지")
+    @Test
+    void isReady_BeforeLoad_ReturnsFalse() {
+        assertFalse(courseCorridorIndex.isReady());
+    }
+
+    @DisplayName("findCandidateIds 메서드가 반경만큼 넓힌 범위와 겹치는 경로의 코스만 고르는지")
+    @Test
+    void findCandidateIds_ShouldReturnCoursesNearPoint() {
+        when(courseRepository.findCourseEnvelopesAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new CourseEnvelopeDto(1L, line(127.000, 37.500, 127.010, 37.510)),
+                new CourseEnvelopeDto(2L, line(127.100, 37.600, 127.110, 37.610))));
+        courseCorridorIndex.load();
+
+        assertTrue(courseCorridorIndex.isReady());
+        assertThat(courseCorridorIndex.findCandidateIds(127.015, 37.505, 1_000)).containsExactly(1L);
+        assertThat(courseCorridorIndex.findCandidateIds(127.015, 37.505, 100)).isEmpty();
+    }
+
+    @DisplayName("add 메서드로 추가한 코스가 다시 읽기 전에도 후보에 포함되는지")
+    @Test
+    void add_ShouldIncludeCourseBeforeReload() {
+        when(courseRepository.findCourseEnvelopesAfter(eq(0L), any(Pageable.class))).thenReturn(List.of());
+        courseCorridorIndex.load();
+        Course course = mock(Course.class);
+        when(course.getId()).thenReturn(3L);
+        when(course.getPath()).thenReturn(line(126.900, 37.400, 126.910, 37.410));
+
+        courseCorridorIndex.add(course);
+
+        assertThat(courseCorridorIndex.findCandidateIds(126.905, 37.405, 100)).containsExactly(3L);
+    }
+
+    private LineString line(double x1, double y1, double x2, double y2) {
+        return GEOMETRY_FACTORY.createLineString(new Coordinate[]{new Coordinate(x1, y1), new Coordinate(x2, y2)});
+    }
+}
@@ -1,7 +1,10 @@
 package kr.co.yigil.travel.infrastructure.course;
 
 import kr.co.yigil.global.exception.BadRequestException;
+import kr.co.yigil.place.domain.PlaceSearchIndex;
 import kr.co.yigil.travel.domain.Course;
+import kr.co.yigil.travel.domain.course.CourseCorridorIndex;
+import kr.co.yigil.travel.domain.dto.CourseDistanceDto;
 import kr.co.yigil.travel.infrastructure.CourseRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,14 +14,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +33,10 @@ public class CourseReaderImplTest {
 
     @Mock
     private CourseRepository courseRepository;
+    @Mock
+    private PlaceSearchIndex placeSearchIndex;
+    @Mock
+    private CourseCorridorIndex courseCorridorIndex;
 
     @InjectMocks CourseReaderImpl courseReader;
 
@@ -76,6 +87,51 @@ public class CourseReaderImplTest {
         assertEquals(expectedSlice, result);
     }
 
+    @DisplayName("searchCourseByPlaceName 메서드가 검색 인덱스가 준비되면 장소 id로 Course를 조회하는지")
+    @Test
+    void searchCourseByPlaceName_WhenIndexReady_SearchesByPlaceIds() {
+        String keyword = "keyword";
+        Pageable pageable = mock(Pageable.class);
+        Slice<Course> expectedSlice = mock(Slice.class);
+        when(placeSearchIndex.isReady()).thenReturn(true);
+        when(placeSearchIndex.searchIdsByName(keyword, CourseReaderImpl.PLACE_CANDIDATE_LIMIT + 1)).thenReturn(List.of(3L, 1L));
+        when(courseRepository.findBySpotPlaceIdIn(List.of(3L, 1L), pageable)).thenReturn(expectedSlice);
+
+        Slice<Course> result = courseReader.searchCourseByPlaceName(keyword, pageable);
+
+        assertEquals(expectedSlice, result);
+    }
+
+    @DisplayName("searchCourseByPlaceName 메서드가 일치하는 장소가 없으면 빈 Slice를 반환하는지")
+    @Test
+    void searchCourseByPlaceName_WhenNoPlaceMatches_ReturnsEmptySlice() {
+        String keyword = "keyword";
+        when(placeSearchIndex.isReady()).thenReturn(true);
+        when(placeSearchIndex.searchIdsByName(keyword, CourseReaderImpl.PLACE_CANDIDATE_LIMIT + 1)).thenReturn(List.of());
+
+        Slice<Course> result = courseReader.searchCourseByPlaceName(keyword, PageRequest.of(0, 5));
+
+        assertTrue(result.getContent().isEmpty());
+        verify(courseRepository, never()).findBySpotPlaceIdIn(anyList(), any(Pageable.class));
+    }
+
+    @DisplayName("searchCourseByPlaceName 메서드가 일치하는 장소가 후보 한도를 넘으면 자르지 않고 LIKE 조인으로 조회하는지")
+    @Test
+    void searchCourseByPlaceName_WhenTooManyPlacesMatch_FallsBackToLikeJoin() {
+        String keyword = "keyword";
+        Pageable pageable = mock(Pageable.class);
+        Slice<Course> expectedSlice = mock(Slice.class);
+        List<Long> placeIds = LongStream.rangeClosed(1, CourseReaderImpl.PLACE_CANDIDATE_LIMIT + 1).boxed().toList();
+        when(placeSearchIndex.isReady()).thenReturn(true);
+        when(placeSearchIndex.searchIdsByName(keyword, CourseReaderImpl.PLACE_CANDIDATE_LIMIT + 1)).thenReturn(placeIds);
+        when(courseRepository.findByPlaceNameContaining(keyword, pageable)).thenReturn(expectedSlice);
+
+        Slice<Course> result = courseReader.searchCourseByPlaceName(keyword, pageable);
+
+        assertEquals(expectedSlice, result);
+        verify(courseRepository, never()).findBySpotPlaceIdIn(anyList(), any(Pageable.class));
+    }
+
     @DisplayName("getFavoriteCourses 메서드가 Course의 Page를 잘 반환하는지")
     @Test
     void getFavoriteCourses() {
@@ -90,4 +146,45 @@ public class CourseReaderImplTest {
         assertEquals(expectedPage, result);
 
     }
+
+    @DisplayName("getCourseDistancesNear 메서드가 후보가 없으면 DB를 조회하지 않는지")
+    @Test
+    void getCourseDistancesNear_WithoutCandidates_ShouldNotQuery() {
+        when(courseCorridorIndex.isReady()).thenReturn(true);
+        when(courseCorridorIndex.findCandidateIds(127.0, 37.5, 500)).thenReturn(List.of());
+
+        var result = courseReader.getCourseDistancesNear(127.0, 37.5, 500, PageRequest.of(0, 5));
+
+        assertTrue(result.getContent().isEmpty());
+        assertFalse(result.hasNext());
+        verifyNoInteractions(courseRepository);
+    }
+
+    @DisplayName("getCourseDistancesNear 메서드가 후보 안에서만 거리를 계산하고 다음 페이지 여부를 판단하는지")
+    @Test
+    void getCourseDistancesNear_WithCandidates_ShouldQueryWithinCandidates() {
+        CourseDistanceDto first = mock(CourseDistanceDto.class);
+        CourseDistanceDto second = mock(CourseDistanceDto.class);
+        when(courseCorridorIndex.isReady()).thenReturn(true);
+        when(courseCorridorIndex.findCandidateIds(127.0, 37.5, 500)).thenReturn(List.of(1L, 2L));
+        when(courseRepository.findPublicCoursesNearIn(List.of(1L, 2L), 127.0, 37.5, 500, 2, 0L))
+                .thenReturn(List.of(first, second));
+
+        var result = courseReader.getCourseDistancesNear(127.0, 37.5, 500, PageRequest.of(0, 1));
+
+        assertEquals(List.of(first), result.getContent());
+        assertTrue(result.hasNext());
+    }
+
+    @DisplayName("getCourseDistancesNear 메서드가 인덱스가 준비되지 않았으면 DB에서만 찾는지")
+    @Test
+    void getCourseDistancesNear_WhenIndexNotReady_ShouldQueryDatabase() {
+        when(courseCorridorIndex.isReady()).thenReturn(false);
+        when(courseRepository.findPublicCoursesNear(127.0, 37.5, 500, 6, 5L)).thenReturn(List.of());
+
+        var result = courseReader.getCourseDistancesNear(127.0, 37.5, 500, PageRequest.of(1, 5));
+
+        assertTrue(result.getContent().isEmpty());
+        verify(courseRepository).findPublicCoursesNear(127.0, 37.5, 500, 6, 5L);
+    }
 }
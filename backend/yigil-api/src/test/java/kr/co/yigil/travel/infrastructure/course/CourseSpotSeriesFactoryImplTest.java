@@ -1,11 +1,12 @@
 package kr.co.yigil.travel.infrastructure.course;
 
-import kr.co.yigil.file.FileUploader;
 import kr.co.yigil.member.Member;
 import kr.co.yigil.member.domain.MemberReader;
 import kr.co.yigil.place.domain.Place;
-import kr.co.yigil.place.domain.PlaceCacheStore;
 import kr.co.yigil.place.domain.PlaceReader;
+import kr.co.yigil.place.domain.PlaceListCacheStore;
+import kr.co.yigil.place.domain.PlaceStatsStore;
+import kr.co.yigil.place.domain.PlaceTrendStore;
 import kr.co.yigil.place.domain.PlaceStore;
 import kr.co.yigil.travel.domain.Spot;
 import kr.co.yigil.travel.domain.course.CourseCommand.RegisterCourseRequest;
@@ -44,10 +45,11 @@ public class CourseSpotSeriesFactoryImplTest {
     @Mock
     private SpotStore spotStore;
     @Mock
-    private PlaceCacheStore placeCacheStore;
-
+    private PlaceStatsStore placeStatsStore;
+    @Mock
+    private PlaceListCacheStore placeListCacheStore;
     @Mock
-    private FileUploader fileUploader;
+    private PlaceTrendStore placeTrendStore;
 
     @InjectMocks
     private CourseSpotSeriesFactoryImpl courseSpotSeriesFactory;
@@ -1,7 +1,10 @@
 package kr.co.yigil.travel.infrastructure.spot;
 
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.exception.BadRequestException;
 import kr.co.yigil.travel.domain.Spot;
+import kr.co.yigil.travel.domain.dto.PlaceSpotStatDto;
+import kr.co.yigil.travel.domain.dto.PlaceSpotTimeDto;
 import kr.co.yigil.travel.infrastructure.SpotRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -89,6 +93,33 @@ public class SpotReaderImplTest {
         assertEquals(expectedSlice, result);
     }
 
+    @DisplayName("getSpotSliceInPlace 메서드가 첫 cursor면 최신순 첫 페이지를 조회하는지")
+    @Test
+    void getSpotSliceInPlace_WithFirstCursor_ReadsFirstPage() {
+        Long placeId = 1L;
+        Slice<Spot> expectedSlice = mock(Slice.class);
+        when(spotRepository.findAllByPlaceIdAndIsPrivateIsFalse(placeId,
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt", "id")))).thenReturn(expectedSlice);
+
+        Slice<Spot> result = spotReader.getSpotSliceInPlace(placeId, Cursor.first(), 5);
+
+        assertEquals(expectedSlice, result);
+    }
+
+    @DisplayName("getSpotSliceInPlace 메서드가 cursor 이후를 keyset으로 조회하는지")
+    @Test
+    void getSpotSliceInPlace_WithCursor_ReadsAfterCursor() {
+        Long placeId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        Slice<Spot> expectedSlice = mock(Slice.class);
+        when(spotRepository.findSliceInPlaceBefore(placeId, createdAt, 10L, PageRequest.of(0, 5)))
+                .thenReturn(expectedSlice);
+
+        Slice<Spot> result = spotReader.getSpotSliceInPlace(placeId, Cursor.of(createdAt, 10L), 5);
+
+        assertEquals(expectedSlice, result);
+    }
+
     @DisplayName("getSpotCountInPlace 메서드가 count를 잘 반환하는지")
     @Test
     void getSpotCountInPlace_ReturnsCount() {
@@ -149,4 +180,28 @@ public class SpotReaderImplTest {
 
         assertEquals(expectedSpots, result);
     }
+
+    @DisplayName("getSpotStatsInPlaces 메서드가 장소별 집계를 잘 반환하는지")
+    @Test
+    void getSpotStatsInPlaces_ReturnsStats() {
+        List<PlaceSpotStatDto> expected = List.of(new PlaceSpotStatDto(1L, 2L, 7.0));
+        when(spotRepository.findSpotStatsByPlaceIds(List.of(1L))).thenReturn(expected);
+
+        List<PlaceSpotStatDto> result = spotReader.getSpotStatsInPlaces(List.of(1L));
+
+        assertEquals(expected, result);
+    }
+
+    @DisplayName("getPlaceSpotTimes 메서드가 기간 안의 스팟 등록 시각을 잘 반환하는지")
+    @Test
+    void getPlaceSpotTimes_ReturnsSpotTimes() {
+        LocalDateTime since = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime until = since.plusDays(7);
+        List<PlaceSpotTimeDto> expected = List.of(new PlaceSpotTimeDto(1L, since.plusHours(3)));
+        when(spotRepository.findPlaceSpotTimesBetween(since, until)).thenReturn(expected);
+
+        List<PlaceSpotTimeDto> result = spotReader.getPlaceSpotTimes(since, until);
+
+        assertEquals(expected, result);
+    }
 }
@@ -5,11 +5,14 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import kr.co.yigil.auth.domain.Accessor;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.travel.application.CourseFacade;
+import kr.co.yigil.travel.domain.PathFormat;
+import kr.co.yigil.travel.domain.PathLevel;
 import kr.co.yigil.travel.domain.course.CourseInfo;
 import kr.co.yigil.travel.interfaces.dto.CourseDetailInfoDto;
 import kr.co.yigil.travel.interfaces.dto.CourseDetailInfoDto.CourseSpotInfoDto;
 import kr.co.yigil.travel.interfaces.dto.CourseDto;
 import kr.co.yigil.travel.interfaces.dto.CourseInfoDto;
+import kr.co.yigil.travel.interfaces.dto.CourseNearDto;
 import kr.co.yigil.travel.interfaces.dto.mapper.CourseMapper;
 import kr.co.yigil.travel.interfaces.dto.request.MySpotsDetailRequest;
 import kr.co.yigil.travel.interfaces.dto.response.*;
@@ -89,7 +92,7 @@ public class CourseApiControllerTest {
 
         CourseInfo.CoursesInPlaceResponseInfo info = mock(CourseInfo.CoursesInPlaceResponseInfo.class);
 
-        when(courseFacade.getCourseSliceInPlace(anyLong(), anyLong(), any(PageRequest.class))).thenReturn(info);
+        when(courseFacade.getCourseSliceInPlace(anyLong(), any(Accessor.class), any(PageRequest.class))).thenReturn(info);
         when(courseMapper.courseSliceToCourseInPlaceResponse(any(CourseInfo.CoursesInPlaceResponseInfo.class))).thenReturn(response);
 
         mockMvc.perform(get("/api/v1/courses/place/{placeId}", 1L)
@@ -113,11 +116,15 @@ public class CourseApiControllerTest {
                                 parameterWithName("sortBy").description(
                                         "정렬 옵션 - created_at(디폴트값) / rate").optional(),
                                 parameterWithName("sortOrder").description(
-                                        "정렬 순서 - desc(디폴트값) 내림차순 / asc 오름차순").optional()
+                                        "정렬 순서 - desc(디폴트값) 내림차순 / asc 오름차순").optional(),
+                                parameterWithName("cursor").description("이전 응답의 next_cursor - 빈 값이면 첫 페이지. "
+                                        + "주어지면 page, sortBy, sortOrder 대신 최신순 cursor 조회").optional()
                         ),
                         responseFields(
                                 fieldWithPath("has_next").type(JsonFieldType.BOOLEAN)
                                         .description("다음 페이지가 있는지 여부"),
+                                fieldWithPath("next_cursor").type(JsonFieldType.STRING)
+                                        .description("다음 페이지 cursor - cursor 조회일 때만 주어짐").optional(),
                                 subsectionWithPath("courses").description("course의 정보"),
                                 fieldWithPath("courses[].id").type(JsonFieldType.NUMBER)
                                         .description("코스 ID"),
@@ -146,7 +153,7 @@ public class CourseApiControllerTest {
                         )
                 ));
 
-        verify(courseFacade).getCourseSliceInPlace(anyLong(), anyLong(), any(Pageable.class));
+        verify(courseFacade).getCourseSliceInPlace(anyLong(), any(Accessor.class), any(Pageable.class));
     }
 
     @DisplayName("registerCourse 메서드가 잘 동작하는지")
@@ -274,12 +281,14 @@ public class CourseApiControllerTest {
         CourseSpotInfoDto spotInfo = new CourseSpotInfoDto(1L, "1", "장소명", "주소",
                 List.of("images/spot.jpg", "images/spotted.png"), 4.5, "스팟 본문", "2024-02-01");
         CourseDetailInfoDto courseInfo = new CourseDetailInfoDto("title", 4.5, "images/static.png",
-                "본문", LocalDateTime.now().toString(), "lineStringJson", List.of(spotInfo));
+                "본문", LocalDateTime.now().toString(), null, "_p~iF~ps|U_ulLnnqC", List.of(spotInfo));
 
-        when(courseFacade.retrieveCourseInfo(anyLong())).thenReturn(mockInfo);
+        when(courseFacade.retrieveCourseInfo(1L, PathLevel.LOW, PathFormat.POLYLINE)).thenReturn(mockInfo);
         when(courseMapper.toCourseDetailInfoDto(mockInfo)).thenReturn(courseInfo);
 
-        mockMvc.perform(get("/api/v1/courses/{courseId}", 1L))
+        mockMvc.perform(get("/api/v1/courses/{courseId}", 1L)
+                        .param("pathLevel", "low")
+                        .param("pathFormat", "polyline"))
                 .andExpect(status().isOk())
                 .andDo(document(
                         "courses/retrieve-course",
@@ -288,6 +297,12 @@ public class CourseApiControllerTest {
                         pathParameters(
                                 parameterWithName("courseId").description("코스 아이디")
                         ),
+                        queryParameters(
+                                parameterWithName("pathLevel").optional()
+                                        .description("경로 해상도(full, medium, low). 기본값 full"),
+                                parameterWithName("pathFormat").optional()
+                                        .description("경로 형식(geojson, polyline). 기본값 geojson")
+                        ),
                         responseFields(
                                 fieldWithPath("title").type(JsonFieldType.STRING)
                                         .description("코스의 제목"),
@@ -297,8 +312,10 @@ public class CourseApiControllerTest {
                                         .description("코스의 위치를 나타내는 지도 이미지 경로"),
                                 fieldWithPath("description").type(JsonFieldType.STRING)
                                         .description("코스의 본문"),
-                                fieldWithPath("line_string_json").type(JsonFieldType.STRING)
-                                        .description("코스의 라인 스트링 정보"),
+                                fieldWithPath("line_string_json").type(JsonFieldType.STRING).optional()
+                                        .description("코스의 라인 스트링 정보. path_format이 geojson일 때만 채워짐"),
+                                fieldWithPath("encoded_path").type(JsonFieldType.STRING).optional()
+                                        .description("Encoded Polyline 형식의 코스 경로. path_format이 polyline일 때만 채워짐"),
                                 fieldWithPath("created_date").type(JsonFieldType.STRING)
                                         .description("코스의 생성 일자"),
                                 subsectionWithPath("spots").description("코스 내 스팟의 정보"),
@@ -319,7 +336,7 @@ public class CourseApiControllerTest {
                         )
                 ));
 
-        verify(courseFacade).retrieveCourseInfo(anyLong());
+        verify(courseFacade).retrieveCourseInfo(1L, PathLevel.LOW, PathFormat.POLYLINE);
     }
 
     @DisplayName("updateCourse 메서드가 잘 동작하는지")
@@ -532,6 +549,60 @@ public class CourseApiControllerTest {
                 ));
     }
 
+    @DisplayName("searchCoursesNear 메서드가 잘 동작하는지")
+    @Test
+    void searchCoursesNear_ShouldReturnOk() throws Exception {
+        CourseInfo.NearSlice mockSlice = mock(CourseInfo.NearSlice.class);
+        CourseNearDto dto = new CourseNearDto(1L, "title", "mapStatic.jpg", "profile.png", "nickname", 3, 4.5, false,
+                LocalDateTime.now(), 120.5);
+        CoursesNearResponse response = new CoursesNearResponse(List.of(dto), false);
+
+        when(courseFacade.searchCoursesNear(eq(127.0), eq(37.5), isNull(), eq(500.0), any(Accessor.class),
+                any(Pageable.class))).thenReturn(mockSlice);
+        when(courseMapper.toCoursesNearResponse(mockSlice)).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/courses/near")
+                        .param("x", "127.0")
+                        .param("y", "37.5")
+                        .param("radius", "500")
+                        .param("page", "1")
+                        .param("size", "5")
+                )
+                .andExpect(status().isOk())
+                .andDo(document(
+                        "courses/search-courses-near",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        queryParameters(
+                                parameterWithName("x").description("기준 경도 - placeId가 없으면 필수").optional(),
+                                parameterWithName("y").description("기준 위도 - placeId가 없으면 필수").optional(),
+                                parameterWithName("placeId").description("기준 장소 id - 주어지면 x, y 대신 장소 좌표 사용")
+                                        .optional(),
+                                parameterWithName("radius").description("경로까지의 최대 거리(m) - default:500, 최대 5000")
+                                        .optional(),
+                                parameterWithName("page").description("현재 페이지 - default:1").optional(),
+                                parameterWithName("size").description("페이지 크기 - default:5").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("has_next").type(JsonFieldType.BOOLEAN).description("다음 페이지가 있는지 여부"),
+                                subsectionWithPath("courses").description("가까운 순으로 정렬된 course의 정보"),
+                                fieldWithPath("courses[].id").type(JsonFieldType.NUMBER).description("코스 ID"),
+                                fieldWithPath("courses[].title").type(JsonFieldType.STRING).description("코스 제목"),
+                                fieldWithPath("courses[].map_static_image_url").type(JsonFieldType.STRING).description(
+                                        "코스 지도 이미지 URL"),
+                                fieldWithPath("courses[].owner_profile_image_url").type(JsonFieldType.STRING).description(
+                                        "코스 작성자 프로필 이미지 URL"),
+                                fieldWithPath("courses[].owner_nickname").type(JsonFieldType.STRING).description("코스 작성자 닉네임"),
+                                fieldWithPath("courses[].spot_count").type(JsonFieldType.NUMBER).description("코스 포함 장소 수"),
+                                fieldWithPath("courses[].rate").type(JsonFieldType.NUMBER).description("코스 평점"),
+                                fieldWithPath("courses[].liked").type(JsonFieldType.BOOLEAN).description("코스 좋아요 여부"),
+                                fieldWithPath("courses[].create_date").type(JsonFieldType.STRING).description("코스 생성일"),
+                                fieldWithPath("courses[].distance").type(JsonFieldType.NUMBER).description(
+                                        "기준 좌표에서 코스 경로까지의 거리(m)")
+                        )
+                ));
+    }
+
     @DisplayName("getMySpotsDetailInfo 메서드가 잘 동작하는지")
     @Test
     void whenGetMySpotsDetailInfo_thenShouldReturn200AndResponse() throws Exception {
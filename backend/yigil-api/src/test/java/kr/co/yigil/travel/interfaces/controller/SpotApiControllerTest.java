@@ -1,6 +1,7 @@
 package kr.co.yigil.travel.interfaces.controller;
 
 import kr.co.yigil.auth.domain.Accessor;
+import kr.co.yigil.global.Cursor;
 import kr.co.yigil.global.Selected;
 import kr.co.yigil.travel.application.SpotFacade;
 import kr.co.yigil.travel.domain.spot.SpotInfo;
@@ -46,6 +47,7 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith({SpringExtension.class, RestDocumentationExtension.class})
@@ -74,7 +76,7 @@ class SpotApiControllerTest {
         SpotInfo.Slice mockSlice = mock(Slice.class);
         SpotInfoDto spotInfo = new SpotInfoDto(1L, List.of("images/image.png", "images/photo.jpeg"),
                 "설명", 1L, "images/profile.jpg", "오너 닉네임", 4.5, LocalDateTime.now(), true, false);
-        SpotsInPlaceResponse response = new SpotsInPlaceResponse(List.of(spotInfo), true);
+        SpotsInPlaceResponse response = new SpotsInPlaceResponse(List.of(spotInfo), true, null);
 
         when(spotFacade.getSpotSliceInPlace(anyLong(), any(Accessor.class), any(Pageable.class))).thenReturn(mockSlice);
         when(spotMapper.toSpotsInPlaceResponse(mockSlice)).thenReturn(response);
@@ -98,11 +100,15 @@ class SpotApiControllerTest {
                                 parameterWithName("sortBy").description("정렬 옵션 - created_at(디폴트값) / rate")
                                         .optional(),
                                 parameterWithName("sortOrder").description("정렬 순서 - desc(디폴트값) 내림차순 / asc 오름차순")
-                                        .optional()
+                                        .optional(),
+                                parameterWithName("cursor").description("이전 응답의 next_cursor - 빈 값이면 첫 페이지. "
+                                        + "주어지면 page, sortBy, sortOrder 대신 최신순 cursor 조회").optional()
                         ),
                         responseFields(
                                 fieldWithPath("has_next").type(JsonFieldType.BOOLEAN)
                                         .description("다음 페이지가 있는지 여부"),
+                                fieldWithPath("next_cursor").type(JsonFieldType.STRING)
+                                        .description("다음 페이지 cursor - cursor 조회일 때만 주어짐").optional(),
                                 subsectionWithPath("spots").description("spot의 정보"),
                                 fieldWithPath("spots[].id").type(JsonFieldType.NUMBER).description("Spot의 고유 아이디"),
                                 fieldWithPath("spots[].image_urls").type(JsonFieldType.ARRAY).description("imageUrl의 List"),
@@ -127,6 +133,34 @@ class SpotApiControllerTest {
 
     }
 
+    @DisplayName("getSpotsInPlace가 cursor가 주어지면 cursor 조회로 동작하는지")
+    @Test
+    void getSpotsInPlace_WithCursor_ShouldUseKeysetSlice() throws Exception {
+        SpotInfo.Slice mockSlice = mock(Slice.class);
+        String cursor = Cursor.of(LocalDateTime.of(2024, 3, 1, 12, 0), 10L).encode();
+        SpotsInPlaceResponse response = new SpotsInPlaceResponse(List.of(), true, "next");
+
+        when(spotFacade.getSpotSliceInPlace(eq(1L), any(Accessor.class), any(Cursor.class), eq(5)))
+                .thenReturn(mockSlice);
+        when(spotMapper.toSpotsInPlaceResponse(mockSlice)).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/spots/place/{placeId}", 1L)
+                        .param("size", "5")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.next_cursor").value("next"));
+
+        verify(spotFacade, never()).getSpotSliceInPlace(anyLong(), any(Accessor.class), any(Pageable.class));
+    }
+
+    @DisplayName("getSpotsInPlace가 잘못된 cursor에 400을 반환하는지")
+    @Test
+    void getSpotsInPlace_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/spots/place/{placeId}", 1L)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @DisplayName("getMySpotInPlace 메서드가 잘 동작하는지")
     @Test
     void getMySpotInPlace_ShouldReturnOk() throws Exception {
@@ -2,8 +2,10 @@ package kr.co.yigil.travel.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import kr.co.yigil.global.exception.BadRequestException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.LineString;
@@ -61,4 +63,17 @@ public class GeoJsonConverterTest {
         assertTrue(geoJson.contains("\"type\":\"LineString\""));
         assertTrue(geoJson.contains("\"coordinates\":[[100,0.0],[101,1]]"));
     }
+
+    @DisplayName("올바르지 않은 GeoJson이면 BadRequestException을 던지는지")
+    @Test
+    void convertToLineString_InvalidGeoJson_ThrowsBadRequestException() {
+        assertThrows(BadRequestException.class, () -> GeojsonConverter.convertToLineString("{\"type\":"));
+    }
+
+    @DisplayName("LineString이 아닌 GeoJson이면 BadRequestException을 던지는지")
+    @Test
+    void convertToLineString_PointGeoJson_ThrowsBadRequestException() {
+        assertThrows(BadRequestException.class,
+                () -> GeojsonConverter.convertToLineString("{\"type\":\"Point\",\"coordinates\":[100.0,0.0]}"));
+    }
 }
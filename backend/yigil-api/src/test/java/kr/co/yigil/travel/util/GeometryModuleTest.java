@@ -0,0 +1,165 @@
+package kr.co.yigil.travel.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.geojson.GeoJsonWriter;
+
+public class GeometryModuleTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new GeometryModule());
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @DisplayName("Point, LineString, MultiPolygon을 GeoJsonWriter와 같은 GeoJSON으로 쓰는지")
+    @Test
+    void serialize_ShouldMatchGeoJsonWriter() throws Exception {
+        for (Geometry geometry : new Geometry[]{point(), lineString(), multiPolygon()}) {
+            String expected = new GeoJsonWriter().write(geometry);
+
+            String result = objectMapper.writeValueAsString(geometry);
+
+            assertEquals(objectMapper.readTree(result), objectMapper.readTree(expected));
+        }
+    }
+
+    @DisplayName("GeoJSON을 읽어 같은 좌표와 SRID의 Geometry로 되돌리는지")
+    @Test
+    void deserialize_ShouldRoundTrip() throws Exception {
+        for (Geometry geometry : new Geometry[]{point(), lineString(), multiPolygon()}) {
+            String json = objectMapper.writeValueAsString(geometry);
+
+            Geometry result = objectMapper.readValue(json, geometry.getClass());
+
+            assertTrue(result.equalsExact(geometry));
+            assertEquals(result.getSRID(), 4326);
+        }
+    }
+
+    @DisplayName("coordinates가 type보다 먼저 와도 읽는지")
+    @Test
+    void deserialize_WhenCoordinatesComeFirst_ShouldReadGeometry() throws Exception {
+        String json = "{\"coordinates\":[[127.0,37.5],[127.1,37.6]],\"type\":\"LineString\"}";
+
+        LineString result = objectMapper.readValue(json, LineString.class);
+
+        assertEquals(result.getNumPoints(), 2);
+        assertEquals(result.getCoordinateN(1), new Coordinate(127.1, 37.6));
+        assertEquals(result.getSRID(), 0);
+    }
+
+    @DisplayName("Feature는 geometry를, FeatureCollection은 geometry 모음을 읽는지")
+    @Test
+    void deserialize_Feature_ShouldReadGeometry() throws Exception {
+        String feature = "{\"type\":\"Feature\",\"properties\":{\"name\":\"코스\",\"tags\":[1,2]},"
+                + "\"geometry\":{\"type\":\"LineString\",\"coordinates\":[[127.0,37.5],[127.1,37.6]]}}";
+        String collection = "{\"type\":\"FeatureCollection\",\"features\":["
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[127.0,37.5]}},"
+                + "{\"type\":\"Feature\",\"geometry\":null},"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[127.1,37.6]}}]}";
+
+        LineString line = objectMapper.readValue(feature, LineString.class);
+        Geometry points = objectMapper.readValue(collection, Geometry.class);
+
+        assertEquals(line.getCoordinateN(1), new Coordinate(127.1, 37.6));
+        assertTrue(points instanceof GeometryCollection);
+        assertEquals(points.getNumGeometries(), 2);
+        assertEquals(points.getGeometryN(1).getCoordinate(), new Coordinate(127.1, 37.6));
+    }
+
+    @DisplayName("MultiPoint, MultiLineString, GeometryCollection을 읽는지")
+    @Test
+    void deserialize_MultiGeometries_ShouldReadGeometry() throws Exception {
+        String multiPoint = "{\"type\":\"MultiPoint\",\"coordinates\":[[127.0,37.5],[127.1,37.6]]}";
+        String multiLineString = "{\"type\":\"MultiLineString\",\"coordinates\":"
+                + "[[[127.0,37.5],[127.1,37.6]],[[126.0,36.5],[126.1,36.6],[126.2,36.7]]]}";
+        String geometryCollection = "{\"type\":\"GeometryCollection\",\"geometries\":["
+                + "{\"type\":\"Point\",\"coordinates\":[127.0,37.5]},"
+                + "{\"type\":\"LineString\",\"coordinates\":[[127.0,37.5],[127.1,37.6]]}]}";
+
+        Geometry points = objectMapper.readValue(multiPoint, Geometry.class);
+        Geometry lines = objectMapper.readValue(multiLineString, Geometry.class);
+        Geometry collection = objectMapper.readValue(geometryCollection, Geometry.class);
+
+        assertTrue(points instanceof MultiPoint);
+        assertEquals(points.getNumPoints(), 2);
+        assertTrue(lines instanceof MultiLineString);
+        assertEquals(lines.getGeometryN(1).getNumPoints(), 3);
+        assertEquals(collection.getNumGeometries(), 2);
+        assertTrue(collection.getGeometryN(1) instanceof LineString);
+    }
+
+    @DisplayName("geometry가 없는 Feature면 예외를 던지는지")
+    @Test
+    void deserialize_WhenFeatureHasNoGeometry_ShouldThrow() {
+        String json = "{\"type\":\"Feature\",\"geometry\":null,\"properties\":{}}";
+
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(json, LineString.class));
+    }
+
+    @DisplayName("요청한 타입과 다른 Geometry면 예외를 던지는지")
+    @Test
+    void deserialize_WhenTypeMismatch_ShouldThrow() {
+        String json = "{\"type\":\"Point\",\"coordinates\":[127.0,37.5]}";
+
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(json, LineString.class));
+    }
+
+    @DisplayName("DTO 필드의 Geometry를 문자열이 아닌 GeoJSON 객체로 쓰는지")
+    @Test
+    void serialize_AsField_ShouldWriteObject() throws Exception {
+        String result = objectMapper.writeValueAsString(new PathHolder(lineString()));
+
+        assertTrue(result.startsWith("{\"path\":{\"type\":\"LineString\",\"coordinates\":[[127,37.5]"));
+    }
+
+    @DisplayName("좌표를 GeoJsonWriter와 같은 규칙으로 표기하는지")
+    @Test
+    void formatOrdinate_ShouldFollowGeoJsonWriterRules() {
+        assertEquals(GeometrySerializer.formatOrdinate(100.0), "100");
+        assertEquals(GeometrySerializer.formatOrdinate(0.0), "0.0");
+        assertEquals(GeometrySerializer.formatOrdinate(127.123456789), "127.12345679");
+    }
+
+    private Point point() {
+        return geometryFactory.createPoint(new Coordinate(127.0276, 37.4979));
+    }
+
+    private LineString lineString() {
+        return geometryFactory.createLineString(new Coordinate[]{
+                new Coordinate(127.0, 37.5), new Coordinate(127.01, 37.51), new Coordinate(127.02, 37.5)});
+    }
+
+    private MultiPolygon multiPolygon() {
+        Polygon square = geometryFactory.createPolygon(new Coordinate[]{
+                new Coordinate(0, 0), new Coordinate(10, 0), new Coordinate(10, 10), new Coordinate(0, 10),
+                new Coordinate(0, 0)});
+        Polygon withHole = geometryFactory.createPolygon(
+                geometryFactory.createLinearRing(new Coordinate[]{
+                        new Coordinate(20, 20), new Coordinate(30, 20), new Coordinate(30, 30),
+                        new Coordinate(20, 30), new Coordinate(20, 20)}),
+                new LinearRing[]{geometryFactory.createLinearRing(new Coordinate[]{
+                        new Coordinate(22, 22), new Coordinate(24, 22), new Coordinate(24, 24),
+                        new Coordinate(22, 22)})});
+        return geometryFactory.createMultiPolygon(new Polygon[]{square, withHole});
+    }
+
+    private record PathHolder(LineString path) {
+    }
+}
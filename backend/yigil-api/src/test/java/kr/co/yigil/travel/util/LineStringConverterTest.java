@@ -0,0 +1,37 @@
+package kr.co.yigil.travel.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.LineString;
+
+public class LineStringConverterTest {
+
+    private final LineStringConverter converter = new LineStringConverter();
+
+    @DisplayName("convert 메서드가 GeoJSON 문자열을 LineString으로 바인딩하는지")
+    @Test
+    void convert_ValidGeoJson_ReturnsLineString() {
+        LineString result = converter.convert("{\"type\":\"LineString\",\"coordinates\":[[127.0,37.5],[127.1,37.6]]}");
+
+        assertEquals(result.getNumPoints(), 2);
+        assertEquals(result.getCoordinateN(1).getX(), 127.1);
+    }
+
+    @DisplayName("convert 메서드가 빈 문자열이면 null을 돌려주는지")
+    @Test
+    void convert_BlankSource_ReturnsNull() {
+        assertNull(converter.convert(" "));
+    }
+
+    @DisplayName("convert 메서드가 LineString이 아닌 GeoJSON이면 IllegalArgumentException을 던지는지")
+    @Test
+    void convert_PointGeoJson_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.convert("{\"type\":\"Point\",\"coordinates\":[127.0,37.5]}"));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("{\"type\":"));
+    }
+}
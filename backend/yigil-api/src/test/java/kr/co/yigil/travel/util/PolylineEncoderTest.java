@@ -0,0 +1,37 @@
+package kr.co.yigil.travel.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+public class PolylineEncoderTest {
+
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    @DisplayName("LineString을 Encoded Polyline 문자열로 잘 변환하는지")
+    @Test
+    void encode_ShouldReturnEncodedPolyline() {
+        LineString lineString = geometryFactory.createLineString(new Coordinate[]{
+                new Coordinate(-120.2, 38.5),
+                new Coordinate(-120.95, 40.7),
+                new Coordinate(-126.453, 43.252)
+        });
+
+        assertEquals(PolylineEncoder.encode(lineString), "_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+    }
+
+    @DisplayName("같은 좌표가 반복되면 변화량 0으로 인코딩하는지")
+    @Test
+    void encode_WithRepeatedCoordinate_ShouldEncodeZeroDelta() {
+        LineString lineString = geometryFactory.createLineString(new Coordinate[]{
+                new Coordinate(127.0, 37.5),
+                new Coordinate(127.0, 37.5)
+        });
+
+        assertEquals(PolylineEncoder.encode(lineString), "_f{cF_ucfW??");
+    }
+}